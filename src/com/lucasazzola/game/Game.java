@@ -1,7 +1,14 @@
 package com.lucasazzola.game;
 
+import com.lucasazzola.game.diagnostics.AllocationTracker;
+import com.lucasazzola.game.diagnostics.FrameListener;
+import com.lucasazzola.game.diagnostics.Gauge;
+import com.lucasazzola.game.diagnostics.Histogram;
+import com.lucasazzola.game.diagnostics.Metrics;
+import com.lucasazzola.game.diagnostics.ThreadAllocations;
 import com.lucasazzola.game.graphics.render.Graphics;
 import com.lucasazzola.game.util.GameTime;
+import com.lucasazzola.game.util.Profiler;
 
 /**
  * Game Interface
@@ -11,6 +18,14 @@ import com.lucasazzola.game.util.GameTime;
  */
 public abstract class Game {
 
+	/**
+	 * Frame metrics, see {@link Metrics}
+	 */
+	private static final Histogram FRAME_TIME = Metrics.global().histogram(
+			"frame.time");
+	private static final Gauge ENTITIES = Metrics.global().gauge(
+			"frame.entities");
+
 	public abstract void Load();
 
 	public abstract void Update(GameTime time);
@@ -18,4 +33,89 @@ public abstract class Game {
 	public abstract void Draw(Graphics g);
 
 	public abstract void Unload();
+
+	/**
+	 * Tracks allocations per frame, and is told of each frame, or null
+	 */
+	private AllocationTracker allocations;
+	private FrameListener listener;
+
+	/**
+	 * Runs one frame: ticks the time, then calls {@link #Update(GameTime)}
+	 * and {@link #Draw(Graphics)}. Each frame, update and draw is reported
+	 * to the {@link FrameListener}, if any, update and draw are
+	 * {@link Profiler} scopes, and the frame time and entity count are fed
+	 * to {@link Metrics#global()}.
+	 *
+	 * @param time the game time
+	 * @param g the graphics to draw to
+	 */
+	public final void runFrame(GameTime time, Graphics g) {
+		FrameListener listener = this.listener;
+		AllocationTracker tracker = allocations;
+		boolean measure = tracker != null || listener != null;
+		long start = measure ? ThreadAllocations.current() : 0;
+		Object frame = listener == null ? null : listener.beginFrame();
+		time.tick();
+		if (time.frame() > 1)
+			FRAME_TIME.record(time.delta());
+
+		Object update = listener == null ? null : listener.beginUpdate();
+		long before = measure ? ThreadAllocations.current() : 0;
+		int scope = Profiler.begin("Update");
+		try {
+			Update(time);
+		} finally {
+			Profiler.end(scope);
+		}
+		long updateBytes = measure ? ThreadAllocations.current() - before : 0;
+		if (listener != null)
+			listener.endUpdate(update, time.frame(), updateBytes);
+
+		Object draw = listener == null ? null : listener.beginDraw();
+		before = measure ? ThreadAllocations.current() : 0;
+		scope = Profiler.begin("Draw");
+		try {
+			Draw(g);
+		} finally {
+			Profiler.end(scope);
+		}
+		long drawBytes = measure ? ThreadAllocations.current() - before : 0;
+		if (listener != null)
+			listener.endDraw(draw, time.frame(), drawBytes);
+		if (tracker != null)
+			tracker.record(time.frame(), updateBytes, drawBytes);
+
+		int entities = entityCount();
+		if (entities >= 0)
+			ENTITIES.set(entities);
+		if (listener != null)
+			listener.endFrame(frame, time.frame(), entities,
+					ThreadAllocations.current() - start);
+	}
+
+	/**
+	 * @param listener is told of each frame, update and draw, or null
+	 */
+	public void setFrameListener(FrameListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Tracks the bytes each frame's Update and Draw allocate
+	 *
+	 * @param tracker the tracker, or null to stop tracking
+	 */
+	public void setAllocationTracker(AllocationTracker tracker) {
+		this.allocations = tracker;
+	}
+
+	/**
+	 * Gets the number of entities, reported with each frame
+	 *
+	 * @return the number of entities, or -1 if the game doesn't count them
+	 */
+	protected int entityCount() {
+		return -1;
+	}
 }
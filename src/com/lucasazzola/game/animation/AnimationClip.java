@@ -0,0 +1,192 @@
+package com.lucasazzola.game.animation;
+
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Keyframed animation of a skeleton. Every bone has a translation, rotation
+ * and scale track, each a sorted array of key times and a flat array of key
+ * values (three floats per translation or scale key, four per rotation key).
+ * A track with no keys leaves the bone at identity for that channel, and a
+ * track with one key holds it constant.
+ *
+ * Clips are immutable once built and may be shared by any number of
+ * {@link AnimationSampler}s.
+ *
+ * @since 19/10/2026
+ */
+public class AnimationClip {
+
+	/**
+	 * Track channels
+	 */
+	public static final int TRANSLATION = 0, ROTATION = 1, SCALE = 2;
+
+	/**
+	 * Number of channels per bone
+	 */
+	static final int CHANNELS = 3;
+
+	/**
+	 * Key times and values, indexed by bone * CHANNELS + channel
+	 */
+	final float[][] times, values;
+
+	/**
+	 * Clip members
+	 */
+	private final int boneCount;
+	private final float duration;
+
+	/**
+	 * Constructs a clip with every track empty
+	 *
+	 * @param boneCount the number of bones animated
+	 * @param duration the length of the clip, in seconds
+	 */
+	public AnimationClip(int boneCount, float duration) {
+		this.boneCount = boneCount;
+		this.duration = duration;
+		times = new float[boneCount * CHANNELS][];
+		values = new float[boneCount * CHANNELS][];
+		for (int i = 0; i < times.length; i++) {
+			times[i] = new float[0];
+			values[i] = new float[0];
+		}
+	}
+
+	/**
+	 * @return the number of bones animated
+	 */
+	public int boneCount() {
+		return boneCount;
+	}
+
+	/**
+	 * @return the length of the clip, in seconds
+	 */
+	public float duration() {
+		return duration;
+	}
+
+	/**
+	 * @param bone the bone
+	 * @param channel TRANSLATION, ROTATION or SCALE
+	 * @return the number of keys in the track
+	 */
+	public int keyCount(int bone, int channel) {
+		return times[bone * CHANNELS + channel].length;
+	}
+
+	/**
+	 * Copies a track's keys out
+	 *
+	 * @param bone the bone
+	 * @param channel TRANSLATION, ROTATION or SCALE
+	 * @param times receives the key times, keyCount long at least
+	 * @param values receives the key values, xyz or xyzw per key
+	 */
+	public void getTrack(int bone, int channel, float[] times,
+			float[] values) {
+		int track = bone * CHANNELS + channel;
+		System.arraycopy(this.times[track], 0, times, 0,
+				this.times[track].length);
+		System.arraycopy(this.values[track], 0, values, 0,
+				this.values[track].length);
+	}
+
+	/**
+	 * Sets a bone's translation track
+	 *
+	 * @param bone the bone
+	 * @param times the key times, ascending
+	 * @param keys the key values
+	 * @return this, for chainability
+	 */
+	public AnimationClip setTranslations(int bone, float[] times,
+			Vector3[] keys) {
+		return setTrack(bone, TRANSLATION, times, flatten(keys));
+	}
+
+	/**
+	 * Sets a bone's rotation track
+	 *
+	 * @param bone the bone
+	 * @param times the key times, ascending
+	 * @param keys the key values, unit quaternions
+	 * @return this, for chainability
+	 */
+	public AnimationClip setRotations(int bone, float[] times,
+			Quaternion[] keys) {
+		float[] flat = new float[keys.length * 4];
+		for (int i = 0; i < keys.length; i++) {
+			flat[i * 4] = keys[i].x;
+			flat[i * 4 + 1] = keys[i].y;
+			flat[i * 4 + 2] = keys[i].z;
+			flat[i * 4 + 3] = keys[i].w;
+		}
+		return setTrack(bone, ROTATION, times, flat);
+	}
+
+	/**
+	 * Sets a bone's scale track
+	 *
+	 * @param bone the bone
+	 * @param times the key times, ascending
+	 * @param keys the key values
+	 * @return this, for chainability
+	 */
+	public AnimationClip setScales(int bone, float[] times, Vector3[] keys) {
+		return setTrack(bone, SCALE, times, flatten(keys));
+	}
+
+	/**
+	 * Sets a track from flat key values
+	 *
+	 * @param bone the bone
+	 * @param channel TRANSLATION, ROTATION or SCALE
+	 * @param times the key times, ascending
+	 * @param values the key values, xyz or xyzw per key
+	 * @return this, for chainability
+	 */
+	public AnimationClip setTrack(int bone, int channel, float[] times,
+			float[] values) {
+		int width = width(channel);
+		if (values.length != times.length * width)
+			throw new IllegalArgumentException("Expected " + times.length
+					* width + " values, got " + values.length);
+		for (int i = 1; i < times.length; i++) {
+			if (times[i] < times[i - 1])
+				throw new IllegalArgumentException("Key times must ascend");
+		}
+		this.times[bone * CHANNELS + channel] = times.clone();
+		this.values[bone * CHANNELS + channel] = values.clone();
+		return this;
+	}
+
+	/**
+	 * @return the number of floats per key of a channel
+	 */
+	static int width(int channel) {
+		return channel == ROTATION ? 4 : 3;
+	}
+
+	/**
+	 * Flattens vectors into xyz triples
+	 */
+	private static float[] flatten(Vector3[] keys) {
+		float[] flat = new float[keys.length * 3];
+		for (int i = 0; i < keys.length; i++) {
+			flat[i * 3] = keys[i].x;
+			flat[i * 3 + 1] = keys[i].y;
+			flat[i * 3 + 2] = keys[i].z;
+		}
+		return flat;
+	}
+
+	@Override
+	public String toString() {
+		return "AnimationClip [bones:" + boneCount + ", duration:" + duration
+				+ "]";
+	}
+}
@@ -0,0 +1,178 @@
+package com.lucasazzola.game.animation;
+
+/**
+ * Samples an {@link AnimationClip} into a {@link Pose}. The sampler
+ * remembers the key each track was last sampled at, so playing forwards
+ * only ever checks that key and the next one; the track is binary searched
+ * only after a seek, a loop or a large jump in time.
+ *
+ * Each playing instance of a clip needs its own sampler.
+ *
+ * @since 19/10/2026
+ */
+public class AnimationSampler {
+
+	/**
+	 * The clip being sampled, and the last key index of each of its tracks
+	 */
+	private AnimationClip clip;
+	private int[] cursors = new int[0];
+	private boolean looping = true;
+
+	/**
+	 * Constructs a sampler
+	 *
+	 * @param clip the clip to sample
+	 */
+	public AnimationSampler(AnimationClip clip) {
+		setClip(clip);
+	}
+
+	/**
+	 * Switches to another clip, forgetting the cached keys
+	 *
+	 * @param clip the clip to sample
+	 */
+	public void setClip(AnimationClip clip) {
+		this.clip = clip;
+		if (cursors.length < clip.times.length)
+			cursors = new int[clip.times.length];
+		reset();
+	}
+
+	/**
+	 * @return the clip being sampled
+	 */
+	public AnimationClip clip() {
+		return clip;
+	}
+
+	/**
+	 * @param looping true to wrap times past the end of the clip, false to
+	 *            hold the last key
+	 */
+	public void setLooping(boolean looping) {
+		this.looping = looping;
+	}
+
+	/**
+	 * Forgets the cached keys, for example after seeking backwards
+	 */
+	public void reset() {
+		for (int i = 0; i < cursors.length; i++) {
+			cursors[i] = 0;
+		}
+	}
+
+	/**
+	 * Samples every track at a time. Bones beyond the clip's bone count are
+	 * left unchanged.
+	 *
+	 * @param time the time, in seconds
+	 * @param out the pose to write into
+	 * @return out, for chainability
+	 */
+	public Pose sample(float time, Pose out) {
+		float duration = clip.duration();
+		if (looping && duration > 0) {
+			time %= duration;
+			if (time < 0)
+				time += duration;
+		}
+		int bones = Math.min(clip.boneCount(), out.boneCount());
+		float[][] times = clip.times, values = clip.values;
+		for (int bone = 0; bone < bones; bone++) {
+			int track = bone * AnimationClip.CHANNELS;
+			sample(times[track], values[track], track, time, 3, bone * 3,
+					out.translation, 0);
+			sample(times[track + 2], values[track + 2], track + 2, time, 3,
+					bone * 3, out.scale, 1);
+			sampleRotation(times[track + 1], values[track + 1], track + 1,
+					time, bone * 4, out.rotation);
+		}
+		return out;
+	}
+
+	/**
+	 * Samples a translation or scale track, writing the identity value if it
+	 * has no keys
+	 */
+	private void sample(float[] times, float[] values, int track, float time,
+			int width, int o, float[] out, float identity) {
+		int n = times.length;
+		if (n < 2) {
+			for (int c = 0; c < width; c++) {
+				out[o + c] = n == 0 ? identity : values[c];
+			}
+			return;
+		}
+		int k = find(times, track, time);
+		float t = alpha(times, k, time);
+		int a = k * width, b = a + width;
+		for (int c = 0; c < width; c++) {
+			out[o + c] = values[a + c] + (values[b + c] - values[a + c]) * t;
+		}
+	}
+
+	/**
+	 * Samples a rotation track, writing the identity rotation if it has no
+	 * keys
+	 */
+	private void sampleRotation(float[] times, float[] values, int track,
+			float time, int o, float[] out) {
+		int n = times.length;
+		if (n < 2) {
+			out[o] = n == 0 ? 0 : values[0];
+			out[o + 1] = n == 0 ? 0 : values[1];
+			out[o + 2] = n == 0 ? 0 : values[2];
+			out[o + 3] = n == 0 ? 1 : values[3];
+			return;
+		}
+		int k = find(times, track, time);
+		Pose.nlerp(values, k * 4, values, k * 4 + 4, alpha(times, k, time),
+				out, o);
+	}
+
+	/**
+	 * Finds the key k, in [0, n - 2], such that times[k] <= time <
+	 * times[k + 1], clamping at either end. Checks the cached key and its
+	 * successor before falling back to a binary search.
+	 */
+	private int find(float[] times, int track, float time) {
+		int last = times.length - 2;
+		int k = cursors[track];
+		if (times[k] <= time) {
+			if (k == last || time < times[k + 1])
+				return k;
+			if (k + 1 == last || time < times[k + 2])
+				return cursors[track] = k + 1;
+		} else if (k == 0) {
+			return 0;
+		}
+		int low = 0, high = last;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (times[middle] <= time)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+		return cursors[track] = low;
+	}
+
+	/**
+	 * Gets the interpolation weight of a time between key k and k + 1
+	 */
+	private static float alpha(float[] times, int k, float time) {
+		float span = times[k + 1] - times[k];
+		if (span <= 0)
+			return time < times[k] ? 0 : 1;
+		float t = (time - times[k]) / span;
+		return t < 0 ? 0 : t > 1 ? 1 : t;
+	}
+
+	@Override
+	public String toString() {
+		return "AnimationSampler [" + clip + ", looping:" + looping + "]";
+	}
+}
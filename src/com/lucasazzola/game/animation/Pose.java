@@ -0,0 +1,273 @@
+package com.lucasazzola.game.animation;
+
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Local transforms of every bone in a skeleton, held in flat arrays rather
+ * than one object per bone: translation and scale are xyz triples and
+ * rotation is an xyzw quaternion per bone.
+ *
+ * Rotations are blended with normalised linear interpolation along the
+ * shortest arc, which is cheaper than slerp and close enough for the small
+ * angles between neighbouring keyframes or blended poses.
+ *
+ * @since 19/10/2026
+ */
+public class Pose {
+
+	/**
+	 * Bone transforms
+	 */
+	public final float[] translation, rotation, scale;
+
+	/**
+	 * Number of bones
+	 */
+	private final int boneCount;
+
+	/**
+	 * Constructs an identity pose
+	 *
+	 * @param boneCount the number of bones
+	 */
+	public Pose(int boneCount) {
+		this.boneCount = boneCount;
+		translation = new float[boneCount * 3];
+		rotation = new float[boneCount * 4];
+		scale = new float[boneCount * 3];
+		setIdentity();
+	}
+
+	/**
+	 * @return the number of bones
+	 */
+	public int boneCount() {
+		return boneCount;
+	}
+
+	/**
+	 * Resets every bone to no translation, no rotation and unit scale
+	 *
+	 * @return this, for chainability
+	 */
+	public Pose setIdentity() {
+		for (int i = 0; i < boneCount; i++) {
+			setIdentity(i);
+		}
+		return this;
+	}
+
+	/**
+	 * Resets a bone to no translation, no rotation and unit scale
+	 *
+	 * @param bone the bone
+	 */
+	void setIdentity(int bone) {
+		translation[bone * 3] = 0;
+		translation[bone * 3 + 1] = 0;
+		translation[bone * 3 + 2] = 0;
+		rotation[bone * 4] = 0;
+		rotation[bone * 4 + 1] = 0;
+		rotation[bone * 4 + 2] = 0;
+		rotation[bone * 4 + 3] = 1;
+		scale[bone * 3] = 1;
+		scale[bone * 3 + 1] = 1;
+		scale[bone * 3 + 2] = 1;
+	}
+
+	/**
+	 * Copies another pose of the same skeleton
+	 *
+	 * @param pose the pose to copy
+	 * @return this, for chainability
+	 */
+	public Pose set(Pose pose) {
+		System.arraycopy(pose.translation, 0, translation, 0, boneCount * 3);
+		System.arraycopy(pose.rotation, 0, rotation, 0, boneCount * 4);
+		System.arraycopy(pose.scale, 0, scale, 0, boneCount * 3);
+		return this;
+	}
+
+	/**
+	 * Sets the transform of a bone
+	 *
+	 * @param bone the bone
+	 * @param translation the translation
+	 * @param rotation the rotation, a unit quaternion
+	 * @param scale the scale
+	 */
+	public void setBone(int bone, Vector3 translation, Quaternion rotation,
+			Vector3 scale) {
+		this.translation[bone * 3] = translation.x;
+		this.translation[bone * 3 + 1] = translation.y;
+		this.translation[bone * 3 + 2] = translation.z;
+		this.rotation[bone * 4] = rotation.x;
+		this.rotation[bone * 4 + 1] = rotation.y;
+		this.rotation[bone * 4 + 2] = rotation.z;
+		this.rotation[bone * 4 + 3] = rotation.w;
+		this.scale[bone * 3] = scale.x;
+		this.scale[bone * 3 + 1] = scale.y;
+		this.scale[bone * 3 + 2] = scale.z;
+	}
+
+	/**
+	 * Gets the rotation of a bone
+	 *
+	 * @param bone the bone
+	 * @param out the quaternion will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Quaternion getRotation(int bone, Quaternion out) {
+		out.x = rotation[bone * 4];
+		out.y = rotation[bone * 4 + 1];
+		out.z = rotation[bone * 4 + 2];
+		out.w = rotation[bone * 4 + 3];
+		return out;
+	}
+
+	/**
+	 * Gets the translation of a bone
+	 *
+	 * @param bone the bone
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Vector3 getTranslation(int bone, Vector3 out) {
+		out.x = translation[bone * 3];
+		out.y = translation[bone * 3 + 1];
+		out.z = translation[bone * 3 + 2];
+		return out;
+	}
+
+	/**
+	 * Blends between two poses. The output may be either input.
+	 *
+	 * @param a the pose at weight 0
+	 * @param b the pose at weight 1
+	 * @param weight the blend weight
+	 * @param out the pose to write into
+	 * @return out, for chainability
+	 */
+	public static Pose blend(Pose a, Pose b, float weight, Pose out) {
+		int n = out.boneCount;
+		lerp(a.translation, b.translation, weight, out.translation, n * 3);
+		lerp(a.scale, b.scale, weight, out.scale, n * 3);
+		for (int i = 0; i < n; i++) {
+			nlerp(a.rotation, b.rotation, i * 4, weight, out.rotation);
+		}
+		return out;
+	}
+
+	/**
+	 * Computes the additive difference of a pose from a reference pose, to be
+	 * layered with {@link #add(Pose, float)}. The output may be either input.
+	 *
+	 * @param pose the pose
+	 * @param reference the pose the difference is taken from, typically the
+	 *            first frame of the additive clip
+	 * @param out the pose to write into
+	 * @return out, for chainability
+	 */
+	public static Pose difference(Pose pose, Pose reference, Pose out) {
+		int n = out.boneCount;
+		for (int i = 0; i < n * 3; i++) {
+			out.translation[i] = pose.translation[i] - reference.translation[i];
+			float s = reference.scale[i];
+			out.scale[i] = s == 0 ? 1 : pose.scale[i] / s;
+		}
+		float[] p = pose.rotation, r = reference.rotation;
+		for (int o = 0; o < n * 4; o += 4) {
+			// conjugate(reference) * pose
+			float rx = -r[o], ry = -r[o + 1], rz = -r[o + 2], rw = r[o + 3];
+			float px = p[o], py = p[o + 1], pz = p[o + 2], pw = p[o + 3];
+			out.rotation[o] = rw * px + rx * pw + ry * pz - rz * py;
+			out.rotation[o + 1] = rw * py + ry * pw + rz * px - rx * pz;
+			out.rotation[o + 2] = rw * pz + rz * pw + rx * py - ry * px;
+			out.rotation[o + 3] = rw * pw - rx * px - ry * py - rz * pz;
+		}
+		return out;
+	}
+
+	/**
+	 * Layers an additive pose on top of this pose
+	 *
+	 * @param additive a difference from {@link #difference}
+	 * @param weight how much of the difference to apply, from 0 to 1
+	 * @return this, for chainability
+	 */
+	public Pose add(Pose additive, float weight) {
+		for (int i = 0; i < boneCount * 3; i++) {
+			translation[i] += additive.translation[i] * weight;
+			scale[i] *= 1 + (additive.scale[i] - 1) * weight;
+		}
+		float[] d = additive.rotation, r = rotation;
+		for (int o = 0; o < boneCount * 4; o += 4) {
+			// this * nlerp(identity, difference, weight)
+			float dx = d[o] * weight, dy = d[o + 1] * weight;
+			float dz = d[o + 2] * weight;
+			float dw = 1 + ((d[o + 3] < 0 ? -d[o + 3] : d[o + 3]) - 1) * weight;
+			if (d[o + 3] < 0) {
+				dx = -dx;
+				dy = -dy;
+				dz = -dz;
+			}
+			float rx = r[o], ry = r[o + 1], rz = r[o + 2], rw = r[o + 3];
+			float x = rw * dx + rx * dw + ry * dz - rz * dy;
+			float y = rw * dy + ry * dw + rz * dx - rx * dz;
+			float z = rw * dz + rz * dw + rx * dy - ry * dx;
+			float w = rw * dw - rx * dx - ry * dy - rz * dz;
+			normalise(x, y, z, w, r, o);
+		}
+		return this;
+	}
+
+	/**
+	 * out = a + (b - a) * t over n floats
+	 */
+	static void lerp(float[] a, float[] b, float t, float[] out, int n) {
+		for (int i = 0; i < n; i++) {
+			out[i] = a[i] + (b[i] - a[i]) * t;
+		}
+	}
+
+	/**
+	 * Normalised linear interpolation of the quaternions at offset o, along
+	 * the shortest arc
+	 */
+	static void nlerp(float[] a, float[] b, int o, float t, float[] out) {
+		nlerp(a, o, b, o, t, out, o);
+	}
+
+	/**
+	 * Normalised linear interpolation of two quaternions, along the shortest
+	 * arc
+	 */
+	static void nlerp(float[] a, int ao, float[] b, int bo, float t,
+			float[] out, int o) {
+		float ax = a[ao], ay = a[ao + 1], az = a[ao + 2], aw = a[ao + 3];
+		float bx = b[bo], by = b[bo + 1], bz = b[bo + 2], bw = b[bo + 3];
+		float dot = ax * bx + ay * by + az * bz + aw * bw;
+		float ta = 1 - t, tb = dot < 0 ? -t : t;
+		normalise(ax * ta + bx * tb, ay * ta + by * tb, az * ta + bz * tb, aw
+				* ta + bw * tb, out, o);
+	}
+
+	/**
+	 * Writes a quaternion scaled to unit length
+	 */
+	private static void normalise(float x, float y, float z, float w,
+			float[] out, int o) {
+		float length = x * x + y * y + z * z + w * w;
+		float inv = length > 0 ? 1 / (float) Math.sqrt(length) : 0;
+		out[o] = x * inv;
+		out[o + 1] = y * inv;
+		out[o + 2] = z * inv;
+		out[o + 3] = length > 0 ? w * inv : 1;
+	}
+
+	@Override
+	public String toString() {
+		return "Pose [bones:" + boneCount + "]";
+	}
+}
@@ -0,0 +1,133 @@
+package com.lucasazzola.game.animation;
+
+import com.lucasazzola.game.graphics.Matrix4;
+
+/**
+ * Bone hierarchy and inverse bind matrices of a skinned mesh. Bones are
+ * ordered so that a parent always precedes its children, which lets model
+ * space matrices be built in a single linear pass.
+ *
+ * @since 19/10/2026
+ */
+public class Skeleton {
+
+	/**
+	 * Parent index given to root bones
+	 */
+	public static final int ROOT = -1;
+
+	/**
+	 * Number of floats per matrix
+	 */
+	public static final int MATRIX_SIZE = 16;
+
+	/**
+	 * Parent of every bone, and inverse bind matrices laid out as in
+	 * {@link Matrix4#get(float[], int)}
+	 */
+	private final int[] parents;
+	private final float[] inverseBind;
+
+	/**
+	 * Constructs a skeleton
+	 *
+	 * @param parents the parent of every bone, ROOT or a lower index
+	 * @param inverseBind the inverse bind matrix of every bone, MATRIX_SIZE
+	 *            floats each
+	 */
+	public Skeleton(int[] parents, float[] inverseBind) {
+		for (int i = 0; i < parents.length; i++) {
+			if (parents[i] < ROOT || parents[i] >= i)
+				throw new IllegalArgumentException("Bone " + i
+						+ " must follow its parent " + parents[i]);
+		}
+		if (inverseBind.length != parents.length * MATRIX_SIZE)
+			throw new IllegalArgumentException("Expected "
+					+ parents.length * MATRIX_SIZE + " inverse bind floats");
+		this.parents = parents.clone();
+		this.inverseBind = inverseBind.clone();
+	}
+
+	/**
+	 * Constructs a skeleton whose inverse bind matrices undo a bind pose
+	 *
+	 * @param parents the parent of every bone, ROOT or a lower index
+	 * @param bind the pose the mesh was modelled in
+	 * @return the skeleton
+	 */
+	public static Skeleton fromBindPose(int[] parents, Pose bind) {
+		float[] model = new float[parents.length * MATRIX_SIZE];
+		modelMatrices(parents, bind, model);
+		for (int i = 0; i < parents.length; i++) {
+			if (!Matrix4.invertAffine(model, i * MATRIX_SIZE, model, i
+					* MATRIX_SIZE))
+				throw new IllegalArgumentException("Bone " + i
+						+ " has a singular bind transform");
+		}
+		return new Skeleton(parents, model);
+	}
+
+	/**
+	 * @return the number of bones
+	 */
+	public int boneCount() {
+		return parents.length;
+	}
+
+	/**
+	 * @param bone the bone
+	 * @return the parent of the bone, or ROOT
+	 */
+	public int parent(int bone) {
+		return parents[bone];
+	}
+
+	/**
+	 * Writes the model space matrix of every bone in a pose
+	 *
+	 * @param pose the local pose
+	 * @param out the array to write into, MATRIX_SIZE floats per bone
+	 * @return out, for chainability
+	 */
+	public float[] modelMatrices(Pose pose, float[] out) {
+		modelMatrices(parents, pose, out);
+		return out;
+	}
+
+	/**
+	 * Writes the skinning matrix, model * inverse bind, of every bone in a
+	 * pose
+	 *
+	 * @param pose the local pose
+	 * @param out the array to write into, MATRIX_SIZE floats per bone
+	 * @return out, for chainability
+	 */
+	public float[] skinningMatrices(Pose pose, float[] out) {
+		modelMatrices(parents, pose, out);
+		for (int i = 0, o = 0; i < parents.length; i++, o += MATRIX_SIZE) {
+			Matrix4.multiplyAffine(out, o, inverseBind, o, out, o);
+		}
+		return out;
+	}
+
+	/**
+	 * Composes local transforms down the hierarchy
+	 */
+	private static void modelMatrices(int[] parents, Pose pose, float[] out) {
+		float[] t = pose.translation, r = pose.rotation, s = pose.scale;
+		for (int i = 0; i < parents.length; i++) {
+			int o = i * MATRIX_SIZE;
+			Matrix4.setTransform(out, o, t[i * 3], t[i * 3 + 1], t[i * 3 + 2],
+					r[i * 4], r[i * 4 + 1], r[i * 4 + 2], r[i * 4 + 3],
+					s[i * 3], s[i * 3 + 1], s[i * 3 + 2]);
+			int p = parents[i];
+			if (p != ROOT)
+				Matrix4.multiplyAffine(out, p * MATRIX_SIZE, out, o, out, o);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Skeleton [bones:" + parents.length + "]";
+	}
+}
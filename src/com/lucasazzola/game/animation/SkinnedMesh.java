@@ -0,0 +1,134 @@
+package com.lucasazzola.game.animation;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Vertex data of a mesh skinned on the CPU by {@link Skinner}, held in
+ * native order direct buffers so that it can be handed to a renderer or
+ * written out without copying.
+ *
+ * Each input vertex is {@link #VERTEX_SIZE} bytes: position and normal as
+ * six floats, four unsigned byte bone indices, then four float weights
+ * summing to 1. Each skinned vertex is position and normal as
+ * {@link #SKINNED_FLOATS} floats.
+ *
+ * @since 19/10/2026
+ */
+public class SkinnedMesh {
+
+	/**
+	 * Most bones influencing one vertex
+	 */
+	public static final int INFLUENCES = 4;
+
+	/**
+	 * Byte offsets within an input vertex, and its size
+	 */
+	public static final int POSITION = 0, NORMAL = 12, BONES = 24,
+			WEIGHTS = 28, VERTEX_SIZE = 44;
+
+	/**
+	 * Floats per skinned vertex
+	 */
+	public static final int SKINNED_FLOATS = 6;
+
+	/**
+	 * Bind pose vertices and skinned vertices
+	 */
+	public final ByteBuffer vertices;
+	public final FloatBuffer skinned;
+
+	/**
+	 * Skinning matrices, from {@link Skeleton#skinningMatrices}, to skin with
+	 */
+	public float[] palette;
+
+	/**
+	 * Number of vertices
+	 */
+	private final int vertexCount;
+
+	/**
+	 * Allocates a mesh
+	 *
+	 * @param vertexCount the number of vertices
+	 */
+	public SkinnedMesh(int vertexCount) {
+		this.vertexCount = vertexCount;
+		vertices = ByteBuffer.allocateDirect(vertexCount * VERTEX_SIZE)
+				.order(ByteOrder.nativeOrder());
+		skinned = ByteBuffer.allocateDirect(vertexCount * SKINNED_FLOATS * 4)
+				.order(ByteOrder.nativeOrder()).asFloatBuffer();
+	}
+
+	/**
+	 * @return the number of vertices
+	 */
+	public int vertexCount() {
+		return vertexCount;
+	}
+
+	/**
+	 * Sets a bind pose vertex
+	 *
+	 * @param i the vertex
+	 * @param position the position
+	 * @param normal the normal, unit length
+	 * @param bones the bone indices, up to INFLUENCES of them
+	 * @param weights the weight of each bone, summing to 1
+	 */
+	public void setVertex(int i, Vector3 position, Vector3 normal,
+			int[] bones, float[] weights) {
+		int o = i * VERTEX_SIZE;
+		vertices.putFloat(o + POSITION, position.x);
+		vertices.putFloat(o + POSITION + 4, position.y);
+		vertices.putFloat(o + POSITION + 8, position.z);
+		vertices.putFloat(o + NORMAL, normal.x);
+		vertices.putFloat(o + NORMAL + 4, normal.y);
+		vertices.putFloat(o + NORMAL + 8, normal.z);
+		for (int k = 0; k < INFLUENCES; k++) {
+			boolean used = k < bones.length;
+			vertices.put(o + BONES + k, (byte) (used ? bones[k] : 0));
+			vertices.putFloat(o + WEIGHTS + k * 4, used ? weights[k] : 0);
+		}
+	}
+
+	/**
+	 * Gets a skinned position
+	 *
+	 * @param i the vertex
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Vector3 getSkinnedPosition(int i, Vector3 out) {
+		int o = i * SKINNED_FLOATS;
+		out.x = skinned.get(o);
+		out.y = skinned.get(o + 1);
+		out.z = skinned.get(o + 2);
+		return out;
+	}
+
+	/**
+	 * Gets a skinned normal
+	 *
+	 * @param i the vertex
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Vector3 getSkinnedNormal(int i, Vector3 out) {
+		int o = i * SKINNED_FLOATS + 3;
+		out.x = skinned.get(o);
+		out.y = skinned.get(o + 1);
+		out.z = skinned.get(o + 2);
+		return out;
+	}
+
+	@Override
+	public String toString() {
+		return "SkinnedMesh [vertices:" + vertexCount + "]";
+	}
+}
@@ -0,0 +1,329 @@
+package com.lucasazzola.game.asset;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.lucasazzola.game.animation.AnimationClip;
+
+/**
+ * Read only archive of assets, memory mapped so that opening a pack reads
+ * only its index and each asset is paged in by the OS when first touched.
+ * Meshes and float data are returned as views of the mapping, without
+ * copying or parsing. Payloads start on {@link #ALIGNMENT} byte boundaries
+ * in the byte order they were written in, so a pack written in native
+ * order can be wrapped directly by the off heap arrays, for example
+ * {@code new Vector3Array(pack.bytes("positions"))}.
+ *
+ * <pre>
+ * header, little endian, 32 bytes:
+ *   magic:4 version:4 bigEndian:4 entries:4 indexOffset:8 indexLength:8
+ * payloads, each aligned
+ * index, aligned, per entry:
+ *   nameLength:2 name:UTF-8 type:4 offset:8 length:8 meta:4x4
+ * </pre>
+ *
+ * A mapping is released by the garbage collector once no view of it is
+ * reachable, not when the pack is closed.
+ *
+ * @since 19/10/2026
+ */
+public class AssetPack implements Closeable {
+
+	/**
+	 * Entry types
+	 */
+	public static final int BYTES = 0, FLOATS = 1, MESH = 2, CLIP = 3;
+
+	/**
+	 * Alignment of payloads, in bytes
+	 */
+	public static final int ALIGNMENT = 64;
+
+	/**
+	 * Header constants, "GPAK" as little endian
+	 */
+	static final int MAGIC = 0x4B415047, VERSION = 1, HEADER_SIZE = 32;
+
+	/**
+	 * Number of metadata ints per entry, and animation channels per bone
+	 */
+	static final int META = 4, CHANNELS = 3;
+
+	/**
+	 * An entry of the index
+	 */
+	private static class Entry {
+
+		/**
+		 * Entry members
+		 */
+		final int type;
+		final long offset, length;
+		final int[] meta = new int[META];
+
+		/**
+		 * The payload, mapped when first used
+		 */
+		MappedByteBuffer mapped;
+
+		/**
+		 * Constructs an entry
+		 */
+		Entry(int type, long offset, long length) {
+			this.type = type;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * The file
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * Byte order of payloads
+	 */
+	private final ByteOrder order;
+
+	/**
+	 * Entries by name
+	 */
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+	/**
+	 * Opens a pack
+	 *
+	 * @param path the file
+	 * @throws IOException if the file can't be read or is not a pack
+	 */
+	public AssetPack(Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			ByteBuffer header = read(0, HEADER_SIZE).order(
+					ByteOrder.LITTLE_ENDIAN);
+			if (header.getInt() != MAGIC)
+				throw new IOException(path + " is not an asset pack");
+			int version = header.getInt();
+			if (version != VERSION)
+				throw new IOException("Unsupported pack version " + version);
+			order = header.getInt() != 0 ? ByteOrder.BIG_ENDIAN
+					: ByteOrder.LITTLE_ENDIAN;
+			int count = header.getInt();
+			long indexOffset = header.getLong();
+			long indexLength = header.getLong();
+			if (indexLength > Integer.MAX_VALUE
+					|| indexOffset + indexLength > channel.size())
+				throw new IOException("Truncated pack " + path);
+			ByteBuffer index = read(indexOffset, (int) indexLength).order(
+					order);
+			for (int i = 0; i < count; i++) {
+				byte[] name = new byte[index.getShort()];
+				index.get(name);
+				Entry e = new Entry(index.getInt(), index.getLong(),
+						index.getLong());
+				for (int m = 0; m < META; m++) {
+					e.meta[m] = index.getInt();
+				}
+				if (e.offset + e.length > indexOffset)
+					throw new IOException("Truncated pack " + path);
+				entries.put(new String(name, StandardCharsets.UTF_8), e);
+			}
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return the names of every asset, in the order they were written
+	 */
+	public Set<String> names() {
+		return Collections.unmodifiableSet(entries.keySet());
+	}
+
+	/**
+	 * @param name an asset's name
+	 * @return true if the pack holds the asset
+	 */
+	public boolean contains(String name) {
+		return entries.containsKey(name);
+	}
+
+	/**
+	 * @param name an asset's name
+	 * @return the asset's type, BYTES, FLOATS, MESH or CLIP
+	 */
+	public int type(String name) {
+		return entry(name).type;
+	}
+
+	/**
+	 * @return the byte order of payloads
+	 */
+	public ByteOrder order() {
+		return order;
+	}
+
+	/**
+	 * Gets an asset's payload
+	 *
+	 * @param name an asset of any type
+	 * @return a read only view of the payload, in the pack's byte order
+	 * @throws IOException if the payload can't be mapped
+	 */
+	public ByteBuffer bytes(String name) throws IOException {
+		return map(entry(name));
+	}
+
+	/**
+	 * Gets float data
+	 *
+	 * @param name a FLOATS asset
+	 * @return a read only view of the floats
+	 * @throws IOException if the payload can't be mapped
+	 */
+	public FloatBuffer floats(String name) throws IOException {
+		return map(entry(name, FLOATS)).asFloatBuffer();
+	}
+
+	/**
+	 * @param name a FLOATS asset
+	 * @return the number of floats per element
+	 */
+	public int components(String name) {
+		return entry(name, FLOATS).meta[0];
+	}
+
+	/**
+	 * Gets a mesh
+	 *
+	 * @param name a MESH asset
+	 * @return read only views of the mesh's vertices and indices
+	 * @throws IOException if the payload can't be mapped
+	 */
+	public MeshData mesh(String name) throws IOException {
+		Entry e = entry(name, MESH);
+		ByteBuffer payload = map(e);
+		int stride = e.meta[1];
+		payload.limit(e.meta[0] * stride * 4);
+		FloatBuffer vertices = payload.asFloatBuffer();
+		payload.limit(e.meta[3] + e.meta[2] * 4).position(e.meta[3]);
+		IntBuffer indices = payload.slice().order(order).asIntBuffer();
+		return new MeshData(vertices, indices, stride);
+	}
+
+	/**
+	 * Loads an animation clip. Keys are copied to the heap, where the
+	 * sampler reads them.
+	 *
+	 * @param name a CLIP asset
+	 * @return the clip
+	 * @throws IOException if the payload can't be mapped
+	 */
+	public AnimationClip clip(String name) throws IOException {
+		Entry e = entry(name, CLIP);
+		ByteBuffer payload = map(e);
+		int bones = e.meta[0];
+		AnimationClip clip = new AnimationClip(bones,
+				Float.intBitsToFloat(e.meta[1]));
+		IntBuffer counts = payload.asIntBuffer();
+		payload.position(bones * CHANNELS * 4);
+		FloatBuffer keys = payload.slice().order(order).asFloatBuffer();
+		for (int t = 0; t < bones * CHANNELS; t++) {
+			int n = counts.get(t);
+			float[] times = new float[n];
+			float[] values = new float[n * width(t % CHANNELS)];
+			keys.get(times).get(values);
+			clip.setTrack(t / CHANNELS, t % CHANNELS, times, values);
+		}
+		return clip;
+	}
+
+	/**
+	 * Closes the file. Views already returned remain valid.
+	 *
+	 * @throws IOException if the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * @return the number of floats per key of a channel
+	 */
+	static int width(int channel) {
+		return channel == AnimationClip.ROTATION ? 4 : 3;
+	}
+
+	/**
+	 * @return a named entry
+	 */
+	private Entry entry(String name) {
+		Entry e = entries.get(name);
+		if (e == null)
+			throw new IllegalArgumentException("No asset " + name);
+		return e;
+	}
+
+	/**
+	 * @return a named entry of a type
+	 */
+	private Entry entry(String name, int type) {
+		Entry e = entry(name);
+		if (e.type != type)
+			throw new IllegalArgumentException("Asset " + name
+					+ " has type " + e.type + ", not " + type);
+		return e;
+	}
+
+	/**
+	 * Maps an entry's payload, once
+	 *
+	 * @return a view of the payload
+	 */
+	private ByteBuffer map(Entry e) throws IOException {
+		synchronized (e) {
+			if (e.mapped == null) {
+				if (e.length > Integer.MAX_VALUE)
+					throw new IOException("Asset over 2GB");
+				e.mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+						e.offset, e.length);
+			}
+		}
+		return e.mapped.asReadOnlyBuffer().order(order);
+	}
+
+	/**
+	 * Reads part of the file into a heap buffer
+	 */
+	private ByteBuffer read(long offset, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, offset + buffer.position()) < 0)
+				throw new IOException("Truncated pack");
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	@Override
+	public String toString() {
+		return "AssetPack [entries:" + entries.size() + ", order:" + order
+				+ "]";
+	}
+}
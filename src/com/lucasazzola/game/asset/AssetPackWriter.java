@@ -0,0 +1,322 @@
+package com.lucasazzola.game.asset;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.lucasazzola.game.animation.AnimationClip;
+
+/**
+ * Writes an {@link AssetPack}. Payloads are streamed to the file as they
+ * are added; the index and header are written on close.
+ *
+ * @since 19/10/2026
+ */
+public class AssetPackWriter implements Closeable {
+
+	/**
+	 * An entry written so far
+	 */
+	private static class Entry {
+
+		/**
+		 * Entry members
+		 */
+		final byte[] name;
+		final int type;
+		final long offset, length;
+		final int[] meta;
+
+		/**
+		 * Constructs an entry
+		 */
+		Entry(byte[] name, int type, long offset, long length, int[] meta) {
+			this.name = name;
+			this.type = type;
+			this.offset = offset;
+			this.length = length;
+			this.meta = meta;
+		}
+	}
+
+	/**
+	 * Size of the buffer payloads are staged through
+	 */
+	private static final int STAGING = 1 << 20;
+
+	/**
+	 * The file and the write position
+	 */
+	private final FileChannel channel;
+	private long position = AssetPack.HEADER_SIZE;
+
+	/**
+	 * Byte order of payloads and the buffer they are staged through
+	 */
+	private final ByteOrder order;
+	private final ByteBuffer staging;
+
+	/**
+	 * Entries written, and their names
+	 */
+	private final List<Entry> entries = new ArrayList<>();
+	private final Set<String> names = new HashSet<>();
+
+	/**
+	 * Creates a pack in native byte order, replacing any existing file
+	 *
+	 * @param path the file
+	 * @throws IOException if the file can't be created
+	 */
+	public AssetPackWriter(Path path) throws IOException {
+		this(path, ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Creates a pack, replacing any existing file
+	 *
+	 * @param path the file
+	 * @param order the byte order of the platform that will load it
+	 * @throws IOException if the file can't be created
+	 */
+	public AssetPackWriter(Path path, ByteOrder order) throws IOException {
+		this.order = order;
+		staging = ByteBuffer.allocateDirect(STAGING).order(order);
+		channel = FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+	}
+
+	/**
+	 * Adds raw bytes
+	 *
+	 * @param name the unique name
+	 * @param data the bytes, from position to limit, which is not moved
+	 * @throws IOException if the write fails
+	 */
+	public void addBytes(String name, ByteBuffer data) throws IOException {
+		long offset = begin(name);
+		ByteBuffer source = data.duplicate();
+		while (source.hasRemaining())
+			position += channel.write(source, position);
+		entries.add(new Entry(encode(name), AssetPack.BYTES, offset,
+				position - offset, new int[AssetPack.META]));
+	}
+
+	/**
+	 * Adds floats, for example vertex data or keyframes
+	 *
+	 * @param name the unique name
+	 * @param data the floats
+	 * @param components the number of floats per element, for readers
+	 * @throws IOException if the write fails
+	 */
+	public void addFloats(String name, float[] data, int components)
+			throws IOException {
+		addFloats(name, FloatBuffer.wrap(data), components);
+	}
+
+	/**
+	 * Adds floats, for example vertex data or keyframes
+	 *
+	 * @param name the unique name
+	 * @param data the floats, from position to limit, which is not moved
+	 * @param components the number of floats per element, for readers
+	 * @throws IOException if the write fails
+	 */
+	public void addFloats(String name, FloatBuffer data, int components)
+			throws IOException {
+		if (components <= 0 || data.remaining() % components != 0)
+			throw new IllegalArgumentException(data.remaining()
+					+ " floats is not a whole number of " + components);
+		long offset = begin(name);
+		write(data.duplicate());
+		entries.add(new Entry(encode(name), AssetPack.FLOATS, offset,
+				position - offset, new int[] { components, 0, 0, 0 }));
+	}
+
+	/**
+	 * Adds an indexed mesh. The indices start aligned after the vertices.
+	 *
+	 * @param name the unique name
+	 * @param vertices the interleaved vertices
+	 * @param stride the number of floats per vertex
+	 * @param indices the vertex indices
+	 * @throws IOException if the write fails
+	 */
+	public void addMesh(String name, float[] vertices, int stride,
+			int[] indices) throws IOException {
+		if (stride <= 0 || vertices.length % stride != 0)
+			throw new IllegalArgumentException(vertices.length
+					+ " floats is not a whole number of vertices");
+		int count = vertices.length / stride;
+		for (int i : indices) {
+			if (i < 0 || i >= count)
+				throw new IllegalArgumentException("Index " + i
+						+ " out of range");
+		}
+		long offset = begin(name);
+		write(FloatBuffer.wrap(vertices));
+		align();
+		long indexOffset = position - offset;
+		for (int i = 0; i < indices.length; i++) {
+			if (staging.remaining() < 4)
+				flush();
+			staging.putInt(indices[i]);
+		}
+		flush();
+		entries.add(new Entry(encode(name), AssetPack.MESH, offset, position
+				- offset, new int[] { count, stride, indices.length,
+				(int) indexOffset }));
+	}
+
+	/**
+	 * Adds an animation clip
+	 *
+	 * @param name the unique name
+	 * @param clip the clip
+	 * @throws IOException if the write fails
+	 */
+	public void addClip(String name, AnimationClip clip) throws IOException {
+		int tracks = clip.boneCount() * AssetPack.CHANNELS;
+		long offset = begin(name);
+		for (int t = 0; t < tracks; t++) {
+			if (staging.remaining() < 4)
+				flush();
+			staging.putInt(clip.keyCount(t / AssetPack.CHANNELS, t
+					% AssetPack.CHANNELS));
+		}
+		for (int t = 0; t < tracks; t++) {
+			int bone = t / AssetPack.CHANNELS, channel = t
+					% AssetPack.CHANNELS;
+			int keys = clip.keyCount(bone, channel);
+			float[] times = new float[keys];
+			float[] values = new float[keys * AssetPack.width(channel)];
+			clip.getTrack(bone, channel, times, values);
+			write(FloatBuffer.wrap(times));
+			write(FloatBuffer.wrap(values));
+		}
+		flush();
+		entries.add(new Entry(encode(name), AssetPack.CLIP, offset, position
+				- offset, new int[] { clip.boneCount(),
+				Float.floatToIntBits(clip.duration()), 0, 0 }));
+	}
+
+	/**
+	 * Writes the index and header, and closes the file
+	 *
+	 * @throws IOException if the write fails
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			align();
+			long indexOffset = position;
+			for (Entry e : entries) {
+				if (staging.remaining() < 2 + e.name.length + 4 + 16
+						+ AssetPack.META * 4)
+					flush();
+				staging.putShort((short) e.name.length);
+				staging.put(e.name);
+				staging.putInt(e.type);
+				staging.putLong(e.offset);
+				staging.putLong(e.length);
+				for (int m : e.meta) {
+					staging.putInt(m);
+				}
+			}
+			flush();
+			ByteBuffer header = ByteBuffer.allocate(AssetPack.HEADER_SIZE)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(AssetPack.MAGIC);
+			header.putInt(AssetPack.VERSION);
+			header.putInt(order == ByteOrder.BIG_ENDIAN ? 1 : 0);
+			header.putInt(entries.size());
+			header.putLong(indexOffset);
+			header.putLong(position - indexOffset);
+			header.flip();
+			long at = 0;
+			while (header.hasRemaining())
+				at += channel.write(header, at);
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Claims a name and aligns the write position for a payload
+	 *
+	 * @return the payload's offset
+	 */
+	private long begin(String name) throws IOException {
+		if (!names.add(name))
+			throw new IllegalArgumentException("Duplicate asset " + name);
+		align();
+		return position;
+	}
+
+	/**
+	 * Pads the write position to {@link AssetPack#ALIGNMENT}
+	 */
+	private void align() throws IOException {
+		flush();
+		int pad = (int) (-position & (AssetPack.ALIGNMENT - 1));
+		if (pad > 0) {
+			staging.put(new byte[pad]);
+			flush();
+		}
+	}
+
+	/**
+	 * Writes floats through the staging buffer
+	 */
+	private void write(FloatBuffer source) throws IOException {
+		while (source.hasRemaining()) {
+			if (staging.remaining() < 4)
+				flush();
+			FloatBuffer view = staging.asFloatBuffer();
+			int n = Math.min(view.remaining(), source.remaining());
+			int limit = source.limit();
+			source.limit(source.position() + n);
+			view.put(source);
+			source.limit(limit);
+			staging.position(staging.position() + n * 4);
+		}
+		flush();
+	}
+
+	/**
+	 * Writes the staging buffer to the file
+	 */
+	private void flush() throws IOException {
+		staging.flip();
+		while (staging.hasRemaining())
+			position += channel.write(staging, position);
+		staging.clear();
+	}
+
+	/**
+	 * @return a name as UTF-8
+	 */
+	private static byte[] encode(String name) {
+		byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > Short.MAX_VALUE)
+			throw new IllegalArgumentException("Name too long");
+		return bytes;
+	}
+
+	@Override
+	public String toString() {
+		return "AssetPackWriter [entries:" + entries.size() + ", bytes:"
+				+ position + "]";
+	}
+}
@@ -0,0 +1,29 @@
+package com.lucasazzola.game.asset;
+
+import java.io.IOException;
+
+/**
+ * Loads assets for an {@link AssetStreamer}. load is called on IO threads,
+ * concurrently for different names.
+ *
+ * @param <T> the asset type
+ *
+ * @since 19/10/2026
+ */
+public interface AssetSource<T> {
+
+	/**
+	 * Loads an asset
+	 *
+	 * @param name the asset's name
+	 * @return the asset
+	 * @throws IOException if the asset can't be loaded
+	 */
+	T load(String name) throws IOException;
+
+	/**
+	 * @param asset a loaded asset
+	 * @return the memory the asset holds, in bytes
+	 */
+	long size(T asset);
+}
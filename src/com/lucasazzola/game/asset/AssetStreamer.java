@@ -0,0 +1,390 @@
+package com.lucasazzola.game.asset;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import com.lucasazzola.game.diagnostics.LoadListener;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Streams assets in the background, nearest the camera first, and keeps
+ * them resident in a byte budgeted least recently used cache.
+ *
+ * Everything but loading happens on the thread calling
+ * {@link #update(Vector3)}, once per frame from Game.Update: requests wait
+ * in a priority queue ordered by distance to the camera, at most
+ * maxInFlight of them are loading on the executor at once, and finished
+ * loads come back through a lock free queue to be cached and reported to
+ * the listener. Any executor works, such as a fixed IO pool or, where the
+ * JDK provides them, virtual threads. Requests are ordered by their distance
+ * from where the camera was when the queue was last ordered, which is
+ * redone only once the camera has moved {@link #setReorderDistance(float)}
+ * from there.
+ *
+ * @param <T> the asset type
+ *
+ * @since 19/10/2026
+ */
+public class AssetStreamer<T> {
+
+	/**
+	 * Receives streaming events on the updating thread
+	 *
+	 * @param <T> the asset type
+	 */
+	public interface Listener<T> {
+
+		/**
+		 * Called when an asset becomes resident
+		 *
+		 * @param name the asset's name
+		 * @param asset the asset
+		 */
+		void loaded(String name, T asset);
+
+		/**
+		 * Called when an asset fails to load
+		 *
+		 * @param name the asset's name
+		 * @param e the failure
+		 */
+		void failed(String name, IOException e);
+
+		/**
+		 * Called when an asset is evicted to stay within budget
+		 *
+		 * @param name the asset's name
+		 * @param asset the asset
+		 */
+		void evicted(String name, T asset);
+	}
+
+	/**
+	 * Default camera movement before requests are reordered
+	 */
+	public static final float REORDER_DISTANCE = 1;
+
+	/**
+	 * A requested asset
+	 */
+	private static class Request implements Comparable<Request> {
+
+		/**
+		 * Request members
+		 */
+		final String name;
+		final Vector3 position = new Vector3();
+		float distance;
+
+		/**
+		 * Constructs a request
+		 */
+		Request(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public int compareTo(Request o) {
+			return Float.compare(distance, o.distance);
+		}
+	}
+
+	/**
+	 * A finished load, passed from an IO thread
+	 */
+	private static class Result<T> {
+
+		/**
+		 * Result members
+		 */
+		final String name;
+		final T asset;
+		final IOException error;
+
+		/**
+		 * Constructs a result
+		 */
+		Result(String name, T asset, IOException error) {
+			this.name = name;
+			this.asset = asset;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * Loading
+	 */
+	private final AssetSource<T> source;
+	private final Executor executor;
+	private final int maxInFlight;
+	private Listener<T> listener;
+	private volatile LoadListener loadListener;
+
+	/**
+	 * Requests not yet loading, nearest first, and by name
+	 */
+	private final PriorityQueue<Request> queue = new PriorityQueue<>();
+	private final Map<String, Request> pending = new HashMap<>();
+	private final Vector3 camera = new Vector3();
+	private float reorderDistance = REORDER_DISTANCE;
+
+	/**
+	 * Names loading on the executor, and their results
+	 */
+	private final Set<String> loading = new HashSet<>();
+	private final ConcurrentLinkedQueue<Result<T>> results;
+
+	/**
+	 * Resident assets, least recently used first, and their total size
+	 */
+	private final LinkedHashMap<String, T> resident = new LinkedHashMap<>(
+			16, 0.75f, true);
+	private final Map<String, Long> sizes = new HashMap<>();
+	private final long budget;
+	private long residentBytes;
+
+	/**
+	 * Constructs a streamer
+	 *
+	 * @param source the source of assets
+	 * @param executor runs loads
+	 * @param maxInFlight the most loads to run at once
+	 * @param budget the most bytes to keep resident
+	 */
+	public AssetStreamer(AssetSource<T> source, Executor executor,
+			int maxInFlight, long budget) {
+		if (maxInFlight <= 0)
+			throw new IllegalArgumentException("maxInFlight " + maxInFlight);
+		this.source = source;
+		this.executor = executor;
+		this.maxInFlight = maxInFlight;
+		this.budget = budget;
+		results = new ConcurrentLinkedQueue<>();
+	}
+
+	/**
+	 * @param listener receives streaming events, or null
+	 */
+	public void setListener(Listener<T> listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * @param listener is told of each load on the loading thread, or null
+	 */
+	public void setLoadListener(LoadListener listener) {
+		this.loadListener = listener;
+	}
+
+	/**
+	 * @param distance how far the camera must move from where requests were
+	 *            last ordered before they are ordered again
+	 */
+	public void setReorderDistance(float distance) {
+		if (!(distance >= 0))
+			throw new IllegalArgumentException("Distance " + distance);
+		this.reorderDistance = distance;
+	}
+
+	/**
+	 * Gets a resident asset, marking it recently used
+	 *
+	 * @param name the asset's name
+	 * @return the asset, or null if it is not resident
+	 */
+	public T get(String name) {
+		return resident.get(name);
+	}
+
+	/**
+	 * Requests an asset, or moves an earlier request. Resident assets are
+	 * marked recently used.
+	 *
+	 * @param name the asset's name
+	 * @param position where the asset is in the world
+	 * @return true if the asset is resident
+	 */
+	public boolean request(String name, Vector3 position) {
+		if (resident.get(name) != null)
+			return true;
+		if (loading.contains(name))
+			return false;
+		Request r = pending.get(name);
+		if (r == null) {
+			r = new Request(name);
+			pending.put(name, r);
+			copy(position, r.position);
+			r.distance = position.distanceTo(camera);
+			queue.add(r);
+		} else if (!position.equals(r.position)) {
+			queue.remove(r);
+			copy(position, r.position);
+			r.distance = position.distanceTo(camera);
+			queue.add(r);
+		}
+		return false;
+	}
+
+	/**
+	 * Withdraws a request that has not started loading
+	 *
+	 * @param name the asset's name
+	 * @return true if the request was withdrawn
+	 */
+	public boolean cancel(String name) {
+		Request r = pending.remove(name);
+		if (r == null)
+			return false;
+		queue.remove(r);
+		return true;
+	}
+
+	/**
+	 * Caches finished loads, evicts down to the budget and starts the
+	 * nearest requests. Call once per frame from the game thread.
+	 *
+	 * @param camera the camera's position
+	 */
+	public void update(Vector3 camera) {
+		Result<T> result;
+		while ((result = results.poll()) != null) {
+			loading.remove(result.name);
+			if (result.error != null) {
+				if (listener != null)
+					listener.failed(result.name, result.error);
+				continue;
+			}
+			long size = source.size(result.asset);
+			resident.put(result.name, result.asset);
+			sizes.put(result.name, size);
+			residentBytes += size;
+			if (listener != null)
+				listener.loaded(result.name, result.asset);
+		}
+		evict();
+
+		if (camera.distanceTo(this.camera) > reorderDistance) {
+			copy(camera, this.camera);
+			for (Request r : pending.values()) {
+				r.distance = r.position.distanceTo(camera);
+			}
+			queue.clear();
+			queue.addAll(pending.values());
+		}
+		while (loading.size() < maxInFlight && !queue.isEmpty()) {
+			Request r = queue.poll();
+			pending.remove(r.name);
+			loading.add(r.name);
+			try {
+				start(r.name);
+			} catch (RuntimeException e) {
+				// the executor refused it, so leave it requested
+				loading.remove(r.name);
+				pending.put(r.name, r);
+				queue.add(r);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Evicts least recently used assets until within budget
+	 */
+	private void evict() {
+		Iterator<Map.Entry<String, T>> it = resident.entrySet().iterator();
+		while (residentBytes > budget && it.hasNext()) {
+			Map.Entry<String, T> e = it.next();
+			it.remove();
+			residentBytes -= sizes.remove(e.getKey());
+			if (listener != null)
+				listener.evicted(e.getKey(), e.getValue());
+		}
+	}
+
+	/**
+	 * Loads an asset on the executor
+	 */
+	private void start(final String name) {
+		final LoadListener loads = loadListener;
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				Object scope = loads == null ? null : loads.beginLoad(name);
+				T asset = null;
+				IOException error = null;
+				Error fatal = null;
+				try {
+					asset = source.load(name);
+				} catch (IOException e) {
+					error = e;
+				} catch (Throwable e) {
+					// any failure must post a result, or name stays loading
+					error = new IOException(e);
+					if (e instanceof Error)
+						fatal = (Error) e;
+				}
+				try {
+					if (loads != null)
+						loads.endLoad(scope, name, error == null,
+								error == null ? source.size(asset) : 0);
+				} finally {
+					results.add(new Result<T>(name, asset, error));
+				}
+				if (fatal != null)
+					throw fatal;
+			}
+		});
+	}
+
+	/**
+	 * Copies a vector's components
+	 */
+	private static void copy(Vector3 from, Vector3 to) {
+		to.x = from.x;
+		to.y = from.y;
+		to.z = from.z;
+	}
+
+	/**
+	 * @return the bytes of resident assets
+	 */
+	public long residentBytes() {
+		return residentBytes;
+	}
+
+	/**
+	 * @return the number of resident assets
+	 */
+	public int residentCount() {
+		return resident.size();
+	}
+
+	/**
+	 * @return the number of requests waiting to load
+	 */
+	public int pendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * @return the number of loads running
+	 */
+	public int loadingCount() {
+		return loading.size();
+	}
+
+	@Override
+	public String toString() {
+		return "AssetStreamer [resident:" + resident.size() + ", bytes:"
+				+ residentBytes + "/" + budget + ", pending:" + pending.size()
+				+ ", loading:" + loading.size() + "]";
+	}
+}
@@ -0,0 +1,53 @@
+package com.lucasazzola.game.asset;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Vertex and index data of a mesh, as views of an {@link AssetPack}
+ *
+ * @since 19/10/2026
+ */
+public class MeshData {
+
+	/**
+	 * Interleaved vertices, stride floats each
+	 */
+	public final FloatBuffer vertices;
+
+	/**
+	 * Vertex indices, three per triangle
+	 */
+	public final IntBuffer indices;
+
+	/**
+	 * Number of floats per vertex
+	 */
+	public final int stride;
+
+	/**
+	 * Constructs mesh data
+	 *
+	 * @param vertices the interleaved vertices
+	 * @param indices the vertex indices
+	 * @param stride the number of floats per vertex
+	 */
+	public MeshData(FloatBuffer vertices, IntBuffer indices, int stride) {
+		this.vertices = vertices;
+		this.indices = indices;
+		this.stride = stride;
+	}
+
+	/**
+	 * @return the number of vertices
+	 */
+	public int vertexCount() {
+		return vertices.remaining() / stride;
+	}
+
+	@Override
+	public String toString() {
+		return "MeshData [vertices:" + vertexCount() + ", indices:"
+				+ indices.remaining() + ", stride:" + stride + "]";
+	}
+}
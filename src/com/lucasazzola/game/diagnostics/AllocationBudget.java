@@ -0,0 +1,95 @@
+package com.lucasazzola.game.diagnostics;
+
+/**
+ * Asserts that code allocates no more than a budget per call, for
+ * regression checks of allocation free code from JUnit or at start up:
+ *
+ * <pre>
+ * AllocationBudget.assertNone(&quot;multiplyAffine&quot;, new Runnable() {
+ * 	public void run() {
+ * 		Matrix4.multiplyAffine(a, 0, b, 0, out, 0);
+ * 	}
+ * });
+ * </pre>
+ *
+ * The code is run {@link #WARMUP} times first so the JIT compiles it and
+ * removes allocations that escape analysis can prove local, as it would in
+ * a running game, then measured over {@link #ITERATIONS} calls on the
+ * calling thread, {@link #ROUNDS} times. The least allocating round counts,
+ * and less than a byte per call counts as none, so a one off allocation by
+ * the JVM itself, such as by the JIT or a safepoint, isn't taken for the
+ * code's. {@link AllocationChecks} covers the engine's allocation free
+ * math.
+ *
+ * @since 19/10/2026
+ */
+public final class AllocationBudget {
+
+	/**
+	 * Calls before measuring, calls measured per round, and rounds
+	 */
+	public static final int WARMUP = 20000, ITERATIONS = 10000, ROUNDS = 5;
+
+	/**
+	 * Static only
+	 */
+	private AllocationBudget() {
+	}
+
+	/**
+	 * Measures the bytes a piece of code allocates per call
+	 *
+	 * @param code the code, run WARMUP + ITERATIONS * ROUNDS times
+	 * @return the mean bytes allocated per call in the least allocating
+	 *         round, or 0 if under a byte
+	 * @throws IllegalStateException if the JVM can't count allocations
+	 */
+	public static double measure(Runnable code) {
+		if (!ThreadAllocations.isSupported())
+			throw new IllegalStateException(
+					"JVM does not count thread allocations");
+		for (int i = 0; i < WARMUP; i++) {
+			code.run();
+		}
+		long least = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			long overhead = ThreadAllocations.current();
+			long start = ThreadAllocations.current();
+			overhead = start - overhead;
+			for (int i = 0; i < ITERATIONS; i++) {
+				code.run();
+			}
+			long bytes = ThreadAllocations.current() - start - overhead;
+			least = Math.min(least, Math.max(0, bytes));
+		}
+		return least < ITERATIONS ? 0 : least / (double) ITERATIONS;
+	}
+
+	/**
+	 * Asserts that code allocates at most a budget per call
+	 *
+	 * @param name the code's name, for the failure message
+	 * @param budget the most bytes per call
+	 * @param code the code
+	 * @throws AssertionError if the code allocates more
+	 * @throws IllegalStateException if the JVM can't count allocations
+	 */
+	public static void assertAtMost(String name, long budget, Runnable code) {
+		double bytes = measure(code);
+		if (bytes > budget)
+			throw new AssertionError(name + " allocated " + bytes
+					+ " bytes per call, budget is " + budget);
+	}
+
+	/**
+	 * Asserts that code doesn't allocate
+	 *
+	 * @param name the code's name, for the failure message
+	 * @param code the code
+	 * @throws AssertionError if the code allocates
+	 * @throws IllegalStateException if the JVM can't count allocations
+	 */
+	public static void assertNone(String name, Runnable code) {
+		assertAtMost(name, 0, code);
+	}
+}
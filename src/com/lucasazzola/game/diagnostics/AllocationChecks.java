@@ -0,0 +1,156 @@
+package com.lucasazzola.game.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.lucasazzola.game.graphics.Matrix3;
+import com.lucasazzola.game.graphics.Matrix4;
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.TempPool;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Allocation regression checks for the math the game loop runs every
+ * frame. Each operation here must allocate nothing once compiled; run from
+ * a JUnit test or a build step with
+ * {@code java com.lucasazzola.game.diagnostics.AllocationChecks}, which
+ * exits with status 1 on a regression.
+ *
+ * @since 19/10/2026
+ */
+public final class AllocationChecks {
+
+	/**
+	 * Operands, kept in fields so results can't be optimised away
+	 */
+	private static final float[] A = new float[16], B = new float[16],
+			OUT = new float[16];
+	private static final Matrix4 M1 = new Matrix4(), M2 = new Matrix4(),
+			M_OUT = new Matrix4();
+	private static final Matrix3 ROTATION = new Matrix3(0.5f);
+	private static final Vector3 V1 = new Vector3(1, 2, 3),
+			V2 = new Vector3(4, 5, 6), V_OUT = new Vector3();
+	private static final Quaternion Q = new Quaternion();
+	private static float sink;
+
+	static {
+		Matrix4.setTransform(A, 0, 1, 2, 3, 0, 0, 0, 1, 1, 1, 1);
+		Matrix4.setTransform(B, 0, 4, 5, 6, 0, 0, 0, 1, 2, 2, 2);
+	}
+
+	/**
+	 * Static only
+	 */
+	private AllocationChecks() {
+	}
+
+	/**
+	 * Runs every check
+	 *
+	 * @return a description of each operation that allocated, empty if none
+	 * @throws IllegalStateException if the JVM can't count allocations
+	 */
+	public static List<String> run() {
+		List<String> failures = new ArrayList<String>();
+		check(failures, "Vector3.dot", new Runnable() {
+			@Override
+			public void run() {
+				sink += Vector3.dot(V1, V2);
+			}
+		});
+		check(failures, "Vector3.magnitude", new Runnable() {
+			@Override
+			public void run() {
+				sink += V1.magnitude();
+			}
+		});
+		check(failures, "Vector3.distanceTo", new Runnable() {
+			@Override
+			public void run() {
+				sink += V1.distanceTo(V2);
+			}
+		});
+		check(failures, "Matrix3.multiply(Vector3)", new Runnable() {
+			@Override
+			public void run() {
+				Matrix3.multiply(ROTATION, V1, V_OUT);
+			}
+		});
+		check(failures, "Matrix4.multiply(Matrix4)", new Runnable() {
+			@Override
+			public void run() {
+				Matrix4.multiply(M1, M2, M_OUT);
+			}
+		});
+		check(failures, "Matrix4.multiply(float[])", new Runnable() {
+			@Override
+			public void run() {
+				Matrix4.multiply(A, 0, B, 0, OUT, 0);
+			}
+		});
+		check(failures, "Matrix4.multiplyAffine", new Runnable() {
+			@Override
+			public void run() {
+				Matrix4.multiplyAffine(A, 0, B, 0, OUT, 0);
+			}
+		});
+		check(failures, "Matrix4.invertAffine", new Runnable() {
+			@Override
+			public void run() {
+				Matrix4.invertAffine(A, 0, OUT, 0);
+			}
+		});
+		check(failures, "Matrix4.setTransform", new Runnable() {
+			@Override
+			public void run() {
+				Matrix4.setTransform(OUT, 0, 1, 2, 3, 0, 0, 0, 1, 1, 1, 1);
+			}
+		});
+		check(failures, "Quaternion.createMatrix", new Runnable() {
+			@Override
+			public void run() {
+				Q.createMatrix(OUT, 0);
+			}
+		});
+		check(failures, "TempPool", new Runnable() {
+			@Override
+			public void run() {
+				TempPool temps = TempPool.get();
+				int frame = temps.push();
+				temps.vector3();
+				temps.matrix4();
+				temps.quaternion();
+				temps.pop(frame);
+			}
+		});
+		return failures;
+	}
+
+	/**
+	 * Runs every check and prints regressions
+	 *
+	 * @param args unused
+	 */
+	public static void main(String[] args) {
+		List<String> failures = run();
+		for (String failure : failures) {
+			System.err.println(failure);
+		}
+		System.out.println(failures.isEmpty() ? "No allocations"
+				: failures.size() + " operations allocated");
+		if (!failures.isEmpty())
+			System.exit(1);
+	}
+
+	/**
+	 * Runs one check, adding a failure if it allocates
+	 */
+	private static void check(List<String> failures, String name,
+			Runnable code) {
+		try {
+			AllocationBudget.assertNone(name, code);
+		} catch (AssertionError e) {
+			failures.add(e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package com.lucasazzola.game.diagnostics;
+
+/**
+ * Tracks the bytes the game thread allocates in each Update and Draw, and
+ * flags frames over a budget. Attach to a game with
+ * {@link com.lucasazzola.game.Game#setAllocationTracker(AllocationTracker)};
+ * frame totals are also recorded in the frame.allocated histogram of
+ * {@link Metrics#global()}, and frames over budget counted in
+ * frame.overBudget.
+ *
+ * @since 19/10/2026
+ */
+public class AllocationTracker {
+
+	/**
+	 * Told of frames over budget, on the game thread
+	 */
+	public interface Listener {
+
+		/**
+		 * Called after a frame allocates more than the budget
+		 *
+		 * @param frame the frame index
+		 * @param update the bytes allocated by Update
+		 * @param draw the bytes allocated by Draw
+		 */
+		void overBudget(long frame, long update, long draw);
+	}
+
+	/**
+	 * Allocation metrics, see {@link Metrics}
+	 */
+	private static final Histogram ALLOCATED = Metrics.global().histogram(
+			"frame.allocated");
+	private static final Counter OVER_BUDGET = Metrics.global().counter(
+			"frame.overBudget");
+
+	/**
+	 * The most bytes a frame may allocate, and who to tell
+	 */
+	private long budget;
+	private Listener listener;
+
+	/**
+	 * Totals
+	 */
+	private long frames, overBudget, worst, worstFrame = -1;
+	private long lastUpdate, lastDraw;
+
+	/**
+	 * Constructs a tracker
+	 *
+	 * @param budget the most bytes a frame may allocate
+	 * @throws IllegalStateException if the JVM can't count allocations
+	 */
+	public AllocationTracker(long budget) {
+		if (!ThreadAllocations.isSupported())
+			throw new IllegalStateException(
+					"JVM does not count thread allocations");
+		this.budget = budget;
+	}
+
+	/**
+	 * @param budget the most bytes a frame may allocate
+	 */
+	public void setBudget(long budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * @param listener told of frames over budget, or null
+	 */
+	public void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Records a frame
+	 *
+	 * @param frame the frame index
+	 * @param update the bytes allocated by Update
+	 * @param draw the bytes allocated by Draw
+	 */
+	public void record(long frame, long update, long draw) {
+		long total = update + draw;
+		frames++;
+		lastUpdate = update;
+		lastDraw = draw;
+		ALLOCATED.record(total);
+		if (total > worst) {
+			worst = total;
+			worstFrame = frame;
+		}
+		if (total > budget) {
+			overBudget++;
+			OVER_BUDGET.increment();
+			if (listener != null)
+				listener.overBudget(frame, update, draw);
+		}
+	}
+
+	/**
+	 * @return the number of frames recorded
+	 */
+	public long frames() {
+		return frames;
+	}
+
+	/**
+	 * @return the number of frames over budget
+	 */
+	public long overBudget() {
+		return overBudget;
+	}
+
+	/**
+	 * @return the most bytes allocated by a frame
+	 */
+	public long worst() {
+		return worst;
+	}
+
+	/**
+	 * @return the index of the frame allocating the most, or -1 if none
+	 */
+	public long worstFrame() {
+		return worstFrame;
+	}
+
+	/**
+	 * @return the bytes allocated by the last Update
+	 */
+	public long lastUpdate() {
+		return lastUpdate;
+	}
+
+	/**
+	 * @return the bytes allocated by the last Draw
+	 */
+	public long lastDraw() {
+		return lastDraw;
+	}
+
+	@Override
+	public String toString() {
+		return "AllocationTracker [budget:" + budget + ", frames:" + frames
+				+ ", overBudget:" + overBudget + ", worst:" + worst + "]";
+	}
+}
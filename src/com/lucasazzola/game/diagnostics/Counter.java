@@ -0,0 +1,43 @@
+package com.lucasazzola.game.diagnostics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic count, striped across cells so that threads adding at once
+ * don't contend. Adding never allocates once a thread has its cell.
+ *
+ * @since 19/10/2026
+ */
+public final class Counter {
+
+	/**
+	 * The count
+	 */
+	private final LongAdder adder = new LongAdder();
+
+	/**
+	 * Adds one
+	 */
+	public void increment() {
+		adder.increment();
+	}
+
+	/**
+	 * @param n the amount to add, not negative
+	 */
+	public void add(long n) {
+		adder.add(n);
+	}
+
+	/**
+	 * @return the total, consistent if no thread is adding
+	 */
+	public long sum() {
+		return adder.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "Counter [" + adder.sum() + "]";
+	}
+}
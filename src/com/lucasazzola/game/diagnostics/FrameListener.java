@@ -0,0 +1,63 @@
+package com.lucasazzola.game.diagnostics;
+
+/**
+ * Told of each frame run by Game.runFrame, on the game thread. Attach with
+ * {@link com.lucasazzola.game.Game#setFrameListener(FrameListener)}, for
+ * example a {@code com.lucasazzola.game.diagnostics.jfr.JfrDiagnostics}.
+ *
+ * Each begin returns a scope, such as a timer or an event, which is passed
+ * back to the matching end.
+ *
+ * @since 19/10/2026
+ */
+public interface FrameListener {
+
+	/**
+	 * Called as a frame starts, before the time is ticked
+	 *
+	 * @return the frame's scope, or null
+	 */
+	Object beginFrame();
+
+	/**
+	 * Called as a frame ends
+	 *
+	 * @param scope the value beginFrame returned
+	 * @param frame the frame index
+	 * @param entities the number of entities, or -1 if unknown
+	 * @param allocated the bytes the game thread allocated in the frame
+	 */
+	void endFrame(Object scope, long frame, int entities, long allocated);
+
+	/**
+	 * Called before Update
+	 *
+	 * @return the update's scope, or null
+	 */
+	Object beginUpdate();
+
+	/**
+	 * Called after Update
+	 *
+	 * @param scope the value beginUpdate returned
+	 * @param frame the frame index
+	 * @param allocated the bytes Update allocated
+	 */
+	void endUpdate(Object scope, long frame, long allocated);
+
+	/**
+	 * Called before Draw
+	 *
+	 * @return the draw's scope, or null
+	 */
+	Object beginDraw();
+
+	/**
+	 * Called after Draw
+	 *
+	 * @param scope the value beginDraw returned
+	 * @param frame the frame index
+	 * @param allocated the bytes Draw allocated
+	 */
+	void endDraw(Object scope, long frame, long allocated);
+}
@@ -0,0 +1,33 @@
+package com.lucasazzola.game.diagnostics;
+
+/**
+ * Latest value of a quantity, such as an entity count
+ *
+ * @since 19/10/2026
+ */
+public final class Gauge {
+
+	/**
+	 * The value's bits
+	 */
+	private volatile long bits;
+
+	/**
+	 * @param value the new value
+	 */
+	public void set(double value) {
+		bits = Double.doubleToRawLongBits(value);
+	}
+
+	/**
+	 * @return the latest value
+	 */
+	public double get() {
+		return Double.longBitsToDouble(bits);
+	}
+
+	@Override
+	public String toString() {
+		return "Gauge [" + get() + "]";
+	}
+}
@@ -0,0 +1,156 @@
+package com.lucasazzola.game.diagnostics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of non-negative values, such as frame times in nanoseconds,
+ * counted in logarithmic buckets: each power of two is split into
+ * {@link #SUB_BUCKETS} linear buckets, so any recorded value is known to
+ * within 1/16 of itself. Recording is lock free and never allocates; a
+ * reader sees counts that may lag a concurrent recording.
+ *
+ * @since 19/10/2026
+ */
+public final class Histogram {
+
+	/**
+	 * Linear buckets per power of two, as a power of two
+	 */
+	private static final int SUB_BITS = 4;
+	public static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+	/**
+	 * Number of buckets covering every long
+	 */
+	public static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+	/**
+	 * Counts per bucket, and totals
+	 */
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder(), sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a value
+	 *
+	 * @param value the value, negative values count as 0
+	 */
+	public void record(long value) {
+		if (value < 0)
+			value = 0;
+		counts.incrementAndGet(bucket(value));
+		count.increment();
+		sum.add(value);
+		long m = max.get();
+		while (value > m && !max.compareAndSet(m, value))
+			m = max.get();
+	}
+
+	/**
+	 * @return the number of values recorded
+	 */
+	public long count() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the sum of values recorded
+	 */
+	public long sum() {
+		return sum.sum();
+	}
+
+	/**
+	 * @return the largest value recorded, or 0 if none
+	 */
+	public long max() {
+		return max.get();
+	}
+
+	/**
+	 * @return the mean of values recorded, or 0 if none
+	 */
+	public double mean() {
+		long n = count.sum();
+		return n == 0 ? 0 : (double) sum.sum() / n;
+	}
+
+	/**
+	 * Estimates a percentile
+	 *
+	 * @param percentile from 0 to 100
+	 * @return the upper bound of the bucket holding the percentile, at most
+	 *         the largest value recorded, or 0 if none
+	 */
+	public long percentile(double percentile) {
+		long total = 0;
+		for (int b = 0; b < BUCKETS; b++) {
+			total += counts.get(b);
+		}
+		if (total == 0)
+			return 0;
+		long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+		for (int b = 0; b < BUCKETS; b++) {
+			seen += counts.get(b);
+			if (seen >= target)
+				return Math.min(upperBound(b), max.get());
+		}
+		return max.get();
+	}
+
+	/**
+	 * Copies the bucket counts, for exporting
+	 *
+	 * @param out receives {@link #BUCKETS} counts
+	 * @return out, for chainability
+	 */
+	public long[] snapshot(long[] out) {
+		for (int b = 0; b < BUCKETS; b++) {
+			out[b] = counts.get(b);
+		}
+		return out;
+	}
+
+	/**
+	 * @param value a non-negative value
+	 * @return the bucket counting the value
+	 */
+	public static int bucket(long value) {
+		if (value < SUB_BUCKETS)
+			return (int) value;
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+		return ((shift + 1) << SUB_BITS)
+				+ (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+	}
+
+	/**
+	 * @param bucket a bucket
+	 * @return the smallest value counted by the bucket
+	 */
+	public static long lowerBound(int bucket) {
+		if (bucket < SUB_BUCKETS)
+			return bucket;
+		int shift = (bucket >>> SUB_BITS) - 1;
+		return (long) (SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1))) << shift;
+	}
+
+	/**
+	 * @param bucket a bucket
+	 * @return the largest value counted by the bucket
+	 */
+	public static long upperBound(int bucket) {
+		return bucket == BUCKETS - 1 ? Long.MAX_VALUE
+				: lowerBound(bucket + 1) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "Histogram [count:" + count() + ", mean:" + mean() + ", p50:"
+				+ percentile(50) + ", p99:" + percentile(99) + ", max:"
+				+ max() + "]";
+	}
+}
@@ -0,0 +1,30 @@
+package com.lucasazzola.game.diagnostics;
+
+/**
+ * Told of each load run by an
+ * {@link com.lucasazzola.game.asset.AssetStreamer}, on the loading thread,
+ * so it must be thread safe. Attach with AssetStreamer.setLoadListener, for
+ * example a {@code com.lucasazzola.game.diagnostics.jfr.JfrDiagnostics}.
+ *
+ * @since 19/10/2026
+ */
+public interface LoadListener {
+
+	/**
+	 * Called as a load starts
+	 *
+	 * @param name the asset's name
+	 * @return the load's scope, or null
+	 */
+	Object beginLoad(String name);
+
+	/**
+	 * Called as a load ends
+	 *
+	 * @param scope the value beginLoad returned
+	 * @param name the asset's name
+	 * @param success true if the asset loaded
+	 * @param size the asset's size, or 0 if it failed to load
+	 */
+	void endLoad(Object scope, String name, boolean success, long size);
+}
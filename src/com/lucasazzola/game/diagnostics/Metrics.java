@@ -0,0 +1,141 @@
+package com.lucasazzola.game.diagnostics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named counters, gauges and histograms. Metrics are looked up once and
+ * kept in fields; updating them never locks or allocates, and an exporter
+ * thread reads them with {@link #forEach(Visitor)} while the game runs.
+ *
+ * The engine feeds the {@link #global()} registry:
+ * <ul>
+ * <li>frame.time, histogram of nanoseconds between frames</li>
+ * <li>frame.entities, gauge of the entity count</li>
+ * <li>render.drawCalls and render.triangles, counters</li>
+ * <li>physics.steps, counter, and physics.contacts, histogram per step</li>
+ * </ul>
+ *
+ * @since 19/10/2026
+ */
+public class Metrics {
+
+	/**
+	 * Receives each metric of a registry
+	 */
+	public interface Visitor {
+
+		/**
+		 * @param name the metric's name
+		 * @param counter the counter
+		 */
+		void counter(String name, Counter counter);
+
+		/**
+		 * @param name the metric's name
+		 * @param gauge the gauge
+		 */
+		void gauge(String name, Gauge gauge);
+
+		/**
+		 * @param name the metric's name
+		 * @param histogram the histogram
+		 */
+		void histogram(String name, Histogram histogram);
+	}
+
+	/**
+	 * The registry fed by the engine
+	 */
+	private static final Metrics GLOBAL = new Metrics();
+
+	/**
+	 * Metrics by name
+	 */
+	private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+
+	/**
+	 * @return the registry fed by the engine
+	 */
+	public static Metrics global() {
+		return GLOBAL;
+	}
+
+	/**
+	 * Gets or creates a counter
+	 *
+	 * @param name the metric's name
+	 * @return the counter
+	 * @throws IllegalArgumentException if the name is another type
+	 */
+	public Counter counter(String name) {
+		return get(name, Counter.class);
+	}
+
+	/**
+	 * Gets or creates a gauge
+	 *
+	 * @param name the metric's name
+	 * @return the gauge
+	 * @throws IllegalArgumentException if the name is another type
+	 */
+	public Gauge gauge(String name) {
+		return get(name, Gauge.class);
+	}
+
+	/**
+	 * Gets or creates a histogram
+	 *
+	 * @param name the metric's name
+	 * @return the histogram
+	 * @throws IllegalArgumentException if the name is another type
+	 */
+	public Histogram histogram(String name) {
+		return get(name, Histogram.class);
+	}
+
+	/**
+	 * Visits every metric
+	 *
+	 * @param visitor receives each metric
+	 */
+	public void forEach(Visitor visitor) {
+		for (Map.Entry<String, Object> e : metrics.entrySet()) {
+			Object metric = e.getValue();
+			if (metric instanceof Counter)
+				visitor.counter(e.getKey(), (Counter) metric);
+			else if (metric instanceof Gauge)
+				visitor.gauge(e.getKey(), (Gauge) metric);
+			else
+				visitor.histogram(e.getKey(), (Histogram) metric);
+		}
+	}
+
+	/**
+	 * Gets or creates a metric of a type
+	 */
+	private <T> T get(String name, Class<T> type) {
+		Object metric = metrics.get(name);
+		if (metric == null) {
+			Object created;
+			if (type == Counter.class)
+				created = new Counter();
+			else if (type == Gauge.class)
+				created = new Gauge();
+			else
+				created = new Histogram();
+			metric = metrics.putIfAbsent(name, created);
+			if (metric == null)
+				metric = created;
+		}
+		if (!type.isInstance(metric))
+			throw new IllegalArgumentException("Metric " + name + " is a "
+					+ metric.getClass().getSimpleName());
+		return type.cast(metric);
+	}
+
+	@Override
+	public String toString() {
+		return "Metrics [" + metrics.size() + "]";
+	}
+}
@@ -0,0 +1,48 @@
+package com.lucasazzola.game.diagnostics;
+
+/**
+ * Told of each step of a {@link com.lucasazzola.game.physics.PhysicsWorld},
+ * on the stepping thread. Attach with PhysicsWorld.setListener, for example
+ * a {@code com.lucasazzola.game.diagnostics.jfr.JfrDiagnostics}.
+ *
+ * Each begin returns a scope which is passed back to the matching end.
+ *
+ * @since 19/10/2026
+ */
+public interface PhysicsListener {
+
+	/**
+	 * Called as a step starts
+	 *
+	 * @return the step's scope, or null
+	 */
+	Object beginStep();
+
+	/**
+	 * Called as a step ends
+	 *
+	 * @param scope the value beginStep returned
+	 * @param bodies the number of bodies
+	 * @param contacts the number of contacts solved
+	 * @param islands the number of islands solved
+	 * @param dt the time step, in seconds
+	 */
+	void endStep(Object scope, int bodies, int contacts, int islands,
+			float dt);
+
+	/**
+	 * Called before the contact generator runs
+	 *
+	 * @return the generation's scope, or null
+	 */
+	Object beginContacts();
+
+	/**
+	 * Called after the contact generator runs
+	 *
+	 * @param scope the value beginContacts returned
+	 * @param bodies the number of bodies
+	 * @param contacts the number of contacts generated
+	 */
+	void endContacts(Object scope, int bodies, int contacts);
+}
@@ -0,0 +1,64 @@
+package com.lucasazzola.game.diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the bytes allocated by the calling thread, where the JVM counts
+ * them (HotSpot does)
+ *
+ * @since 19/10/2026
+ */
+public final class ThreadAllocations {
+
+	/**
+	 * The JVM's thread bean, if it counts allocations
+	 */
+	private static final com.sun.management.ThreadMXBean BEAN = bean();
+
+	/**
+	 * Static only
+	 */
+	private ThreadAllocations() {
+	}
+
+	/**
+	 * @return true if allocations can be counted
+	 */
+	public static boolean isSupported() {
+		return BEAN != null;
+	}
+
+	/**
+	 * @return the bytes allocated by the calling thread since it started,
+	 *         or 0 if not supported
+	 */
+	public static long current() {
+		return BEAN == null ? 0 : BEAN.getThreadAllocatedBytes(Thread
+				.currentThread().getId());
+	}
+
+	/**
+	 * @return the JVM's thread bean with allocation counting enabled, or
+	 *         null if unavailable
+	 */
+	private static com.sun.management.ThreadMXBean bean() {
+		try {
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if (!(bean instanceof com.sun.management.ThreadMXBean))
+				return null;
+			com.sun.management.ThreadMXBean sun =
+					(com.sun.management.ThreadMXBean) bean;
+			if (!sun.isThreadAllocatedMemorySupported())
+				return null;
+			if (!sun.isThreadAllocatedMemoryEnabled())
+				sun.setThreadAllocatedMemoryEnabled(true);
+			return sun;
+		} catch (UnsupportedOperationException | SecurityException e) {
+			return null;
+		} catch (LinkageError e) {
+			// a JVM without com.sun.management
+			return null;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.lucasazzola.game.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one asset loaded by a streamer
+ *
+ * @since 19/10/2026
+ */
+@Name("com.lucasazzola.game.AssetLoad")
+@Label("Asset Load")
+@Category({ "Game", "Assets" })
+@Description("One asset loaded by a streamer")
+@StackTrace(false)
+public class AssetLoadEvent extends Event {
+
+	/**
+	 * The asset's name
+	 */
+	@Label("Name")
+	public String name;
+
+	/**
+	 * The asset's size, or 0 if it failed to load
+	 */
+	@Label("Size")
+	@DataAmount
+	public long size;
+
+	/**
+	 * True if the asset loaded
+	 */
+	@Label("Success")
+	public boolean success;
+}
@@ -0,0 +1,34 @@
+package com.lucasazzola.game.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one step of broadphase and narrowphase contact
+ * generation
+ *
+ * @since 19/10/2026
+ */
+@Name("com.lucasazzola.game.ContactGeneration")
+@Label("Contact Generation")
+@Category({ "Game", "Physics" })
+@Description("One step of broadphase and narrowphase contact generation")
+@StackTrace(false)
+public class ContactGenerationEvent extends Event {
+
+	/**
+	 * The number of rigid bodies
+	 */
+	@Label("Bodies")
+	public int bodies;
+
+	/**
+	 * The number of contacts generated
+	 */
+	@Label("Contacts")
+	public int contacts;
+}
@@ -0,0 +1,35 @@
+package com.lucasazzola.game.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one call to Game.Draw
+ *
+ * @since 19/10/2026
+ */
+@Name("com.lucasazzola.game.Draw")
+@Label("Draw")
+@Category({ "Game", "Frame" })
+@Description("One call to Game.Draw")
+@StackTrace(false)
+public class DrawEvent extends Event {
+
+	/**
+	 * The frame index
+	 */
+	@Label("Frame")
+	public long frame;
+
+	/**
+	 * The bytes allocated during the call
+	 */
+	@Label("Allocated")
+	@DataAmount
+	public long allocated;
+}
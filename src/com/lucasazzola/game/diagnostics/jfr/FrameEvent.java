@@ -0,0 +1,41 @@
+package com.lucasazzola.game.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one frame of the game loop
+ *
+ * @since 19/10/2026
+ */
+@Name("com.lucasazzola.game.Frame")
+@Label("Frame")
+@Category({ "Game", "Frame" })
+@Description("One frame of the game loop")
+@StackTrace(false)
+public class FrameEvent extends Event {
+
+	/**
+	 * The frame index
+	 */
+	@Label("Frame")
+	public long frame;
+
+	/**
+	 * The number of entities, or -1 if unknown
+	 */
+	@Label("Entities")
+	public int entities;
+
+	/**
+	 * The bytes allocated by the game thread during the frame
+	 */
+	@Label("Allocated")
+	@DataAmount
+	public long allocated;
+}
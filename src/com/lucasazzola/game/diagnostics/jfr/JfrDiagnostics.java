@@ -0,0 +1,146 @@
+package com.lucasazzola.game.diagnostics.jfr;
+
+import com.lucasazzola.game.diagnostics.FrameListener;
+import com.lucasazzola.game.diagnostics.LoadListener;
+import com.lucasazzola.game.diagnostics.PhysicsListener;
+
+/**
+ * Records frames, physics steps and asset loads as flight recorder events,
+ * which cost little while no recording has them enabled:
+ *
+ * <pre>
+ * JfrDiagnostics jfr = new JfrDiagnostics();
+ * game.setFrameListener(jfr);
+ * world.setListener(jfr);
+ * streamer.setLoadListener(jfr);
+ * </pre>
+ *
+ * This package needs jdk.jfr, in JDK 11 and later, and is the only part of
+ * the engine that does; leave it out of builds for older runtimes. It holds
+ * no state, so one instance may serve several threads.
+ *
+ * @since 19/10/2026
+ */
+public class JfrDiagnostics implements FrameListener, PhysicsListener,
+		LoadListener {
+
+	@Override
+	public Object beginFrame() {
+		FrameEvent event = new FrameEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void endFrame(Object scope, long frame, int entities,
+			long allocated) {
+		FrameEvent event = (FrameEvent) scope;
+		event.end();
+		if (event.shouldCommit()) {
+			event.frame = frame;
+			event.entities = entities;
+			event.allocated = allocated;
+			event.commit();
+		}
+	}
+
+	@Override
+	public Object beginUpdate() {
+		UpdateEvent event = new UpdateEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void endUpdate(Object scope, long frame, long allocated) {
+		UpdateEvent event = (UpdateEvent) scope;
+		event.end();
+		if (event.shouldCommit()) {
+			event.frame = frame;
+			event.allocated = allocated;
+			event.commit();
+		}
+	}
+
+	@Override
+	public Object beginDraw() {
+		DrawEvent event = new DrawEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void endDraw(Object scope, long frame, long allocated) {
+		DrawEvent event = (DrawEvent) scope;
+		event.end();
+		if (event.shouldCommit()) {
+			event.frame = frame;
+			event.allocated = allocated;
+			event.commit();
+		}
+	}
+
+	@Override
+	public Object beginStep() {
+		PhysicsStepEvent event = new PhysicsStepEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void endStep(Object scope, int bodies, int contacts, int islands,
+			float dt) {
+		PhysicsStepEvent event = (PhysicsStepEvent) scope;
+		event.end();
+		if (event.shouldCommit()) {
+			event.bodies = bodies;
+			event.contacts = contacts;
+			event.islands = islands;
+			event.dt = dt;
+			event.commit();
+		}
+	}
+
+	@Override
+	public Object beginContacts() {
+		ContactGenerationEvent event = new ContactGenerationEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void endContacts(Object scope, int bodies, int contacts) {
+		ContactGenerationEvent event = (ContactGenerationEvent) scope;
+		event.end();
+		if (event.shouldCommit()) {
+			event.bodies = bodies;
+			event.contacts = contacts;
+			event.commit();
+		}
+	}
+
+	@Override
+	public Object beginLoad(String name) {
+		AssetLoadEvent event = new AssetLoadEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void endLoad(Object scope, String name, boolean success,
+			long size) {
+		AssetLoadEvent event = (AssetLoadEvent) scope;
+		event.end();
+		if (event.shouldCommit()) {
+			event.name = name;
+			event.success = success;
+			event.size = size;
+			event.commit();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "JfrDiagnostics";
+	}
+}
@@ -0,0 +1,45 @@
+package com.lucasazzola.game.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one fixed physics step
+ *
+ * @since 19/10/2026
+ */
+@Name("com.lucasazzola.game.PhysicsStep")
+@Label("Physics Step")
+@Category({ "Game", "Physics" })
+@Description("One fixed physics step")
+@StackTrace(false)
+public class PhysicsStepEvent extends Event {
+
+	/**
+	 * The number of rigid bodies
+	 */
+	@Label("Bodies")
+	public int bodies;
+
+	/**
+	 * The number of contacts solved
+	 */
+	@Label("Contacts")
+	public int contacts;
+
+	/**
+	 * The number of islands built
+	 */
+	@Label("Islands")
+	public int islands;
+
+	/**
+	 * The step length, in seconds
+	 */
+	@Label("Time Step")
+	public float dt;
+}
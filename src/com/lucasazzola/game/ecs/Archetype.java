@@ -0,0 +1,185 @@
+package com.lucasazzola.game.ecs;
+
+import java.util.Arrays;
+
+/**
+ * Storage for every entity with exactly the same set of components. Each
+ * component field is a separate float array indexed by row, so that systems
+ * iterate over dense primitive columns.
+ *
+ * Column arrays are replaced when the archetype grows, so they should be
+ * fetched again at the start of each iteration rather than kept.
+ *
+ * @since 19/10/2026
+ */
+public final class Archetype {
+
+	/**
+	 * Initial number of rows
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Archetype members
+	 */
+	final long mask;
+	final ComponentType[] types;
+	private final int[] slots;
+	private float[][][] columns;
+	private int[] entities;
+	private int size;
+
+	/**
+	 * Constructs an empty archetype
+	 *
+	 * @param mask the component mask
+	 * @param types the components, ordered by id
+	 */
+	Archetype(long mask, ComponentType[] types) {
+		this.mask = mask;
+		this.types = types;
+		this.slots = new int[World.MAX_COMPONENTS];
+		Arrays.fill(slots, -1);
+		this.columns = new float[types.length][][];
+		this.entities = new int[INITIAL_CAPACITY];
+		for (int i = 0; i < types.length; i++) {
+			slots[types[i].id()] = i;
+			columns[i] = new float[types[i].size()][INITIAL_CAPACITY];
+		}
+	}
+
+	/**
+	 * @return the number of entities in this archetype
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the component mask
+	 */
+	public long mask() {
+		return mask;
+	}
+
+	/**
+	 * Checks whether entities of this archetype have a component
+	 *
+	 * @param type the component
+	 * @return true if the component is present
+	 */
+	public boolean has(ComponentType type) {
+		return (mask & type.mask()) != 0;
+	}
+
+	/**
+	 * Gets every field column of a component
+	 *
+	 * @param type the component
+	 * @return the columns, indexed [field][row]
+	 */
+	public float[][] columns(ComponentType type) {
+		int slot = slots[type.id()];
+		if (slot == -1)
+			throw new IllegalArgumentException(type + " not in archetype");
+		return columns[slot];
+	}
+
+	/**
+	 * Gets a single field column of a component
+	 *
+	 * @param type the component
+	 * @param field the field, e.g. 0, 1, 2 for x, y, z
+	 * @return the column, indexed by row
+	 */
+	public float[] column(ComponentType type, int field) {
+		return columns(type)[field];
+	}
+
+	/**
+	 * Gets the entity stored in a row
+	 *
+	 * @param row the row
+	 * @return the entity
+	 */
+	public int entity(int row) {
+		return entities[row];
+	}
+
+	/**
+	 * Appends a zeroed row
+	 *
+	 * @param entity the entity stored in the row
+	 * @return the new row
+	 */
+	int add(int entity) {
+		if (size == entities.length)
+			grow();
+		int row = size++;
+		entities[row] = entity;
+		for (float[][] fields : columns) {
+			for (float[] column : fields) {
+				column[row] = 0;
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * Removes a row by moving the last row into its place
+	 *
+	 * @param row the row to remove
+	 * @return the entity moved into row, or -1 if the last row was removed
+	 */
+	int remove(int row) {
+		int last = --size;
+		if (row == last)
+			return -1;
+		entities[row] = entities[last];
+		for (float[][] fields : columns) {
+			for (float[] column : fields) {
+				column[row] = column[last];
+			}
+		}
+		return entities[row];
+	}
+
+	/**
+	 * Copies the components shared with another archetype from one row to
+	 * another
+	 *
+	 * @param row the row in this archetype
+	 * @param to the destination archetype
+	 * @param toRow the row in the destination archetype
+	 */
+	void copyShared(int row, Archetype to, int toRow) {
+		for (int i = 0; i < types.length; i++) {
+			int slot = to.slots[types[i].id()];
+			if (slot == -1)
+				continue;
+			float[][] from = columns[i], dest = to.columns[slot];
+			for (int f = 0; f < from.length; f++) {
+				dest[f][toRow] = from[f][row];
+			}
+		}
+	}
+
+	/**
+	 * Doubles the row capacity
+	 */
+	private void grow() {
+		int capacity = entities.length * 2;
+		entities = Arrays.copyOf(entities, capacity);
+		for (float[][] fields : columns) {
+			for (int f = 0; f < fields.length; f++) {
+				fields[f] = Arrays.copyOf(fields[f], capacity);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Archetype " + Arrays.toString(types) + " [entities:" + size
+				+ "]";
+	}
+}
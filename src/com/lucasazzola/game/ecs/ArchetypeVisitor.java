@@ -0,0 +1,20 @@
+package com.lucasazzola.game.ecs;
+
+/**
+ * Callback for {@link Query#forEach(ArchetypeVisitor)}, invoked once per
+ * matching archetype rather than once per entity so that the body can loop
+ * over the archetype's columns directly.
+ *
+ * @since 19/10/2026
+ */
+public interface ArchetypeVisitor {
+
+	/**
+	 * Visits the rows [from, to) of a matching archetype
+	 *
+	 * @param archetype the archetype
+	 * @param from the first row
+	 * @param to one past the last row
+	 */
+	void visit(Archetype archetype, int from, int to);
+}
@@ -0,0 +1,205 @@
+package com.lucasazzola.game.ecs;
+
+import java.util.Arrays;
+
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Records structural changes to a World so that they can be applied once
+ * iteration has finished, by {@link World#flush()}. Commands are encoded into
+ * primitive arrays which are reused from frame to frame.
+ *
+ * Commands may be recorded from several threads at once, such as by systems
+ * run by a {@link SystemScheduler}. Commands from one thread are applied in
+ * the order recorded, but the interleaving between threads is unspecified.
+ *
+ * @since 19/10/2026
+ */
+public final class CommandBuffer {
+
+	/**
+	 * Command opcodes
+	 */
+	static final int CREATE = 0, DESTROY = 1, ADD = 2, REMOVE = 3, SET = 4;
+
+	/**
+	 * Encoded commands, each is (opcode, entity, argument)
+	 */
+	private int[] commands = new int[96];
+	private int commandCount;
+
+	/**
+	 * Values for SET commands, in command order
+	 */
+	private float[] values = new float[64];
+	private int valueCount;
+
+	/**
+	 * The world the commands apply to
+	 */
+	private final World world;
+
+	/**
+	 * Constructs a command buffer
+	 *
+	 * @param world the world the commands apply to
+	 */
+	CommandBuffer(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * Creates an entity at the next flush. The returned entity may be used in
+	 * further commands straight away, but is not in any archetype until then.
+	 *
+	 * @param types the components of the entity
+	 * @return the new entity
+	 */
+	public synchronized int create(ComponentType... types) {
+		int entity = world.reserveEntity();
+		long mask = ComponentType.mask(types);
+		record(CREATE, entity, (int) mask);
+		record(CREATE, entity, (int) (mask >>> 32));
+		return entity;
+	}
+
+	/**
+	 * Destroys an entity at the next flush
+	 *
+	 * @param entity the entity
+	 */
+	public synchronized void destroy(int entity) {
+		record(DESTROY, entity, 0);
+	}
+
+	/**
+	 * Adds a component to an entity at the next flush
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 */
+	public synchronized void add(int entity, ComponentType type) {
+		record(ADD, entity, type.id());
+	}
+
+	/**
+	 * Removes a component from an entity at the next flush
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 */
+	public synchronized void remove(int entity, ComponentType type) {
+		record(REMOVE, entity, type.id());
+	}
+
+	/**
+	 * Sets a component's fields at the next flush
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @param fields the values, one per field
+	 */
+	public synchronized void set(int entity, ComponentType type,
+			float... fields) {
+		if (fields.length != type.size())
+			throw new IllegalArgumentException(type + " has " + type.size()
+					+ " fields");
+		record(SET, entity, type.id());
+		if (valueCount + fields.length > values.length)
+			values = Arrays.copyOf(values, Math.max(values.length * 2,
+					valueCount + fields.length));
+		System.arraycopy(fields, 0, values, valueCount, fields.length);
+		valueCount += fields.length;
+	}
+
+	/**
+	 * Sets a three field component from a vector at the next flush
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @param vector the value
+	 */
+	public void set(int entity, ComponentType type, Vector3 vector) {
+		set(entity, type, vector.x, vector.y, vector.z);
+	}
+
+	/**
+	 * Sets a four field component from a quaternion at the next flush
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @param rotation the value, stored as x, y, z, w
+	 */
+	public void set(int entity, ComponentType type, Quaternion rotation) {
+		set(entity, type, rotation.x, rotation.y, rotation.z, rotation.w);
+	}
+
+	/**
+	 * @return true if there are no pending commands
+	 */
+	public synchronized boolean isEmpty() {
+		return commandCount == 0;
+	}
+
+	/**
+	 * Applies and clears every pending command, in the order recorded.
+	 * Commands on entities destroyed before they apply are skipped, and the
+	 * buffer is cleared even if a command throws.
+	 */
+	synchronized void apply() {
+		int value = 0;
+		try {
+			for (int i = 0; i < commandCount; i += 3) {
+				int entity = commands[i + 1], argument = commands[i + 2];
+				switch (commands[i]) {
+					case CREATE:
+						// Mask is split across two consecutive commands
+						long mask = (argument & 0xFFFFFFFFL)
+								| ((long) commands[i + 5] << 32);
+						if (world.isAlive(entity))
+							world.place(entity, mask);
+						i += 3;
+						break;
+					case DESTROY:
+						if (world.isAlive(entity))
+							world.destroyEntity(entity);
+						break;
+					case ADD:
+						if (world.isAlive(entity))
+							world.addComponent(entity,
+									world.component(argument));
+						break;
+					case REMOVE:
+						if (world.isAlive(entity))
+							world.removeComponent(entity,
+									world.component(argument));
+						break;
+					case SET:
+						ComponentType type = world.component(argument);
+						if (world.isAlive(entity) && world.has(entity, type)) {
+							for (int f = 0; f < type.size(); f++) {
+								world.set(entity, type, f, values[value + f]);
+							}
+						}
+						value += type.size();
+						break;
+				}
+			}
+		} finally {
+			commandCount = 0;
+			valueCount = 0;
+		}
+	}
+
+	/**
+	 * Appends an encoded command
+	 */
+	private void record(int opcode, int entity, int argument) {
+		if (commandCount + 3 > commands.length)
+			commands = Arrays.copyOf(commands, commands.length * 2);
+		commands[commandCount++] = opcode;
+		commands[commandCount++] = entity;
+		commands[commandCount++] = argument;
+	}
+}
@@ -0,0 +1,77 @@
+package com.lucasazzola.game.ecs;
+
+/**
+ * Describes a component made up of a fixed number of float fields, for
+ * example 3 for a Vector3 position or 4 for a Quaternion rotation. Component
+ * types are created by {@link World#registerComponent(String, int)}.
+ *
+ * @since 19/10/2026
+ */
+public final class ComponentType {
+
+	/**
+	 * Component members
+	 */
+	private final int id, size;
+	private final String name;
+
+	/**
+	 * Constructs a component type
+	 *
+	 * @param id the bit index of the component in archetype masks
+	 * @param name the name of the component
+	 * @param size the number of float fields
+	 */
+	ComponentType(int id, String name, int size) {
+		this.id = id;
+		this.name = name;
+		this.size = size;
+	}
+
+	/**
+	 * @return the id of the component, unique within its World
+	 */
+	public int id() {
+		return id;
+	}
+
+	/**
+	 * @return the name of the component
+	 */
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * @return the number of float fields
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the bit of this component in archetype masks
+	 */
+	public long mask() {
+		return 1L << id;
+	}
+
+	/**
+	 * Gets the combined mask of several components
+	 *
+	 * @param types the components
+	 * @return the mask with each component's bit set
+	 */
+	public static long mask(ComponentType... types) {
+		long mask = 0;
+		for (ComponentType type : types) {
+			mask |= type.mask();
+		}
+		return mask;
+	}
+
+	@Override
+	public String toString() {
+		return name + "[" + size + "]";
+	}
+}
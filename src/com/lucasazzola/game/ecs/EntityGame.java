@@ -0,0 +1,29 @@
+package com.lucasazzola.game.ecs;
+
+import com.lucasazzola.game.Game;
+import com.lucasazzola.game.util.GameTime;
+
+/**
+ * Game backed by an entity component World. Subclasses overriding
+ * {@link #Update(GameTime)} should call super.Update(time) to run the world's
+ * systems and apply deferred structural changes.
+ *
+ * @since 19/10/2026
+ */
+public abstract class EntityGame extends Game {
+
+	/**
+	 * The world holding every entity in the game
+	 */
+	protected final World world = new World();
+
+	@Override
+	public void Update(GameTime time) {
+		world.update(time);
+	}
+
+	@Override
+	protected int entityCount() {
+		return world.entityCount();
+	}
+}
@@ -0,0 +1,20 @@
+package com.lucasazzola.game.ecs;
+
+import com.lucasazzola.game.util.GameTime;
+
+/**
+ * A unit of game logic run by {@link World#update(GameTime)}
+ *
+ * @since 19/10/2026
+ */
+public interface GameSystem {
+
+	/**
+	 * Runs the system for one update. Structural changes must go through
+	 * {@link World#commands()}.
+	 *
+	 * @param world the world being updated
+	 * @param time the game time
+	 */
+	void update(World world, GameTime time);
+}
@@ -0,0 +1,169 @@
+package com.lucasazzola.game.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Cached set of archetypes matching a component filter. The set is kept up
+ * to date by the World as new archetypes are created, so a query should be
+ * created once and reused every frame.
+ *
+ * @since 19/10/2026
+ */
+public final class Query {
+
+	/**
+	 * Query members
+	 */
+	final World world;
+	final long with, without;
+	private Archetype[] matches = new Archetype[8];
+	private int matchCount;
+
+	/**
+	 * Constructs a query, see {@link World#query(ComponentType...)}
+	 *
+	 * @param world the world to query
+	 * @param with the components every match must have
+	 * @param without the components no match may have
+	 */
+	Query(World world, long with, long without) {
+		this.world = world;
+		this.with = with;
+		this.without = without;
+	}
+
+	/**
+	 * Adds an archetype if it matches the filter
+	 *
+	 * @param archetype the archetype
+	 */
+	void offer(Archetype archetype) {
+		if ((archetype.mask & with) != with || (archetype.mask & without) != 0)
+			return;
+		if (matchCount == matches.length)
+			matches = Arrays.copyOf(matches, matchCount * 2);
+		matches[matchCount++] = archetype;
+	}
+
+	/**
+	 * @return the number of matching archetypes
+	 */
+	public int archetypeCount() {
+		return matchCount;
+	}
+
+	/**
+	 * Gets a matching archetype
+	 *
+	 * @param i the index, less than {@link #archetypeCount()}
+	 * @return the archetype
+	 */
+	public Archetype archetype(int i) {
+		return matches[i];
+	}
+
+	/**
+	 * @return the number of matching entities
+	 */
+	public int size() {
+		int size = 0;
+		for (int i = 0; i < matchCount; i++) {
+			size += matches[i].size();
+		}
+		return size;
+	}
+
+	/**
+	 * Visits every non-empty matching archetype. Structural changes made
+	 * directly on the World during iteration are rejected, use
+	 * {@link World#commands()} instead.
+	 *
+	 * @param visitor the visitor
+	 */
+	public void forEach(ArchetypeVisitor visitor) {
+		world.beginIteration();
+		try {
+			for (int i = 0; i < matchCount; i++) {
+				Archetype archetype = matches[i];
+				if (archetype.size() > 0)
+					visitor.visit(archetype, 0, archetype.size());
+			}
+		} finally {
+			world.endIteration();
+		}
+	}
+
+	/**
+	 * Visits every matching entity with the rows of each archetype split into
+	 * chunks of at most chunkSize, which are visited concurrently on a pool.
+	 * The visitor must only write to the rows it is given.
+	 *
+	 * @param visitor the visitor, called from several threads at once
+	 * @param pool the pool to run on
+	 * @param chunkSize the maximum number of rows per visit
+	 */
+	public void forEach(ArchetypeVisitor visitor, ForkJoinPool pool,
+			int chunkSize) {
+		List<RowChunk> tasks = new ArrayList<RowChunk>(matchCount);
+		for (int i = 0; i < matchCount; i++) {
+			Archetype archetype = matches[i];
+			if (archetype.size() > 0)
+				tasks.add(new RowChunk(visitor, archetype, 0, archetype.size(),
+						chunkSize));
+		}
+		world.beginIteration();
+		try {
+			if (ForkJoinTask.inForkJoinPool()
+					&& ForkJoinTask.getPool() == pool)
+				ForkJoinTask.invokeAll(tasks);
+			else
+				pool.invoke(new RecursiveAction() {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected void compute() {
+						invokeAll(tasks);
+					}
+				});
+		} finally {
+			world.endIteration();
+		}
+	}
+
+	/**
+	 * Visits a range of rows, splitting in halves down to chunkSize rows
+	 */
+	private static class RowChunk extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ArchetypeVisitor visitor;
+		private final Archetype archetype;
+		private final int from, to, chunkSize;
+
+		RowChunk(ArchetypeVisitor visitor, Archetype archetype, int from,
+				int to, int chunkSize) {
+			this.visitor = visitor;
+			this.archetype = archetype;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= chunkSize) {
+				visitor.visit(archetype, from, to);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new RowChunk(visitor, archetype, from, mid, chunkSize),
+					new RowChunk(visitor, archetype, mid, to, chunkSize));
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package com.lucasazzola.game.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import com.lucasazzola.game.util.GameTime;
+
+/**
+ * Runs systems concurrently based on the components each declares it reads
+ * and writes. Two systems conflict when either writes a component the other
+ * reads or writes. Systems are grouped into phases: each system is placed in
+ * the first phase after every earlier conflicting system, so conflicting
+ * systems still run in the order added, while the systems within a phase run
+ * concurrently on the pool.
+ *
+ * Systems added without declaring access conflict with every other system.
+ * Systems may split their own iteration across the same pool with
+ * {@link Query#forEach(ArchetypeVisitor, ForkJoinPool, int)}.
+ *
+ * @since 19/10/2026
+ */
+public class SystemScheduler {
+
+	/**
+	 * Scheduler members
+	 */
+	private final World world;
+	private final ForkJoinPool pool;
+	private final List<Entry> entries = new ArrayList<Entry>();
+
+	/**
+	 * Systems grouped by phase, rebuilt when a system is added or removed
+	 */
+	private final List<List<Entry>> phases = new ArrayList<List<Entry>>();
+	private boolean phasesValid;
+
+	/**
+	 * Constructs a scheduler
+	 *
+	 * @param world the world the systems update
+	 * @param pool the pool to run systems on
+	 */
+	public SystemScheduler(World world, ForkJoinPool pool) {
+		this.world = world;
+		this.pool = pool;
+	}
+
+	/**
+	 * Adds a system which conflicts with every other system
+	 *
+	 * @param system the system
+	 */
+	public void add(GameSystem system) {
+		add(new Entry(system, -1L, -1L));
+	}
+
+	/**
+	 * Adds a system with declared component access
+	 *
+	 * @param system the system
+	 * @param reads the components the system only reads
+	 * @param writes the components the system writes
+	 */
+	public void add(GameSystem system, ComponentType[] reads,
+			ComponentType[] writes) {
+		long write = ComponentType.mask(writes);
+		add(new Entry(system, ComponentType.mask(reads) | write, write));
+	}
+
+	/**
+	 * Removes a system
+	 *
+	 * @param system the system
+	 */
+	public void remove(GameSystem system) {
+		for (int i = 0; i < entries.size(); i++) {
+			if (entries.get(i).system == system) {
+				entries.remove(i);
+				phasesValid = false;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return the number of phases the systems are currently grouped into
+	 */
+	public int phaseCount() {
+		if (!phasesValid)
+			buildPhases();
+		return phases.size();
+	}
+
+	/**
+	 * Runs every system, phase by phase, then applies deferred structural
+	 * changes. Intended to be called from
+	 * {@link com.lucasazzola.game.Game#Update} in place of
+	 * {@link World#update(GameTime)}.
+	 *
+	 * @param time the game time
+	 */
+	public void update(final GameTime time) {
+		if (!phasesValid)
+			buildPhases();
+
+		world.beginIteration();
+		try {
+			for (final List<Entry> phase : phases) {
+				if (phase.size() == 1) {
+					phase.get(0).system.update(world, time);
+					continue;
+				}
+				pool.invoke(new RecursiveAction() {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected void compute() {
+						invokeAll(tasks(phase, time));
+					}
+				});
+			}
+		} finally {
+			world.endIteration();
+		}
+		world.flush();
+	}
+
+	/**
+	 * Wraps each system of a phase in a task
+	 */
+	private List<ForkJoinTask<?>> tasks(List<Entry> phase,
+			final GameTime time) {
+		List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+		for (final Entry entry : phase) {
+			tasks.add(ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					entry.system.update(world, time);
+				}
+			}));
+		}
+		return tasks;
+	}
+
+	/**
+	 * Adds a scheduling entry
+	 */
+	private void add(Entry entry) {
+		entries.add(entry);
+		phasesValid = false;
+	}
+
+	/**
+	 * Greedily assigns each system the first phase after its last conflict
+	 */
+	private void buildPhases() {
+		phases.clear();
+		int[] phaseOf = new int[entries.size()];
+		for (int i = 0; i < entries.size(); i++) {
+			Entry entry = entries.get(i);
+			int phase = 0;
+			for (int j = 0; j < i; j++) {
+				if (entry.conflicts(entries.get(j)))
+					phase = Math.max(phase, phaseOf[j] + 1);
+			}
+			phaseOf[i] = phase;
+			if (phase == phases.size())
+				phases.add(new ArrayList<Entry>());
+			phases.get(phase).add(entry);
+		}
+		phasesValid = true;
+	}
+
+	/**
+	 * A system and its declared access
+	 */
+	private static class Entry {
+
+		final GameSystem system;
+		final long access, writes;
+
+		Entry(GameSystem system, long access, long writes) {
+			this.system = system;
+			this.access = access;
+			this.writes = writes;
+		}
+
+		boolean conflicts(Entry other) {
+			return (writes & other.access) != 0 || (other.writes & access) != 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SystemScheduler [systems:" + entries.size() + ", phases:"
+				+ phaseCount() + "]";
+	}
+}
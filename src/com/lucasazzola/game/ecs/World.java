@@ -0,0 +1,540 @@
+package com.lucasazzola.game.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+import com.lucasazzola.game.util.GameTime;
+
+/**
+ * Archetype based entity component store. Entities with the same set of
+ * components share an {@link Archetype}, which stores each component field
+ * column-wise in float arrays.
+ *
+ * Entities are int handles combining an index and a generation, so handles to
+ * destroyed entities are detected rather than aliasing a recycled entity.
+ *
+ * @since 19/10/2026
+ */
+public class World {
+
+	/**
+	 * Maximum number of component types, one bit each in a long mask
+	 */
+	public static final int MAX_COMPONENTS = 64;
+
+	/**
+	 * Entity handle layout
+	 */
+	private static final int INDEX_BITS = 22;
+	private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
+	/**
+	 * Marks an entity index as reserved by a CommandBuffer but not yet placed
+	 */
+	private static final int PENDING = -2;
+
+	/**
+	 * Registered components, indexed by id
+	 */
+	private final ComponentType[] components =
+			new ComponentType[MAX_COMPONENTS];
+	private int componentCount;
+
+	/**
+	 * Archetypes, indexed by creation order and by mask
+	 */
+	private final List<Archetype> archetypes = new ArrayList<Archetype>();
+	private final Map<Long, Integer> archetypeIndex =
+			new HashMap<Long, Integer>();
+	private final List<Query> queries = new ArrayList<Query>();
+
+	/**
+	 * Entity table, indexed by entity index. An archetype of -1 is a free
+	 * index.
+	 */
+	private int[] entityArchetype = new int[1024], entityRow = new int[1024],
+			generation = new int[1024];
+	private int[] freeIndices = new int[1024];
+	private int freeCount, nextIndex;
+
+	/**
+	 * Systems run by update, in order
+	 */
+	private final List<GameSystem> systems = new ArrayList<GameSystem>();
+
+	/**
+	 * Deferred structural changes
+	 */
+	private final CommandBuffer commands = new CommandBuffer(this);
+
+	/**
+	 * Number of query iterations in progress, on any thread
+	 */
+	private final AtomicInteger iterating = new AtomicInteger();
+
+	/**
+	 * Constructs an empty world
+	 */
+	public World() {
+		getArchetype(0);
+	}
+
+	/**
+	 * Registers a component type
+	 *
+	 * @param name the name of the component
+	 * @param size the number of float fields, e.g. 3 for a Vector3
+	 * @return the component type
+	 */
+	public ComponentType registerComponent(String name, int size) {
+		if (componentCount == MAX_COMPONENTS)
+			throw new IllegalStateException("Too many component types");
+		ComponentType type = new ComponentType(componentCount, name, size);
+		components[componentCount++] = type;
+		return type;
+	}
+
+	/**
+	 * Gets a registered component by id
+	 *
+	 * @param id the id of the component
+	 * @return the component type
+	 */
+	public ComponentType component(int id) {
+		return components[id];
+	}
+
+	/**
+	 * Creates an entity immediately
+	 *
+	 * @param types the components of the entity, initially zeroed
+	 * @return the new entity
+	 */
+	public int createEntity(ComponentType... types) {
+		checkNotIterating();
+		int entity = reserveEntity();
+		place(entity, ComponentType.mask(types));
+		return entity;
+	}
+
+	/**
+	 * Destroys an entity immediately
+	 *
+	 * @param entity the entity
+	 */
+	public void destroyEntity(int entity) {
+		checkNotIterating();
+		int index = indexOf(entity);
+		int archetype = entityArchetype[index];
+		if (archetype >= 0)
+			removeRow(archetypes.get(archetype), entityRow[index]);
+		entityArchetype[index] = -1;
+		generation[index]++;
+		if (freeCount == freeIndices.length)
+			freeIndices = Arrays.copyOf(freeIndices, freeCount * 2);
+		freeIndices[freeCount++] = index;
+	}
+
+	/**
+	 * Adds a component to an entity immediately, moving it to another
+	 * archetype
+	 *
+	 * @param entity the entity
+	 * @param type the component, initially zeroed
+	 * @throws IllegalStateException if the entity is still pending creation
+	 */
+	public void addComponent(int entity, ComponentType type) {
+		checkNotIterating();
+		int index = indexOf(entity);
+		move(index, placedMask(index) | type.mask());
+	}
+
+	/**
+	 * Removes a component from an entity immediately, moving it to another
+	 * archetype
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @throws IllegalStateException if the entity is still pending creation
+	 */
+	public void removeComponent(int entity, ComponentType type) {
+		checkNotIterating();
+		int index = indexOf(entity);
+		move(index, placedMask(index) & ~type.mask());
+	}
+
+	/**
+	 * Gets the component mask of an entity that has been placed
+	 */
+	private long placedMask(int index) {
+		if (entityArchetype[index] < 0)
+			throw new IllegalStateException("Entity " + index
+					+ " is pending creation, use commands()");
+		return archetypes.get(entityArchetype[index]).mask;
+	}
+
+	/**
+	 * Checks whether a handle refers to a live entity
+	 *
+	 * @param entity the entity
+	 * @return true if the entity has not been destroyed
+	 */
+	public boolean isAlive(int entity) {
+		int index = entity & INDEX_MASK;
+		return index < nextIndex && entityArchetype[index] != -1
+				&& generation[index] == entity >>> INDEX_BITS;
+	}
+
+	/**
+	 * Checks whether an entity has a component
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @return true if the entity has the component
+	 */
+	public boolean has(int entity, ComponentType type) {
+		int archetype = entityArchetype[indexOf(entity)];
+		return archetype >= 0 && archetypes.get(archetype).has(type);
+	}
+
+	/**
+	 * Gets the archetype an entity is stored in
+	 *
+	 * @param entity the entity
+	 * @return the archetype, or null if the entity is still pending creation
+	 */
+	public Archetype archetypeOf(int entity) {
+		int archetype = entityArchetype[indexOf(entity)];
+		return archetype >= 0 ? archetypes.get(archetype) : null;
+	}
+
+	/**
+	 * Gets the row an entity is stored in, within its archetype
+	 *
+	 * @param entity the entity
+	 * @return the row
+	 */
+	public int rowOf(int entity) {
+		return entityRow[indexOf(entity)];
+	}
+
+	/**
+	 * Sets a single component field
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @param field the field
+	 * @param value the value
+	 */
+	public void set(int entity, ComponentType type, int field, float value) {
+		int index = indexOf(entity);
+		columns(index, type)[field][entityRow[index]] = value;
+	}
+
+	/**
+	 * Gets a single component field
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @param field the field
+	 * @return the value
+	 */
+	public float get(int entity, ComponentType type, int field) {
+		int index = indexOf(entity);
+		return columns(index, type)[field][entityRow[index]];
+	}
+
+	/**
+	 * Sets a three field component from a vector
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @param vector the value
+	 */
+	public void set(int entity, ComponentType type, Vector3 vector) {
+		int index = indexOf(entity), row = entityRow[index];
+		float[][] columns = columns(index, type);
+		columns[0][row] = vector.x;
+		columns[1][row] = vector.y;
+		columns[2][row] = vector.z;
+	}
+
+	/**
+	 * Gets a three field component as a vector
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @param out the value will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector3 get(int entity, ComponentType type, Vector3 out) {
+		int index = indexOf(entity), row = entityRow[index];
+		float[][] columns = columns(index, type);
+		out.x = columns[0][row];
+		out.y = columns[1][row];
+		out.z = columns[2][row];
+		return out;
+	}
+
+	/**
+	 * Sets a four field component from a quaternion, stored as x, y, z, w
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @param rotation the value
+	 */
+	public void set(int entity, ComponentType type, Quaternion rotation) {
+		int index = indexOf(entity), row = entityRow[index];
+		float[][] columns = columns(index, type);
+		columns[0][row] = rotation.x;
+		columns[1][row] = rotation.y;
+		columns[2][row] = rotation.z;
+		columns[3][row] = rotation.w;
+	}
+
+	/**
+	 * Gets a four field component as a quaternion
+	 *
+	 * @param entity the entity
+	 * @param type the component
+	 * @param out the value will be assigned to this quaternion
+	 * @return out, for chainability
+	 */
+	public Quaternion get(int entity, ComponentType type, Quaternion out) {
+		int index = indexOf(entity), row = entityRow[index];
+		float[][] columns = columns(index, type);
+		out.x = columns[0][row];
+		out.y = columns[1][row];
+		out.z = columns[2][row];
+		out.w = columns[3][row];
+		return out;
+	}
+
+	/**
+	 * Creates a query over every entity with all of the given components
+	 *
+	 * @param with the required components
+	 * @return the query
+	 */
+	public Query query(ComponentType... with) {
+		return query(with, new ComponentType[0]);
+	}
+
+	/**
+	 * Creates a query over every entity with all of one set of components and
+	 * none of another
+	 *
+	 * @param with the required components
+	 * @param without the excluded components
+	 * @return the query
+	 */
+	public Query query(ComponentType[] with, ComponentType[] without) {
+		Query query = new Query(this, ComponentType.mask(with),
+				ComponentType.mask(without));
+		for (Archetype archetype : archetypes) {
+			query.offer(archetype);
+		}
+		queries.add(query);
+		return query;
+	}
+
+	/**
+	 * Gets the buffer for structural changes deferred to {@link #flush()}
+	 *
+	 * @return the command buffer
+	 */
+	public CommandBuffer commands() {
+		return commands;
+	}
+
+	/**
+	 * Applies every deferred structural change
+	 */
+	public void flush() {
+		checkNotIterating();
+		commands.apply();
+	}
+
+	/**
+	 * Adds a system to be run by {@link #update(GameTime)}, after those added
+	 * before it
+	 *
+	 * @param system the system
+	 */
+	public void addSystem(GameSystem system) {
+		systems.add(system);
+	}
+
+	/**
+	 * Removes a system
+	 *
+	 * @param system the system
+	 */
+	public void removeSystem(GameSystem system) {
+		systems.remove(system);
+	}
+
+	/**
+	 * Runs every system in order, then applies deferred structural changes.
+	 * Intended to be called from {@link com.lucasazzola.game.Game#Update}.
+	 *
+	 * @param time the game time
+	 */
+	public void update(GameTime time) {
+		for (int i = 0; i < systems.size(); i++) {
+			systems.get(i).update(this, time);
+		}
+		flush();
+	}
+
+	/**
+	 * @return the number of live entities, including those pending creation
+	 */
+	public int entityCount() {
+		return nextIndex - freeCount;
+	}
+
+	/**
+	 * Allocates an entity handle without placing it in an archetype
+	 *
+	 * @return the entity
+	 */
+	int reserveEntity() {
+		int index;
+		if (freeCount > 0) {
+			index = freeIndices[--freeCount];
+		} else {
+			index = nextIndex++;
+			if (index > INDEX_MASK)
+				throw new IllegalStateException("Too many entities");
+			if (index == entityArchetype.length) {
+				int capacity = index * 2;
+				entityArchetype = Arrays.copyOf(entityArchetype, capacity);
+				entityRow = Arrays.copyOf(entityRow, capacity);
+				generation = Arrays.copyOf(generation, capacity);
+			}
+		}
+		entityArchetype[index] = PENDING;
+		generation[index] &= (1 << (32 - INDEX_BITS)) - 1;
+		return generation[index] << INDEX_BITS | index;
+	}
+
+	/**
+	 * Places a reserved entity in the archetype for a mask
+	 *
+	 * @param entity the entity
+	 * @param mask the component mask
+	 */
+	void place(int entity, long mask) {
+		int index = indexOf(entity);
+		int archetype = getArchetype(mask);
+		entityArchetype[index] = archetype;
+		entityRow[index] = archetypes.get(archetype).add(entity);
+	}
+
+	/**
+	 * Marks the start of query iteration
+	 */
+	void beginIteration() {
+		iterating.incrementAndGet();
+	}
+
+	/**
+	 * Marks the end of query iteration
+	 */
+	void endIteration() {
+		iterating.decrementAndGet();
+	}
+
+	/**
+	 * Moves an entity to the archetype for a new mask, keeping the components
+	 * shared by both
+	 */
+	private void move(int index, long mask) {
+		Archetype from = archetypes.get(entityArchetype[index]);
+		if (from.mask == mask)
+			return;
+		int target = getArchetype(mask);
+		Archetype to = archetypes.get(target);
+		int row = entityRow[index];
+		int newRow = to.add(from.entity(row));
+		from.copyShared(row, to, newRow);
+		removeRow(from, row);
+		entityArchetype[index] = target;
+		entityRow[index] = newRow;
+	}
+
+	/**
+	 * Removes a row from an archetype, fixing up the entity moved into it
+	 */
+	private void removeRow(Archetype archetype, int row) {
+		int moved = archetype.remove(row);
+		if (moved != -1)
+			entityRow[moved & INDEX_MASK] = row;
+	}
+
+	/**
+	 * Gets the columns for an entity's component
+	 */
+	private float[][] columns(int index, ComponentType type) {
+		int archetype = entityArchetype[index];
+		if (archetype < 0)
+			throw new IllegalStateException("Entity is pending creation");
+		return archetypes.get(archetype).columns(type);
+	}
+
+	/**
+	 * Gets or creates the archetype for a mask
+	 *
+	 * @return the index of the archetype
+	 */
+	private int getArchetype(long mask) {
+		Integer existing = archetypeIndex.get(mask);
+		if (existing != null)
+			return existing;
+
+		ComponentType[] types = new ComponentType[Long.bitCount(mask)];
+		for (int id = 0, n = 0; id < componentCount; id++) {
+			if ((mask & (1L << id)) != 0)
+				types[n++] = components[id];
+		}
+		Archetype archetype = new Archetype(mask, types);
+		int index = archetypes.size();
+		archetypes.add(archetype);
+		archetypeIndex.put(mask, index);
+		for (Query query : queries) {
+			query.offer(archetype);
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the index of a live entity
+	 */
+	private int indexOf(int entity) {
+		if (!isAlive(entity))
+			throw new IllegalArgumentException("No such entity: " + entity);
+		return entity & INDEX_MASK;
+	}
+
+	/**
+	 * Rejects direct structural changes during query iteration
+	 */
+	private void checkNotIterating() {
+		if (iterating.get() > 0)
+			throw new IllegalStateException(
+					"Structural change during iteration, use commands()");
+	}
+
+	@Override
+	public String toString() {
+		return "World [entities:" + entityCount() + ", archetypes:"
+				+ archetypes.size() + "]";
+	}
+}
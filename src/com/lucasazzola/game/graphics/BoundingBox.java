@@ -0,0 +1,107 @@
+package com.lucasazzola.game.graphics;
+
+/**
+ * Axis aligned bounding box class
+ *
+ * @since 19/10/2026
+ */
+public class BoundingBox {
+
+	/**
+	 * Public members, the minimum and maximum corners of the box
+	 */
+	public Vector3 min, max;
+
+	/**
+	 * Constructs an empty box at the origin
+	 */
+	public BoundingBox() {
+		this(new Vector3(), new Vector3());
+	}
+
+	/**
+	 * Constructs a box from its minimum and maximum corners
+	 *
+	 * @param min the minimum corner
+	 * @param max the maximum corner
+	 */
+	public BoundingBox(Vector3 min, Vector3 max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * Constructs a box given another BoundingBox
+	 *
+	 * @param box the box to duplicate
+	 */
+	public BoundingBox(BoundingBox box) {
+		this(new Vector3(box.min), new Vector3(box.max));
+	}
+
+	/**
+	 * Checks if another box intersects this
+	 *
+	 * @param box the box to compare to
+	 * @return true if the boxes intersect
+	 */
+	public boolean intersects(BoundingBox box) {
+		return min.x <= box.max.x && max.x >= box.min.x && min.y <= box.max.y
+				&& max.y >= box.min.y && min.z <= box.max.z
+				&& max.z >= box.min.z;
+	}
+
+	/**
+	 * Checks if a point lies within this
+	 *
+	 * @param point the point to check
+	 * @return true if the point is inside the box
+	 */
+	public boolean contains(Vector3 point) {
+		return point.x >= min.x && point.x <= max.x && point.y >= min.y
+				&& point.y <= max.y && point.z >= min.z && point.z <= max.z;
+	}
+
+	/**
+	 * Gets the centre of the box
+	 *
+	 * @param out the centre will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector3 center(Vector3 out) {
+		out.x = (min.x + max.x) * 0.5f;
+		out.y = (min.y + max.y) * 0.5f;
+		out.z = (min.z + max.z) * 0.5f;
+		return out;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((min == null) ? 0 : min.hashCode());
+		result = prime * result + ((max == null) ? 0 : max.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BoundingBox other = (BoundingBox) obj;
+		if (min == null ? other.min != null : !min.equals(other.min))
+			return false;
+		if (max == null ? other.max != null : !max.equals(other.max))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "BoundingBox [min:" + min + ", max:" + max + "]";
+	}
+}
@@ -0,0 +1,238 @@
+package com.lucasazzola.game.graphics;
+
+import com.lucasazzola.game.math.Fixed;
+import com.lucasazzola.game.math.FixedAngle;
+
+/**
+ * Fixed point counterpart of {@link Matrix3} and {@link RotationMatrix3},
+ * with Q16.16 elements (see {@link Fixed}). Operations write into an out
+ * parameter rather than allocating, and out may be one of the inputs.
+ *
+ * @since 19/10/2026
+ */
+public class FixedMatrix3 {
+
+	/**
+	 * The elements, m[row][column], fixed point
+	 */
+	public final int[][] m = new int[3][3];
+
+	/**
+	 * Constructs a 3x3 matrix of values 0
+	 */
+	public FixedMatrix3() {
+	}
+
+	/**
+	 * Constructs a copy of another matrix
+	 *
+	 * @param matrix the matrix to copy
+	 */
+	public FixedMatrix3(FixedMatrix3 matrix) {
+		set(matrix);
+	}
+
+	/**
+	 * Copies another matrix
+	 *
+	 * @param matrix the matrix to copy
+	 * @return this, for chainability
+	 */
+	public FixedMatrix3 set(FixedMatrix3 matrix) {
+		for (int i = 0; i < 3; i++) {
+			System.arraycopy(matrix.m[i], 0, m[i], 0, 3);
+		}
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to the identity
+	 *
+	 * @return this, for chainability
+	 */
+	public FixedMatrix3 setIdentity() {
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < 3; j++) {
+				m[i][j] = i == j ? Fixed.ONE : 0;
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to a rotation about an axis, with the same layout as
+	 * {@link RotationMatrix3}
+	 *
+	 * @param angle the angle to rotate
+	 * @param axis the axis to rotate about
+	 * @return this, for chainability
+	 */
+	public FixedMatrix3 setRotation(FixedAngle angle, Axis axis) {
+		int cos = angle.cos(), sin = angle.sin();
+		setIdentity();
+		switch (axis) {
+			case X:
+				m[1][1] = cos;
+				m[1][2] = -sin;
+				m[2][1] = sin;
+				m[2][2] = cos;
+				break;
+			case Y:
+				m[0][0] = cos;
+				m[0][2] = sin;
+				m[2][0] = -sin;
+				m[2][2] = cos;
+				break;
+			case Z:
+				m[0][0] = cos;
+				m[0][1] = -sin;
+				m[1][0] = sin;
+				m[1][1] = cos;
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies two matrices, summing each element at full precision before
+	 * rounding
+	 *
+	 * @param m1 the left matrix
+	 * @param m2 the right matrix
+	 * @param out m1 * m2 will be assigned to this matrix
+	 * @return out, for chainability
+	 */
+	public static FixedMatrix3 multiply(FixedMatrix3 m1, FixedMatrix3 m2,
+			FixedMatrix3 out) {
+		int[][] a = m1.m, b = m2.m;
+		int a00 = a[0][0], a01 = a[0][1], a02 = a[0][2];
+		int a10 = a[1][0], a11 = a[1][1], a12 = a[1][2];
+		int a20 = a[2][0], a21 = a[2][1], a22 = a[2][2];
+		int b00 = b[0][0], b01 = b[0][1], b02 = b[0][2];
+		int b10 = b[1][0], b11 = b[1][1], b12 = b[1][2];
+		int b20 = b[2][0], b21 = b[2][1], b22 = b[2][2];
+		int[][] o = out.m;
+		o[0][0] = row(a00, a01, a02, b00, b10, b20);
+		o[0][1] = row(a00, a01, a02, b01, b11, b21);
+		o[0][2] = row(a00, a01, a02, b02, b12, b22);
+		o[1][0] = row(a10, a11, a12, b00, b10, b20);
+		o[1][1] = row(a10, a11, a12, b01, b11, b21);
+		o[1][2] = row(a10, a11, a12, b02, b12, b22);
+		o[2][0] = row(a20, a21, a22, b00, b10, b20);
+		o[2][1] = row(a20, a21, a22, b01, b11, b21);
+		o[2][2] = row(a20, a21, a22, b02, b12, b22);
+		return out;
+	}
+
+	/**
+	 * Multiplies a vector by a matrix
+	 *
+	 * @param matrix the matrix
+	 * @param vector the vector
+	 * @param out matrix * vector will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector3 multiply(FixedMatrix3 matrix,
+			FixedVector3 vector, FixedVector3 out) {
+		int[][] a = matrix.m;
+		int x = vector.x, y = vector.y, z = vector.z;
+		out.x = row(a[0][0], a[0][1], a[0][2], x, y, z);
+		out.y = row(a[1][0], a[1][1], a[1][2], x, y, z);
+		out.z = row(a[2][0], a[2][1], a[2][2], x, y, z);
+		return out;
+	}
+
+	/**
+	 * Transposes a matrix
+	 *
+	 * @param matrix the matrix
+	 * @param out the transpose will be assigned to this matrix
+	 * @return out, for chainability
+	 */
+	public static FixedMatrix3 transpose(FixedMatrix3 matrix,
+			FixedMatrix3 out) {
+		int[][] a = matrix.m, o = out.m;
+		int a01 = a[0][1], a02 = a[0][2], a12 = a[1][2];
+		o[0][0] = a[0][0];
+		o[1][1] = a[1][1];
+		o[2][2] = a[2][2];
+		o[0][1] = a[1][0];
+		o[0][2] = a[2][0];
+		o[1][2] = a[2][1];
+		o[1][0] = a01;
+		o[2][0] = a02;
+		o[2][1] = a12;
+		return out;
+	}
+
+	/**
+	 * Gets the determinant of the matrix
+	 *
+	 * @return the determinant
+	 */
+	public int determinant() {
+		int c0 = Fixed.mul(m[1][1], m[2][2]) - Fixed.mul(m[1][2], m[2][1]);
+		int c1 = Fixed.mul(m[1][2], m[2][0]) - Fixed.mul(m[1][0], m[2][2]);
+		int c2 = Fixed.mul(m[1][0], m[2][1]) - Fixed.mul(m[1][1], m[2][0]);
+		return row(m[0][0], m[0][1], m[0][2], c0, c1, c2);
+	}
+
+	/**
+	 * Converts to a float matrix, for drawing
+	 *
+	 * @param out the matrix will be assigned to this matrix
+	 * @return out, for chainability
+	 */
+	public Matrix3 toMatrix3(Matrix3 out) {
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < 3; j++) {
+				out.m[i][j] = Fixed.toFloat(m[i][j]);
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Dot product of a row and a column, rounded once
+	 */
+	private static int row(int a0, int a1, int a2, int b0, int b1, int b2) {
+		return (int) (((long) a0 * b0 + (long) a1 * b1 + (long) a2 * b2) >> 16);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int[] row : m) {
+			for (int value : row) {
+				result = 31 * result + value;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		FixedMatrix3 other = (FixedMatrix3) obj;
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < 3; j++) {
+				if (m[i][j] != other.m[i][j])
+					return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (int[] row : m) {
+			builder.append(String.format("[%.3f, %.3f, %.3f]",
+					Fixed.toFloat(row[0]), Fixed.toFloat(row[1]),
+					Fixed.toFloat(row[2])));
+		}
+		return builder.toString();
+	}
+}
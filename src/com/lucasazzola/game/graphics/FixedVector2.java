@@ -0,0 +1,218 @@
+package com.lucasazzola.game.graphics;
+
+import com.lucasazzola.game.math.Fixed;
+import com.lucasazzola.game.math.FixedAngle;
+
+/**
+ * Fixed point counterpart of {@link Vector2}, with Q16.16 components (see
+ * {@link Fixed}). Operations write into an out parameter rather than
+ * allocating, and out may be one of the inputs.
+ *
+ * @since 19/10/2026
+ */
+public class FixedVector2 {
+
+	/**
+	 * Public members, fixed point
+	 */
+	public int x, y;
+
+	/**
+	 * Default constructor, sets x and y to 0
+	 */
+	public FixedVector2() {
+	}
+
+	/**
+	 * Constructor with arguments
+	 *
+	 * @param x the x-coordinate, fixed point
+	 * @param y the y-coordinate, fixed point
+	 */
+	public FixedVector2(int x, int y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Constructor from another FixedVector2
+	 *
+	 * @param vector Another 2D Vector
+	 */
+	public FixedVector2(FixedVector2 vector) {
+		this.x = vector.x;
+		this.y = vector.y;
+	}
+
+	/**
+	 * Sets the components
+	 *
+	 * @param x the x-coordinate, fixed point
+	 * @param y the y-coordinate, fixed point
+	 * @return this, for chainability
+	 */
+	public FixedVector2 set(int x, int y) {
+		this.x = x;
+		this.y = y;
+		return this;
+	}
+
+	/**
+	 * The dot product of two vectors, summed at full precision before
+	 * rounding
+	 *
+	 * @param v1 The first vector
+	 * @param v2 The second vector
+	 * @return the dot product of the two vectors
+	 */
+	public static int dot(FixedVector2 v1, FixedVector2 v2) {
+		return (int) (((long) v1.x * v2.x + (long) v1.y * v2.y) >> 16);
+	}
+
+	/**
+	 * Gets the magnitude of the vector
+	 *
+	 * @return the magnitude of the vector
+	 */
+	public int magnitude() {
+		return Fixed.sqrt(magnitudeSqr());
+	}
+
+	/**
+	 * Gets the squared magnitude of the vector
+	 *
+	 * @return the magnitude squared
+	 */
+	public int magnitudeSqr() {
+		return dot(this, this);
+	}
+
+	/**
+	 * Adds two vectors
+	 *
+	 * @param v1 the first vector
+	 * @param v2 the second vector
+	 * @param out the sum will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector2 add(FixedVector2 v1, FixedVector2 v2,
+			FixedVector2 out) {
+		out.x = v1.x + v2.x;
+		out.y = v1.y + v2.y;
+		return out;
+	}
+
+	/**
+	 * Subtracts one vector from another
+	 *
+	 * @param v1 the vector to subtract from
+	 * @param v2 the vector to subtract
+	 * @param out v1 - v2 will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector2 subtract(FixedVector2 v1, FixedVector2 v2,
+			FixedVector2 out) {
+		out.x = v1.x - v2.x;
+		out.y = v1.y - v2.y;
+		return out;
+	}
+
+	/**
+	 * Scales a vector
+	 *
+	 * @param vector the vector
+	 * @param scalar the scalar, fixed point
+	 * @param out the scaled vector will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector2 scale(FixedVector2 vector, int scalar,
+			FixedVector2 out) {
+		out.x = Fixed.mul(vector.x, scalar);
+		out.y = Fixed.mul(vector.y, scalar);
+		return out;
+	}
+
+	/**
+	 * Negates a vector
+	 *
+	 * @param vector the vector
+	 * @param out the negated vector will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector2 negate(FixedVector2 vector, FixedVector2 out) {
+		out.x = -vector.x;
+		out.y = -vector.y;
+		return out;
+	}
+
+	/**
+	 * Normalises a vector using {@link Fixed#invSqrt(int)}
+	 *
+	 * @param vector the vector
+	 * @param out the unit vector will be assigned to this vector, or zero if
+	 *            the vector is zero
+	 * @return out, for chainability
+	 */
+	public static FixedVector2 normalize(FixedVector2 vector,
+			FixedVector2 out) {
+		int lengthSqr = vector.magnitudeSqr();
+		if (lengthSqr <= 0)
+			return out.set(0, 0);
+		return scale(vector, Fixed.invSqrt(lengthSqr), out);
+	}
+
+	/**
+	 * Gets the distance to another Vector (as a point)
+	 *
+	 * @param vectorTo the vector to measure to
+	 * @return the distance to the vector
+	 */
+	public int distanceTo(FixedVector2 vectorTo) {
+		long dx = x - vectorTo.x, dy = y - vectorTo.y;
+		return Fixed.sqrt((int) ((dx * dx + dy * dy) >> 16));
+	}
+
+	/**
+	 * Gets the angle of the vector, measured from positive y
+	 *
+	 * @param out the angle will be assigned to this angle
+	 * @return out, for chainability
+	 */
+	public FixedAngle angle(FixedAngle out) {
+		out.radians = Fixed.atan2(Math.abs(x), y);
+		return out;
+	}
+
+	/**
+	 * Converts to a float vector, for drawing
+	 *
+	 * @param out the vector will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector2 toVector2(Vector2 out) {
+		out.x = Fixed.toFloat(x);
+		out.y = Fixed.toFloat(y);
+		return out;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 + x) + y;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		FixedVector2 other = (FixedVector2) obj;
+		return x == other.x && y == other.y;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("[%.3f, %.3f]", Fixed.toFloat(x),
+				Fixed.toFloat(y));
+	}
+}
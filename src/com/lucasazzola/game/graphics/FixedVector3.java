@@ -0,0 +1,233 @@
+package com.lucasazzola.game.graphics;
+
+import com.lucasazzola.game.math.Fixed;
+
+/**
+ * Fixed point counterpart of {@link Vector3}, with Q16.16 components (see
+ * {@link Fixed}). Operations write into an out parameter rather than
+ * allocating, and out may be one of the inputs.
+ *
+ * @since 19/10/2026
+ */
+public class FixedVector3 {
+
+	/**
+	 * Public members, fixed point
+	 */
+	public int x, y, z;
+
+	/**
+	 * Default constructor, sets x, y and z to 0
+	 */
+	public FixedVector3() {
+	}
+
+	/**
+	 * Constructor with arguments
+	 *
+	 * @param x the x-coordinate, fixed point
+	 * @param y the y-coordinate, fixed point
+	 * @param z the z-coordinate, fixed point
+	 */
+	public FixedVector3(int x, int y, int z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+
+	/**
+	 * Constructor from another FixedVector3
+	 *
+	 * @param vector Another 3D Vector
+	 */
+	public FixedVector3(FixedVector3 vector) {
+		this.x = vector.x;
+		this.y = vector.y;
+		this.z = vector.z;
+	}
+
+	/**
+	 * Sets the components
+	 *
+	 * @param x the x-coordinate, fixed point
+	 * @param y the y-coordinate, fixed point
+	 * @param z the z-coordinate, fixed point
+	 * @return this, for chainability
+	 */
+	public FixedVector3 set(int x, int y, int z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		return this;
+	}
+
+	/**
+	 * The dot product of two vectors, summed at full precision before
+	 * rounding
+	 *
+	 * @param v1 The first vector
+	 * @param v2 The second vector
+	 * @return the dot product of the two vectors
+	 */
+	public static int dot(FixedVector3 v1, FixedVector3 v2) {
+		return (int) (((long) v1.x * v2.x + (long) v1.y * v2.y + (long) v1.z
+				* v2.z) >> 16);
+	}
+
+	/**
+	 * The cross product of two vectors
+	 *
+	 * @param v1 The first vector
+	 * @param v2 The second vector
+	 * @param out v1 x v2 will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector3 cross(FixedVector3 v1, FixedVector3 v2,
+			FixedVector3 out) {
+		int x = (int) (((long) v1.y * v2.z - (long) v1.z * v2.y) >> 16);
+		int y = (int) (((long) v1.z * v2.x - (long) v1.x * v2.z) >> 16);
+		int z = (int) (((long) v1.x * v2.y - (long) v1.y * v2.x) >> 16);
+		return out.set(x, y, z);
+	}
+
+	/**
+	 * Gets the magnitude of the vector
+	 *
+	 * @return the magnitude of the vector
+	 */
+	public int magnitude() {
+		return Fixed.sqrt(magnitudeSqr());
+	}
+
+	/**
+	 * Gets the squared magnitude of the vector
+	 *
+	 * @return the magnitude squared
+	 */
+	public int magnitudeSqr() {
+		return dot(this, this);
+	}
+
+	/**
+	 * Adds two vectors
+	 *
+	 * @param v1 the first vector
+	 * @param v2 the second vector
+	 * @param out the sum will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector3 add(FixedVector3 v1, FixedVector3 v2,
+			FixedVector3 out) {
+		out.x = v1.x + v2.x;
+		out.y = v1.y + v2.y;
+		out.z = v1.z + v2.z;
+		return out;
+	}
+
+	/**
+	 * Subtracts one vector from another
+	 *
+	 * @param v1 the vector to subtract from
+	 * @param v2 the vector to subtract
+	 * @param out v1 - v2 will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector3 subtract(FixedVector3 v1, FixedVector3 v2,
+			FixedVector3 out) {
+		out.x = v1.x - v2.x;
+		out.y = v1.y - v2.y;
+		out.z = v1.z - v2.z;
+		return out;
+	}
+
+	/**
+	 * Scales a vector
+	 *
+	 * @param vector the vector
+	 * @param scalar the scalar, fixed point
+	 * @param out the scaled vector will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector3 scale(FixedVector3 vector, int scalar,
+			FixedVector3 out) {
+		out.x = Fixed.mul(vector.x, scalar);
+		out.y = Fixed.mul(vector.y, scalar);
+		out.z = Fixed.mul(vector.z, scalar);
+		return out;
+	}
+
+	/**
+	 * Negates a vector
+	 *
+	 * @param vector the vector
+	 * @param out the negated vector will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public static FixedVector3 negate(FixedVector3 vector, FixedVector3 out) {
+		out.x = -vector.x;
+		out.y = -vector.y;
+		out.z = -vector.z;
+		return out;
+	}
+
+	/**
+	 * Normalises a vector using {@link Fixed#invSqrt(int)}
+	 *
+	 * @param vector the vector
+	 * @param out the unit vector will be assigned to this vector, or zero if
+	 *            the vector is zero
+	 * @return out, for chainability
+	 */
+	public static FixedVector3 normalize(FixedVector3 vector,
+			FixedVector3 out) {
+		int lengthSqr = vector.magnitudeSqr();
+		if (lengthSqr <= 0)
+			return out.set(0, 0, 0);
+		return scale(vector, Fixed.invSqrt(lengthSqr), out);
+	}
+
+	/**
+	 * Gets the distance to another Vector (as a point)
+	 *
+	 * @param vectorTo the vector to measure to
+	 * @return the distance to the vector
+	 */
+	public int distanceTo(FixedVector3 vectorTo) {
+		long dx = x - vectorTo.x, dy = y - vectorTo.y, dz = z - vectorTo.z;
+		return Fixed.sqrt((int) ((dx * dx + dy * dy + dz * dz) >> 16));
+	}
+
+	/**
+	 * Converts to a float vector, for drawing
+	 *
+	 * @param out the vector will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector3 toVector3(Vector3 out) {
+		out.x = Fixed.toFloat(x);
+		out.y = Fixed.toFloat(y);
+		out.z = Fixed.toFloat(z);
+		return out;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * (31 + x) + y) + z;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		FixedVector3 other = (FixedVector3) obj;
+		return x == other.x && y == other.y && z == other.z;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("[%.3f, %.3f, %.3f]", Fixed.toFloat(x),
+				Fixed.toFloat(y), Fixed.toFloat(z));
+	}
+}
@@ -253,6 +253,221 @@ public class Matrix4 extends Matrix {
 		return matrix;
 	}
 
+	/**
+	 * Multiply two matrices
+	 * 
+	 * @param m1 the first Matrix
+	 * @param m2 the second Matrix
+	 * @param out the resulting Matrix, values will be assigned to this. May be
+	 *            the same object as m1 or m2
+	 * @return the out param, for chainability
+	 */
+	public static Matrix4 multiply(final Matrix4 m1, final Matrix4 m2,
+			Matrix4 out) {
+		float[][] b = m2.m;
+		float b00 = b[0][0], b01 = b[0][1], b02 = b[0][2], b03 = b[0][3];
+		float b10 = b[1][0], b11 = b[1][1], b12 = b[1][2], b13 = b[1][3];
+		float b20 = b[2][0], b21 = b[2][1], b22 = b[2][2], b23 = b[2][3];
+		float b30 = b[3][0], b31 = b[3][1], b32 = b[3][2], b33 = b[3][3];
+
+		// each row of out depends only on the same row of m1
+		for (int i = 0; i < 4; i++) {
+			float[] a = m1.m[i], o = out.m[i];
+			float a0 = a[0], a1 = a[1], a2 = a[2], a3 = a[3];
+			o[0] = a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30;
+			o[1] = a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31;
+			o[2] = a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32;
+			o[3] = a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33;
+		}
+		return out;
+	}
+
+	/**
+	 * Multiply this by another matrix
+	 * 
+	 * @param matrix the Matrix4 to multiply by
+	 * @return a new Matrix4 which is this * matrix
+	 */
+	public Matrix4 multiply(final Matrix4 matrix) {
+		return multiply(this, matrix, new Matrix4());
+	}
+
+	/**
+	 * Copies this matrix into a flat array, such that
+	 * out[offset + i * 4 + j] = m[i][j]
+	 * 
+	 * @param out the array to copy into
+	 * @param offset the index of the first element
+	 * @return out, for chainability
+	 */
+	public float[] get(float[] out, int offset) {
+		for (int i = 0; i < 4; i++) {
+			System.arraycopy(m[i], 0, out, offset + i * 4, 4);
+		}
+		return out;
+	}
+
+	/**
+	 * Sets this matrix from a flat array, laid out as in {@link #get}
+	 * 
+	 * @param in the array to copy from
+	 * @param offset the index of the first element
+	 * @return this, for chaining
+	 */
+	public Matrix4 set(float[] in, int offset) {
+		for (int i = 0; i < 4; i++) {
+			System.arraycopy(in, offset + i * 4, m[i], 0, 4);
+		}
+		return this;
+	}
+
+	/**
+	 * Multiply two flat matrices, laid out as in {@link #get}. The output may
+	 * overlap either input.
+	 * 
+	 * @param a the first matrix array
+	 * @param aOffset the index of the first matrix
+	 * @param b the second matrix array
+	 * @param bOffset the index of the second matrix
+	 * @param out the array to write a * b into
+	 * @param outOffset the index to write the result at
+	 */
+	public static void multiply(float[] a, int aOffset, float[] b,
+			int bOffset, float[] out, int outOffset) {
+		float b00 = b[bOffset], b01 = b[bOffset + 1];
+		float b02 = b[bOffset + 2], b03 = b[bOffset + 3];
+		float b10 = b[bOffset + 4], b11 = b[bOffset + 5];
+		float b12 = b[bOffset + 6], b13 = b[bOffset + 7];
+		float b20 = b[bOffset + 8], b21 = b[bOffset + 9];
+		float b22 = b[bOffset + 10], b23 = b[bOffset + 11];
+		float b30 = b[bOffset + 12], b31 = b[bOffset + 13];
+		float b32 = b[bOffset + 14], b33 = b[bOffset + 15];
+
+		for (int i = 0; i < 4; i++) {
+			int r = aOffset + i * 4, o = outOffset + i * 4;
+			float a0 = a[r], a1 = a[r + 1], a2 = a[r + 2], a3 = a[r + 3];
+			out[o] = a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30;
+			out[o + 1] = a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31;
+			out[o + 2] = a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32;
+			out[o + 3] = a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33;
+		}
+	}
+
+	/**
+	 * Multiply two flat affine matrices (bottom row 0, 0, 0, 1), laid out as
+	 * in {@link #get}. Cheaper than {@link #multiply(float[], int, float[],
+	 * int, float[], int)}; the output may overlap either input.
+	 * 
+	 * @param a the first matrix array
+	 * @param aOffset the index of the first matrix
+	 * @param b the second matrix array
+	 * @param bOffset the index of the second matrix
+	 * @param out the array to write a * b into
+	 * @param outOffset the index to write the result at
+	 */
+	public static void multiplyAffine(float[] a, int aOffset, float[] b,
+			int bOffset, float[] out, int outOffset) {
+		float b00 = b[bOffset], b01 = b[bOffset + 1];
+		float b02 = b[bOffset + 2], b03 = b[bOffset + 3];
+		float b10 = b[bOffset + 4], b11 = b[bOffset + 5];
+		float b12 = b[bOffset + 6], b13 = b[bOffset + 7];
+		float b20 = b[bOffset + 8], b21 = b[bOffset + 9];
+		float b22 = b[bOffset + 10], b23 = b[bOffset + 11];
+
+		for (int i = 0; i < 3; i++) {
+			int r = aOffset + i * 4, o = outOffset + i * 4;
+			float a0 = a[r], a1 = a[r + 1], a2 = a[r + 2], a3 = a[r + 3];
+			out[o] = a0 * b00 + a1 * b10 + a2 * b20;
+			out[o + 1] = a0 * b01 + a1 * b11 + a2 * b21;
+			out[o + 2] = a0 * b02 + a1 * b12 + a2 * b22;
+			out[o + 3] = a0 * b03 + a1 * b13 + a2 * b23 + a3;
+		}
+		out[outOffset + 12] = 0;
+		out[outOffset + 13] = 0;
+		out[outOffset + 14] = 0;
+		out[outOffset + 15] = 1;
+	}
+
+	/**
+	 * Inverts a flat affine matrix (bottom row 0, 0, 0, 1), laid out as in
+	 * {@link #get}. The output may overlap the input.
+	 *
+	 * @param in the matrix array
+	 * @param inOffset the index of the matrix
+	 * @param out the array to write the inverse into
+	 * @param outOffset the index to write the result at
+	 * @return false if the matrix is singular, leaving out unchanged
+	 */
+	public static boolean invertAffine(float[] in, int inOffset, float[] out,
+			int outOffset) {
+		float a00 = in[inOffset], a01 = in[inOffset + 1];
+		float a02 = in[inOffset + 2], a03 = in[inOffset + 3];
+		float a10 = in[inOffset + 4], a11 = in[inOffset + 5];
+		float a12 = in[inOffset + 6], a13 = in[inOffset + 7];
+		float a20 = in[inOffset + 8], a21 = in[inOffset + 9];
+		float a22 = in[inOffset + 10], a23 = in[inOffset + 11];
+
+		float c00 = a11 * a22 - a12 * a21;
+		float c01 = a02 * a21 - a01 * a22;
+		float c02 = a01 * a12 - a02 * a11;
+		float det = a00 * c00 + a10 * c01 + a20 * c02;
+		if (det == 0)
+			return false;
+		float inv = 1 / det;
+		float r00 = c00 * inv, r01 = c01 * inv, r02 = c02 * inv;
+		float r10 = (a12 * a20 - a10 * a22) * inv;
+		float r11 = (a00 * a22 - a02 * a20) * inv;
+		float r12 = (a02 * a10 - a00 * a12) * inv;
+		float r20 = (a10 * a21 - a11 * a20) * inv;
+		float r21 = (a01 * a20 - a00 * a21) * inv;
+		float r22 = (a00 * a11 - a01 * a10) * inv;
+
+		int o = outOffset;
+		out[o] = r00;
+		out[o + 1] = r01;
+		out[o + 2] = r02;
+		out[o + 3] = -(r00 * a03 + r01 * a13 + r02 * a23);
+		out[o + 4] = r10;
+		out[o + 5] = r11;
+		out[o + 6] = r12;
+		out[o + 7] = -(r10 * a03 + r11 * a13 + r12 * a23);
+		out[o + 8] = r20;
+		out[o + 9] = r21;
+		out[o + 10] = r22;
+		out[o + 11] = -(r20 * a03 + r21 * a13 + r22 * a23);
+		out[o + 12] = 0;
+		out[o + 13] = 0;
+		out[o + 14] = 0;
+		out[o + 15] = 1;
+		return true;
+	}
+
+	/**
+	 * Writes a translation * rotation * scale matrix into a flat array, laid
+	 * out as in {@link #get}. The rotation quaternion is assumed to be a unit
+	 * quaternion.
+	 * 
+	 * @param out the array to write into
+	 * @param offset the index to write the matrix at
+	 */
+	public static void setTransform(float[] out, int offset, float px,
+			float py, float pz, float qx, float qy, float qz, float qw,
+			float sx, float sy, float sz) {
+		Quaternion.createMatrix(qx, qy, qz, qw, out, offset);
+		out[offset] *= sx;
+		out[offset + 1] *= sy;
+		out[offset + 2] *= sz;
+		out[offset + 3] = px;
+		out[offset + 4] *= sx;
+		out[offset + 5] *= sy;
+		out[offset + 6] *= sz;
+		out[offset + 7] = py;
+		out[offset + 8] *= sx;
+		out[offset + 9] *= sy;
+		out[offset + 10] *= sz;
+		out[offset + 11] = pz;
+	}
+
 	// /**
 	// * Get a (scaling) Matrix4 array from a Vector
 	// *
@@ -44,6 +44,46 @@ public class Quaternion {
 		return new Matrix4(col1, col2, col3, col4);
 	}
 
+	/**
+	 * Writes the rotation matrix of this quaternion into a flat array, laid out
+	 * as in {@link Matrix4#get(float[], int)}
+	 * 
+	 * @param out the array to write into
+	 * @param offset the index to write the matrix at
+	 */
+	public void createMatrix(float[] out, int offset) {
+		createMatrix(x, y, z, w, out, offset);
+	}
+
+	/**
+	 * Writes the rotation matrix of a unit quaternion into a flat array, laid
+	 * out as in {@link Matrix4#get(float[], int)}. Produces the same values
+	 * as {@link #createMatrix()} without allocating.
+	 * 
+	 * @param out the array to write into
+	 * @param offset the index to write the matrix at
+	 */
+	public static void createMatrix(float x, float y, float z, float w,
+			float[] out, int offset) {
+		float xx = x * x, yy = y * y, zz = z * z;
+		out[offset] = 1 - 2.0f * (yy + zz);
+		out[offset + 1] = 2.0f * (x * y - w * z);
+		out[offset + 2] = 2.0f * (x * z + w * y);
+		out[offset + 3] = 0;
+		out[offset + 4] = 2.0f * (x * y + w * z);
+		out[offset + 5] = 1 - 2.0f * (xx + zz);
+		out[offset + 6] = 2.0f * (y * z - w * x);
+		out[offset + 7] = 0;
+		out[offset + 8] = 2.0f * (x * z - w * y);
+		out[offset + 9] = 2.0f * (y * z + w * x);
+		out[offset + 10] = 1.0f - 2.0f * (xx + yy);
+		out[offset + 11] = 0;
+		out[offset + 12] = 0;
+		out[offset + 13] = 0;
+		out[offset + 14] = 0;
+		out[offset + 15] = 1;
+	}
+
 	Quaternion multiply(final Quaternion q) {
 		Vector4 v = new Vector4();
 
@@ -0,0 +1,400 @@
+package com.lucasazzola.game.graphics;
+
+/**
+ * Ray class used for hit scans and line of sight checks. Intersection tests
+ * return the distance along the ray, in multiples of the direction vector, or
+ * {@link #MISS} when nothing is hit. No intersection test allocates.
+ *
+ * @since 19/10/2026
+ */
+public class Ray {
+
+	/**
+	 * Returned by intersection tests when the ray misses
+	 */
+	public static final float MISS = -1;
+
+	/**
+	 * Tolerance used by the triangle test for rays parallel to the triangle
+	 */
+	private static final float EPSILON = 1e-7f;
+
+	/**
+	 * Public members. If the direction is modified in place, {@link #update()}
+	 * must be called before the next intersection test.
+	 */
+	public final Vector3 origin, direction;
+
+	/**
+	 * The maximum distance along the ray, for segment (line of sight) tests
+	 */
+	public float length;
+
+	/**
+	 * Cached reciprocal of the direction, used by the slab tests
+	 */
+	private float invX, invY, invZ;
+
+	/**
+	 * Constructs a ray at the origin, pointing along positive z
+	 */
+	public Ray() {
+		this(new Vector3(), new Vector3(0, 0, 1));
+	}
+
+	/**
+	 * Constructs an unbounded ray
+	 *
+	 * @param origin the origin of the ray, copied
+	 * @param direction the direction of the ray, copied
+	 */
+	public Ray(Vector3 origin, Vector3 direction) {
+		this(origin, direction, Float.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Constructs a ray of a given length
+	 *
+	 * @param origin the origin of the ray, copied
+	 * @param direction the direction of the ray, copied
+	 * @param length the maximum distance along the ray
+	 */
+	public Ray(Vector3 origin, Vector3 direction, float length) {
+		this.origin = new Vector3(origin);
+		this.direction = new Vector3(direction);
+		this.length = length;
+		update();
+	}
+
+	/**
+	 * Sets the ray, so that a single Ray may be reused for many casts
+	 *
+	 * @param ox the x-coordinate of the origin
+	 * @param oy the y-coordinate of the origin
+	 * @param oz the z-coordinate of the origin
+	 * @param dx the x-component of the direction
+	 * @param dy the y-component of the direction
+	 * @param dz the z-component of the direction
+	 * @param length the maximum distance along the ray
+	 * @return this, for chaining
+	 */
+	public Ray set(float ox, float oy, float oz, float dx, float dy, float dz,
+			float length) {
+		origin.x = ox;
+		origin.y = oy;
+		origin.z = oz;
+		direction.x = dx;
+		direction.y = dy;
+		direction.z = dz;
+		this.length = length;
+		update();
+		return this;
+	}
+
+	/**
+	 * Sets the ray to the segment between two points, with a length of 1
+	 *
+	 * @param from the start of the segment
+	 * @param to the end of the segment
+	 * @return this, for chaining
+	 */
+	public Ray setSegment(Vector3 from, Vector3 to) {
+		return set(from.x, from.y, from.z, to.x - from.x, to.y - from.y, to.z
+				- from.z, 1);
+	}
+
+	/**
+	 * Recalculates cached values after the direction has been modified
+	 */
+	public void update() {
+		invX = 1.0f / direction.x;
+		invY = 1.0f / direction.y;
+		invZ = 1.0f / direction.z;
+	}
+
+	/**
+	 * Gets the point at a distance along the ray
+	 *
+	 * @param t the distance along the ray
+	 * @param out the point will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector3 pointAt(float t, Vector3 out) {
+		out.x = origin.x + direction.x * t;
+		out.y = origin.y + direction.y * t;
+		out.z = origin.z + direction.z * t;
+		return out;
+	}
+
+	/**
+	 * Slab test against an axis aligned box
+	 *
+	 * @return the distance to the box, 0 if the origin is inside, or MISS
+	 */
+	public float intersectBox(float minX, float minY, float minZ, float maxX,
+			float maxY, float maxZ) {
+		float tMin = 0, tMax = length, t1, t2;
+
+		// Comparisons rather than Math.min/max so that a NaN produced by an
+		// axis parallel ray lying on a slab plane is ignored
+		t1 = (minX - origin.x) * invX;
+		t2 = (maxX - origin.x) * invX;
+		if (t1 > t2) {
+			float t = t1;
+			t1 = t2;
+			t2 = t;
+		}
+		if (t1 > tMin)
+			tMin = t1;
+		if (t2 < tMax)
+			tMax = t2;
+
+		t1 = (minY - origin.y) * invY;
+		t2 = (maxY - origin.y) * invY;
+		if (t1 > t2) {
+			float t = t1;
+			t1 = t2;
+			t2 = t;
+		}
+		if (t1 > tMin)
+			tMin = t1;
+		if (t2 < tMax)
+			tMax = t2;
+
+		t1 = (minZ - origin.z) * invZ;
+		t2 = (maxZ - origin.z) * invZ;
+		if (t1 > t2) {
+			float t = t1;
+			t1 = t2;
+			t2 = t;
+		}
+		if (t1 > tMin)
+			tMin = t1;
+		if (t2 < tMax)
+			tMax = t2;
+
+		return tMin <= tMax ? tMin : MISS;
+	}
+
+	/**
+	 * Slab test against a BoundingBox
+	 *
+	 * @param box the box to test
+	 * @return the distance to the box, 0 if the origin is inside, or MISS
+	 */
+	public float intersect(BoundingBox box) {
+		return intersectBox(box.min.x, box.min.y, box.min.z, box.max.x,
+				box.max.y, box.max.z);
+	}
+
+	/**
+	 * Tests against a Rectangle lying in the z = 0 plane
+	 *
+	 * @param rectangle the rectangle to test
+	 * @return the distance to the rectangle, or MISS
+	 */
+	public float intersect(Rectangle rectangle) {
+		if (direction.z == 0)
+			return MISS;
+		float t = -origin.z * invZ;
+		if (t < 0 || t > length)
+			return MISS;
+		float px = origin.x + direction.x * t;
+		float py = origin.y + direction.y * t;
+		float x = rectangle.getX(), y = rectangle.getY();
+		if (px < x || px > x + rectangle.width() || py < y
+				|| py > y + rectangle.height())
+			return MISS;
+		return t;
+	}
+
+	/**
+	 * Tests against a sphere
+	 *
+	 * @param center the centre of the sphere
+	 * @param radius the radius of the sphere
+	 * @return the distance to the sphere, 0 if the origin is inside, or MISS
+	 */
+	public float intersectSphere(Vector3 center, float radius) {
+		float mx = origin.x - center.x;
+		float my = origin.y - center.y;
+		float mz = origin.z - center.z;
+		float a = direction.x * direction.x + direction.y * direction.y
+				+ direction.z * direction.z;
+		float b = mx * direction.x + my * direction.y + mz * direction.z;
+		float c = mx * mx + my * my + mz * mz - radius * radius;
+
+		if (c <= 0)
+			return 0;
+		// Origin outside and pointing away
+		if (b > 0)
+			return MISS;
+		float discriminant = b * b - a * c;
+		if (discriminant < 0)
+			return MISS;
+		float t = (-b - (float) Math.sqrt(discriminant)) / a;
+		return t <= length ? t : MISS;
+	}
+
+	/**
+	 * Möller-Trumbore test against a triangle, both faces are tested
+	 *
+	 * @param a the first vertex
+	 * @param b the second vertex
+	 * @param c the third vertex
+	 * @return the distance to the triangle, or MISS
+	 */
+	public float intersectTriangle(Vector3 a, Vector3 b, Vector3 c) {
+		return intersectTriangle(a.x, a.y, a.z, b.x, b.y, b.z, c.x, c.y, c.z);
+	}
+
+	/**
+	 * Möller-Trumbore test against a triangle, both faces are tested
+	 *
+	 * @return the distance to the triangle, or MISS
+	 */
+	public float intersectTriangle(float ax, float ay, float az, float bx,
+			float by, float bz, float cx, float cy, float cz) {
+		float e1x = bx - ax, e1y = by - ay, e1z = bz - az;
+		float e2x = cx - ax, e2y = cy - ay, e2z = cz - az;
+
+		// p = direction x e2
+		float px = direction.y * e2z - direction.z * e2y;
+		float py = direction.z * e2x - direction.x * e2z;
+		float pz = direction.x * e2y - direction.y * e2x;
+
+		float det = e1x * px + e1y * py + e1z * pz;
+		if (det > -EPSILON && det < EPSILON)
+			return MISS;
+		float invDet = 1.0f / det;
+
+		float sx = origin.x - ax, sy = origin.y - ay, sz = origin.z - az;
+		float u = (sx * px + sy * py + sz * pz) * invDet;
+		if (u < 0 || u > 1)
+			return MISS;
+
+		// q = s x e1
+		float qx = sy * e1z - sz * e1y;
+		float qy = sz * e1x - sx * e1z;
+		float qz = sx * e1y - sy * e1x;
+
+		float v = (direction.x * qx + direction.y * qy + direction.z * qz)
+				* invDet;
+		if (v < 0 || u + v > 1)
+			return MISS;
+
+		float t = (e2x * qx + e2y * qy + e2z * qz) * invDet;
+		return t >= 0 && t <= length ? t : MISS;
+	}
+
+	/**
+	 * Tests this ray against many boxes stored as arrays of their bounds
+	 *
+	 * @param out the distance to each box (or MISS) is written to
+	 *            out[offset..offset+count)
+	 * @return the number of boxes hit
+	 */
+	public int intersectBoxes(float[] minX, float[] minY, float[] minZ,
+			float[] maxX, float[] maxY, float[] maxZ, int offset, int count,
+			float[] out) {
+		final float ox = origin.x, oy = origin.y, oz = origin.z;
+		final float ix = invX, iy = invY, iz = invZ;
+		int hits = 0;
+
+		for (int i = offset, end = offset + count; i < end; i++) {
+			float tMin = slab(minX[i], maxX[i], ox, ix, 0);
+			float tMax = slabFar(minX[i], maxX[i], ox, ix, length);
+			tMin = slab(minY[i], maxY[i], oy, iy, tMin);
+			tMax = slabFar(minY[i], maxY[i], oy, iy, tMax);
+			tMin = slab(minZ[i], maxZ[i], oz, iz, tMin);
+			tMax = slabFar(minZ[i], maxZ[i], oz, iz, tMax);
+			if (tMin <= tMax) {
+				out[i] = tMin;
+				hits++;
+			} else {
+				out[i] = MISS;
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Finds the closest of many boxes stored as arrays of their bounds
+	 *
+	 * @return the index of the closest box hit, or -1 if none are hit
+	 */
+	public int closestBox(float[] minX, float[] minY, float[] minZ,
+			float[] maxX, float[] maxY, float[] maxZ, int offset, int count) {
+		final float ox = origin.x, oy = origin.y, oz = origin.z;
+		final float ix = invX, iy = invY, iz = invZ;
+		float closest = length;
+		int index = -1;
+
+		for (int i = offset, end = offset + count; i < end; i++) {
+			// Shrinking the far plane to the closest hit culls further boxes
+			float tMin = slab(minX[i], maxX[i], ox, ix, 0);
+			float tMax = slabFar(minX[i], maxX[i], ox, ix, closest);
+			tMin = slab(minY[i], maxY[i], oy, iy, tMin);
+			tMax = slabFar(minY[i], maxY[i], oy, iy, tMax);
+			tMin = slab(minZ[i], maxZ[i], oz, iz, tMin);
+			tMax = slabFar(minZ[i], maxZ[i], oz, iz, tMax);
+			if (tMin <= tMax && (index == -1 || tMin < closest)) {
+				closest = tMin;
+				index = i;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Checks whether any of many boxes blocks the ray, stopping at the first
+	 * hit. Suited to line of sight checks using a segment.
+	 *
+	 * @return true if any box is hit
+	 */
+	public boolean anyBox(float[] minX, float[] minY, float[] minZ,
+			float[] maxX, float[] maxY, float[] maxZ, int offset, int count) {
+		final float ox = origin.x, oy = origin.y, oz = origin.z;
+		final float ix = invX, iy = invY, iz = invZ;
+
+		for (int i = offset, end = offset + count; i < end; i++) {
+			float tMin = slab(minX[i], maxX[i], ox, ix, 0);
+			float tMax = slabFar(minX[i], maxX[i], ox, ix, length);
+			tMin = slab(minY[i], maxY[i], oy, iy, tMin);
+			tMax = slabFar(minY[i], maxY[i], oy, iy, tMax);
+			tMin = slab(minZ[i], maxZ[i], oz, iz, tMin);
+			tMax = slabFar(minZ[i], maxZ[i], oz, iz, tMax);
+			if (tMin <= tMax)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Narrows the near distance by a single slab, ignoring NaN as
+	 * {@link #intersectBox(float, float, float, float, float, float)} does
+	 */
+	private static float slab(float min, float max, float o, float inv,
+			float tMin) {
+		float t1 = (min - o) * inv, t2 = (max - o) * inv;
+		float near = t1 > t2 ? t2 : t1;
+		return near > tMin ? near : tMin;
+	}
+
+	/**
+	 * Narrows the far distance by a single slab, ignoring NaN as
+	 * {@link #intersectBox(float, float, float, float, float, float)} does
+	 */
+	private static float slabFar(float min, float max, float o, float inv,
+			float tMax) {
+		float t1 = (min - o) * inv, t2 = (max - o) * inv;
+		float far = t1 > t2 ? t1 : t2;
+		return far < tMax ? far : tMax;
+	}
+
+	@Override
+	public String toString() {
+		return "Ray [origin:" + origin + ", direction:" + direction
+				+ ", length:" + length + "]";
+	}
+}
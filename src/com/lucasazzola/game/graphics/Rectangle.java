@@ -58,6 +58,20 @@ public class Rectangle {
 		this.y = y;
 	}
 
+	/**
+	 * @return the x coordinate
+	 */
+	public float getX() {
+		return x;
+	}
+
+	/**
+	 * @return the y coordinate
+	 */
+	public float getY() {
+		return y;
+	}
+
 	/**
 	 * @param height the height of the rectangle, absolute value is taken.
 	 */
@@ -81,14 +81,14 @@ public class RotationMatrix3 extends Matrix3 {
 				row2 = new Vector3(0, cosT, -sinT);
 				row3 = new Vector3(0, sinT, cosT);
 
-				super.fromVectorsRows(row1, row2, row3);
+				m = super.fromVectorsRows(row1, row2, row3);
 				break;
 			case Y:
 				row1 = new Vector3(cosT, 0, sinT);
 				row2 = new Vector3(0, 1, 0);
 				row3 = new Vector3(-sinT, 0, cosT);
 
-				super.fromVectorsRows(row1, row2, row3);
+				m = super.fromVectorsRows(row1, row2, row3);
 				break;
 			case Z:
 				row1 = new Vector3(cosT, -sinT, 0);
@@ -0,0 +1,356 @@
+package com.lucasazzola.game.graphics;
+
+import java.util.Arrays;
+
+/**
+ * Per-thread stack of reusable Vector, Matrix and Quaternion temporaries.
+ * Code pushes a frame, borrows as many temporaries as it needs, and pops the
+ * frame to return every temporary borrowed since the push:
+ *
+ * <pre>
+ * TempPool temps = TempPool.get();
+ * int frame = temps.push();
+ * try {
+ * 	Vector3 v = Matrix3.multiply(rotation, offset, temps.vector3());
+ * 	...
+ * } finally {
+ * 	temps.pop(frame);
+ * }
+ * </pre>
+ *
+ * Borrowed objects start with the same values as their no argument
+ * constructors. A temporary must not be used after its frame is popped; in
+ * debug mode, enabled with -Dgame.temps.debug=true or
+ * {@link #setDebug(boolean)}, popped objects are filled with NaN and checked
+ * when next borrowed, so a write through an escaped reference is reported
+ * with the place it was borrowed, and pops out of order are reported too.
+ *
+ * @since 19/10/2026
+ */
+public final class TempPool {
+
+	/**
+	 * Temporary types
+	 */
+	private static final int VECTOR2 = 0, VECTOR3 = 1, VECTOR4 = 2,
+			MATRIX3 = 3, MATRIX4 = 4, QUATERNION = 5, TYPES = 6;
+
+	/**
+	 * Whether new pools check for leaks and escapes
+	 */
+	private static volatile boolean debug = Boolean
+			.getBoolean("game.temps.debug");
+
+	/**
+	 * One pool per thread
+	 */
+	private static final ThreadLocal<TempPool> POOLS =
+			new ThreadLocal<TempPool>() {
+				@Override
+				protected TempPool initialValue() {
+					return new TempPool(debug);
+				}
+			};
+
+	/**
+	 * Allocated objects and the number in use, per type
+	 */
+	private final Object[][] objects = new Object[TYPES][];
+	private final int[] used = new int[TYPES];
+
+	/**
+	 * The used counts saved by each push, TYPES per frame
+	 */
+	private int[] frames = new int[TYPES * 8];
+	private int depth;
+
+	/**
+	 * Where each object in use was borrowed, in debug mode only
+	 */
+	private final boolean checked;
+	private final Throwable[][] sites;
+
+	/**
+	 * Constructs a pool
+	 */
+	private TempPool(boolean checked) {
+		this.checked = checked;
+		sites = checked ? new Throwable[TYPES][] : null;
+		for (int t = 0; t < TYPES; t++) {
+			objects[t] = new Object[16];
+			if (checked)
+				sites[t] = new Throwable[16];
+		}
+	}
+
+	/**
+	 * @return the calling thread's pool
+	 */
+	public static TempPool get() {
+		return POOLS.get();
+	}
+
+	/**
+	 * Turns leak and escape checks on or off for pools created afterwards,
+	 * which are those of threads that have not yet called {@link #get()}
+	 *
+	 * @param debug true to check
+	 */
+	public static void setDebug(boolean debug) {
+		TempPool.debug = debug;
+	}
+
+	/**
+	 * Starts a frame
+	 *
+	 * @return the frame, to be passed to {@link #pop(int)}
+	 */
+	public int push() {
+		if ((depth + 1) * TYPES > frames.length)
+			frames = Arrays.copyOf(frames, frames.length * 2);
+		System.arraycopy(used, 0, frames, depth * TYPES, TYPES);
+		return ++depth;
+	}
+
+	/**
+	 * Ends a frame, returning every temporary borrowed since its push
+	 *
+	 * @param frame the value returned by the matching push
+	 * @throws IllegalStateException if the frame is not the innermost, which
+	 *             means an inner frame was never popped
+	 */
+	public void pop(int frame) {
+		if (frame != depth)
+			throw new IllegalStateException("Popped frame " + frame
+					+ " but the innermost frame is " + depth);
+		depth--;
+		for (int t = 0; t < TYPES; t++) {
+			int start = frames[depth * TYPES + t];
+			if (checked) {
+				for (int i = start; i < used[t]; i++) {
+					poison(t, objects[t][i]);
+				}
+			}
+			used[t] = start;
+		}
+	}
+
+	/**
+	 * @return the number of frames pushed and not yet popped
+	 */
+	public int depth() {
+		return depth;
+	}
+
+	/**
+	 * Checks that every frame has been popped, for example at the end of a
+	 * game update
+	 *
+	 * @throws IllegalStateException if a frame is still open
+	 */
+	public void checkBalanced() {
+		if (depth != 0)
+			throw new IllegalStateException(depth + " frame(s) never popped");
+	}
+
+	/**
+	 * @return a zero vector, valid until the current frame is popped
+	 */
+	public Vector2 vector2() {
+		Vector2 v = (Vector2) borrow(VECTOR2);
+		v.x = 0;
+		v.y = 0;
+		return v;
+	}
+
+	/**
+	 * @return a zero vector, valid until the current frame is popped
+	 */
+	public Vector3 vector3() {
+		Vector3 v = (Vector3) borrow(VECTOR3);
+		v.x = 0;
+		v.y = 0;
+		v.z = 0;
+		return v;
+	}
+
+	/**
+	 * @return a zero vector, valid until the current frame is popped
+	 */
+	public Vector4 vector4() {
+		Vector4 v = (Vector4) borrow(VECTOR4);
+		v.x = 0;
+		v.y = 0;
+		v.z = 0;
+		v.w = 0;
+		return v;
+	}
+
+	/**
+	 * @return a zero matrix, valid until the current frame is popped
+	 */
+	public Matrix3 matrix3() {
+		Matrix3 m = (Matrix3) borrow(MATRIX3);
+		fill(m.m, 0);
+		return m;
+	}
+
+	/**
+	 * @return a zero matrix, valid until the current frame is popped
+	 */
+	public Matrix4 matrix4() {
+		Matrix4 m = (Matrix4) borrow(MATRIX4);
+		fill(m.m, 0);
+		return m;
+	}
+
+	/**
+	 * @return an identity quaternion, valid until the current frame is popped
+	 */
+	public Quaternion quaternion() {
+		Quaternion q = (Quaternion) borrow(QUATERNION);
+		q.x = 0;
+		q.y = 0;
+		q.z = 0;
+		q.w = 1;
+		return q;
+	}
+
+	/**
+	 * Takes the next free object of a type, allocating it if the pool has
+	 * never needed that many
+	 */
+	private Object borrow(int type) {
+		if (depth == 0)
+			throw new IllegalStateException("Borrowed with no frame pushed");
+		Object[] pool = objects[type];
+		int i = used[type]++;
+		if (i == pool.length) {
+			pool = objects[type] = Arrays.copyOf(pool, i * 2);
+			if (checked)
+				sites[type] = Arrays.copyOf(sites[type], i * 2);
+		}
+		Object o = pool[i];
+		if (o == null) {
+			o = pool[i] = create(type);
+		} else if (checked && !poisoned(type, o)) {
+			throw new IllegalStateException(o.getClass().getSimpleName()
+					+ " was written to after its frame was popped; it was"
+					+ " borrowed here", sites[type][i]);
+		}
+		if (checked)
+			sites[type][i] = new Throwable("Borrowed");
+		return o;
+	}
+
+	/**
+	 * Allocates an object of a type
+	 */
+	private static Object create(int type) {
+		switch (type) {
+		case VECTOR2:
+			return new Vector2();
+		case VECTOR3:
+			return new Vector3();
+		case VECTOR4:
+			return new Vector4();
+		case MATRIX3:
+			return new Matrix3();
+		case MATRIX4:
+			return new Matrix4();
+		default:
+			return new Quaternion();
+		}
+	}
+
+	/**
+	 * Fills a returned object with NaN
+	 */
+	private static void poison(int type, Object o) {
+		switch (type) {
+		case VECTOR2:
+			((Vector2) o).x = ((Vector2) o).y = Float.NaN;
+			break;
+		case VECTOR3: {
+			Vector3 v = (Vector3) o;
+			v.x = v.y = v.z = Float.NaN;
+			break;
+		}
+		case VECTOR4: {
+			Vector4 v = (Vector4) o;
+			v.x = v.y = v.z = v.w = Float.NaN;
+			break;
+		}
+		case MATRIX3:
+			fill(((Matrix3) o).m, Float.NaN);
+			break;
+		case MATRIX4:
+			fill(((Matrix4) o).m, Float.NaN);
+			break;
+		default: {
+			Quaternion q = (Quaternion) o;
+			q.x = q.y = q.z = q.w = Float.NaN;
+		}
+		}
+	}
+
+	/**
+	 * Checks that a returned object still holds only NaN
+	 */
+	private static boolean poisoned(int type, Object o) {
+		switch (type) {
+		case VECTOR2:
+			return nan(((Vector2) o).x) && nan(((Vector2) o).y);
+		case VECTOR3: {
+			Vector3 v = (Vector3) o;
+			return nan(v.x) && nan(v.y) && nan(v.z);
+		}
+		case VECTOR4: {
+			Vector4 v = (Vector4) o;
+			return nan(v.x) && nan(v.y) && nan(v.z) && nan(v.w);
+		}
+		case MATRIX3:
+			return allNaN(((Matrix3) o).m);
+		case MATRIX4:
+			return allNaN(((Matrix4) o).m);
+		default: {
+			Quaternion q = (Quaternion) o;
+			return nan(q.x) && nan(q.y) && nan(q.z) && nan(q.w);
+		}
+		}
+	}
+
+	/**
+	 * @return true if f is NaN
+	 */
+	private static boolean nan(float f) {
+		return f != f;
+	}
+
+	/**
+	 * @return true if every cell of a matrix is NaN
+	 */
+	private static boolean allNaN(float[][] m) {
+		for (float[] row : m) {
+			for (float f : row) {
+				if (!nan(f))
+					return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sets every cell of a matrix to a value
+	 */
+	private static void fill(float[][] m, float value) {
+		for (float[] row : m) {
+			Arrays.fill(row, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "TempPool [depth:" + depth + ", debug:" + checked + "]";
+	}
+}
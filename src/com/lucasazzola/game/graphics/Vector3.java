@@ -180,7 +180,8 @@ public class Vector3 {
 	 * @return the distance to the vector
 	 */
 	public float distanceTo(Vector3 vectorTo) {
-		return (float) this.minus(vectorTo).magnitude();
+		float dx = x - vectorTo.x, dy = y - vectorTo.y, dz = z - vectorTo.z;
+		return (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
 	}
 
 	/**
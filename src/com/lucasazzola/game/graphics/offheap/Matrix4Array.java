@@ -0,0 +1,209 @@
+package com.lucasazzola.game.graphics.offheap;
+
+import java.nio.ByteBuffer;
+
+import com.lucasazzola.game.graphics.Matrix4;
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Off heap array of 4x4 matrices, each laid out as in
+ * {@link Matrix4#get(float[], int)}, with the operations of {@link Matrix4}
+ * applied to elements
+ *
+ * @since 19/10/2026
+ */
+public class Matrix4Array extends OffHeapArray {
+
+	/**
+	 * Allocates an array of identity matrices
+	 *
+	 * @param length the number of matrices
+	 */
+	public Matrix4Array(int length) {
+		super(length, 16);
+		for (int i = 0; i < length; i++) {
+			setIdentity(i);
+		}
+	}
+
+	/**
+	 * Wraps a buffer of matrices, stored 16 floats each, without copying
+	 *
+	 * @param buffer native order matrices, from position to limit
+	 */
+	public Matrix4Array(ByteBuffer buffer) {
+		super(buffer, 16);
+	}
+
+	/**
+	 * Gets a matrix
+	 *
+	 * @param i the element
+	 * @param out the matrix will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Matrix4 get(int i, Matrix4 out) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		for (int r = 0; r < 4; r++) {
+			for (int c = 0; c < 4; c++) {
+				out.m[r][c] = b.getFloat(o + (r * 4 + c) * 4);
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Copies a matrix into a flat array, laid out as in
+	 * {@link Matrix4#get(float[], int)}
+	 *
+	 * @param i the element
+	 * @param out the array to copy into
+	 * @param offset the index to write the matrix at
+	 * @return out, for chainability
+	 */
+	public float[] get(int i, float[] out, int offset) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		for (int k = 0; k < 16; k++) {
+			out[offset + k] = b.getFloat(o + k * 4);
+		}
+		return out;
+	}
+
+	/**
+	 * Sets a matrix
+	 *
+	 * @param i the element
+	 * @param matrix the value
+	 */
+	public void set(int i, Matrix4 matrix) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		for (int r = 0; r < 4; r++) {
+			for (int c = 0; c < 4; c++) {
+				b.putFloat(o + (r * 4 + c) * 4, matrix.m[r][c]);
+			}
+		}
+	}
+
+	/**
+	 * Sets a matrix from a flat array, laid out as in
+	 * {@link Matrix4#get(float[], int)}
+	 *
+	 * @param i the element
+	 * @param in the array to copy from
+	 * @param offset the index of the matrix
+	 */
+	public void set(int i, float[] in, int offset) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		for (int k = 0; k < 16; k++) {
+			b.putFloat(o + k * 4, in[offset + k]);
+		}
+	}
+
+	/**
+	 * Sets a matrix to identity
+	 *
+	 * @param i the element
+	 */
+	public void setIdentity(int i) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		for (int k = 0; k < 16; k++) {
+			b.putFloat(o + k * 4, k % 5 == 0 ? 1 : 0);
+		}
+	}
+
+	/**
+	 * Sets a matrix to translation * rotation * scale, as
+	 * {@link Matrix4#setTransform}
+	 *
+	 * @param i the element
+	 * @param position the translation
+	 * @param rotation the rotation, a unit quaternion
+	 * @param scale the scale
+	 */
+	public void setTransform(int i, Vector3 position, Quaternion rotation,
+			Vector3 scale) {
+		float x = rotation.x, y = rotation.y, z = rotation.z, w = rotation.w;
+		float xx = x * x, yy = y * y, zz = z * z;
+		float sx = scale.x, sy = scale.y, sz = scale.z;
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		b.putFloat(o, (1 - 2.0f * (yy + zz)) * sx);
+		b.putFloat(o + 4, 2.0f * (x * y - w * z) * sy);
+		b.putFloat(o + 8, 2.0f * (x * z + w * y) * sz);
+		b.putFloat(o + 12, position.x);
+		b.putFloat(o + 16, 2.0f * (x * y + w * z) * sx);
+		b.putFloat(o + 20, (1 - 2.0f * (xx + zz)) * sy);
+		b.putFloat(o + 24, 2.0f * (y * z - w * x) * sz);
+		b.putFloat(o + 28, position.y);
+		b.putFloat(o + 32, 2.0f * (x * z - w * y) * sx);
+		b.putFloat(o + 36, 2.0f * (y * z + w * x) * sy);
+		b.putFloat(o + 40, (1.0f - 2.0f * (xx + yy)) * sz);
+		b.putFloat(o + 44, position.z);
+		b.putFloat(o + 48, 0);
+		b.putFloat(o + 52, 0);
+		b.putFloat(o + 56, 0);
+		b.putFloat(o + 60, 1);
+	}
+
+	/**
+	 * Computes a * b, which may be in other arrays, into an element of this
+	 * array. The output may be either input.
+	 *
+	 * @param a the array holding the first matrix
+	 * @param ai the first matrix
+	 * @param b the array holding the second matrix
+	 * @param bi the second matrix
+	 * @param out the element to write the product into
+	 */
+	public void multiply(Matrix4Array a, int ai, Matrix4Array b, int bi,
+			int out) {
+		ByteBuffer bb = b.buffer(bi);
+		int bo = b.offset(bi);
+		float b00 = bb.getFloat(bo), b01 = bb.getFloat(bo + 4);
+		float b02 = bb.getFloat(bo + 8), b03 = bb.getFloat(bo + 12);
+		float b10 = bb.getFloat(bo + 16), b11 = bb.getFloat(bo + 20);
+		float b12 = bb.getFloat(bo + 24), b13 = bb.getFloat(bo + 28);
+		float b20 = bb.getFloat(bo + 32), b21 = bb.getFloat(bo + 36);
+		float b22 = bb.getFloat(bo + 40), b23 = bb.getFloat(bo + 44);
+		float b30 = bb.getFloat(bo + 48), b31 = bb.getFloat(bo + 52);
+		float b32 = bb.getFloat(bo + 56), b33 = bb.getFloat(bo + 60);
+
+		ByteBuffer ab = a.buffer(ai), ob = buffer(out);
+		int ao = a.offset(ai), oo = offset(out);
+		for (int r = 0; r < 4; r++, ao += 16, oo += 16) {
+			float a0 = ab.getFloat(ao), a1 = ab.getFloat(ao + 4);
+			float a2 = ab.getFloat(ao + 8), a3 = ab.getFloat(ao + 12);
+			ob.putFloat(oo, a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30);
+			ob.putFloat(oo + 4, a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31);
+			ob.putFloat(oo + 8, a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32);
+			ob.putFloat(oo + 12, a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33);
+		}
+	}
+
+	/**
+	 * Transforms a point by an affine matrix element
+	 *
+	 * @param i the element
+	 * @param point the point
+	 * @param out the vector will be assigned to this, may be point
+	 * @return out, for chainability
+	 */
+	public Vector3 transformPoint(int i, Vector3 point, Vector3 out) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		float x = point.x, y = point.y, z = point.z;
+		out.x = b.getFloat(o) * x + b.getFloat(o + 4) * y + b.getFloat(o + 8)
+				* z + b.getFloat(o + 12);
+		out.y = b.getFloat(o + 16) * x + b.getFloat(o + 20) * y
+				+ b.getFloat(o + 24) * z + b.getFloat(o + 28);
+		out.z = b.getFloat(o + 32) * x + b.getFloat(o + 36) * y
+				+ b.getFloat(o + 40) * z + b.getFloat(o + 44);
+		return out;
+	}
+}
@@ -0,0 +1,189 @@
+package com.lucasazzola.game.graphics.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Fixed length array of float structs held outside the Java heap, in native
+ * order direct buffers. The garbage collector sees one buffer object per
+ * page rather than one object per element, and pages can be handed to
+ * native or IO code without copying.
+ *
+ * A single buffer is limited to 2GB, so elements are split across pages of
+ * at most {@link #PAGE_BYTES} bytes, each holding a power of two number of
+ * whole elements. The memory is released when the array is garbage
+ * collected. An array can also wrap an existing buffer, such as a memory
+ * mapped file, as a single page.
+ *
+ * @since 19/10/2026
+ */
+public abstract class OffHeapArray {
+
+	/**
+	 * Largest page, in bytes
+	 */
+	public static final int PAGE_BYTES = 1 << 30;
+
+	/**
+	 * Element storage
+	 */
+	private final ByteBuffer[] pages;
+	private final int length, stride, shift, mask;
+
+	/**
+	 * Allocates an array of zeroed elements
+	 *
+	 * @param length the number of elements
+	 * @param floats the number of floats per element
+	 */
+	protected OffHeapArray(int length, int floats) {
+		this.length = length;
+		this.stride = floats * 4;
+		int shift = 0;
+		while ((2L << shift) * stride <= PAGE_BYTES && (1 << shift) < length)
+			shift++;
+		this.shift = shift;
+		this.mask = (1 << shift) - 1;
+		int count = (int) (((long) length + mask) >>> shift);
+		pages = new ByteBuffer[count];
+		for (int p = 0; p < count; p++) {
+			int elements = Math.min(1 << shift, length - (p << shift));
+			pages[p] = ByteBuffer.allocateDirect(elements * stride).order(
+					ByteOrder.nativeOrder());
+		}
+	}
+
+	/**
+	 * Wraps a buffer as a single page, sharing its memory. A read only
+	 * buffer gives a read only array.
+	 *
+	 * @param buffer native order elements, from position to limit
+	 * @param floats the number of floats per element
+	 * @throws IllegalArgumentException if the buffer is not native order or
+	 *             does not hold a whole number of elements
+	 */
+	protected OffHeapArray(ByteBuffer buffer, int floats) {
+		this.stride = floats * 4;
+		if (buffer.order() != ByteOrder.nativeOrder())
+			throw new IllegalArgumentException("Buffer is not native order");
+		if (buffer.remaining() % stride != 0)
+			throw new IllegalArgumentException(buffer.remaining()
+					+ " bytes is not a whole number of elements");
+		this.length = buffer.remaining() / stride;
+		int shift = 0;
+		while ((1 << shift) < length)
+			shift++;
+		this.shift = shift;
+		this.mask = (1 << shift) - 1;
+		pages = new ByteBuffer[] { buffer.slice().order(buffer.order()) };
+	}
+
+	/**
+	 * @return the number of elements
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * @return the number of bytes per element
+	 */
+	public int stride() {
+		return stride;
+	}
+
+	/**
+	 * @return the number of elements per page, a power of two
+	 */
+	public int pageLength() {
+		return 1 << shift;
+	}
+
+	/**
+	 * @return the number of pages
+	 */
+	public int pageCount() {
+		return pages.length;
+	}
+
+	/**
+	 * Gets a page, for handing to native or IO code. Element i is in page
+	 * i / pageLength(), at byte (i % pageLength()) * stride().
+	 *
+	 * @param p the page
+	 * @return the page's buffer, shared with this array
+	 */
+	public ByteBuffer page(int p) {
+		return pages[p].duplicate().order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Gets a view of a run of elements, which must lie within one page
+	 *
+	 * @param from the first element
+	 * @param count the number of elements
+	 * @return a buffer sharing the elements' memory
+	 */
+	public ByteBuffer slice(int from, int count) {
+		int last = from + count - 1;
+		if (count < 0 || from < 0 || from + count > length
+				|| (count > 0 && from >>> shift != last >>> shift))
+			throw new IndexOutOfBoundsException("Elements " + from + " to "
+					+ (from + count) + " are not within one page");
+		ByteBuffer buffer = pages[from >>> shift].duplicate();
+		int offset = (from & mask) * stride;
+		buffer.limit(offset + count * stride).position(offset);
+		return buffer.slice().order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Copies elements from another array of the same type
+	 *
+	 * @param source the array to copy from
+	 * @param from the first element of source
+	 * @param to the first element of this
+	 * @param count the number of elements
+	 */
+	public void copy(OffHeapArray source, int from, int to, int count) {
+		if (source.stride != stride)
+			throw new IllegalArgumentException("Element sizes differ");
+		int floats = stride / 4;
+		for (int n = 0; n < count; n++) {
+			ByteBuffer in = source.buffer(from + n);
+			ByteBuffer out = buffer(to + n);
+			int a = source.offset(from + n), b = offset(to + n);
+			for (int k = 0; k < floats; k++) {
+				out.putFloat(b + k * 4, in.getFloat(a + k * 4));
+			}
+		}
+	}
+
+	/**
+	 * Gets the page holding an element
+	 *
+	 * @param i the element
+	 * @return the page
+	 */
+	protected final ByteBuffer buffer(int i) {
+		return pages[i >>> shift];
+	}
+
+	/**
+	 * Gets the byte offset of an element within its page
+	 *
+	 * @param i the element
+	 * @return the offset
+	 */
+	protected final int offset(int i) {
+		if (i < 0 || i >= length)
+			throw new IndexOutOfBoundsException("Element " + i + " of "
+					+ length);
+		return (i & mask) * stride;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [length:" + length + ", pages:"
+				+ pages.length + "]";
+	}
+}
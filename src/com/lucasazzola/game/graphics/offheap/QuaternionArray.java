@@ -0,0 +1,155 @@
+package com.lucasazzola.game.graphics.offheap;
+
+import java.nio.ByteBuffer;
+
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Off heap array of quaternions, stored x, y, z, w, with the operations of
+ * {@link Quaternion} applied in place to elements
+ *
+ * @since 19/10/2026
+ */
+public class QuaternionArray extends OffHeapArray {
+
+	/**
+	 * Allocates an array of identity quaternions
+	 *
+	 * @param length the number of quaternions
+	 */
+	public QuaternionArray(int length) {
+		super(length, 4);
+		for (int i = 0; i < length; i++) {
+			set(i, 0, 0, 0, 1);
+		}
+	}
+
+	/**
+	 * Wraps a buffer of quaternions, stored x, y, z, w each, without copying
+	 *
+	 * @param buffer native order quaternions, from position to limit
+	 */
+	public QuaternionArray(ByteBuffer buffer) {
+		super(buffer, 4);
+	}
+
+	/**
+	 * Gets a quaternion
+	 *
+	 * @param i the element
+	 * @param out the quaternion will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Quaternion get(int i, Quaternion out) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		out.x = b.getFloat(o);
+		out.y = b.getFloat(o + 4);
+		out.z = b.getFloat(o + 8);
+		out.w = b.getFloat(o + 12);
+		return out;
+	}
+
+	/**
+	 * Sets a quaternion
+	 *
+	 * @param i the element
+	 */
+	public void set(int i, float x, float y, float z, float w) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		b.putFloat(o, x);
+		b.putFloat(o + 4, y);
+		b.putFloat(o + 8, z);
+		b.putFloat(o + 12, w);
+	}
+
+	/**
+	 * Sets a quaternion
+	 *
+	 * @param i the element
+	 * @param q the value
+	 */
+	public void set(int i, Quaternion q) {
+		set(i, q.x, q.y, q.z, q.w);
+	}
+
+	/**
+	 * Computes element a * q and stores it in element out, which may be a
+	 *
+	 * @param a the left element
+	 * @param q the right quaternion
+	 * @param out the element to write the product into
+	 */
+	public void multiply(int a, Quaternion q, int out) {
+		ByteBuffer b = buffer(a);
+		int o = offset(a);
+		float x = b.getFloat(o), y = b.getFloat(o + 4);
+		float z = b.getFloat(o + 8), w = b.getFloat(o + 12);
+		set(out, w * q.x + x * q.w + y * q.z - z * q.y, w * q.y + y * q.w + z
+				* q.x - x * q.z, w * q.z + z * q.w + x * q.y - y * q.x, w * q.w
+				- x * q.x - y * q.y - z * q.z);
+	}
+
+	/**
+	 * Scales an element to unit length
+	 *
+	 * @param i the element
+	 */
+	public void normalize(int i) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		float x = b.getFloat(o), y = b.getFloat(o + 4);
+		float z = b.getFloat(o + 8), w = b.getFloat(o + 12);
+		float length = (float) Math.sqrt(x * x + y * y + z * z + w * w);
+		if (length > 0)
+			set(i, x / length, y / length, z / length, w / length);
+	}
+
+	/**
+	 * Moves an element towards a rotation by normalised linear
+	 * interpolation, along the shortest arc
+	 *
+	 * @param i the element
+	 * @param to the rotation to move towards
+	 * @param t the fraction of the way to move
+	 */
+	public void nlerp(int i, Quaternion to, float t) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		float x = b.getFloat(o), y = b.getFloat(o + 4);
+		float z = b.getFloat(o + 8), w = b.getFloat(o + 12);
+		float dot = x * to.x + y * to.y + z * to.z + w * to.w;
+		float s = 1 - t, u = dot < 0 ? -t : t;
+		set(i, x * s + to.x * u, y * s + to.y * u, z * s + to.z * u, w * s
+				+ to.w * u);
+		normalize(i);
+	}
+
+	/**
+	 * Rotates a vector by a unit quaternion element
+	 *
+	 * @param i the element
+	 * @param v the vector
+	 * @param out the vector will be assigned to this, may be v
+	 * @return out, for chainability
+	 */
+	public Vector3 rotate(int i, Vector3 v, Vector3 out) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		float x = b.getFloat(o), y = b.getFloat(o + 4);
+		float z = b.getFloat(o + 8), w = b.getFloat(o + 12);
+		// v + 2w(q x v) + 2q x (q x v)
+		float tx = 2 * (y * v.z - z * v.y);
+		float ty = 2 * (z * v.x - x * v.z);
+		float tz = 2 * (x * v.y - y * v.x);
+		float rx = v.x + w * tx + (y * tz - z * ty);
+		float ry = v.y + w * ty + (z * tx - x * tz);
+		float rz = v.z + w * tz + (x * ty - y * tx);
+		out.x = rx;
+		out.y = ry;
+		out.z = rz;
+		return out;
+	}
+}
@@ -0,0 +1,225 @@
+package com.lucasazzola.game.graphics.offheap;
+
+import java.nio.ByteBuffer;
+
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Off heap array of three dimensional vectors, with the operations of
+ * {@link Vector3} applied in place to elements
+ *
+ * @since 19/10/2026
+ */
+public class Vector3Array extends OffHeapArray {
+
+	/**
+	 * Allocates an array of zero vectors
+	 *
+	 * @param length the number of vectors
+	 */
+	public Vector3Array(int length) {
+		super(length, 3);
+	}
+
+	/**
+	 * Wraps a buffer of vectors, stored x, y, z each, without copying
+	 *
+	 * @param buffer native order vectors, from position to limit
+	 */
+	public Vector3Array(ByteBuffer buffer) {
+		super(buffer, 3);
+	}
+
+	/**
+	 * Gets a vector
+	 *
+	 * @param i the element
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Vector3 get(int i, Vector3 out) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		out.x = b.getFloat(o);
+		out.y = b.getFloat(o + 4);
+		out.z = b.getFloat(o + 8);
+		return out;
+	}
+
+	/**
+	 * @param i the element
+	 * @return the x-component
+	 */
+	public float getX(int i) {
+		return buffer(i).getFloat(offset(i));
+	}
+
+	/**
+	 * @param i the element
+	 * @return the y-component
+	 */
+	public float getY(int i) {
+		return buffer(i).getFloat(offset(i) + 4);
+	}
+
+	/**
+	 * @param i the element
+	 * @return the z-component
+	 */
+	public float getZ(int i) {
+		return buffer(i).getFloat(offset(i) + 8);
+	}
+
+	/**
+	 * Sets a vector
+	 *
+	 * @param i the element
+	 * @param x the x-component
+	 * @param y the y-component
+	 * @param z the z-component
+	 */
+	public void set(int i, float x, float y, float z) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		b.putFloat(o, x);
+		b.putFloat(o + 4, y);
+		b.putFloat(o + 8, z);
+	}
+
+	/**
+	 * Sets a vector
+	 *
+	 * @param i the element
+	 * @param vector the value
+	 */
+	public void set(int i, Vector3 vector) {
+		set(i, vector.x, vector.y, vector.z);
+	}
+
+	/**
+	 * Adds a vector to an element
+	 *
+	 * @param i the element
+	 * @param vector the vector to add
+	 */
+	public void increment(int i, Vector3 vector) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		b.putFloat(o, b.getFloat(o) + vector.x);
+		b.putFloat(o + 4, b.getFloat(o + 4) + vector.y);
+		b.putFloat(o + 8, b.getFloat(o + 8) + vector.z);
+	}
+
+	/**
+	 * Scales an element
+	 *
+	 * @param i the element
+	 * @param scalar the scale factor
+	 */
+	public void scale(int i, float scalar) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		b.putFloat(o, b.getFloat(o) * scalar);
+		b.putFloat(o + 4, b.getFloat(o + 4) * scalar);
+		b.putFloat(o + 8, b.getFloat(o + 8) * scalar);
+	}
+
+	/**
+	 * @param i the element
+	 * @param vector the other vector
+	 * @return the dot product of the element and the vector
+	 */
+	public float dot(int i, Vector3 vector) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		return b.getFloat(o) * vector.x + b.getFloat(o + 4) * vector.y
+				+ b.getFloat(o + 8) * vector.z;
+	}
+
+	/**
+	 * Computes element x vector
+	 *
+	 * @param i the element
+	 * @param vector the other vector
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Vector3 cross(int i, Vector3 vector, Vector3 out) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		float x = b.getFloat(o), y = b.getFloat(o + 4), z = b.getFloat(o + 8);
+		float vx = vector.x, vy = vector.y, vz = vector.z;
+		out.x = y * vz - z * vy;
+		out.y = z * vx - x * vz;
+		out.z = x * vy - y * vx;
+		return out;
+	}
+
+	/**
+	 * @param i the element
+	 * @return the length of the element
+	 */
+	public float magnitude(int i) {
+		ByteBuffer b = buffer(i);
+		int o = offset(i);
+		float x = b.getFloat(o), y = b.getFloat(o + 4), z = b.getFloat(o + 8);
+		return (float) Math.sqrt(x * x + y * y + z * z);
+	}
+
+	/**
+	 * Scales an element to unit length, leaving zero vectors alone
+	 *
+	 * @param i the element
+	 */
+	public void normalize(int i) {
+		float length = magnitude(i);
+		if (length > 0)
+			scale(i, 1 / length);
+	}
+
+	/**
+	 * Adds another array to this one, element by element
+	 *
+	 * @param other the array to add, the same length as this or longer
+	 * @param scalar the factor to scale other's elements by
+	 * @param from the first element
+	 * @param to one past the last element
+	 */
+	public void add(Vector3Array other, float scalar, int from, int to) {
+		for (int i = from; i < to; i++) {
+			ByteBuffer a = buffer(i), b = other.buffer(i);
+			int o = offset(i), p = other.offset(i);
+			a.putFloat(o, a.getFloat(o) + b.getFloat(p) * scalar);
+			a.putFloat(o + 4, a.getFloat(o + 4) + b.getFloat(p + 4) * scalar);
+			a.putFloat(o + 8, a.getFloat(o + 8) + b.getFloat(p + 8) * scalar);
+		}
+	}
+
+	/**
+	 * Transforms a range of points in place by an affine matrix
+	 *
+	 * @param matrices the array holding the matrix
+	 * @param m the matrix element
+	 * @param from the first point
+	 * @param to one past the last point
+	 */
+	public void transform(Matrix4Array matrices, int m, int from, int to) {
+		ByteBuffer mb = matrices.buffer(m);
+		int mo = matrices.offset(m);
+		float m00 = mb.getFloat(mo), m01 = mb.getFloat(mo + 4);
+		float m02 = mb.getFloat(mo + 8), m03 = mb.getFloat(mo + 12);
+		float m10 = mb.getFloat(mo + 16), m11 = mb.getFloat(mo + 20);
+		float m12 = mb.getFloat(mo + 24), m13 = mb.getFloat(mo + 28);
+		float m20 = mb.getFloat(mo + 32), m21 = mb.getFloat(mo + 36);
+		float m22 = mb.getFloat(mo + 40), m23 = mb.getFloat(mo + 44);
+		for (int i = from; i < to; i++) {
+			ByteBuffer b = buffer(i);
+			int o = offset(i);
+			float x = b.getFloat(o), y = b.getFloat(o + 4);
+			float z = b.getFloat(o + 8);
+			b.putFloat(o, m00 * x + m01 * y + m02 * z + m03);
+			b.putFloat(o + 4, m10 * x + m11 * y + m12 * z + m13);
+			b.putFloat(o + 8, m20 * x + m21 * y + m22 * z + m23);
+		}
+	}
+}
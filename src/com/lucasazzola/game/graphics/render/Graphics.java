@@ -1,8 +1,37 @@
 package com.lucasazzola.game.graphics.render;
 
+import com.lucasazzola.game.diagnostics.Counter;
+import com.lucasazzola.game.diagnostics.Metrics;
+
 /*
  * TODO
  */
 public abstract class Graphics {
 
+	/**
+	 * Render metrics, see {@link Metrics}
+	 */
+	private static final Counter DRAW_CALLS = Metrics.global().counter(
+			"render.drawCalls");
+	private static final Counter TRIANGLES = Metrics.global().counter(
+			"render.triangles");
+
+	/**
+	 * Draws a batch of sprites in a single call, counting the call and its
+	 * triangles, two per sprite
+	 *
+	 * @param batch the sprites
+	 */
+	public final void drawSprites(SpriteBatch batch) {
+		DRAW_CALLS.increment();
+		TRIANGLES.add(batch.size() * 2L);
+		submitSprites(batch);
+	}
+
+	/**
+	 * Submits a batch of sprites to the backend in a single call
+	 *
+	 * @param batch the sprites
+	 */
+	protected abstract void submitSprites(SpriteBatch batch);
 }
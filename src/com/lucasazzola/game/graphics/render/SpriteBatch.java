@@ -0,0 +1,132 @@
+package com.lucasazzola.game.graphics.render;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Camera facing square sprites, interleaved in a single native order direct
+ * buffer ready to upload as a vertex buffer. Each sprite is {@link #STRIDE}
+ * words: x, y, z and size as floats, then the colour as a packed 0xRRGGBBAA
+ * int. The floats are written and read through {@link #floats()} and the
+ * colour through {@link #ints()}, two views of the same memory, so colours
+ * whose bits are a NaN pattern are never passed through a float.
+ *
+ * @since 19/10/2026
+ */
+public class SpriteBatch {
+
+	/**
+	 * Words per sprite, and the word holding the colour
+	 */
+	public static final int STRIDE = 5, COLOUR = 4;
+
+	/**
+	 * Sprite data, its float and int views, and the sprite count
+	 */
+	private ByteBuffer buffer;
+	private FloatBuffer floats;
+	private IntBuffer ints;
+	private int count;
+
+	/**
+	 * Constructs an empty batch
+	 *
+	 * @param capacity the initial number of sprites to allocate for
+	 */
+	public SpriteBatch(int capacity) {
+		allocate(Math.max(capacity, 1) * STRIDE);
+	}
+
+	/**
+	 * @return the number of sprites
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * @return the sprite data, valid up to size() * STRIDE * 4 bytes
+	 */
+	public ByteBuffer buffer() {
+		return buffer;
+	}
+
+	/**
+	 * @return the sprite data as floats, for positions and sizes, valid up to
+	 *         size() * STRIDE
+	 */
+	public FloatBuffer floats() {
+		return floats;
+	}
+
+	/**
+	 * @return the sprite data as ints, for colours, valid up to size() *
+	 *         STRIDE
+	 */
+	public IntBuffer ints() {
+		return ints;
+	}
+
+	/**
+	 * Removes every sprite, keeping the array
+	 */
+	public void clear() {
+		count = 0;
+	}
+
+	/**
+	 * Adds a sprite
+	 *
+	 * @param x the x-coordinate of the centre
+	 * @param y the y-coordinate of the centre
+	 * @param z the z-coordinate of the centre
+	 * @param size the width and height
+	 * @param colour the colour, 0xRRGGBBAA
+	 */
+	public void add(float x, float y, float z, float size, int colour) {
+		int o = reserve(1);
+		floats.put(o, x);
+		floats.put(o + 1, y);
+		floats.put(o + 2, z);
+		floats.put(o + 3, size);
+		ints.put(o + COLOUR, colour);
+	}
+
+	/**
+	 * Reserves space for sprites to be written directly into
+	 * {@link #floats()} and {@link #ints()}, for bulk producers. The views
+	 * are replaced when the batch grows, so fetch them after reserving.
+	 *
+	 * @param sprites the number of sprites
+	 * @return the index in the views of the first reserved sprite
+	 */
+	public int reserve(int sprites) {
+		int needed = (count + sprites) * STRIDE;
+		if (needed > floats.capacity()) {
+			ByteBuffer old = buffer;
+			allocate(Math.max(needed, floats.capacity() * 2));
+			old.clear().limit(count * STRIDE * 4);
+			buffer.put(old).clear();
+		}
+		int offset = count * STRIDE;
+		count += sprites;
+		return offset;
+	}
+
+	/**
+	 * Allocates the buffer and its views
+	 */
+	private void allocate(int words) {
+		buffer = ByteBuffer.allocateDirect(words * 4).order(
+				ByteOrder.nativeOrder());
+		floats = buffer.asFloatBuffer();
+		ints = buffer.asIntBuffer();
+	}
+
+	@Override
+	public String toString() {
+		return "SpriteBatch [sprites:" + count + "]";
+	}
+}
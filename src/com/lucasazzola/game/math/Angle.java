@@ -58,11 +58,24 @@ public class Angle {
 	public float getRadians() {
 		if (radiansIsSet)
 			return inRadians;
-		inRadians = degreesToRadians(inRadians);
+		inRadians = degreesToRadians(inDegrees);
 		radiansIsSet = true;
 		return inRadians;
 	}
 
+	/**
+	 * Sets the angle, in radians
+	 * 
+	 * @param radians the angle in radians
+	 * @return this, for chainability
+	 */
+	public Angle setRadians(float radians) {
+		inRadians = radians;
+		degreesIsSet = false;
+		radiansIsSet = true;
+		return this;
+	}
+
 	/**
 	 * Converts an angle to radians
 	 * 
@@ -0,0 +1,289 @@
+package com.lucasazzola.game.math;
+
+/**
+ * Q16.16 fixed point arithmetic on plain ints: 16 integer bits (including
+ * sign) and 16 fractional bits. Every operation is integer only, so results
+ * are bit-identical on every JVM, platform and JIT tier, which float
+ * arithmetic through java.lang.Math does not guarantee. Intended for
+ * lockstep simulation and replays.
+ *
+ * Products and quotients are widened to long, then truncated towards
+ * negative infinity. Overflow wraps, as with int.
+ *
+ * @since 19/10/2026
+ */
+public final class Fixed {
+
+	/**
+	 * Common values
+	 */
+	public static final int ONE = 1 << 16;
+	public static final int HALF = ONE >> 1;
+	public static final int PI = 205887;
+	public static final int TWO_PI = 411775;
+	public static final int HALF_PI = 102944;
+	public static final int MAX_VALUE = Integer.MAX_VALUE;
+	public static final int MIN_VALUE = Integer.MIN_VALUE;
+
+	/**
+	 * 1 / (2 * pi), converting radians to turns
+	 */
+	private static final int INV_TWO_PI = 10430;
+
+	/**
+	 * Quarter wave sine table, SINE_SIZE + 1 entries from 0 to pi / 2
+	 */
+	private static final int SINE_BITS = 10;
+	private static final int SINE_SIZE = 1 << SINE_BITS;
+	private static final int[] SINE = new int[SINE_SIZE + 1];
+
+	/**
+	 * 1 / sqrt(i / 64) for i in [64, 256), the first guess of invSqrt
+	 */
+	private static final int[] INV_SQRT = new int[256];
+
+	/**
+	 * CORDIC arctangents, atan(2^-i)
+	 */
+	private static final int CORDIC_STEPS = 16;
+	private static final int[] ATAN = new int[CORDIC_STEPS];
+
+	static {
+		// StrictMath is specified to give the same result everywhere
+		for (int i = 0; i <= SINE_SIZE; i++) {
+			double angle = i * StrictMath.PI / 2 / SINE_SIZE;
+			SINE[i] = (int) StrictMath.floor(StrictMath.sin(angle) * ONE + 0.5);
+		}
+		for (int i = 64; i < 256; i++) {
+			double root = StrictMath.sqrt(i / 64.0);
+			INV_SQRT[i] = (int) StrictMath.floor(ONE / root + 0.5);
+		}
+		for (int i = 0; i < CORDIC_STEPS; i++) {
+			double angle = StrictMath.atan(1.0 / (1L << i));
+			ATAN[i] = (int) StrictMath.floor(angle * ONE + 0.5);
+		}
+	}
+
+	/**
+	 * Static only
+	 */
+	private Fixed() {
+	}
+
+	/**
+	 * Converts an int
+	 *
+	 * @param value the value
+	 * @return the fixed point value
+	 */
+	public static int fromInt(int value) {
+		return value << 16;
+	}
+
+	/**
+	 * Converts a float, rounding to the nearest representable value. Floats
+	 * should only enter a lockstep simulation as constants or input.
+	 *
+	 * @param value the value
+	 * @return the fixed point value
+	 */
+	public static int fromFloat(float value) {
+		return Math.round(value * ONE);
+	}
+
+	/**
+	 * Converts to a float, for drawing
+	 *
+	 * @param value the fixed point value
+	 * @return the value as a float
+	 */
+	public static float toFloat(int value) {
+		return value * (1f / ONE);
+	}
+
+	/**
+	 * Converts to an int, rounding towards negative infinity
+	 *
+	 * @param value the fixed point value
+	 * @return the integer part
+	 */
+	public static int toInt(int value) {
+		return value >> 16;
+	}
+
+	/**
+	 * Multiplies two fixed point values
+	 *
+	 * @return a * b
+	 */
+	public static int mul(int a, int b) {
+		return (int) (((long) a * b) >> 16);
+	}
+
+	/**
+	 * Divides two fixed point values
+	 *
+	 * @return a / b, or MAX_VALUE or MIN_VALUE by the sign of a if b is 0
+	 */
+	public static int div(int a, int b) {
+		if (b == 0)
+			return a < 0 ? MIN_VALUE : MAX_VALUE;
+		return (int) (((long) a << 16) / b);
+	}
+
+	/**
+	 * Gets the absolute value
+	 *
+	 * @return |a|
+	 */
+	public static int abs(int a) {
+		return a < 0 ? -a : a;
+	}
+
+	/**
+	 * Gets the square root, computed digit by digit
+	 *
+	 * @param a a non-negative fixed point value
+	 * @return the square root, or 0 if a is not positive
+	 */
+	public static int sqrt(int a) {
+		if (a <= 0)
+			return 0;
+		long value = (long) a << 16;
+		long result = 0;
+		long bit = 1L << 46;
+		while (bit > value) {
+			bit >>= 2;
+		}
+		while (bit != 0) {
+			if (value >= result + bit) {
+				value -= result + bit;
+				result = (result >> 1) + bit;
+			} else {
+				result >>= 1;
+			}
+			bit >>= 2;
+		}
+		return (int) result;
+	}
+
+	/**
+	 * Gets the inverse square root. The integer analog of
+	 * {@link GameMath#invSqrt(float)}: the exponent (the position of the
+	 * leading bit) is halved, the leading mantissa bits index a table for the
+	 * first guess, and one step of Newton's method refines it.
+	 *
+	 * @param a a positive fixed point value
+	 * @return the inverse square root, or MAX_VALUE if a is not positive
+	 */
+	public static int invSqrt(int a) {
+		if (a <= 0)
+			return MAX_VALUE;
+		// a = m * 2^(k - 16), m in [1, 4) and k even, so
+		// 1 / sqrt(a) = 1 / sqrt(m) * 2^((16 - k) / 2)
+		int k = (31 - Integer.numberOfLeadingZeros(a)) & ~1;
+		long m = ((long) a << 16) >> k;
+		long x = INV_SQRT[(int) (m >> 10)];
+
+		// Refine in mantissa space, x = x * (3 - m * x^2) / 2
+		long mxx = (m * ((x * x) >> 16)) >> 16;
+		x = (x * ((3L << 16) - mxx)) >> 17;
+
+		// Scale by 2^((16 - k) / 2), which is in [2^-7, 2^8]
+		x = (x << ((16 - k) >> 1) + 7) >> 7;
+		return x > MAX_VALUE ? MAX_VALUE : (int) x;
+	}
+
+	/**
+	 * Gets the sine of an angle, from an interpolated quarter wave table
+	 *
+	 * @param radians the angle, fixed point radians
+	 * @return the sine
+	 */
+	public static int sin(int radians) {
+		// Angle as a fraction of a turn, 16 bits per turn
+		int turn = (int) (((long) radians * INV_TWO_PI) >> 16) & 0xFFFF;
+		int quadrant = turn >> 14;
+		int phase = turn & 0x3FFF;
+		if ((quadrant & 1) != 0)
+			phase = 0x4000 - phase;
+		int index = phase >> (14 - SINE_BITS);
+		int fraction = phase & ((1 << (14 - SINE_BITS)) - 1);
+		int value = SINE[index];
+		if (fraction != 0)
+			value += ((SINE[index + 1] - value) * fraction) >> 14 - SINE_BITS;
+		return quadrant >= 2 ? -value : value;
+	}
+
+	/**
+	 * Gets the cosine of an angle
+	 *
+	 * @param radians the angle, fixed point radians
+	 * @return the cosine
+	 */
+	public static int cos(int radians) {
+		return sin(radians + HALF_PI);
+	}
+
+	/**
+	 * Gets the angle of the point (x, y) from positive x, by CORDIC
+	 *
+	 * @param y the y-coordinate
+	 * @param x the x-coordinate
+	 * @return the angle in (-pi, pi], fixed point radians
+	 */
+	public static int atan2(int y, int x) {
+		if (y == 0)
+			return x < 0 ? PI : 0;
+		long ly = y, lx = x;
+		int angle = 0;
+		// Rotate into the right half plane first
+		if (lx < 0) {
+			angle = ly >= 0 ? PI : -PI;
+			lx = -lx;
+			ly = -ly;
+		}
+		for (int i = 0; i < CORDIC_STEPS; i++) {
+			long nx;
+			if (ly > 0) {
+				nx = lx + (ly >> i);
+				ly -= lx >> i;
+				angle += ATAN[i];
+			} else {
+				nx = lx - (ly >> i);
+				ly += lx >> i;
+				angle -= ATAN[i];
+			}
+			lx = nx;
+		}
+		if (angle > PI)
+			angle -= TWO_PI;
+		else if (angle <= -PI)
+			angle += TWO_PI;
+		return angle;
+	}
+
+	/**
+	 * Gets the arccosine
+	 *
+	 * @param a the cosine, in [-1, 1]
+	 * @return the angle in [0, pi], fixed point radians
+	 */
+	public static int acos(int a) {
+		if (a >= ONE)
+			return 0;
+		if (a <= -ONE)
+			return PI;
+		return atan2(sqrt(ONE - mul(a, a)), a);
+	}
+
+	/**
+	 * Formats a fixed point value as a decimal
+	 *
+	 * @param value the fixed point value
+	 * @return the value with three decimal places
+	 */
+	public static String toString(int value) {
+		return String.format("%.3f", toFloat(value));
+	}
+}
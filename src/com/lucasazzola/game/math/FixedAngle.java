@@ -0,0 +1,111 @@
+package com.lucasazzola.game.math;
+
+/**
+ * Fixed point counterpart of {@link Angle}, stored in Q16.16 radians. Sine
+ * and cosine are deterministic, see {@link Fixed}.
+ *
+ * @since 19/10/2026
+ */
+public class FixedAngle {
+
+	/**
+	 * The angle, fixed point radians
+	 */
+	public int radians;
+
+	/**
+	 * Stores an angle of 0
+	 */
+	public FixedAngle() {
+	}
+
+	/**
+	 * Stores an angle, in radians
+	 *
+	 * @param radians the angle, fixed point radians
+	 */
+	public FixedAngle(int radians) {
+		this.radians = radians;
+	}
+
+	/**
+	 * Stores an angle, in degrees
+	 *
+	 * @param degrees the angle, fixed point degrees
+	 * @param ignored this parameter is ignored (used to modify the signature)
+	 */
+	public FixedAngle(int degrees, boolean ignored) {
+		this.radians = degreesToRadians(degrees);
+	}
+
+	/**
+	 * Gets the angle in degrees
+	 *
+	 * @return the angle, fixed point degrees
+	 */
+	public int getDegrees() {
+		return radiansToDegrees(radians);
+	}
+
+	/**
+	 * Gets the angle in radians
+	 *
+	 * @return the angle, fixed point radians
+	 */
+	public int getRadians() {
+		return radians;
+	}
+
+	/**
+	 * @return the sine of the angle
+	 */
+	public int sin() {
+		return Fixed.sin(radians);
+	}
+
+	/**
+	 * @return the cosine of the angle
+	 */
+	public int cos() {
+		return Fixed.cos(radians);
+	}
+
+	/**
+	 * Converts an angle to radians
+	 *
+	 * @param degrees the angle, fixed point degrees
+	 * @return the angle, fixed point radians
+	 */
+	public static int degreesToRadians(int degrees) {
+		return (int) ((long) degrees * Fixed.PI / (180L << 16));
+	}
+
+	/**
+	 * Converts an angle to degrees
+	 *
+	 * @param radians the angle, fixed point radians
+	 * @return the angle, fixed point degrees
+	 */
+	public static int radiansToDegrees(int radians) {
+		return (int) (((long) radians * (180L << 16)) / Fixed.PI);
+	}
+
+	@Override
+	public int hashCode() {
+		return radians;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		return radians == ((FixedAngle) obj).radians;
+	}
+
+	@Override
+	public String toString() {
+		return Fixed.toString(radians) + "ᶜ";
+	}
+}
@@ -0,0 +1,124 @@
+package com.lucasazzola.game.math;
+
+import com.lucasazzola.game.graphics.Axis;
+import com.lucasazzola.game.graphics.FixedMatrix3;
+import com.lucasazzola.game.graphics.FixedVector2;
+import com.lucasazzola.game.graphics.FixedVector3;
+
+/**
+ * Bit-exact conformance check for the fixed point types. Runs a fixed
+ * workload over every operation and hashes each result; the hash must equal
+ * {@link #EXPECTED} on every JVM and JIT tier, so a lockstep peer can run
+ * this at start up (or in a build step, with -Xint and -Xcomp) and refuse to
+ * play if it differs.
+ *
+ * @since 19/10/2026
+ */
+public final class FixedConformance {
+
+	/**
+	 * The hash of the workload, recorded from a reference run
+	 */
+	public static final long EXPECTED = 0x418fc8f12edf763cL;
+
+	/**
+	 * Static only
+	 */
+	private FixedConformance() {
+	}
+
+	/**
+	 * @return true if this JVM computes the workload bit-exactly
+	 */
+	public static boolean verify() {
+		return hash() == EXPECTED;
+	}
+
+	/**
+	 * Runs the workload
+	 *
+	 * @return the hash of every result
+	 */
+	public static long hash() {
+		long hash = 1125899906842597L;
+		int seed = 12345;
+
+		// Scalar operations over pseudo-random operands
+		for (int i = 0; i < 4096; i++) {
+			seed = seed * 1103515245 + 12345;
+			int a = seed >> 8;
+			seed = seed * 1103515245 + 12345;
+			int b = (seed >> 12) | 1;
+			hash = mix(hash, Fixed.mul(a, b));
+			hash = mix(hash, Fixed.div(a, b));
+			hash = mix(hash, Fixed.sqrt(Math.abs(a)));
+			hash = mix(hash, Fixed.invSqrt(Math.abs(b)));
+			hash = mix(hash, Fixed.sin(a));
+			hash = mix(hash, Fixed.cos(b));
+			hash = mix(hash, Fixed.atan2(a, b));
+			hash = mix(hash, Fixed.acos(a % Fixed.ONE));
+		}
+
+		// Vectors and matrices
+		FixedVector2 u = new FixedVector2(), v = new FixedVector2();
+		FixedVector3 p = new FixedVector3(), q = new FixedVector3();
+		FixedMatrix3 m = new FixedMatrix3(), n = new FixedMatrix3();
+		FixedAngle angle = new FixedAngle();
+		for (int i = 0; i < 1024; i++) {
+			seed = seed * 1103515245 + 12345;
+			int a = seed >> 12;
+			seed = seed * 1103515245 + 12345;
+			int b = seed >> 12;
+			seed = seed * 1103515245 + 12345;
+			int c = seed >> 12;
+
+			u.set(a, b);
+			FixedVector2.normalize(u, v);
+			hash = mix(hash, v.x);
+			hash = mix(hash, v.y);
+			hash = mix(hash, v.angle(angle).radians);
+			hash = mix(hash, u.distanceTo(v));
+
+			p.set(a, b, c);
+			q.set(c, a, b);
+			FixedVector3.cross(p, q, q);
+			FixedVector3.normalize(q, q);
+			hash = mix(hash, q.x);
+			hash = mix(hash, q.y);
+			hash = mix(hash, q.z);
+			hash = mix(hash, FixedVector3.dot(p, q));
+
+			angle.radians = a;
+			m.setRotation(angle, Axis.values()[i % 3]);
+			FixedMatrix3.multiply(m, n.setRotation(angle, Axis.X), n);
+			FixedMatrix3.multiply(n, p, p);
+			hash = mix(hash, p.x);
+			hash = mix(hash, p.y);
+			hash = mix(hash, p.z);
+			hash = mix(hash, n.determinant());
+		}
+		return hash;
+	}
+
+	/**
+	 * Folds a value into the hash
+	 */
+	private static long mix(long hash, int value) {
+		hash ^= value;
+		hash *= 0x100000001B3L;
+		return hash ^ (hash >>> 29);
+	}
+
+	/**
+	 * Prints the hash and whether it matches
+	 *
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		long hash = hash();
+		System.out.println(String.format("%016x %s", hash,
+				hash == EXPECTED ? "OK" : "MISMATCH"));
+		if (hash != EXPECTED)
+			System.exit(1);
+	}
+}
@@ -0,0 +1,64 @@
+package com.lucasazzola.game.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads values written by a {@link BitWriter}
+ *
+ * @since 19/10/2026
+ */
+public class BitReader {
+
+	/**
+	 * The buffer read from, and bits read from it but not yet returned
+	 */
+	private ByteBuffer buffer;
+	private long scratch;
+	private int available;
+
+	/**
+	 * Starts reading at a buffer's position
+	 *
+	 * @param buffer the buffer to read from
+	 * @return this, for chainability
+	 */
+	public BitReader reset(ByteBuffer buffer) {
+		this.buffer = buffer;
+		scratch = 0;
+		available = 0;
+		return this;
+	}
+
+	/**
+	 * Reads an unsigned value
+	 *
+	 * @param bits the number of bits, from 0 to 32
+	 * @return the value, in the low bits
+	 * @throws java.nio.BufferUnderflowException if the buffer runs out
+	 */
+	public int read(int bits) {
+		while (available < bits) {
+			scratch |= (buffer.get() & 0xFFL) << available;
+			available += 8;
+		}
+		int value = (int) (scratch & ((1L << bits) - 1));
+		scratch >>>= bits;
+		available -= bits;
+		return value;
+	}
+
+	/**
+	 * Reads a single bit
+	 *
+	 * @return the bit
+	 */
+	public boolean readBoolean() {
+		return read(1) != 0;
+	}
+
+	@Override
+	public String toString() {
+		return "BitReader [position:" + buffer.position() + ", available:"
+				+ available + "]";
+	}
+}
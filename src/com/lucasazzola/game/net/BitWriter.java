@@ -0,0 +1,74 @@
+package com.lucasazzola.game.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes values of any width up to 32 bits into a ByteBuffer, least
+ * significant bits first
+ *
+ * @since 19/10/2026
+ */
+public class BitWriter {
+
+	/**
+	 * The buffer written to, and bits not yet written to it
+	 */
+	private ByteBuffer buffer;
+	private long scratch;
+	private int pending;
+
+	/**
+	 * Starts writing at a buffer's position
+	 *
+	 * @param buffer the buffer to write to
+	 * @return this, for chainability
+	 */
+	public BitWriter reset(ByteBuffer buffer) {
+		this.buffer = buffer;
+		scratch = 0;
+		pending = 0;
+		return this;
+	}
+
+	/**
+	 * Writes the low bits of a value
+	 *
+	 * @param value the value
+	 * @param bits the number of bits, from 0 to 32
+	 */
+	public void write(int value, int bits) {
+		scratch |= (value & ((1L << bits) - 1)) << pending;
+		pending += bits;
+		while (pending >= 8) {
+			buffer.put((byte) scratch);
+			scratch >>>= 8;
+			pending -= 8;
+		}
+	}
+
+	/**
+	 * Writes a single bit
+	 *
+	 * @param value the bit
+	 */
+	public void write(boolean value) {
+		write(value ? 1 : 0, 1);
+	}
+
+	/**
+	 * Writes any remaining bits, padding the last byte with zeros
+	 */
+	public void flush() {
+		if (pending > 0) {
+			buffer.put((byte) scratch);
+			scratch = 0;
+			pending = 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "BitWriter [position:" + buffer.position() + ", pending:"
+				+ pending + "]";
+	}
+}
@@ -0,0 +1,167 @@
+package com.lucasazzola.game.net;
+
+import java.io.IOException;
+
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+import com.lucasazzola.game.serial.Quantizer;
+import com.lucasazzola.game.util.FastRandom;
+
+/**
+ * Runs replication between a server and clients over loopback UDP with
+ * simulated packet loss in both directions, checking that every snapshot
+ * a client decodes matches the one the server sent. Run with
+ * {@code java com.lucasazzola.game.net.LossHarness [loss]}.
+ *
+ * @since 19/10/2026
+ */
+public final class LossHarness {
+
+	/**
+	 * Outcome of a run
+	 */
+	public static class Result {
+
+		/**
+		 * Snapshots decoded by all clients, and those that didn't match
+		 */
+		public int decoded, mismatched;
+
+		/**
+		 * Bytes the server sent, and bytes full snapshots would have cost
+		 */
+		public long bytes, fullBytes;
+
+		@Override
+		public String toString() {
+			return "Result [decoded:" + decoded + ", mismatched:" + mismatched
+					+ ", bytes:" + bytes + ", fullBytes:" + fullBytes + "]";
+		}
+	}
+
+	/**
+	 * Static only
+	 */
+	private LossHarness() {
+	}
+
+	/**
+	 * Runs the harness
+	 *
+	 * @param clientCount the number of clients
+	 * @param entities the number of entities
+	 * @param moving the fraction of entities changed each tick
+	 * @param ticks the number of ticks to send
+	 * @param loss the chance of dropping each packet
+	 * @param seed the seed for entity motion and drops
+	 * @return the outcome
+	 * @throws IOException if a loopback socket can't be opened
+	 */
+	public static Result run(int clientCount, int entities, float moving,
+			int ticks, float loss, long seed) throws IOException {
+		Quantizer quantizer = Quantizer.ofPrecision(0.001f);
+		FastRandom random = new FastRandom(seed);
+		Result result = new Result();
+		UdpTransport serverSocket = UdpTransport.loopback();
+		LossyTransport serverTransport = new LossyTransport(serverSocket,
+				loss, seed);
+		ReplicationServer server = new ReplicationServer(serverTransport,
+				entities, quantizer);
+		ReplicationClient[] clients = new ReplicationClient[clientCount];
+		Transport[] transports = new Transport[clientCount];
+		try {
+			for (int c = 0; c < clientCount; c++) {
+				transports[c] = new LossyTransport(UdpTransport.loopback(),
+						loss, seed + c + 1);
+				clients[c] = new ReplicationClient(transports[c],
+						serverSocket.localAddress(), entities, quantizer);
+			}
+
+			Snapshot state = new Snapshot(entities, quantizer);
+			Snapshot[] sent = new Snapshot[ReplicationServer.HISTORY];
+			for (int i = 0; i < sent.length; i++)
+				sent[i] = new Snapshot(entities, quantizer);
+			Vector3 p = new Vector3();
+			Quaternion r = new Quaternion();
+			for (int e = 0; e < entities; e++)
+				state.set(e, randomize(random, p), randomize(random, r));
+
+			for (int tick = 0; tick < ticks; tick++) {
+				for (int c = 0; c < clientCount; c++) {
+					if (clients[c].latest() == null)
+						clients[c].connect();
+				}
+				server.poll();
+				for (int e = 0; e < entities; e++) {
+					if (random.nextFloat() < moving)
+						state.set(e, randomize(random, p),
+								randomize(random, r));
+				}
+				state.tick = tick;
+				sent[tick % sent.length].set(state);
+				server.send(state);
+				result.fullBytes += server.clientCount()
+						* (9 + (entities * (3 + 48 + 32) + 16 + 7) / 8);
+				for (int c = 0; c < clientCount; c++) {
+					if (!clients[c].poll())
+						continue;
+					Snapshot latest = clients[c].latest();
+					result.decoded++;
+					if (!latest.matches(sent[latest.tick % sent.length]))
+						result.mismatched++;
+				}
+			}
+			result.bytes = server.bytesSent();
+		} finally {
+			serverTransport.close();
+			for (Transport transport : transports) {
+				if (transport != null)
+					transport.close();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Runs 64 clients for 600 ticks and prints the outcome
+	 *
+	 * @param args the loss, default 0.1
+	 * @throws IOException if a loopback socket can't be opened
+	 */
+	public static void main(String[] args) throws IOException {
+		float loss = args.length > 0 ? Float.parseFloat(args[0]) : 0.1f;
+		Result result = run(64, 256, 0.1f, 600, loss, 1);
+		System.out.println(result);
+		System.out.printf("%.1f%% of full snapshot bandwidth%n", 100.0
+				* result.bytes / result.fullBytes);
+		if (result.mismatched > 0)
+			System.exit(1);
+	}
+
+	/**
+	 * @return p, set to a random position
+	 */
+	private static Vector3 randomize(FastRandom random, Vector3 p) {
+		p.x = random.nextFloat(-50, 50);
+		p.y = random.nextFloat(-50, 50);
+		p.z = random.nextFloat(-50, 50);
+		return p;
+	}
+
+	/**
+	 * @return r, set to a random unit quaternion
+	 */
+	private static Quaternion randomize(FastRandom random, Quaternion r) {
+		r.x = random.nextFloat(-1, 1);
+		r.y = random.nextFloat(-1, 1);
+		r.z = random.nextFloat(-1, 1);
+		r.w = random.nextFloat(-1, 1);
+		float n = (float) Math.sqrt(r.x * r.x + r.y * r.y + r.z * r.z + r.w
+				* r.w);
+		r.x /= n;
+		r.y /= n;
+		r.z /= n;
+		r.w /= n;
+		return r;
+	}
+}
@@ -0,0 +1,96 @@
+package com.lucasazzola.game.net;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+
+import com.lucasazzola.game.util.FastRandom;
+
+/**
+ * Simulates a bad network on top of another transport by dropping a
+ * fraction of outgoing packets. Drops come from a seeded generator, so a
+ * loopback run loses the same packets every time.
+ *
+ * @since 19/10/2026
+ */
+public class LossyTransport implements Transport {
+
+	/**
+	 * The wrapped transport
+	 */
+	private final Transport transport;
+
+	/**
+	 * Chance of dropping each packet, and the source of drops
+	 */
+	private float loss;
+	private final FastRandom random;
+
+	/**
+	 * Counts of packets sent and dropped
+	 */
+	private long sent, dropped;
+
+	/**
+	 * Wraps a transport
+	 *
+	 * @param transport the transport to send through
+	 * @param loss the chance of dropping each packet, from 0 to 1
+	 * @param seed the seed for choosing drops
+	 */
+	public LossyTransport(Transport transport, float loss, long seed) {
+		this.transport = transport;
+		this.random = new FastRandom(seed);
+		setLoss(loss);
+	}
+
+	/**
+	 * @param loss the chance of dropping each packet, from 0 to 1
+	 */
+	public void setLoss(float loss) {
+		if (!(loss >= 0 && loss <= 1))
+			throw new IllegalArgumentException("Loss " + loss);
+		this.loss = loss;
+	}
+
+	/**
+	 * @return the number of packets passed to the wrapped transport
+	 */
+	public long sent() {
+		return sent;
+	}
+
+	/**
+	 * @return the number of packets dropped
+	 */
+	public long dropped() {
+		return dropped;
+	}
+
+	@Override
+	public void send(ByteBuffer packet, SocketAddress to) throws IOException {
+		if (random.nextFloat() < loss) {
+			packet.position(packet.limit());
+			dropped++;
+			return;
+		}
+		transport.send(packet, to);
+		sent++;
+	}
+
+	@Override
+	public SocketAddress receive(ByteBuffer packet) throws IOException {
+		return transport.receive(packet);
+	}
+
+	@Override
+	public void close() throws IOException {
+		transport.close();
+	}
+
+	@Override
+	public String toString() {
+		return "LossyTransport [loss:" + loss + ", sent:" + sent
+				+ ", dropped:" + dropped + ", " + transport + "]";
+	}
+}
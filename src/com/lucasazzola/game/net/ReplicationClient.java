@@ -0,0 +1,165 @@
+package com.lucasazzola.game.net;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import com.lucasazzola.game.serial.Quantizer;
+
+/**
+ * Receives snapshots from a {@link ReplicationServer}, decoding each
+ * against the baseline it names and acknowledging it so the server can
+ * use it as the next baseline. Stale, duplicate and undecodable packets
+ * are dropped.
+ *
+ * @since 19/10/2026
+ */
+public class ReplicationClient {
+
+	/**
+	 * The transport, the server's address and the packet buffer
+	 */
+	private final Transport transport;
+	private final SocketAddress server;
+	private final ByteBuffer packet = ByteBuffer.allocate(Transport.MAX_PACKET);
+	private final BitReader reader = new BitReader();
+	private final ByteBuffer ack = ByteBuffer.allocate(
+			ReplicationServer.HANDSHAKE);
+
+	/**
+	 * The server's challenge cookie, once received
+	 */
+	private long cookie;
+	private boolean challenged;
+
+	/**
+	 * Received snapshots, indexed by tick modulo
+	 * {@link ReplicationServer#HISTORY}
+	 */
+	private final Snapshot[] received;
+	private int latest = ReplicationServer.NONE;
+
+	/**
+	 * Constructs a client
+	 *
+	 * @param transport the transport to send and receive through
+	 * @param server the server's address
+	 * @param capacity the number of entity slots, same as the server's
+	 * @param quantizer the position quantizer, same as the server's
+	 */
+	public ReplicationClient(Transport transport, SocketAddress server,
+			int capacity, Quantizer quantizer) {
+		this.transport = transport;
+		this.server = server;
+		received = new Snapshot[ReplicationServer.HISTORY];
+		for (int i = 0; i < received.length; i++) {
+			received[i] = new Snapshot(capacity, quantizer);
+			received[i].tick = ReplicationServer.NONE;
+		}
+	}
+
+	/**
+	 * Asks the server for snapshots, sending a connect request or, once the
+	 * server's challenge has arrived, the response to it. Repeat until a
+	 * snapshot arrives, as any handshake packet may be lost.
+	 *
+	 * @throws IOException if the transport fails
+	 */
+	public void connect() throws IOException {
+		ack.clear();
+		if (challenged)
+			ack.put(ReplicationServer.RESPONSE).putLong(cookie);
+		else
+			ack.put(ReplicationServer.CONNECT).putLong(0);
+		ack.flip();
+		transport.send(ack, server);
+	}
+
+	/**
+	 * Receives and acknowledges waiting snapshots
+	 *
+	 * @return true if a newer snapshot arrived
+	 * @throws IOException if the transport fails
+	 */
+	public boolean poll() throws IOException {
+		boolean updated = false;
+		while (true) {
+			packet.clear();
+			SocketAddress from = transport.receive(packet);
+			if (from == null)
+				return updated;
+			if (!from.equals(server))
+				continue;
+			packet.flip();
+			try {
+				updated |= receive();
+			} catch (BufferUnderflowException | IllegalArgumentException e) {
+				// malformed, drop it
+			}
+		}
+	}
+
+	/**
+	 * Decodes the packet in the buffer
+	 *
+	 * @return true if it was a newer snapshot
+	 */
+	private boolean receive() throws IOException {
+		byte type = packet.get();
+		if (type == ReplicationServer.CHALLENGE) {
+			cookie = packet.getLong();
+			challenged = true;
+			connect();
+			return false;
+		}
+		if (type != ReplicationServer.SNAPSHOT)
+			return false;
+		int tick = packet.getInt();
+		int base = packet.getInt();
+		if (tick <= latest)
+			return false;
+		int history = ReplicationServer.HISTORY;
+		Snapshot out = received[tick % history];
+		Snapshot baseline = null;
+		if (base != ReplicationServer.NONE) {
+			if (base < 0 || base >= tick)
+				return false;
+			baseline = received[base % history];
+			if (baseline.tick != base || baseline == out)
+				return false;
+		}
+		// a failed decode leaves out partly written, so forget its tick
+		out.tick = ReplicationServer.NONE;
+		SnapshotCodec.decode(reader.reset(packet), baseline, out);
+		out.tick = tick;
+		latest = tick;
+		acknowledge(tick);
+		return true;
+	}
+
+	/**
+	 * Sends an acknowledgement
+	 *
+	 * @param tick the tick received, or -1 for none
+	 */
+	private void acknowledge(int tick) throws IOException {
+		ack.clear();
+		ack.put(ReplicationServer.ACK).putInt(tick).flip();
+		transport.send(ack, server);
+	}
+
+	/**
+	 * @return the newest snapshot received, or null if none has arrived
+	 */
+	public Snapshot latest() {
+		return latest == ReplicationServer.NONE ? null
+				: received[latest % ReplicationServer.HISTORY];
+	}
+
+	@Override
+	public String toString() {
+		return "ReplicationClient [server:" + server + ", latest:" + latest
+				+ "]";
+	}
+}
@@ -0,0 +1,363 @@
+package com.lucasazzola.game.net;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.lucasazzola.game.serial.Quantizer;
+
+/**
+ * Sends snapshots to clients as deltas against the latest snapshot each
+ * client has acknowledged. A client that has acknowledged nothing recent
+ * is sent a delta against an empty snapshot, which is a full snapshot.
+ *
+ * Clients join with a handshake, see {@link ReplicationClient#connect()}:
+ * a connect request is answered with a challenge holding a cookie, an
+ * HMAC-SHA256 of the sender's address and port under a secret key, and only
+ * a sender that echoes the cookie back becomes a client. Packets from other
+ * addresses are ignored, so a spoofed source address can't make the server
+ * send snapshots to a third party, and no reply is larger than the request
+ * that caused it. The key is replaced every {@link #KEY_LIFETIME} ticks,
+ * with cookies from the previous key still accepted. Clients are limited in
+ * number and dropped when they stop acknowledging.
+ *
+ * @since 19/10/2026
+ */
+public class ReplicationServer {
+
+	/**
+	 * Number of sent snapshots kept as baselines
+	 */
+	public static final int HISTORY = 32;
+
+	/**
+	 * Default most clients, and ticks without an acknowledgement before a
+	 * client is dropped
+	 */
+	public static final int MAX_CLIENTS = 64, TIMEOUT = 300;
+
+	/**
+	 * Ticks between replacing the cookie key
+	 */
+	public static final int KEY_LIFETIME = 3600;
+
+	/**
+	 * Packet types, and the tick of no snapshot
+	 */
+	static final byte SNAPSHOT = 1, ACK = 2, CONNECT = 3, CHALLENGE = 4,
+			RESPONSE = 5;
+	static final int NONE = -1;
+
+	/**
+	 * Size of handshake packets: a type and a cookie. Connect requests are
+	 * padded to this size so challenges never amplify.
+	 */
+	static final int HANDSHAKE = 9;
+
+	/**
+	 * A connected client
+	 */
+	private static class Client {
+
+		/**
+		 * Latest tick acknowledged, and the tick it was last heard from
+		 */
+		int acked = NONE;
+		int heard;
+	}
+
+	/**
+	 * The transport and its packet buffer
+	 */
+	private final Transport transport;
+	private final ByteBuffer packet = ByteBuffer.allocate(Transport.MAX_PACKET);
+	private final BitWriter writer = new BitWriter();
+
+	/**
+	 * Sent snapshots, indexed by tick modulo {@link #HISTORY}
+	 */
+	private final Snapshot[] history = new Snapshot[HISTORY];
+	private int tick = NONE;
+
+	/**
+	 * Clients by address, and their limit and timeout
+	 */
+	private final Map<SocketAddress, Client> clients = new LinkedHashMap<>();
+	private int maxClients = MAX_CLIENTS, timeout = TIMEOUT;
+
+	/**
+	 * Cookie MACs under the current and previous keys, and the tick the
+	 * current key was made
+	 */
+	private final SecureRandom random = new SecureRandom();
+	private Mac key, previousKey;
+	private int keyTick;
+
+	/**
+	 * Bytes sent, for measuring the bandwidth saved by deltas, and
+	 * snapshots not sent because they didn't fit in a packet
+	 */
+	private long bytesSent, oversized;
+
+	/**
+	 * Constructs a server
+	 *
+	 * @param transport the transport to send and receive through
+	 * @param capacity the number of entity slots
+	 * @param quantizer the position quantizer, same as the clients'
+	 */
+	public ReplicationServer(Transport transport, int capacity,
+			Quantizer quantizer) {
+		this.transport = transport;
+		key = newKey();
+		for (int i = 0; i < HISTORY; i++) {
+			history[i] = new Snapshot(capacity, quantizer);
+			history[i].tick = NONE;
+		}
+	}
+
+	/**
+	 * @param maxClients the most clients to accept
+	 */
+	public void setMaxClients(int maxClients) {
+		if (maxClients < 0)
+			throw new IllegalArgumentException("maxClients " + maxClients);
+		this.maxClients = maxClients;
+	}
+
+	/**
+	 * @param ticks the ticks without an acknowledgement before a client is
+	 *            dropped
+	 */
+	public void setTimeout(int ticks) {
+		if (ticks <= 0)
+			throw new IllegalArgumentException("Timeout " + ticks);
+		this.timeout = ticks;
+	}
+
+	/**
+	 * Receives waiting handshakes and acknowledgements
+	 *
+	 * @return the number of packets received
+	 * @throws IOException if the transport fails
+	 */
+	public int poll() throws IOException {
+		int count = 0;
+		while (true) {
+			packet.clear();
+			SocketAddress from = transport.receive(packet);
+			if (from == null)
+				return count;
+			count++;
+			packet.flip();
+			if (packet.remaining() == HANDSHAKE)
+				handshake(from);
+			else if (packet.remaining() == 5 && packet.get() == ACK)
+				acknowledge(from, packet.getInt());
+		}
+	}
+
+	/**
+	 * Answers a connect request, or a response holding an expired or wrong
+	 * cookie, with a challenge, or accepts a response holding the right
+	 * cookie
+	 */
+	private void handshake(SocketAddress from) throws IOException {
+		byte type = packet.get();
+		if (type != CONNECT && type != RESPONSE)
+			return;
+		byte[] address = address(from);
+		long cookie = cookie(key, address);
+		if (type == RESPONSE) {
+			long echoed = packet.getLong();
+			if (echoed == cookie || previousKey != null
+					&& echoed == cookie(previousKey, address)) {
+				accept(from);
+				return;
+			}
+		}
+		packet.clear();
+		packet.put(CHALLENGE).putLong(cookie).flip();
+		transport.send(packet, from);
+	}
+
+	/**
+	 * Adds a client that has completed the handshake, if there is room
+	 */
+	private void accept(SocketAddress from) {
+		Client client = clients.get(from);
+		if (client == null) {
+			if (clients.size() >= maxClients)
+				return;
+			client = new Client();
+			clients.put(from, client);
+		}
+		client.heard = tick;
+	}
+
+	/**
+	 * Records an acknowledgement from a client
+	 */
+	private void acknowledge(SocketAddress from, int acked) {
+		Client client = clients.get(from);
+		if (client == null || acked > tick)
+			return;
+		client.heard = tick;
+		if (acked > client.acked)
+			client.acked = acked;
+	}
+
+	/**
+	 * Derives the cookie for an address, the first 64 bits of its MAC, which
+	 * only the key's holder and the address's receiver can know
+	 */
+	private static long cookie(Mac key, byte[] address) {
+		return ByteBuffer.wrap(key.doFinal(address)).getLong();
+	}
+
+	/**
+	 * Encodes an address for its cookie: the raw IP address then the port,
+	 * or the text of an address that isn't an IP socket address
+	 */
+	private static byte[] address(SocketAddress from) {
+		if (from instanceof InetSocketAddress) {
+			InetSocketAddress inet = (InetSocketAddress) from;
+			if (inet.getAddress() != null) {
+				byte[] ip = inet.getAddress().getAddress();
+				return ByteBuffer.allocate(ip.length + 2).put(ip)
+						.putShort((short) inet.getPort()).array();
+			}
+		}
+		return from.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Makes a MAC under a new random key
+	 */
+	private Mac newKey() {
+		byte[] secret = new byte[32];
+		random.nextBytes(secret);
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+			return mac;
+		} catch (GeneralSecurityException e) {
+			// every Java platform is required to support HmacSHA256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Sends a snapshot to every client, first dropping clients that have
+	 * timed out. A client whose delta doesn't fit in a packet misses this
+	 * snapshot, and a send failing for one client doesn't stop the others.
+	 *
+	 * @param state the snapshot, with a tick later than the last one sent
+	 * @throws IOException if the transport fails, after trying every client
+	 */
+	public void send(Snapshot state) throws IOException {
+		if (state.tick <= tick)
+			throw new IllegalArgumentException("Tick " + state.tick
+					+ " is not after " + tick);
+		tick = state.tick;
+		if (tick - keyTick >= KEY_LIFETIME) {
+			previousKey = key;
+			key = newKey();
+			keyTick = tick;
+		}
+		history[tick % HISTORY].set(state);
+		IOException failure = null;
+		Iterator<Map.Entry<SocketAddress, Client>> it = clients.entrySet()
+				.iterator();
+		while (it.hasNext()) {
+			Map.Entry<SocketAddress, Client> entry = it.next();
+			Client client = entry.getValue();
+			if (tick - client.heard > timeout) {
+				it.remove();
+				continue;
+			}
+			Snapshot baseline = client.acked == NONE ? null
+					: history[client.acked % HISTORY];
+			if (baseline != null && baseline.tick != client.acked)
+				baseline = null;
+			packet.clear();
+			try {
+				packet.put(SNAPSHOT);
+				packet.putInt(tick);
+				packet.putInt(baseline == null ? NONE : client.acked);
+				SnapshotCodec.encode(state, baseline, writer.reset(packet));
+			} catch (BufferOverflowException e) {
+				oversized++;
+				continue;
+			}
+			packet.flip();
+			try {
+				transport.send(packet, entry.getKey());
+				bytesSent += packet.limit();
+			} catch (IOException e) {
+				if (failure == null)
+					failure = e;
+			}
+		}
+		if (failure != null)
+			throw failure;
+	}
+
+	/**
+	 * Stops sending to a client
+	 *
+	 * @param address the client's address
+	 * @return true if the client was connected
+	 */
+	public boolean removeClient(SocketAddress address) {
+		return clients.remove(address) != null;
+	}
+
+	/**
+	 * @return the number of connected clients
+	 */
+	public int clientCount() {
+		return clients.size();
+	}
+
+	/**
+	 * @param address a client's address
+	 * @return the latest tick the client acknowledged, or -1 if none
+	 */
+	public int acked(SocketAddress address) {
+		Client client = clients.get(address);
+		return client == null ? NONE : client.acked;
+	}
+
+	/**
+	 * @return the number of bytes of snapshot packets sent
+	 */
+	public long bytesSent() {
+		return bytesSent;
+	}
+
+	/**
+	 * @return the number of snapshots not sent because they didn't fit in a
+	 *         packet
+	 */
+	public long oversized() {
+		return oversized;
+	}
+
+	@Override
+	public String toString() {
+		return "ReplicationServer [tick:" + tick + ", clients:"
+				+ clients.size() + ", bytesSent:" + bytesSent + "]";
+	}
+}
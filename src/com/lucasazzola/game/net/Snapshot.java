@@ -0,0 +1,168 @@
+package com.lucasazzola.game.net;
+
+import java.util.Arrays;
+
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+import com.lucasazzola.game.serial.BinaryCodec;
+import com.lucasazzola.game.serial.Quantizer;
+
+/**
+ * Replicated state of every entity at one tick. Entities occupy numbered
+ * slots; each present entity has a position, quantized to 16 bits per
+ * component, and a rotation, packed to 32 bits with the smallest three
+ * compression. State is held quantized so that the server and client
+ * compare exactly the values that go over the wire.
+ *
+ * @since 19/10/2026
+ */
+public class Snapshot {
+
+	/**
+	 * The simulation tick this snapshot was taken at
+	 */
+	public int tick;
+
+	/**
+	 * Entity storage, indexed by slot
+	 */
+	final boolean[] present;
+	final short[] position;
+	final int[] rotation;
+
+	/**
+	 * Position quantizer, shared by server and client
+	 */
+	private final Quantizer quantizer;
+
+	/**
+	 * Constructs an empty snapshot
+	 *
+	 * @param capacity the number of entity slots
+	 * @param quantizer the quantizer for position components
+	 */
+	public Snapshot(int capacity, Quantizer quantizer) {
+		this.quantizer = quantizer;
+		present = new boolean[capacity];
+		position = new short[capacity * 3];
+		rotation = new int[capacity];
+	}
+
+	/**
+	 * @return the number of entity slots
+	 */
+	public int capacity() {
+		return present.length;
+	}
+
+	/**
+	 * Sets the state of an entity, adding it if absent
+	 *
+	 * @param slot the entity's slot
+	 * @param p the position
+	 * @param r the rotation, a unit quaternion
+	 */
+	public void set(int slot, Vector3 p, Quaternion r) {
+		present[slot] = true;
+		position[slot * 3] = quantizer.quantize(p.x);
+		position[slot * 3 + 1] = quantizer.quantize(p.y);
+		position[slot * 3 + 2] = quantizer.quantize(p.z);
+		rotation[slot] = (int) BinaryCodec.packQuaternion(r,
+				BinaryCodec.QUATERNION_BITS);
+	}
+
+	/**
+	 * Removes an entity
+	 *
+	 * @param slot the entity's slot
+	 */
+	public void remove(int slot) {
+		present[slot] = false;
+		position[slot * 3] = 0;
+		position[slot * 3 + 1] = 0;
+		position[slot * 3 + 2] = 0;
+		rotation[slot] = 0;
+	}
+
+	/**
+	 * @param slot the entity's slot
+	 * @return true if the entity exists in this snapshot
+	 */
+	public boolean isPresent(int slot) {
+		return present[slot];
+	}
+
+	/**
+	 * Gets the position of an entity
+	 *
+	 * @param slot the entity's slot
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Vector3 getPosition(int slot, Vector3 out) {
+		out.x = quantizer.dequantize(position[slot * 3]);
+		out.y = quantizer.dequantize(position[slot * 3 + 1]);
+		out.z = quantizer.dequantize(position[slot * 3 + 2]);
+		return out;
+	}
+
+	/**
+	 * Gets the rotation of an entity
+	 *
+	 * @param slot the entity's slot
+	 * @param out the quaternion will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Quaternion getRotation(int slot, Quaternion out) {
+		return BinaryCodec.unpackQuaternion(rotation[slot] & 0xFFFFFFFFL,
+				BinaryCodec.QUATERNION_BITS, out);
+	}
+
+	/**
+	 * Copies another snapshot of the same capacity
+	 *
+	 * @param snapshot the snapshot to copy
+	 * @return this, for chainability
+	 */
+	public Snapshot set(Snapshot snapshot) {
+		tick = snapshot.tick;
+		System.arraycopy(snapshot.present, 0, present, 0, present.length);
+		System.arraycopy(snapshot.position, 0, position, 0, position.length);
+		System.arraycopy(snapshot.rotation, 0, rotation, 0, rotation.length);
+		return this;
+	}
+
+	/**
+	 * Compares entity state, ignoring the tick
+	 *
+	 * @param snapshot a snapshot of the same capacity
+	 * @return true if every slot holds the same quantized state
+	 */
+	public boolean matches(Snapshot snapshot) {
+		return Arrays.equals(present, snapshot.present)
+				&& Arrays.equals(position, snapshot.position)
+				&& Arrays.equals(rotation, snapshot.rotation);
+	}
+
+	/**
+	 * Removes every entity
+	 *
+	 * @return this, for chainability
+	 */
+	public Snapshot clear() {
+		Arrays.fill(present, false);
+		Arrays.fill(position, (short) 0);
+		Arrays.fill(rotation, 0);
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		int count = 0;
+		for (boolean p : present) {
+			if (p)
+				count++;
+		}
+		return "Snapshot [tick:" + tick + ", entities:" + count + "]";
+	}
+}
@@ -0,0 +1,129 @@
+package com.lucasazzola.game.net;
+
+/**
+ * Encodes a snapshot as the difference from a baseline snapshot the
+ * receiver already holds. Each slot up to the highest one in use costs a
+ * single bit when unchanged; a changed slot writes its presence and then
+ * only the fields that differ.
+ *
+ * <pre>
+ * slots:16
+ * per slot: changed:1 [present:1 [moved:1 [x:16 y:16 z:16]
+ *                                 turned:1 [rotation:32]]]
+ * </pre>
+ *
+ * @since 19/10/2026
+ */
+public class SnapshotCodec {
+
+	/**
+	 * Largest slot count an encoded snapshot can hold
+	 */
+	public static final int MAX_SLOTS = 0xFFFF;
+
+	/**
+	 * Writes a snapshot as a delta
+	 *
+	 * @param current the snapshot to send
+	 * @param baseline the snapshot the receiver holds, or null to send
+	 *            against an empty snapshot
+	 * @param out the writer, flushed before returning
+	 */
+	public static void encode(Snapshot current, Snapshot baseline,
+			BitWriter out) {
+		int slots = Math.max(highest(current), highest(baseline)) + 1;
+		if (slots > MAX_SLOTS)
+			throw new IllegalArgumentException("Too many slots " + slots);
+		out.write(slots, 16);
+		for (int s = 0; s < slots; s++) {
+			boolean present = current.present[s];
+			boolean was = baseline != null && baseline.present[s];
+			boolean moved = present
+					&& (!was || !samePosition(current, baseline, s));
+			boolean turned = present
+					&& (!was || current.rotation[s] != baseline.rotation[s]);
+			if (present == was && !moved && !turned) {
+				out.write(false);
+				continue;
+			}
+			out.write(true);
+			out.write(present);
+			if (!present)
+				continue;
+			out.write(moved);
+			if (moved) {
+				out.write(current.position[s * 3], 16);
+				out.write(current.position[s * 3 + 1], 16);
+				out.write(current.position[s * 3 + 2], 16);
+			}
+			out.write(turned);
+			if (turned)
+				out.write(current.rotation[s], 32);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Reads a delta written by
+	 * {@link #encode(Snapshot, Snapshot, BitWriter)}
+	 *
+	 * @param in the reader
+	 * @param baseline the snapshot the delta was encoded against, or null
+	 * @param out the snapshot will be assigned to this, may not be the
+	 *            baseline
+	 * @return out, for chainability
+	 * @throws IllegalArgumentException if the delta has more slots than out
+	 */
+	public static Snapshot decode(BitReader in, Snapshot baseline,
+			Snapshot out) {
+		if (baseline != null)
+			out.set(baseline);
+		else
+			out.clear();
+		int slots = in.read(16);
+		if (slots > out.capacity())
+			throw new IllegalArgumentException("Snapshot has " + slots
+					+ " slots, capacity is " + out.capacity());
+		for (int s = 0; s < slots; s++) {
+			if (!in.readBoolean())
+				continue;
+			if (!in.readBoolean()) {
+				out.remove(s);
+				continue;
+			}
+			out.present[s] = true;
+			if (in.readBoolean()) {
+				out.position[s * 3] = (short) in.read(16);
+				out.position[s * 3 + 1] = (short) in.read(16);
+				out.position[s * 3 + 2] = (short) in.read(16);
+			}
+			if (in.readBoolean())
+				out.rotation[s] = in.read(32);
+		}
+		return out;
+	}
+
+	/**
+	 * @param snapshot a snapshot, or null
+	 * @return the highest present slot, or -1 if there is none
+	 */
+	private static int highest(Snapshot snapshot) {
+		if (snapshot == null)
+			return -1;
+		for (int s = snapshot.present.length - 1; s >= 0; s--) {
+			if (snapshot.present[s])
+				return s;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return true if a slot's position is equal in both snapshots
+	 */
+	private static boolean samePosition(Snapshot a, Snapshot b, int s) {
+		int i = s * 3;
+		return a.position[i] == b.position[i]
+				&& a.position[i + 1] == b.position[i + 1]
+				&& a.position[i + 2] == b.position[i + 2];
+	}
+}
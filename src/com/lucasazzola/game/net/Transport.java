@@ -0,0 +1,39 @@
+package com.lucasazzola.game.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+
+/**
+ * An unreliable, unordered datagram transport. Packets may be lost,
+ * duplicated or reordered, but are never corrupted or split.
+ *
+ * @since 19/10/2026
+ */
+public interface Transport extends Closeable {
+
+	/**
+	 * Largest packet a transport need carry, the largest UDP payload over
+	 * IPv4
+	 */
+	int MAX_PACKET = 65507;
+
+	/**
+	 * Sends a packet
+	 *
+	 * @param packet the packet, from its position to its limit
+	 * @param to the receiver's address
+	 * @throws IOException if the transport fails
+	 */
+	void send(ByteBuffer packet, SocketAddress to) throws IOException;
+
+	/**
+	 * Receives a waiting packet without blocking
+	 *
+	 * @param packet the packet is written here from its position
+	 * @return the sender's address, or null if no packet was waiting
+	 * @throws IOException if the transport fails
+	 */
+	SocketAddress receive(ByteBuffer packet) throws IOException;
+}
@@ -0,0 +1,76 @@
+package com.lucasazzola.game.net;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Transport over a non-blocking UDP DatagramChannel
+ *
+ * @since 19/10/2026
+ */
+public class UdpTransport implements Transport {
+
+	/**
+	 * The channel
+	 */
+	private final DatagramChannel channel;
+
+	/**
+	 * Opens a channel bound to an address
+	 *
+	 * @param address the local address, port 0 picks a free port
+	 * @throws IOException if the channel can't be opened or bound
+	 */
+	public UdpTransport(InetSocketAddress address) throws IOException {
+		channel = DatagramChannel.open();
+		try {
+			channel.configureBlocking(false);
+			channel.bind(address);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens a channel on a free loopback port
+	 *
+	 * @return the transport
+	 * @throws IOException if the channel can't be opened
+	 */
+	public static UdpTransport loopback() throws IOException {
+		return new UdpTransport(new InetSocketAddress("127.0.0.1", 0));
+	}
+
+	/**
+	 * @return the bound local address
+	 * @throws IOException if the channel is closed
+	 */
+	public InetSocketAddress localAddress() throws IOException {
+		return (InetSocketAddress) channel.getLocalAddress();
+	}
+
+	@Override
+	public void send(ByteBuffer packet, SocketAddress to) throws IOException {
+		channel.send(packet, to);
+	}
+
+	@Override
+	public SocketAddress receive(ByteBuffer packet) throws IOException {
+		return channel.receive(packet);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	@Override
+	public String toString() {
+		return "UdpTransport [" + channel.socket().getLocalSocketAddress()
+				+ "]";
+	}
+}
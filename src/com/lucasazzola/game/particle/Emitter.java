@@ -0,0 +1,143 @@
+package com.lucasazzola.game.particle;
+
+import com.lucasazzola.game.graphics.Vector3;
+import com.lucasazzola.game.util.FastRandom;
+
+/**
+ * Spawns particles at a steady rate from a point, in a cone around a
+ * direction. Fractional particles carry over between updates so that the
+ * rate holds at any frame rate.
+ *
+ * @since 19/10/2026
+ */
+public class Emitter {
+
+	/**
+	 * Public members
+	 */
+	public final Vector3 position = new Vector3();
+	public final Vector3 direction = new Vector3(0, 1, 0);
+
+	/**
+	 * Particles per second, and the spread of the cone, where 0 emits along
+	 * the direction only and 1 is roughly a hemisphere
+	 */
+	public float rate = 100, spread = 0.25f;
+
+	/**
+	 * Ranges of the initial speed and lifetime, in units per second and
+	 * seconds
+	 */
+	public float minSpeed = 1, maxSpeed = 2;
+	public float minLifetime = 1, maxLifetime = 2;
+
+	/**
+	 * Initial size and colour, 0xRRGGBBAA
+	 */
+	public float size = 1;
+	public int colour = 0xFFFFFFFF;
+
+	/**
+	 * Emitter state
+	 */
+	private final long seed;
+	private final FastRandom random;
+	private float pending;
+	private boolean enabled = true;
+
+	/**
+	 * Constructs an emitter
+	 *
+	 * @param seed the seed for the emitter's random sequence
+	 */
+	public Emitter(long seed) {
+		this.seed = seed;
+		random = new FastRandom(seed);
+	}
+
+	/**
+	 * @return the seed the emitter was constructed with
+	 */
+	public long seed() {
+		return seed;
+	}
+
+	/**
+	 * @param enabled false to stop emitting, leaving live particles alone
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Spawns the particles due over a time step
+	 *
+	 * @param particles the storage to spawn into
+	 * @param dt the time step, in seconds
+	 * @return the number of particles spawned, fewer than due if the storage
+	 *         is full
+	 */
+	public int emit(Particles particles, float dt) {
+		return burst(particles, due(dt));
+	}
+
+	/**
+	 * Advances the emission rate over a time step, without spawning
+	 *
+	 * @param dt the time step, in seconds
+	 * @return the number of particles due, which the caller must spawn
+	 */
+	public int due(float dt) {
+		if (!enabled)
+			return 0;
+		pending += rate * dt;
+		int due = (int) pending;
+		pending -= due;
+		return due;
+	}
+
+	/**
+	 * Spawns a number of particles at once
+	 *
+	 * @param particles the storage to spawn into
+	 * @param n the number of particles
+	 * @return the number of particles spawned
+	 */
+	public int burst(Particles particles, int n) {
+		int start = particles.size();
+		n = particles.reserve(n);
+		fill(particles, start, n, random);
+		return n;
+	}
+
+	/**
+	 * Initialises particles in already reserved slots. Reads only the
+	 * emitter's settings, so disjoint ranges can be filled in parallel, each
+	 * with its own generator.
+	 *
+	 * @param particles the storage
+	 * @param start the first slot
+	 * @param n the number of slots
+	 * @param random the generator to draw from
+	 */
+	public void fill(Particles particles, int start, int n,
+			FastRandom random) {
+		float dx = direction.x, dy = direction.y, dz = direction.z;
+		for (int i = start; i < start + n; i++) {
+			float x = dx + spread * (random.nextFloat() * 2 - 1);
+			float y = dy + spread * (random.nextFloat() * 2 - 1);
+			float z = dz + spread * (random.nextFloat() * 2 - 1);
+			float length = (float) Math.sqrt(x * x + y * y + z * z);
+			float speed = random.nextFloat(minSpeed, maxSpeed);
+			float scale = length > 0 ? speed / length : 0;
+			particles.set(i, position.x, position.y, position.z, x * scale, y
+					* scale, z * scale, size, colour, random.nextFloat(
+					minLifetime, maxLifetime));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Emitter [position:" + position + ", rate:" + rate + "]";
+	}
+}
@@ -0,0 +1,309 @@
+package com.lucasazzola.game.particle;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.lucasazzola.game.graphics.Vector3;
+import com.lucasazzola.game.graphics.render.Graphics;
+import com.lucasazzola.game.graphics.render.SpriteBatch;
+import com.lucasazzola.game.util.Chunks;
+import com.lucasazzola.game.util.FastRandom;
+import com.lucasazzola.game.util.GameTime;
+import com.lucasazzola.game.util.RadixSort;
+
+/**
+ * Owns a particle store and the emitters spawning into it, and draws the
+ * live particles as one sprite batch. Particles fade out over their
+ * lifetime.
+ *
+ * Simulation, emission and drawing are split into fixed size chunks which
+ * run in parallel when a pool is set. Every chunk draws from its own
+ * generator, seeded from the system or emitter seed, the frame and the chunk
+ * index, so a frame's result is the same on any number of threads, or none.
+ *
+ * @since 19/10/2026
+ */
+public class ParticleSystem {
+
+	/**
+	 * System members
+	 */
+	private final Particles particles;
+	private final List<Emitter> emitters = new ArrayList<Emitter>();
+	private final SpriteBatch batch;
+	private final RadixSort sort = new RadixSort();
+
+	/**
+	 * Particles per chunk, fixed so that results don't depend on the thread
+	 * count
+	 */
+	private static final int CHUNK = 1 << 13;
+
+	/**
+	 * Threading and frame state
+	 */
+	private final long seed;
+	private ForkJoinPool pool;
+	private long frame;
+
+	/**
+	 * Eye position to sort back to front from, or null for no sorting, and
+	 * the squared distance of every particle from it
+	 */
+	private Vector3 eye;
+	private float[] depth = new float[0];
+
+	/**
+	 * Acceleration applied to every particle, and the fraction of velocity
+	 * lost per second
+	 */
+	public final Vector3 gravity = new Vector3(0, -9.81f, 0);
+	private float drag;
+
+	/**
+	 * Largest random acceleration added to each axis of each particle per
+	 * step, 0 for none
+	 */
+	private float turbulence;
+
+	/**
+	 * Constructs a system with seed 0
+	 *
+	 * @param capacity the most particles alive at once
+	 */
+	public ParticleSystem(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * Constructs a system
+	 *
+	 * @param capacity the most particles alive at once
+	 * @param seed the seed for the system's turbulence
+	 */
+	public ParticleSystem(int capacity, long seed) {
+		particles = new Particles(capacity);
+		batch = new SpriteBatch(capacity);
+		this.seed = seed;
+	}
+
+	/**
+	 * @return the particle store
+	 */
+	public Particles particles() {
+		return particles;
+	}
+
+	/**
+	 * @param emitter the emitter to add
+	 */
+	public void addEmitter(Emitter emitter) {
+		emitters.add(emitter);
+	}
+
+	/**
+	 * @param emitter the emitter to remove, its live particles remain
+	 */
+	public void removeEmitter(Emitter emitter) {
+		emitters.remove(emitter);
+	}
+
+	/**
+	 * @param drag the fraction of velocity lost per second, in [0, 1]
+	 */
+	public void setDrag(float drag) {
+		this.drag = drag;
+	}
+
+	/**
+	 * @param turbulence the largest random acceleration per axis, in units
+	 *            per second squared
+	 */
+	public void setTurbulence(float turbulence) {
+		this.turbulence = turbulence;
+	}
+
+	/**
+	 * @param pool the pool to run chunks on, or null to run on the calling
+	 *            thread
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Sorts particles back to front before drawing, for alpha blending
+	 *
+	 * @param eye the camera position, read at every draw, or null to draw
+	 *            unsorted
+	 */
+	public void setDepthSort(Vector3 eye) {
+		this.eye = eye;
+	}
+
+	/**
+	 * Advances the system by the frame time
+	 *
+	 * @param time the game time, ticked once per frame
+	 */
+	public void update(GameTime time) {
+		update(time.delta() / 1e9f);
+	}
+
+	/**
+	 * Advances every particle, removes dead particles, then emits
+	 *
+	 * @param dt the time step, in seconds
+	 */
+	public void update(final float dt) {
+		final float keep = keep(dt);
+		final int n = particles.size();
+		Chunks.forEach(pool, Chunks.count(n, CHUNK), new Chunks.Body() {
+			@Override
+			public void run(int chunk) {
+				int from = chunk * CHUNK, to = Math.min(from + CHUNK, n);
+				particles.simulate(from, to, dt, gravity.x, gravity.y,
+						gravity.z, keep);
+				if (turbulence != 0)
+					turbulence(from, to, dt, random(seed, chunk));
+			}
+		});
+		particles.removeDead();
+		for (int e = 0; e < emitters.size(); e++) {
+			final Emitter emitter = emitters.get(e);
+			final int start = particles.size();
+			final int due = particles.reserve(emitter.due(dt));
+			Chunks.forEach(pool, Chunks.count(due, CHUNK), new Chunks.Body() {
+				@Override
+				public void run(int chunk) {
+					int from = chunk * CHUNK;
+					emitter.fill(particles, start + from,
+							Math.min(CHUNK, due - from),
+							random(emitter.seed(), chunk));
+				}
+			});
+		}
+		frame++;
+	}
+
+	/**
+	 * Draws every live particle in a single sprite batch, back to front if
+	 * depth sorting is on
+	 *
+	 * @param g the graphics to draw with
+	 */
+	public void draw(Graphics g) {
+		final int n = particles.size();
+		final int[] order = eye == null ? null : sortByDepth(n);
+		batch.clear();
+		final int o = batch.reserve(n);
+		Chunks.forEach(pool, Chunks.count(n, CHUNK), new Chunks.Body() {
+			@Override
+			public void run(int chunk) {
+				int from = chunk * CHUNK, to = Math.min(from + CHUNK, n);
+				write(particles, order, from, to, batch.floats(),
+						batch.ints(), o + from * SpriteBatch.STRIDE);
+			}
+		});
+		g.drawSprites(batch);
+	}
+
+	/**
+	 * Appends a range of particles to a sprite batch, scaling each
+	 * particle's alpha by its remaining life
+	 *
+	 * @param particles the particles
+	 * @param from the first particle
+	 * @param to one past the last particle
+	 * @param batch the batch to append to
+	 */
+	public static void write(Particles particles, int from, int to,
+			SpriteBatch batch) {
+		int o = batch.reserve(to - from);
+		write(particles, null, from, to, batch.floats(), batch.ints(), o);
+	}
+
+	/**
+	 * Writes a range of particles, optionally through an index order, into
+	 * reserved sprite batch data
+	 */
+	private static void write(Particles particles, int[] order, int from,
+			int to, FloatBuffer floats, IntBuffer ints, int o) {
+		float[] px = particles.px, py = particles.py, pz = particles.pz;
+		float[] size = particles.size, age = particles.age;
+		float[] lifetime = particles.lifetime;
+		int[] colour = particles.colour;
+		for (int k = from; k < to; k++, o += SpriteBatch.STRIDE) {
+			int i = order == null ? k : order[k];
+			float life = 1 - age[i] / lifetime[i];
+			int alpha = (int) ((colour[i] & 0xFF) * Math.max(life, 0));
+			floats.put(o, px[i]);
+			floats.put(o + 1, py[i]);
+			floats.put(o + 2, pz[i]);
+			floats.put(o + 3, size[i]);
+			ints.put(o + SpriteBatch.COLOUR, (colour[i] & 0xFFFFFF00) | alpha);
+		}
+	}
+
+	/**
+	 * Computes the squared distance of every particle from the eye, then
+	 * sorts largest first
+	 *
+	 * @return the particle indices, back to front
+	 */
+	private int[] sortByDepth(final int n) {
+		if (depth.length < n)
+			depth = new float[particles.capacity()];
+		final float ex = eye.x, ey = eye.y, ez = eye.z;
+		Chunks.forEach(pool, Chunks.count(n, CHUNK), new Chunks.Body() {
+			@Override
+			public void run(int chunk) {
+				int from = chunk * CHUNK, to = Math.min(from + CHUNK, n);
+				float[] px = particles.px, py = particles.py;
+				float[] pz = particles.pz;
+				for (int i = from; i < to; i++) {
+					float dx = px[i] - ex, dy = py[i] - ey, dz = pz[i] - ez;
+					depth[i] = dx * dx + dy * dy + dz * dz;
+				}
+			}
+		});
+		return sort.sort(depth, n, true, pool);
+	}
+
+	/**
+	 * Adds a random acceleration to the velocity of a range of particles
+	 */
+	private void turbulence(int from, int to, float dt, FastRandom random) {
+		float scale = turbulence * dt;
+		float[] vx = particles.vx, vy = particles.vy, vz = particles.vz;
+		for (int i = from; i < to; i++) {
+			vx[i] += scale * (random.nextFloat() * 2 - 1);
+			vy[i] += scale * (random.nextFloat() * 2 - 1);
+			vz[i] += scale * (random.nextFloat() * 2 - 1);
+		}
+	}
+
+	/**
+	 * Creates the generator for a chunk of the current frame
+	 */
+	private FastRandom random(long seed, int chunk) {
+		return new FastRandom(seed ^ (frame * 0x9E3779B97F4A7C15L)
+				^ ((long) chunk << 40));
+	}
+
+	/**
+	 * Converts the per second drag into the velocity kept over a step
+	 */
+	float keep(float dt) {
+		return drag == 0 ? 1 : (float) Math.pow(1 - drag, dt);
+	}
+
+	@Override
+	public String toString() {
+		return "ParticleSystem [" + particles + ", emitters:"
+				+ emitters.size() + "]";
+	}
+}
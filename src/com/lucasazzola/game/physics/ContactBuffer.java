@@ -0,0 +1,140 @@
+package com.lucasazzola.game.physics;
+
+import java.util.Arrays;
+
+/**
+ * Pooled storage for contact points produced by the {@link Narrowphase}. Each
+ * field is a primitive array indexed by contact, reused from step to step, so
+ * that filling the buffer does not allocate once it has reached its working
+ * size.
+ *
+ * Normals point from body A to body B, and depth is the penetration distance
+ * along the normal.
+ *
+ * @since 19/10/2026
+ */
+public class ContactBuffer {
+
+	/**
+	 * The bodies in contact
+	 */
+	public int[] bodyA, bodyB;
+
+	/**
+	 * Contact normal, from A to B
+	 */
+	public float[] nx, ny, nz;
+
+	/**
+	 * Contact point, in world space
+	 */
+	public float[] px, py, pz;
+
+	/**
+	 * Penetration depth
+	 */
+	public float[] depth;
+
+	/**
+	 * Identifies the pair of features in contact, so that a point can be
+	 * matched with the same point in the previous step
+	 */
+	public int[] feature;
+
+	/**
+	 * Accumulated impulses along the normal and two tangents, loaded by
+	 * {@link ManifoldCache#warmStart(ContactBuffer)} and written by the
+	 * solver
+	 */
+	public float[] normalImpulse, tangentImpulse1, tangentImpulse2;
+
+	/**
+	 * Number of contacts
+	 */
+	private int count;
+
+	/**
+	 * Constructs an empty buffer
+	 *
+	 * @param capacity the initial number of contacts to allocate for
+	 */
+	public ContactBuffer(int capacity) {
+		capacity = Math.max(capacity, 1);
+		bodyA = new int[capacity];
+		bodyB = new int[capacity];
+		nx = new float[capacity];
+		ny = new float[capacity];
+		nz = new float[capacity];
+		px = new float[capacity];
+		py = new float[capacity];
+		pz = new float[capacity];
+		depth = new float[capacity];
+		feature = new int[capacity];
+		normalImpulse = new float[capacity];
+		tangentImpulse1 = new float[capacity];
+		tangentImpulse2 = new float[capacity];
+	}
+
+	/**
+	 * @return the number of contacts
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Removes every contact, keeping the arrays
+	 */
+	public void clear() {
+		count = 0;
+	}
+
+	/**
+	 * Adds a contact with zero accumulated impulse
+	 *
+	 * @return the index of the contact
+	 */
+	public int add(int a, int b, float nx, float ny, float nz, float px,
+			float py, float pz, float depth, int feature) {
+		if (count == bodyA.length)
+			grow();
+		int i = count++;
+		bodyA[i] = a;
+		bodyB[i] = b;
+		this.nx[i] = nx;
+		this.ny[i] = ny;
+		this.nz[i] = nz;
+		this.px[i] = px;
+		this.py[i] = py;
+		this.pz[i] = pz;
+		this.depth[i] = depth;
+		this.feature[i] = feature;
+		normalImpulse[i] = tangentImpulse1[i] = tangentImpulse2[i] = 0;
+		return i;
+	}
+
+	/**
+	 * Doubles the capacity
+	 */
+	private void grow() {
+		int capacity = bodyA.length * 2;
+		bodyA = Arrays.copyOf(bodyA, capacity);
+		bodyB = Arrays.copyOf(bodyB, capacity);
+		nx = Arrays.copyOf(nx, capacity);
+		ny = Arrays.copyOf(ny, capacity);
+		nz = Arrays.copyOf(nz, capacity);
+		px = Arrays.copyOf(px, capacity);
+		py = Arrays.copyOf(py, capacity);
+		pz = Arrays.copyOf(pz, capacity);
+		depth = Arrays.copyOf(depth, capacity);
+		feature = Arrays.copyOf(feature, capacity);
+		normalImpulse = Arrays.copyOf(normalImpulse, capacity);
+		tangentImpulse1 = Arrays.copyOf(tangentImpulse1, capacity);
+		tangentImpulse2 = Arrays.copyOf(tangentImpulse2, capacity);
+	}
+
+	@Override
+	public String toString() {
+		return "ContactBuffer [contacts:" + count + "]";
+	}
+}
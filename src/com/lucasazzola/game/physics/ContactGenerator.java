@@ -0,0 +1,18 @@
+package com.lucasazzola.game.physics;
+
+/**
+ * Finds the contacts between bodies for a step, typically by pairing bodies
+ * with their shapes and running the {@link Narrowphase}
+ *
+ * @since 19/10/2026
+ */
+public interface ContactGenerator {
+
+	/**
+	 * Adds the contacts between bodies at their current positions
+	 *
+	 * @param bodies the bodies
+	 * @param out the buffer to add contacts to, already cleared
+	 */
+	void generate(RigidBodies bodies, ContactBuffer out);
+}
@@ -0,0 +1,80 @@
+package com.lucasazzola.game.physics;
+
+import com.lucasazzola.game.graphics.Matrix3;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Convex hull of a set of points, given in local space and placed in the
+ * world by a position and rotation
+ *
+ * @since 19/10/2026
+ */
+public class ConvexHull implements ConvexShape {
+
+	/**
+	 * Local vertices, packed as x, y, z triples
+	 */
+	private final float[] vertices;
+
+	/**
+	 * Public members
+	 */
+	public Vector3 position;
+	public Matrix3 rotation;
+
+	/**
+	 * Constructs a hull
+	 *
+	 * @param vertices the local vertices, packed as x, y, z triples
+	 * @param position the position of the hull
+	 * @param rotation the orientation of the hull
+	 */
+	public ConvexHull(float[] vertices, Vector3 position, Matrix3 rotation) {
+		if (vertices.length < 3 || vertices.length % 3 != 0)
+			throw new IllegalArgumentException("Vertices must be xyz triples");
+		this.vertices = vertices;
+		this.position = position;
+		this.rotation = rotation;
+	}
+
+	/**
+	 * @return the number of vertices
+	 */
+	public int vertexCount() {
+		return vertices.length / 3;
+	}
+
+	@Override
+	public int support(float dx, float dy, float dz, Vector3 out) {
+		float[][] m = rotation.m;
+
+		// Direction into local space, R^T * d
+		float lx = m[0][0] * dx + m[1][0] * dy + m[2][0] * dz;
+		float ly = m[0][1] * dx + m[1][1] * dy + m[2][1] * dz;
+		float lz = m[0][2] * dx + m[1][2] * dy + m[2][2] * dz;
+
+		int best = 0;
+		float max = Float.NEGATIVE_INFINITY;
+		for (int i = 0; i < vertices.length; i += 3) {
+			float dot = vertices[i] * lx + vertices[i + 1] * ly
+					+ vertices[i + 2] * lz;
+			if (dot > max) {
+				max = dot;
+				best = i;
+			}
+		}
+
+		float x = vertices[best], y = vertices[best + 1];
+		float z = vertices[best + 2];
+		out.x = position.x + m[0][0] * x + m[0][1] * y + m[0][2] * z;
+		out.y = position.y + m[1][0] * x + m[1][1] * y + m[1][2] * z;
+		out.z = position.z + m[2][0] * x + m[2][1] * y + m[2][2] * z;
+		return best / 3;
+	}
+
+	@Override
+	public String toString() {
+		return "ConvexHull [vertices:" + vertexCount() + ", position:"
+				+ position + "]";
+	}
+}
@@ -0,0 +1,23 @@
+package com.lucasazzola.game.physics;
+
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * A convex shape in world space, described by its support mapping for use by
+ * GJK and EPA in the {@link Narrowphase}
+ *
+ * @since 19/10/2026
+ */
+public interface ConvexShape {
+
+	/**
+	 * Finds the point of the shape furthest along a direction
+	 *
+	 * @param dx the x-component of the direction
+	 * @param dy the y-component of the direction
+	 * @param dz the z-component of the direction
+	 * @param out the point will be assigned to this vector
+	 * @return an index identifying the vertex found, used as a contact feature
+	 */
+	int support(float dx, float dy, float dz, Vector3 out);
+}
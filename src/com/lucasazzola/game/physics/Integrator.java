@@ -0,0 +1,293 @@
+package com.lucasazzola.game.physics;
+
+import java.util.Arrays;
+
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Advances rigid body state by a time step, looping directly over the
+ * RigidBodies arrays without allocating per body. Sleeping bodies are
+ * skipped.
+ *
+ * @since 19/10/2026
+ */
+public class Integrator {
+
+	/**
+	 * Integration methods
+	 */
+	public enum Method {
+		/**
+		 * v += a * dt, then x += v * dt
+		 */
+		SEMI_IMPLICIT_EULER,
+
+		/**
+		 * x += v * dt + a * dt^2 / 2, then v += a * dt. Second order accurate
+		 * for forces which are constant over the step.
+		 */
+		VELOCITY_VERLET
+	}
+
+	/**
+	 * Integrator members
+	 */
+	private Method method;
+	private final Vector3 gravity;
+	private float linearDamping, angularDamping;
+
+	/**
+	 * Scratch vector for the inertia tensor product
+	 */
+	private final Vector3 temp = new Vector3();
+
+	/**
+	 * Velocities at the start of a split velocity Verlet step, and whether
+	 * they are waiting for the matching {@link #integratePositions}
+	 */
+	private float[] startVx = new float[0], startVy = startVx,
+			startVz = startVx;
+	private boolean started;
+
+	/**
+	 * Constructs a semi-implicit Euler integrator
+	 *
+	 * @param gravity the gravitational acceleration, copied
+	 */
+	public Integrator(Vector3 gravity) {
+		this(Method.SEMI_IMPLICIT_EULER, gravity);
+	}
+
+	/**
+	 * Constructs an integrator
+	 *
+	 * @param method the integration method
+	 * @param gravity the gravitational acceleration, copied
+	 */
+	public Integrator(Method method, Vector3 gravity) {
+		this.method = method;
+		this.gravity = new Vector3(gravity);
+	}
+
+	/**
+	 * @param method the integration method
+	 */
+	public void setMethod(Method method) {
+		this.method = method;
+	}
+
+	/**
+	 * @return the integration method
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * @param gravity the gravitational acceleration
+	 */
+	public void setGravity(Vector3 gravity) {
+		this.gravity.x = gravity.x;
+		this.gravity.y = gravity.y;
+		this.gravity.z = gravity.z;
+	}
+
+	/**
+	 * Sets the fraction of velocity lost per second
+	 *
+	 * @param linear the linear damping, in [0, 1]
+	 * @param angular the angular damping, in [0, 1]
+	 */
+	public void setDamping(float linear, float angular) {
+		this.linearDamping = linear;
+		this.angularDamping = angular;
+	}
+
+	/**
+	 * Integrates velocities only, from gravity and the accumulated forces and
+	 * torques, which are then cleared. Used with {@link #integratePositions}
+	 * when a constraint solver runs in between. With
+	 * {@link Method#VELOCITY_VERLET} the starting velocities are kept, so
+	 * that positions advance by the average of the starting and final
+	 * velocities, which is x += v * dt + a * dt^2 / 2 for bodies the solver
+	 * leaves alone.
+	 *
+	 * @param bodies the bodies
+	 * @param dt the time step, in seconds
+	 */
+	public void integrateVelocities(RigidBodies bodies, float dt) {
+		final int n = bodies.size();
+		started = method == Method.VELOCITY_VERLET;
+		if (started) {
+			if (startVx.length < n) {
+				int capacity = Math.max(n, startVx.length * 2);
+				startVx = Arrays.copyOf(startVx, capacity);
+				startVy = Arrays.copyOf(startVy, capacity);
+				startVz = Arrays.copyOf(startVz, capacity);
+			}
+			System.arraycopy(bodies.vx, 0, startVx, 0, n);
+			System.arraycopy(bodies.vy, 0, startVy, 0, n);
+			System.arraycopy(bodies.vz, 0, startVz, 0, n);
+		}
+		final float[] vx = bodies.vx, vy = bodies.vy, vz = bodies.vz;
+		final float[] fx = bodies.fx, fy = bodies.fy, fz = bodies.fz;
+		final float[] invMass = bodies.invMass;
+		final boolean[] asleep = bodies.asleep;
+		final float gx = gravity.x * dt, gy = gravity.y * dt;
+		final float gz = gravity.z * dt;
+		final float linear = damping(linearDamping, dt);
+
+		for (int i = 0; i < n; i++) {
+			if (asleep[i])
+				continue;
+			float k = invMass[i] * dt;
+			// Static bodies (inverse mass 0) are unaffected by gravity
+			float g = invMass[i] > 0 ? 1 : 0;
+			vx[i] = (vx[i] + fx[i] * k + gx * g) * linear;
+			vy[i] = (vy[i] + fy[i] * k + gy * g) * linear;
+			vz[i] = (vz[i] + fz[i] * k + gz * g) * linear;
+			fx[i] = fy[i] = fz[i] = 0;
+		}
+		integrateAngularVelocities(bodies, dt);
+	}
+
+	/**
+	 * Integrates positions and orientations from the current velocities, or
+	 * with {@link Method#VELOCITY_VERLET} from the average of the velocities
+	 * before and after the preceding {@link #integrateVelocities}
+	 *
+	 * @param bodies the bodies
+	 * @param dt the time step, in seconds
+	 */
+	public void integratePositions(RigidBodies bodies, float dt) {
+		final int n = bodies.size();
+		final float[] px = bodies.px, py = bodies.py, pz = bodies.pz;
+		final float[] vx = bodies.vx, vy = bodies.vy, vz = bodies.vz;
+		final boolean[] asleep = bodies.asleep;
+
+		if (started && n <= startVx.length) {
+			final float[] sx = startVx, sy = startVy, sz = startVz;
+			final float h = 0.5f * dt;
+			for (int i = 0; i < n; i++) {
+				if (asleep[i])
+					continue;
+				px[i] += (sx[i] + vx[i]) * h;
+				py[i] += (sy[i] + vy[i]) * h;
+				pz[i] += (sz[i] + vz[i]) * h;
+			}
+		} else {
+			for (int i = 0; i < n; i++) {
+				if (asleep[i])
+					continue;
+				px[i] += vx[i] * dt;
+				py[i] += vy[i] * dt;
+				pz[i] += vz[i] * dt;
+			}
+		}
+		started = false;
+		integrateOrientations(bodies, dt);
+	}
+
+	/**
+	 * Advances every body by one step using the current method
+	 *
+	 * @param bodies the bodies
+	 * @param dt the time step, in seconds
+	 */
+	public void step(RigidBodies bodies, float dt) {
+		if (method == Method.SEMI_IMPLICIT_EULER) {
+			integrateVelocities(bodies, dt);
+			integratePositions(bodies, dt);
+			return;
+		}
+
+		final int n = bodies.size();
+		final float[] px = bodies.px, py = bodies.py, pz = bodies.pz;
+		final float[] vx = bodies.vx, vy = bodies.vy, vz = bodies.vz;
+		final float[] fx = bodies.fx, fy = bodies.fy, fz = bodies.fz;
+		final float[] invMass = bodies.invMass;
+		final boolean[] asleep = bodies.asleep;
+		final float halfDt2 = 0.5f * dt * dt;
+		final float linear = damping(linearDamping, dt);
+
+		for (int i = 0; i < n; i++) {
+			if (asleep[i])
+				continue;
+			float g = invMass[i] > 0 ? 1 : 0;
+			float ax = fx[i] * invMass[i] + gravity.x * g;
+			float ay = fy[i] * invMass[i] + gravity.y * g;
+			float az = fz[i] * invMass[i] + gravity.z * g;
+			px[i] += vx[i] * dt + ax * halfDt2;
+			py[i] += vy[i] * dt + ay * halfDt2;
+			pz[i] += vz[i] * dt + az * halfDt2;
+			vx[i] = (vx[i] + ax * dt) * linear;
+			vy[i] = (vy[i] + ay * dt) * linear;
+			vz[i] = (vz[i] + az * dt) * linear;
+			fx[i] = fy[i] = fz[i] = 0;
+		}
+		integrateAngularVelocities(bodies, dt);
+		integrateOrientations(bodies, dt);
+	}
+
+	/**
+	 * w += invI * torque * dt, then clears the torque accumulators
+	 */
+	private void integrateAngularVelocities(RigidBodies bodies, float dt) {
+		final int n = bodies.size();
+		final float[] wx = bodies.wx, wy = bodies.wy, wz = bodies.wz;
+		final float[] tx = bodies.tx, ty = bodies.ty, tz = bodies.tz;
+		final float angular = damping(angularDamping, dt);
+		final boolean[] asleep = bodies.asleep;
+
+		for (int i = 0; i < n; i++) {
+			if (asleep[i])
+				continue;
+			if (tx[i] != 0 || ty[i] != 0 || tz[i] != 0) {
+				bodies.applyInverseInertia(i, tx[i], ty[i], tz[i], temp);
+				wx[i] += temp.x * dt;
+				wy[i] += temp.y * dt;
+				wz[i] += temp.z * dt;
+				tx[i] = ty[i] = tz[i] = 0;
+			}
+			wx[i] *= angular;
+			wy[i] *= angular;
+			wz[i] *= angular;
+		}
+	}
+
+	/**
+	 * q += (0, w) * q * dt / 2, then renormalises q
+	 */
+	private void integrateOrientations(RigidBodies bodies, float dt) {
+		final int n = bodies.size();
+		final float[] qx = bodies.qx, qy = bodies.qy;
+		final float[] qz = bodies.qz, qw = bodies.qw;
+		final float[] wx = bodies.wx, wy = bodies.wy, wz = bodies.wz;
+		final float h = 0.5f * dt;
+		final boolean[] asleep = bodies.asleep;
+
+		for (int i = 0; i < n; i++) {
+			if (asleep[i])
+				continue;
+			float ax = wx[i] * h, ay = wy[i] * h, az = wz[i] * h;
+			float x0 = qx[i], y0 = qy[i], z0 = qz[i], w0 = qw[i];
+			float x = x0 + ax * w0 + ay * z0 - az * y0;
+			float y = y0 + ay * w0 + az * x0 - ax * z0;
+			float z = z0 + az * w0 + ax * y0 - ay * x0;
+			float w = w0 - (ax * x0 + ay * y0 + az * z0);
+			float inv = (float) (1 / Math.sqrt(x * x + y * y + z * z + w
+					* w));
+			qx[i] = x * inv;
+			qy[i] = y * inv;
+			qz[i] = z * inv;
+			qw[i] = w * inv;
+		}
+	}
+
+	/**
+	 * Converts a per second damping fraction into a per step factor
+	 */
+	private static float damping(float perSecond, float dt) {
+		return perSecond == 0 ? 1 : (float) Math.pow(1 - perSecond, dt);
+	}
+}
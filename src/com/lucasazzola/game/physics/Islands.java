@@ -0,0 +1,311 @@
+package com.lucasazzola.game.physics;
+
+import java.util.Arrays;
+
+/**
+ * Partitions bodies into islands, sets of dynamic bodies connected through
+ * contacts or joints, using union-find. Islands share no dynamic bodies, so
+ * they may be solved independently, and an island at rest may be put to
+ * sleep as a whole.
+ *
+ * Static bodies (inverse mass 0) belong to no island; they never carry an
+ * impulse from one island to another.
+ *
+ * @since 19/10/2026
+ */
+public class Islands {
+
+	/**
+	 * Default rest thresholds
+	 */
+	public static final float SLEEP_LINEAR = 0.05f;
+	public static final float SLEEP_ANGULAR = 0.05f;
+	public static final float TIME_TO_SLEEP = 0.5f;
+
+	/**
+	 * Union-find forest and the island of each body, -1 if static
+	 */
+	private int[] parent = new int[16];
+	private int[] islandOf = new int[16];
+
+	/**
+	 * Bodies, contacts and joints grouped by island. The members of island
+	 * k are order[start[k]] to order[start[k + 1] - 1].
+	 */
+	int[] bodyOrder = new int[16], bodyStart = new int[17];
+	int[] contactOrder = new int[16], contactStart = new int[17];
+	int[] jointOrder = new int[16], jointStart = new int[17];
+
+	/**
+	 * Whether each island is asleep, and the number of islands
+	 */
+	private boolean[] asleep = new boolean[16];
+	private int count;
+
+	/**
+	 * Scratch island keys for grouping
+	 */
+	private int[] keys = new int[16];
+
+	/**
+	 * Rest thresholds
+	 */
+	private float sleepLinear = SLEEP_LINEAR, sleepAngular = SLEEP_ANGULAR;
+	private float timeToSleep = TIME_TO_SLEEP;
+
+	/**
+	 * Sets when islands are put to sleep
+	 *
+	 * @param linear the largest linear speed considered at rest
+	 * @param angular the largest angular speed considered at rest
+	 * @param time the time every body of an island must be at rest before
+	 *            it sleeps, or infinity to never sleep
+	 */
+	public void setSleepThresholds(float linear, float angular, float time) {
+		this.sleepLinear = linear;
+		this.sleepAngular = angular;
+		this.timeToSleep = time;
+	}
+
+	/**
+	 * Rebuilds the islands. An island is asleep if every one of its bodies
+	 * is; an island with both sleeping and awake bodies, such as when an
+	 * awake body touches a sleeping one, is woken.
+	 *
+	 * @param bodies the bodies
+	 * @param contacts the contacts of this step
+	 * @param joints the joints
+	 */
+	public void build(RigidBodies bodies, ContactBuffer contacts,
+			Joints joints) {
+		int n = bodies.size();
+		if (parent.length < n) {
+			parent = new int[n * 2];
+			islandOf = new int[n * 2];
+		}
+		for (int i = 0; i < n; i++) {
+			parent[i] = i;
+		}
+		float[] invMass = bodies.invMass;
+		for (int c = 0; c < contacts.size(); c++) {
+			int a = contacts.bodyA[c], b = contacts.bodyB[c];
+			if (invMass[a] > 0 && invMass[b] > 0)
+				union(a, b);
+		}
+		for (int j = 0; j < joints.size(); j++) {
+			int a = joints.bodyA[j], b = joints.bodyB[j];
+			if (invMass[a] > 0 && invMass[b] > 0)
+				union(a, b);
+		}
+
+		// Number the roots
+		count = 0;
+		for (int i = 0; i < n; i++) {
+			islandOf[i] = -1;
+			if (invMass[i] > 0 && find(i) == i)
+				islandOf[i] = count++;
+		}
+		for (int i = 0; i < n; i++) {
+			if (invMass[i] > 0)
+				islandOf[i] = islandOf[find(i)];
+		}
+
+		// Group bodies, contacts and joints by island
+		ensureKeys(n);
+		System.arraycopy(islandOf, 0, keys, 0, n);
+		bodyStart = ensure(bodyStart, count + 1);
+		bodyOrder = group(n, bodyStart, bodyOrder);
+
+		ensureKeys(contacts.size());
+		for (int c = 0; c < contacts.size(); c++) {
+			keys[c] = islandOf(contacts.bodyA[c], contacts.bodyB[c]);
+		}
+		contactStart = ensure(contactStart, count + 1);
+		contactOrder = group(contacts.size(), contactStart, contactOrder);
+
+		ensureKeys(joints.size());
+		for (int j = 0; j < joints.size(); j++) {
+			keys[j] = islandOf(joints.bodyA[j], joints.bodyB[j]);
+		}
+		jointStart = ensure(jointStart, count + 1);
+		jointOrder = group(joints.size(), jointStart, jointOrder);
+
+		// Island sleep state, waking partially sleeping islands
+		if (asleep.length < count)
+			asleep = new boolean[count * 2];
+		for (int k = 0; k < count; k++) {
+			boolean all = true, any = false;
+			for (int m = bodyStart[k]; m < bodyStart[k + 1]; m++) {
+				boolean sleeping = bodies.asleep[bodyOrder[m]];
+				all &= sleeping;
+				any |= sleeping;
+			}
+			if (any && !all) {
+				for (int m = bodyStart[k]; m < bodyStart[k + 1]; m++) {
+					bodies.wake(bodyOrder[m]);
+				}
+			}
+			asleep[k] = all;
+		}
+	}
+
+	/**
+	 * Puts to sleep every awake island whose bodies have all been at rest for
+	 * long enough. Called after positions have been integrated.
+	 *
+	 * @param bodies the bodies
+	 * @param dt the time step, in seconds
+	 */
+	public void updateSleep(RigidBodies bodies, float dt) {
+		float linear = sleepLinear * sleepLinear;
+		float angular = sleepAngular * sleepAngular;
+		for (int k = 0; k < count; k++) {
+			if (asleep[k])
+				continue;
+			float rest = Float.POSITIVE_INFINITY;
+			for (int m = bodyStart[k]; m < bodyStart[k + 1]; m++) {
+				int i = bodyOrder[m];
+				float v = bodies.vx[i] * bodies.vx[i] + bodies.vy[i]
+						* bodies.vy[i] + bodies.vz[i] * bodies.vz[i];
+				float w = bodies.wx[i] * bodies.wx[i] + bodies.wy[i]
+						* bodies.wy[i] + bodies.wz[i] * bodies.wz[i];
+				if (v > linear || w > angular) {
+					bodies.sleepTime[i] = 0;
+				} else {
+					bodies.sleepTime[i] += dt;
+				}
+				rest = Math.min(rest, bodies.sleepTime[i]);
+			}
+			if (rest < timeToSleep)
+				continue;
+			for (int m = bodyStart[k]; m < bodyStart[k + 1]; m++) {
+				int i = bodyOrder[m];
+				bodies.asleep[i] = true;
+				bodies.vx[i] = bodies.vy[i] = bodies.vz[i] = 0;
+				bodies.wx[i] = bodies.wy[i] = bodies.wz[i] = 0;
+			}
+			asleep[k] = true;
+		}
+	}
+
+	/**
+	 * @return the number of islands
+	 */
+	public int count() {
+		return count;
+	}
+
+	/**
+	 * @param island the island
+	 * @return true if the island is asleep
+	 */
+	public boolean isAsleep(int island) {
+		return asleep[island];
+	}
+
+	/**
+	 * @param island the island
+	 * @return the number of bodies in the island
+	 */
+	public int bodyCount(int island) {
+		return bodyStart[island + 1] - bodyStart[island];
+	}
+
+	/**
+	 * @param island the island
+	 * @return the number of contacts in the island
+	 */
+	public int contactCount(int island) {
+		return contactStart[island + 1] - contactStart[island];
+	}
+
+	/**
+	 * @param body the body
+	 * @return the island of the body, or -1 for a static body
+	 */
+	public int islandOf(int body) {
+		return islandOf[body];
+	}
+
+	/**
+	 * @return the island of a pair, from whichever body is dynamic, or -1
+	 */
+	private int islandOf(int a, int b) {
+		return islandOf[a] >= 0 ? islandOf[a] : islandOf[b];
+	}
+
+	/**
+	 * Finds the root of a body, halving the path as it goes
+	 */
+	private int find(int i) {
+		while (parent[i] != i) {
+			parent[i] = parent[parent[i]];
+			i = parent[i];
+		}
+		return i;
+	}
+
+	/**
+	 * Joins the sets of two bodies, keeping the smaller root so that island
+	 * numbering follows body order
+	 */
+	private void union(int a, int b) {
+		a = find(a);
+		b = find(b);
+		if (a < b) {
+			parent[b] = a;
+		} else if (b < a) {
+			parent[a] = b;
+		}
+	}
+
+	/**
+	 * Counting sort of the first n keys by island, skipping keys of -1
+	 *
+	 * @param start receives the offset of each island, and the total
+	 * @param order the array to write indices into, replaced if too small
+	 * @return order
+	 */
+	private int[] group(int n, int[] start, int[] order) {
+		Arrays.fill(start, 0, count + 1, 0);
+		for (int i = 0; i < n; i++) {
+			if (keys[i] >= 0)
+				start[keys[i] + 1]++;
+		}
+		for (int k = 0; k < count; k++) {
+			start[k + 1] += start[k];
+		}
+		order = ensure(order, start[count]);
+		for (int i = 0; i < n; i++) {
+			int k = keys[i];
+			if (k >= 0)
+				order[start[k]++] = i;
+		}
+		// Placement advanced each offset to the next island's, shift back
+		for (int k = count; k > 0; k--) {
+			start[k] = start[k - 1];
+		}
+		start[0] = 0;
+		return order;
+	}
+
+	/**
+	 * Grows the key scratch
+	 */
+	private void ensureKeys(int n) {
+		if (keys.length < n)
+			keys = new int[n * 2];
+	}
+
+	/**
+	 * @return array, or a larger replacement if it is shorter than n
+	 */
+	private static int[] ensure(int[] array, int n) {
+		return array.length < n ? new int[n * 2] : array;
+	}
+
+	@Override
+	public String toString() {
+		return "Islands [islands:" + count + "]";
+	}
+}
@@ -0,0 +1,150 @@
+package com.lucasazzola.game.physics;
+
+import java.util.Arrays;
+
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Ball and socket joints, each pinning a point of one body to a point of
+ * another, stored as one primitive array per component. Anchors are kept in
+ * body space so that they follow the bodies as they move.
+ *
+ * Joints refer to bodies by index, so they must be updated by the caller
+ * when {@link RigidBodies#remove(int)} moves a body, as
+ * {@link PhysicsWorld#removeBody(int)} does.
+ *
+ * @since 19/10/2026
+ */
+public class Joints {
+
+	/**
+	 * The joined bodies
+	 */
+	public int[] bodyA, bodyB;
+
+	/**
+	 * Anchor on each body, in body space
+	 */
+	public float[] ax, ay, az, bx, by, bz;
+
+	/**
+	 * Accumulated impulse, kept between steps for warm starting
+	 */
+	public float[] ix, iy, iz;
+
+	/**
+	 * Number of joints
+	 */
+	private int count;
+
+	/**
+	 * Scratch vector for anchor conversion
+	 */
+	private final Vector3 temp = new Vector3();
+
+	/**
+	 * Constructs an empty set of joints
+	 *
+	 * @param capacity the initial number of joints to allocate for
+	 */
+	public Joints(int capacity) {
+		capacity = Math.max(capacity, 1);
+		bodyA = new int[capacity];
+		bodyB = new int[capacity];
+		ax = new float[capacity];
+		ay = new float[capacity];
+		az = new float[capacity];
+		bx = new float[capacity];
+		by = new float[capacity];
+		bz = new float[capacity];
+		ix = new float[capacity];
+		iy = new float[capacity];
+		iz = new float[capacity];
+	}
+
+	/**
+	 * @return the number of joints
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Joins two bodies at a world space point, using their current poses
+	 *
+	 * @param bodies the bodies
+	 * @param a the first body
+	 * @param b the second body
+	 * @param anchor the joint position, in world space
+	 * @return the index of the joint
+	 */
+	public int add(RigidBodies bodies, int a, int b, Vector3 anchor) {
+		if (count == bodyA.length)
+			grow();
+		int i = count++;
+		bodyA[i] = a;
+		bodyB[i] = b;
+		toBody(bodies, a, anchor);
+		ax[i] = temp.x;
+		ay[i] = temp.y;
+		az[i] = temp.z;
+		toBody(bodies, b, anchor);
+		bx[i] = temp.x;
+		by[i] = temp.y;
+		bz[i] = temp.z;
+		ix[i] = iy[i] = iz[i] = 0;
+		return i;
+	}
+
+	/**
+	 * Removes a joint by moving the last joint into its place
+	 *
+	 * @param i the index of the joint
+	 */
+	public void remove(int i) {
+		int last = --count;
+		bodyA[i] = bodyA[last];
+		bodyB[i] = bodyB[last];
+		ax[i] = ax[last];
+		ay[i] = ay[last];
+		az[i] = az[last];
+		bx[i] = bx[last];
+		by[i] = by[last];
+		bz[i] = bz[last];
+		ix[i] = ix[last];
+		iy[i] = iy[last];
+		iz[i] = iz[last];
+	}
+
+	/**
+	 * Converts a world space point into a body's space, into temp
+	 */
+	private void toBody(RigidBodies bodies, int i, Vector3 point) {
+		RigidBodies.rotate(-bodies.qx[i], -bodies.qy[i], -bodies.qz[i],
+				bodies.qw[i], point.x - bodies.px[i], point.y - bodies.py[i],
+				point.z - bodies.pz[i], temp);
+	}
+
+	/**
+	 * Doubles the capacity
+	 */
+	private void grow() {
+		int capacity = bodyA.length * 2;
+		bodyA = Arrays.copyOf(bodyA, capacity);
+		bodyB = Arrays.copyOf(bodyB, capacity);
+		ax = Arrays.copyOf(ax, capacity);
+		ay = Arrays.copyOf(ay, capacity);
+		az = Arrays.copyOf(az, capacity);
+		bx = Arrays.copyOf(bx, capacity);
+		by = Arrays.copyOf(by, capacity);
+		bz = Arrays.copyOf(bz, capacity);
+		ix = Arrays.copyOf(ix, capacity);
+		iy = Arrays.copyOf(iy, capacity);
+		iz = Arrays.copyOf(iz, capacity);
+	}
+
+	@Override
+	public String toString() {
+		return "Joints [joints:" + count + "]";
+	}
+}
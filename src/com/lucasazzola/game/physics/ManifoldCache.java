@@ -0,0 +1,229 @@
+package com.lucasazzola.game.physics;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the accumulated impulses of each contact from one step to the next,
+ * so that the solver can be warm started. Contacts are matched by body pair
+ * and feature id.
+ *
+ * Pairs are kept in an open addressing table of primitive arrays. The cache
+ * holds two tables and swaps them on each {@link #store(ContactBuffer)}, so
+ * pairs which were not in contact during the last step are dropped without a
+ * separate eviction pass.
+ *
+ * @since 19/10/2026
+ */
+public class ManifoldCache {
+
+	/**
+	 * Most points remembered per pair
+	 */
+	public static final int MAX_POINTS = Narrowphase.MAX_MANIFOLD_POINTS;
+
+	/**
+	 * Key of an unused slot
+	 */
+	private static final long EMPTY = -1L;
+
+	/**
+	 * The table matched against, and the table being built
+	 */
+	private Table current = new Table(16), next = new Table(16);
+
+	/**
+	 * Loads the impulses stored for matching contacts from the last step.
+	 * Unmatched contacts are left with zero impulse.
+	 *
+	 * @param contacts the contacts of this step
+	 * @return the number of contacts matched
+	 */
+	public int warmStart(ContactBuffer contacts) {
+		int matched = 0;
+		for (int i = 0; i < contacts.size(); i++) {
+			int slot = current.find(key(contacts.bodyA[i], contacts.bodyB[i]));
+			if (slot < 0)
+				continue;
+			int base = slot * MAX_POINTS;
+			int points = current.counts[slot];
+			for (int p = 0; p < points; p++) {
+				if (current.features[base + p] == contacts.feature[i]) {
+					contacts.normalImpulse[i] = current.normal[base + p];
+					contacts.tangentImpulse1[i] = current.tangent1[base + p];
+					contacts.tangentImpulse2[i] = current.tangent2[base + p];
+					matched++;
+					break;
+				}
+			}
+		}
+		return matched;
+	}
+
+	/**
+	 * Stores the impulses of every contact for the next step, replacing
+	 * everything stored before
+	 *
+	 * @param contacts the solved contacts
+	 */
+	public void store(ContactBuffer contacts) {
+		next.clear(contacts.size() * 2);
+		for (int i = 0; i < contacts.size(); i++) {
+			int slot = next.insert(key(contacts.bodyA[i], contacts.bodyB[i]));
+			int points = next.counts[slot];
+			if (points == MAX_POINTS)
+				continue;
+			int p = slot * MAX_POINTS + points;
+			next.features[p] = contacts.feature[i];
+			next.normal[p] = contacts.normalImpulse[i];
+			next.tangent1[p] = contacts.tangentImpulse1[i];
+			next.tangent2[p] = contacts.tangentImpulse2[i];
+			next.counts[slot] = points + 1;
+		}
+		Table swap = current;
+		current = next;
+		next = swap;
+	}
+
+	/**
+	 * Follows {@link RigidBodies#remove(int)}: forgets the pairs of the
+	 * removed body and moves the pairs of the body moved into its index, so
+	 * that no pair is warm started with another pair's impulses
+	 *
+	 * @param body the index of the removed body
+	 * @param moved the previous index of the body moved into its place, or
+	 *            -1 if none was moved
+	 */
+	public void remove(int body, int moved) {
+		next.clear(current.size);
+		for (int slot = 0; slot < current.keys.length; slot++) {
+			long key = current.keys[slot];
+			if (key == EMPTY)
+				continue;
+			int a = (int) (key >>> 32), b = (int) key;
+			if (a == body || b == body)
+				continue;
+			if (a == moved)
+				a = body;
+			if (b == moved)
+				b = body;
+			int to = next.insert(key(a, b));
+			int points = current.counts[slot];
+			System.arraycopy(current.features, slot * MAX_POINTS,
+					next.features, to * MAX_POINTS, points);
+			System.arraycopy(current.normal, slot * MAX_POINTS, next.normal,
+					to * MAX_POINTS, points);
+			System.arraycopy(current.tangent1, slot * MAX_POINTS,
+					next.tangent1, to * MAX_POINTS, points);
+			System.arraycopy(current.tangent2, slot * MAX_POINTS,
+					next.tangent2, to * MAX_POINTS, points);
+			next.counts[to] = points;
+		}
+		Table swap = current;
+		current = next;
+		next = swap;
+	}
+
+	/**
+	 * Forgets every stored pair
+	 */
+	public void clear() {
+		current.clear(0);
+	}
+
+	/**
+	 * @return the number of pairs stored
+	 */
+	public int size() {
+		return current.size;
+	}
+
+	/**
+	 * Packs a body pair into a key
+	 */
+	private static long key(int a, int b) {
+		return ((long) a << 32) | (b & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Open addressing table with linear probing, with up to MAX_POINTS
+	 * points per slot
+	 */
+	private static class Table {
+
+		long[] keys;
+		int[] counts, features;
+		float[] normal, tangent1, tangent2;
+		int size;
+
+		Table(int capacity) {
+			allocate(capacity);
+		}
+
+		/**
+		 * Empties the table, growing it to hold at least the given number of
+		 * keys below half load
+		 */
+		void clear(int expected) {
+			if (expected * 2 > keys.length) {
+				int capacity = keys.length;
+				while (capacity < expected * 2) {
+					capacity *= 2;
+				}
+				allocate(capacity);
+			} else {
+				Arrays.fill(keys, EMPTY);
+			}
+			size = 0;
+		}
+
+		/**
+		 * @return the slot holding key, or -1
+		 */
+		int find(long key) {
+			int mask = keys.length - 1;
+			for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+				if (keys[slot] == key)
+					return slot;
+				if (keys[slot] == EMPTY)
+					return -1;
+			}
+		}
+
+		/**
+		 * @return the slot holding key, claiming an empty slot if absent
+		 */
+		int insert(long key) {
+			int mask = keys.length - 1;
+			for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+				if (keys[slot] == key)
+					return slot;
+				if (keys[slot] == EMPTY) {
+					keys[slot] = key;
+					counts[slot] = 0;
+					size++;
+					return slot;
+				}
+			}
+		}
+
+		void allocate(int capacity) {
+			keys = new long[capacity];
+			Arrays.fill(keys, EMPTY);
+			counts = new int[capacity];
+			features = new int[capacity * MAX_POINTS];
+			normal = new float[capacity * MAX_POINTS];
+			tangent1 = new float[capacity * MAX_POINTS];
+			tangent2 = new float[capacity * MAX_POINTS];
+		}
+
+		static int hash(long key) {
+			long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ManifoldCache [pairs:" + size() + "]";
+	}
+}
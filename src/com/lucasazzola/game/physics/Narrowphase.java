@@ -0,0 +1,982 @@
+package com.lucasazzola.game.physics;
+
+import com.lucasazzola.game.graphics.Rectangle;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Exact collision tests for candidate pairs, writing contact points, normals
+ * and penetration depths into a {@link ContactBuffer}. Every test returns
+ * true if the shapes are in contact, and normals point from the first shape
+ * (body a) to the second (body b).
+ *
+ * Scratch space for box clipping and GJK/EPA is held by the instance, so a
+ * Narrowphase must not be shared between threads.
+ *
+ * @since 19/10/2026
+ */
+public class Narrowphase {
+
+	/**
+	 * Tolerances
+	 */
+	private static final float EPSILON = 1e-6f;
+	private static final float EPA_TOLERANCE = 1e-4f;
+
+	/**
+	 * Separating axis bias, an axis must be this much better to replace a
+	 * face axis already found, so that contacts stay on stable features
+	 */
+	private static final float RELATIVE_TOLERANCE = 0.95f;
+	private static final float ABSOLUTE_TOLERANCE = 0.01f;
+
+	/**
+	 * Most points kept per box-box manifold
+	 */
+	public static final int MAX_MANIFOLD_POINTS = 4;
+
+	/**
+	 * GJK/EPA limits
+	 */
+	private static final int MAX_ITERATIONS = 64;
+	private static final int MAX_VERTICES = 64;
+	private static final int MAX_FACES = 2 * MAX_VERTICES;
+	private static final int MAX_EDGES = 3 * MAX_VERTICES;
+
+	/**
+	 * Box scratch, axes packed as k * 3 + component
+	 */
+	private final float[] axesA = new float[9], axesB = new float[9];
+	private final float[] extentsA = new float[3], extentsB = new float[3];
+
+	/**
+	 * Clipping scratch, polygons of up to 8 points with feature tags
+	 */
+	private final float[] clipX = new float[8], clipY = new float[8],
+			clipZ = new float[8];
+	private final float[] tempX = new float[8], tempY = new float[8],
+			tempZ = new float[8];
+	private final int[] clipTag = new int[8], tempTag = new int[8];
+	private final float[] keepDepth = new float[8];
+	private final int[] keep = new int[MAX_MANIFOLD_POINTS];
+
+	/**
+	 * GJK simplex and EPA polytope vertices: the Minkowski difference point,
+	 * the support point on A, and the support features
+	 */
+	private final float[] vx = new float[MAX_VERTICES],
+			vy = new float[MAX_VERTICES], vz = new float[MAX_VERTICES];
+	private final float[] vax = new float[MAX_VERTICES],
+			vay = new float[MAX_VERTICES], vaz = new float[MAX_VERTICES];
+	private final int[] featureA = new int[MAX_VERTICES],
+			featureB = new int[MAX_VERTICES];
+
+	/**
+	 * EPA faces and horizon edges
+	 */
+	private final int[] face0 = new int[MAX_FACES], face1 = new int[MAX_FACES],
+			face2 = new int[MAX_FACES];
+	private final float[] faceX = new float[MAX_FACES],
+			faceY = new float[MAX_FACES], faceZ = new float[MAX_FACES],
+			faceD = new float[MAX_FACES];
+	private final int[] edgeA = new int[MAX_EDGES], edgeB = new int[MAX_EDGES];
+	private int faceCount, edgeCount;
+
+	/**
+	 * Support and search direction scratch
+	 */
+	private final Vector3 supportA = new Vector3(), supportB = new Vector3();
+	private float dirX, dirY, dirZ;
+	private int simplexCount;
+
+	/**
+	 * Sphere against sphere
+	 *
+	 * @param a the first body
+	 * @param centerA the centre of the first sphere
+	 * @param radiusA the radius of the first sphere
+	 * @param b the second body
+	 * @param centerB the centre of the second sphere
+	 * @param radiusB the radius of the second sphere
+	 * @param out the buffer to add contacts to
+	 * @return true if the spheres are in contact
+	 */
+	public boolean sphereSphere(int a, Vector3 centerA, float radiusA, int b,
+			Vector3 centerB, float radiusB, ContactBuffer out) {
+		float dx = centerB.x - centerA.x;
+		float dy = centerB.y - centerA.y;
+		float dz = centerB.z - centerA.z;
+		float distanceSqr = dx * dx + dy * dy + dz * dz;
+		float radius = radiusA + radiusB;
+		if (distanceSqr > radius * radius)
+			return false;
+
+		float distance = (float) Math.sqrt(distanceSqr);
+		float nx = 0, ny = 1, nz = 0;
+		if (distance > EPSILON) {
+			nx = dx / distance;
+			ny = dy / distance;
+			nz = dz / distance;
+		}
+		float depth = radius - distance;
+		float k = radiusA - depth * 0.5f;
+		out.add(a, b, nx, ny, nz, centerA.x + nx * k, centerA.y + ny * k,
+				centerA.z + nz * k, depth, 0);
+		return true;
+	}
+
+	/**
+	 * Sphere against oriented box
+	 *
+	 * @param a the sphere's body
+	 * @param center the centre of the sphere
+	 * @param radius the radius of the sphere
+	 * @param b the box's body
+	 * @param box the box
+	 * @param out the buffer to add contacts to
+	 * @return true if the sphere and box are in contact
+	 */
+	public boolean sphereBox(int a, Vector3 center, float radius, int b,
+			OrientedBox box, ContactBuffer out) {
+		loadBox(box, axesB, extentsB);
+		float dx = center.x - box.center.x;
+		float dy = center.y - box.center.y;
+		float dz = center.z - box.center.z;
+
+		// Closest point on the box in local space, tracking the nearest face
+		// in case the centre is inside
+		float[] local = tempX;
+		boolean inside = true;
+		int nearest = 0;
+		float nearestDistance = Float.POSITIVE_INFINITY;
+		for (int k = 0; k < 3; k++) {
+			float l = axesB[k * 3] * dx + axesB[k * 3 + 1] * dy
+					+ axesB[k * 3 + 2] * dz;
+			float h = extentsB[k];
+			if (l > h) {
+				l = h;
+				inside = false;
+			} else if (l < -h) {
+				l = -h;
+				inside = false;
+			}
+			float faceDistance = h - Math.abs(l);
+			if (faceDistance < nearestDistance) {
+				nearestDistance = faceDistance;
+				nearest = k;
+			}
+			local[k] = l;
+		}
+
+		if (inside) {
+			// Push out through the nearest face
+			float sign = local[nearest] < 0 ? -1 : 1;
+			float fx = axesB[nearest * 3] * sign;
+			float fy = axesB[nearest * 3 + 1] * sign;
+			float fz = axesB[nearest * 3 + 2] * sign;
+			out.add(a, b, -fx, -fy, -fz, center.x + fx * nearestDistance,
+					center.y + fy * nearestDistance, center.z + fz
+							* nearestDistance, radius + nearestDistance,
+					nearest * 2 + (sign < 0 ? 1 : 0));
+			return true;
+		}
+
+		float qx = box.center.x, qy = box.center.y, qz = box.center.z;
+		for (int k = 0; k < 3; k++) {
+			qx += axesB[k * 3] * local[k];
+			qy += axesB[k * 3 + 1] * local[k];
+			qz += axesB[k * 3 + 2] * local[k];
+		}
+		float nx = qx - center.x, ny = qy - center.y, nz = qz - center.z;
+		float distanceSqr = nx * nx + ny * ny + nz * nz;
+		if (distanceSqr > radius * radius)
+			return false;
+		float distance = (float) Math.sqrt(distanceSqr);
+		if (distance > EPSILON) {
+			nx /= distance;
+			ny /= distance;
+			nz /= distance;
+		}
+		out.add(a, b, nx, ny, nz, qx, qy, qz, radius - distance, 0);
+		return true;
+	}
+
+	/**
+	 * Two dimensional test between Rectangles, with contacts in the z = 0
+	 * plane
+	 *
+	 * @param a the first body
+	 * @param rectangleA the first rectangle
+	 * @param b the second body
+	 * @param rectangleB the second rectangle
+	 * @param out the buffer to add contacts to
+	 * @return true if the rectangles overlap
+	 */
+	public boolean rectangles(int a, Rectangle rectangleA, int b,
+			Rectangle rectangleB, ContactBuffer out) {
+		float ax = rectangleA.getX(), ay = rectangleA.getY();
+		float bx = rectangleB.getX(), by = rectangleB.getY();
+		float minX = Math.max(ax, bx);
+		float maxX = Math.min(ax + rectangleA.width(), bx + rectangleB.width());
+		float minY = Math.max(ay, by);
+		float maxY = Math.min(ay + rectangleA.height(), by
+				+ rectangleB.height());
+		float overlapX = maxX - minX, overlapY = maxY - minY;
+		if (overlapX < 0 || overlapY < 0)
+			return false;
+
+		float cx = (minX + maxX) * 0.5f, cy = (minY + maxY) * 0.5f;
+		if (overlapX < overlapY) {
+			float sign = bx + rectangleB.width() * 0.5f < ax
+					+ rectangleA.width() * 0.5f ? -1 : 1;
+			out.add(a, b, sign, 0, 0, cx, cy, 0, overlapX, 0);
+		} else {
+			float sign = by + rectangleB.height() * 0.5f < ay
+					+ rectangleA.height() * 0.5f ? -1 : 1;
+			out.add(a, b, 0, sign, 0, cx, cy, 0, overlapY, 1);
+		}
+		return true;
+	}
+
+	/**
+	 * Oriented box against oriented box using the separating axis test over
+	 * the 15 candidate axes. Face contacts clip the incident face against
+	 * the reference face, giving up to {@link #MAX_MANIFOLD_POINTS} points;
+	 * edge contacts give a single point.
+	 *
+	 * @param a the first body
+	 * @param boxA the first box
+	 * @param b the second body
+	 * @param boxB the second box
+	 * @param out the buffer to add contacts to
+	 * @return true if the boxes are in contact
+	 */
+	public boolean boxBox(int a, OrientedBox boxA, int b, OrientedBox boxB,
+			ContactBuffer out) {
+		loadBox(boxA, axesA, extentsA);
+		loadBox(boxB, axesB, extentsB);
+		float dx = boxB.center.x - boxA.center.x;
+		float dy = boxB.center.y - boxA.center.y;
+		float dz = boxB.center.z - boxA.center.z;
+
+		float best = Float.NEGATIVE_INFINITY;
+		int bestAxis = -1;
+		float nx = 0, ny = 0, nz = 0;
+
+		// Face axes of A then B
+		for (int k = 0; k < 6; k++) {
+			float[] axes = k < 3 ? axesA : axesB;
+			int o = (k % 3) * 3;
+			float lx = axes[o], ly = axes[o + 1], lz = axes[o + 2];
+			float separation = separation(lx, ly, lz, dx, dy, dz);
+			if (separation > 0)
+				return false;
+			if (bestAxis == -1
+					|| separation > RELATIVE_TOLERANCE * best
+							+ ABSOLUTE_TOLERANCE) {
+				best = separation;
+				bestAxis = k;
+				float sign = lx * dx + ly * dy + lz * dz < 0 ? -1 : 1;
+				nx = lx * sign;
+				ny = ly * sign;
+				nz = lz * sign;
+			}
+		}
+
+		// Edge axes, cross products of an axis of A with an axis of B
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < 3; j++) {
+				float ux = axesA[i * 3], uy = axesA[i * 3 + 1];
+				float uz = axesA[i * 3 + 2];
+				float wx = axesB[j * 3], wy = axesB[j * 3 + 1];
+				float wz = axesB[j * 3 + 2];
+				float lx = uy * wz - uz * wy;
+				float ly = uz * wx - ux * wz;
+				float lz = ux * wy - uy * wx;
+				float length = (float) Math.sqrt(lx * lx + ly * ly + lz * lz);
+				// Parallel edges, already covered by the face axes
+				if (length < 1e-4f)
+					continue;
+				lx /= length;
+				ly /= length;
+				lz /= length;
+				float separation = separation(lx, ly, lz, dx, dy, dz);
+				if (separation > 0)
+					return false;
+				if (separation > RELATIVE_TOLERANCE * best
+						+ ABSOLUTE_TOLERANCE) {
+					best = separation;
+					bestAxis = 6 + i * 3 + j;
+					float sign = lx * dx + ly * dy + lz * dz < 0 ? -1 : 1;
+					nx = lx * sign;
+					ny = ly * sign;
+					nz = lz * sign;
+				}
+			}
+		}
+
+		if (bestAxis < 3)
+			return faceContact(a, boxA, axesA, extentsA, bestAxis, b, boxB,
+					axesB, extentsB, nx, ny, nz, false, out);
+		if (bestAxis < 6)
+			return faceContact(b, boxB, axesB, extentsB, bestAxis - 3, a, boxA,
+					axesA, extentsA, -nx, -ny, -nz, true, out);
+		return edgeContact(a, boxA, b, boxB, (bestAxis - 6) / 3,
+				(bestAxis - 6) % 3, nx, ny, nz, -best, out);
+	}
+
+	/**
+	 * Convex shapes of any kind, using GJK to detect intersection and EPA to
+	 * find the penetration depth and normal. Gives a single point per call.
+	 *
+	 * @param a the first body
+	 * @param shapeA the first shape
+	 * @param b the second body
+	 * @param shapeB the second shape
+	 * @param out the buffer to add contacts to
+	 * @return true if the shapes overlap
+	 */
+	public boolean convex(int a, ConvexShape shapeA, int b, ConvexShape shapeB,
+			ContactBuffer out) {
+		if (!gjk(shapeA, shapeB))
+			return false;
+		return epa(a, shapeA, b, shapeB, out);
+	}
+
+	/**
+	 * Copies a box's axes (rotation columns) and half extents into scratch
+	 */
+	private static void loadBox(OrientedBox box, float[] axes,
+			float[] extents) {
+		float[][] m = box.rotation.m;
+		for (int k = 0; k < 3; k++) {
+			axes[k * 3] = m[0][k];
+			axes[k * 3 + 1] = m[1][k];
+			axes[k * 3 + 2] = m[2][k];
+			extents[k] = box.halfExtent(k);
+		}
+	}
+
+	/**
+	 * Separation of the loaded boxes along a unit axis, negative when the
+	 * projections overlap
+	 */
+	private float separation(float lx, float ly, float lz, float dx,
+			float dy, float dz) {
+		float radius = 0;
+		for (int k = 0; k < 3; k++) {
+			radius += extentsA[k]
+					* Math.abs(axesA[k * 3] * lx + axesA[k * 3 + 1] * ly
+							+ axesA[k * 3 + 2] * lz);
+			radius += extentsB[k]
+					* Math.abs(axesB[k * 3] * lx + axesB[k * 3 + 1] * ly
+							+ axesB[k * 3 + 2] * lz);
+		}
+		return Math.abs(lx * dx + ly * dy + lz * dz) - radius;
+	}
+
+	/**
+	 * Generates a face contact by clipping the incident box's face against
+	 * the side planes of the reference box's face
+	 *
+	 * @param ref the reference body
+	 * @param k the reference face axis
+	 * @param nx the normal from the reference box towards the incident box
+	 * @param flip true if the reference box is body b, so that the output
+	 *            normal must be negated
+	 */
+	private boolean faceContact(int ref, OrientedBox refBox, float[] refAxes,
+			float[] refExtents, int k, int inc, OrientedBox incBox,
+			float[] incAxes, float[] incExtents, float nx, float ny,
+			float nz, boolean flip, ContactBuffer out) {
+		// Incident face, the face of the other box most opposed to the normal
+		int m = 0;
+		float most = 0, mostDot = 0;
+		for (int j = 0; j < 3; j++) {
+			float dot = incAxes[j * 3] * nx + incAxes[j * 3 + 1] * ny
+					+ incAxes[j * 3 + 2] * nz;
+			if (Math.abs(dot) > most) {
+				most = Math.abs(dot);
+				mostDot = dot;
+				m = j;
+			}
+		}
+		float incSign = mostDot > 0 ? -1 : 1;
+		int m1 = (m + 1) % 3, m2 = (m + 2) % 3;
+		float cx = incBox.center.x + incAxes[m * 3] * incSign * incExtents[m];
+		float cy = incBox.center.y + incAxes[m * 3 + 1] * incSign
+				* incExtents[m];
+		float cz = incBox.center.z + incAxes[m * 3 + 2] * incSign
+				* incExtents[m];
+		float ux = incAxes[m1 * 3] * incExtents[m1];
+		float uy = incAxes[m1 * 3 + 1] * incExtents[m1];
+		float uz = incAxes[m1 * 3 + 2] * incExtents[m1];
+		float vx = incAxes[m2 * 3] * incExtents[m2];
+		float vy = incAxes[m2 * 3 + 1] * incExtents[m2];
+		float vz = incAxes[m2 * 3 + 2] * incExtents[m2];
+		int count = 4;
+		setClip(0, cx + ux + vx, cy + uy + vy, cz + uz + vz, 0);
+		setClip(1, cx - ux + vx, cy - uy + vy, cz - uz + vz, 1);
+		setClip(2, cx - ux - vx, cy - uy - vy, cz - uz - vz, 2);
+		setClip(3, cx + ux - vx, cy + uy - vy, cz + uz - vz, 3);
+
+		// Clip against the four side planes of the reference face
+		for (int p = 0; p < 4 && count > 0; p++) {
+			int axis = (k + 1 + (p >> 1)) % 3;
+			float sign = (p & 1) == 0 ? 1 : -1;
+			float px = refAxes[axis * 3] * sign;
+			float py = refAxes[axis * 3 + 1] * sign;
+			float pz = refAxes[axis * 3 + 2] * sign;
+			float offset = px * refBox.center.x + py * refBox.center.y + pz
+					* refBox.center.z + refExtents[axis];
+			count = clip(count, px, py, pz, offset, p + 1);
+		}
+
+		// Keep the points below the reference face
+		float faceOffset = nx * refBox.center.x + ny * refBox.center.y + nz
+				* refBox.center.z + refExtents[k];
+		int kept = 0;
+		for (int i = 0; i < count; i++) {
+			float separation = nx * clipX[i] + ny * clipY[i] + nz * clipZ[i]
+					- faceOffset;
+			if (separation <= 0) {
+				tempX[kept] = clipX[i] - nx * separation * 0.5f;
+				tempY[kept] = clipY[i] - ny * separation * 0.5f;
+				tempZ[kept] = clipZ[i] - nz * separation * 0.5f;
+				tempTag[kept] = clipTag[i];
+				keepDepth[kept] = -separation;
+				kept++;
+			}
+		}
+		if (kept == 0)
+			return false;
+
+		int faces = ((flip ? 6 : 0) + k * 2 + (nx * refAxes[k * 3] + ny
+				* refAxes[k * 3 + 1] + nz * refAxes[k * 3 + 2] < 0 ? 1 : 0))
+				* 6 + m * 2 + (incSign < 0 ? 1 : 0);
+		int points = reduce(kept);
+		float sign = flip ? -1 : 1;
+		int a = flip ? inc : ref, b = flip ? ref : inc;
+		for (int n = 0; n < points; n++) {
+			int i = keep[n];
+			out.add(a, b, nx * sign, ny * sign, nz * sign, tempX[i], tempY[i],
+					tempZ[i], keepDepth[i], faces << 16 | tempTag[i]);
+		}
+		return true;
+	}
+
+	/**
+	 * Generates an edge-edge contact at the closest points of the two edges
+	 * lying along the separating axis
+	 */
+	private boolean edgeContact(int a, OrientedBox boxA, int b,
+			OrientedBox boxB, int i, int j, float nx, float ny, float nz,
+			float depth, ContactBuffer out) {
+		// Edge on A furthest along n, edge on B furthest along -n
+		float pax = boxA.center.x, pay = boxA.center.y, paz = boxA.center.z;
+		float pbx = boxB.center.x, pby = boxB.center.y, pbz = boxB.center.z;
+		for (int k = 0; k < 3; k++) {
+			if (k != i) {
+				float ax = axesA[k * 3], ay = axesA[k * 3 + 1];
+				float az = axesA[k * 3 + 2];
+				float h = ax * nx + ay * ny + az * nz < 0 ? -extentsA[k]
+						: extentsA[k];
+				pax += ax * h;
+				pay += ay * h;
+				paz += az * h;
+			}
+			if (k != j) {
+				float bx = axesB[k * 3], by = axesB[k * 3 + 1];
+				float bz = axesB[k * 3 + 2];
+				float h = bx * nx + by * ny + bz * nz > 0 ? -extentsB[k]
+						: extentsB[k];
+				pbx += bx * h;
+				pby += by * h;
+				pbz += bz * h;
+			}
+		}
+		float dax = axesA[i * 3], day = axesA[i * 3 + 1];
+		float daz = axesA[i * 3 + 2];
+		float dbx = axesB[j * 3], dby = axesB[j * 3 + 1];
+		float dbz = axesB[j * 3 + 2];
+
+		// Closest points of the lines pa + s * da and pb + t * db
+		float rx = pax - pbx, ry = pay - pby, rz = paz - pbz;
+		float dot = dax * dbx + day * dby + daz * dbz;
+		float c = dax * rx + day * ry + daz * rz;
+		float f = dbx * rx + dby * ry + dbz * rz;
+		float denominator = 1 - dot * dot;
+		float s = 0, t = 0;
+		if (denominator > EPSILON) {
+			s = clamp((dot * f - c) / denominator, extentsA[i]);
+			t = clamp((f - dot * c) / denominator, extentsB[j]);
+		}
+		float x = (pax + dax * s + pbx + dbx * t) * 0.5f;
+		float y = (pay + day * s + pby + dby * t) * 0.5f;
+		float z = (paz + daz * s + pbz + dbz * t) * 0.5f;
+		out.add(a, b, nx, ny, nz, x, y, z, depth, 0x8000 | i * 3 + j);
+		return true;
+	}
+
+	/**
+	 * Clamps a value to [-limit, limit]
+	 */
+	private static float clamp(float value, float limit) {
+		return value < -limit ? -limit : value > limit ? limit : value;
+	}
+
+	/**
+	 * Sets a point of the clip polygon
+	 */
+	private void setClip(int i, float x, float y, float z, int tag) {
+		clipX[i] = x;
+		clipY[i] = y;
+		clipZ[i] = z;
+		clipTag[i] = tag;
+	}
+
+	/**
+	 * Sutherland-Hodgman clip of the clip polygon against the half space
+	 * p . x <= offset. Points created by the clip are tagged with the plane
+	 * and the tag of the edge's first point.
+	 *
+	 * @return the number of points in the clipped polygon
+	 */
+	private int clip(int count, float px, float py, float pz, float offset,
+			int plane) {
+		int n = 0;
+		for (int i = 0; i < count; i++) {
+			int j = (i + 1) % count;
+			float d1 = px * clipX[i] + py * clipY[i] + pz * clipZ[i] - offset;
+			float d2 = px * clipX[j] + py * clipY[j] + pz * clipZ[j] - offset;
+			if (d1 <= 0) {
+				tempX[n] = clipX[i];
+				tempY[n] = clipY[i];
+				tempZ[n] = clipZ[i];
+				tempTag[n++] = clipTag[i];
+			}
+			if ((d1 < 0 && d2 > 0) || (d1 > 0 && d2 < 0)) {
+				float t = d1 / (d1 - d2);
+				tempX[n] = clipX[i] + (clipX[j] - clipX[i]) * t;
+				tempY[n] = clipY[i] + (clipY[j] - clipY[i]) * t;
+				tempZ[n] = clipZ[i] + (clipZ[j] - clipZ[i]) * t;
+				tempTag[n++] = plane << 8 | (clipTag[i] & 0xFF);
+			}
+		}
+		System.arraycopy(tempX, 0, clipX, 0, n);
+		System.arraycopy(tempY, 0, clipY, 0, n);
+		System.arraycopy(tempZ, 0, clipZ, 0, n);
+		System.arraycopy(tempTag, 0, clipTag, 0, n);
+		return n;
+	}
+
+	/**
+	 * Chooses up to MAX_MANIFOLD_POINTS of the kept points: the deepest, the
+	 * furthest from it, then those furthest from the points chosen so far
+	 *
+	 * @return the number of points chosen, their indices are in keep
+	 */
+	private int reduce(int count) {
+		if (count <= MAX_MANIFOLD_POINTS) {
+			for (int i = 0; i < count; i++) {
+				keep[i] = i;
+			}
+			return count;
+		}
+		int deepest = 0;
+		for (int i = 1; i < count; i++) {
+			if (keepDepth[i] > keepDepth[deepest])
+				deepest = i;
+		}
+		keep[0] = deepest;
+		for (int n = 1; n < MAX_MANIFOLD_POINTS; n++) {
+			int best = -1;
+			float bestDistance = -1;
+			for (int i = 0; i < count; i++) {
+				float distance = 0;
+				boolean chosen = false;
+				for (int c = 0; c < n; c++) {
+					int j = keep[c];
+					if (i == j)
+						chosen = true;
+					float x = tempX[i] - tempX[j];
+					float y = tempY[i] - tempY[j];
+					float z = tempZ[i] - tempZ[j];
+					distance += (float) Math.sqrt(x * x + y * y + z * z);
+				}
+				if (!chosen && distance > bestDistance) {
+					bestDistance = distance;
+					best = i;
+				}
+			}
+			keep[n] = best;
+		}
+		return MAX_MANIFOLD_POINTS;
+	}
+
+	/**
+	 * Adds the support point of the Minkowski difference A - B along the
+	 * search direction as vertex i
+	 */
+	private void support(ConvexShape shapeA, ConvexShape shapeB, float dx,
+			float dy, float dz, int i) {
+		featureA[i] = shapeA.support(dx, dy, dz, supportA);
+		featureB[i] = shapeB.support(-dx, -dy, -dz, supportB);
+		vax[i] = supportA.x;
+		vay[i] = supportA.y;
+		vaz[i] = supportA.z;
+		vx[i] = supportA.x - supportB.x;
+		vy[i] = supportA.y - supportB.y;
+		vz[i] = supportA.z - supportB.z;
+	}
+
+	/**
+	 * Copies vertex from into slot to
+	 */
+	private void copyVertex(int from, int to) {
+		vx[to] = vx[from];
+		vy[to] = vy[from];
+		vz[to] = vz[from];
+		vax[to] = vax[from];
+		vay[to] = vay[from];
+		vaz[to] = vaz[from];
+		featureA[to] = featureA[from];
+		featureB[to] = featureB[from];
+	}
+
+	/**
+	 * GJK intersection test. On success the simplex in vertices 0 to 3 is a
+	 * tetrahedron enclosing the origin.
+	 *
+	 * @return true if the shapes overlap
+	 */
+	private boolean gjk(ConvexShape shapeA, ConvexShape shapeB) {
+		support(shapeA, shapeB, 1, 0, 0, 0);
+		simplexCount = 1;
+		dirX = -vx[0];
+		dirY = -vy[0];
+		dirZ = -vz[0];
+
+		for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+			// Origin lies on the simplex, the shapes are only touching
+			if (dirX * dirX + dirY * dirY + dirZ * dirZ < EPSILON * EPSILON)
+				return false;
+			int i = simplexCount;
+			support(shapeA, shapeB, dirX, dirY, dirZ, i);
+			if (vx[i] * dirX + vy[i] * dirY + vz[i] * dirZ < 0)
+				return false;
+			simplexCount++;
+			if (updateSimplex())
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Reduces the simplex to the feature closest to the origin and sets the
+	 * next search direction. The newest vertex is last.
+	 *
+	 * @return true if the simplex is a tetrahedron enclosing the origin
+	 */
+	private boolean updateSimplex() {
+		switch (simplexCount) {
+			case 2:
+				line();
+				return false;
+			case 3:
+				triangle();
+				return false;
+			default:
+				return tetrahedron();
+		}
+	}
+
+	/**
+	 * Line case, newest vertex a = 1, b = 0
+	 */
+	private void line() {
+		float abx = vx[0] - vx[1], aby = vy[0] - vy[1], abz = vz[0] - vz[1];
+		float aox = -vx[1], aoy = -vy[1], aoz = -vz[1];
+		if (abx * aox + aby * aoy + abz * aoz > 0) {
+			// (ab x ao) x ab
+			float cx = aby * aoz - abz * aoy;
+			float cy = abz * aox - abx * aoz;
+			float cz = abx * aoy - aby * aox;
+			dirX = cy * abz - cz * aby;
+			dirY = cz * abx - cx * abz;
+			dirZ = cx * aby - cy * abx;
+		} else {
+			copyVertex(1, 0);
+			simplexCount = 1;
+			dirX = aox;
+			dirY = aoy;
+			dirZ = aoz;
+		}
+	}
+
+	/**
+	 * Triangle case, newest vertex a = 2, then b = 1, c = 0
+	 */
+	private void triangle() {
+		float aox = -vx[2], aoy = -vy[2], aoz = -vz[2];
+		float abx = vx[1] - vx[2], aby = vy[1] - vy[2], abz = vz[1] - vz[2];
+		float acx = vx[0] - vx[2], acy = vy[0] - vy[2], acz = vz[0] - vz[2];
+		// abc = ab x ac
+		float nx = aby * acz - abz * acy;
+		float ny = abz * acx - abx * acz;
+		float nz = abx * acy - aby * acx;
+
+		// (abc x ac) . ao
+		float ex = ny * acz - nz * acy;
+		float ey = nz * acx - nx * acz;
+		float ez = nx * acy - ny * acx;
+		if (ex * aox + ey * aoy + ez * aoz > 0) {
+			if (acx * aox + acy * aoy + acz * aoz > 0) {
+				// Edge ac, keeping c = 0 and moving a to 1
+				copyVertex(2, 1);
+				simplexCount = 2;
+				float cx = acy * aoz - acz * aoy;
+				float cy = acz * aox - acx * aoz;
+				float cz = acx * aoy - acy * aox;
+				dirX = cy * acz - cz * acy;
+				dirY = cz * acx - cx * acz;
+				dirZ = cx * acy - cy * acx;
+			} else {
+				edgeAB();
+			}
+			return;
+		}
+
+		// (ab x abc) . ao
+		float fx = aby * nz - abz * ny;
+		float fy = abz * nx - abx * nz;
+		float fz = abx * ny - aby * nx;
+		if (fx * aox + fy * aoy + fz * aoz > 0) {
+			edgeAB();
+			return;
+		}
+
+		if (nx * aox + ny * aoy + nz * aoz > 0) {
+			dirX = nx;
+			dirY = ny;
+			dirZ = nz;
+		} else {
+			// Below the triangle, swap b and c to keep the winding
+			swapVertices(0, 1);
+			dirX = -nx;
+			dirY = -ny;
+			dirZ = -nz;
+		}
+	}
+
+	/**
+	 * Reduces a triangle to its edge ab, a = 2 and b = 1
+	 */
+	private void edgeAB() {
+		copyVertex(1, 0);
+		copyVertex(2, 1);
+		simplexCount = 2;
+		line();
+	}
+
+	/**
+	 * Tetrahedron case, newest vertex a = 3. Reduces to the face the origin
+	 * lies outside of, if any.
+	 */
+	private boolean tetrahedron() {
+		// Faces containing a, each with the vertex opposite it
+		for (int f = 0; f < 3; f++) {
+			int b = f, c = (f + 1) % 3, d = (f + 2) % 3;
+			float abx = vx[b] - vx[3], aby = vy[b] - vy[3], abz = vz[b] - vz[3];
+			float acx = vx[c] - vx[3], acy = vy[c] - vy[3], acz = vz[c] - vz[3];
+			float nx = aby * acz - abz * acy;
+			float ny = abz * acx - abx * acz;
+			float nz = abx * acy - aby * acx;
+			float side = nx * (vx[d] - vx[3]) + ny * (vy[d] - vy[3]) + nz
+					* (vz[d] - vz[3]);
+			float origin = -(nx * vx[3] + ny * vy[3] + nz * vz[3]);
+			// Origin is on the opposite side of the face to d
+			if ((side > 0 && origin < 0) || (side < 0 && origin > 0)) {
+				copyVertex(b, 4);
+				copyVertex(c, 5);
+				copyVertex(4, 0);
+				copyVertex(5, 1);
+				copyVertex(3, 2);
+				simplexCount = 3;
+				triangle();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Swaps two vertices
+	 */
+	private void swapVertices(int i, int j) {
+		copyVertex(i, MAX_VERTICES - 1);
+		copyVertex(j, i);
+		copyVertex(MAX_VERTICES - 1, j);
+	}
+
+	/**
+	 * Expanding polytope algorithm, starting from the GJK tetrahedron
+	 */
+	private boolean epa(int a, ConvexShape shapeA, int b, ConvexShape shapeB,
+			ContactBuffer out) {
+		float cx = (vx[0] + vx[1] + vx[2] + vx[3]) * 0.25f;
+		float cy = (vy[0] + vy[1] + vy[2] + vy[3]) * 0.25f;
+		float cz = (vz[0] + vz[1] + vz[2] + vz[3]) * 0.25f;
+		faceCount = 0;
+		if (!addFace(0, 1, 2, cx, cy, cz) || !addFace(0, 3, 1, cx, cy, cz)
+				|| !addFace(0, 2, 3, cx, cy, cz)
+				|| !addFace(1, 3, 2, cx, cy, cz))
+			return false;
+
+		int vertexCount = 4;
+		int closest = 0;
+		for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+			closest = 0;
+			for (int f = 1; f < faceCount; f++) {
+				if (faceD[f] < faceD[closest])
+					closest = f;
+			}
+			if (vertexCount == MAX_VERTICES - 1)
+				break;
+
+			int v = vertexCount;
+			support(shapeA, shapeB, faceX[closest], faceY[closest],
+					faceZ[closest], v);
+			float distance = vx[v] * faceX[closest] + vy[v] * faceY[closest]
+					+ vz[v] * faceZ[closest];
+			if (distance - faceD[closest] < EPA_TOLERANCE)
+				break;
+			vertexCount++;
+
+			// Remove faces visible from the new vertex, keeping the horizon
+			edgeCount = 0;
+			for (int f = 0; f < faceCount; f++) {
+				int f0 = face0[f];
+				if (faceX[f] * (vx[v] - vx[f0]) + faceY[f] * (vy[v] - vy[f0])
+						+ faceZ[f] * (vz[v] - vz[f0]) > 0) {
+					addEdge(face0[f], face1[f]);
+					addEdge(face1[f], face2[f]);
+					addEdge(face2[f], face0[f]);
+					removeFace(f--);
+				}
+			}
+			for (int e = 0; e < edgeCount; e++) {
+				if (faceCount == MAX_FACES)
+					break;
+				addFace(edgeA[e], edgeB[e], v, cx, cy, cz);
+			}
+			if (faceCount == 0)
+				return false;
+		}
+
+		// Project the origin onto the closest face, and interpolate the
+		// support points on A with its barycentric coordinates
+		float nx = faceX[closest], ny = faceY[closest], nz = faceZ[closest];
+		float depth = faceD[closest];
+		int i0 = face0[closest], i1 = face1[closest], i2 = face2[closest];
+		float px = nx * depth, py = ny * depth, pz = nz * depth;
+		float e0x = vx[i1] - vx[i0], e0y = vy[i1] - vy[i0], e0z = vz[i1]
+				- vz[i0];
+		float e1x = vx[i2] - vx[i0], e1y = vy[i2] - vy[i0], e1z = vz[i2]
+				- vz[i0];
+		float e2x = px - vx[i0], e2y = py - vy[i0], e2z = pz - vz[i0];
+		float d00 = e0x * e0x + e0y * e0y + e0z * e0z;
+		float d01 = e0x * e1x + e0y * e1y + e0z * e1z;
+		float d11 = e1x * e1x + e1y * e1y + e1z * e1z;
+		float d20 = e2x * e0x + e2y * e0y + e2z * e0z;
+		float d21 = e2x * e1x + e2y * e1y + e2z * e1z;
+		float denominator = d00 * d11 - d01 * d01;
+		float u = 1, v = 0, w = 0;
+		if (Math.abs(denominator) > EPSILON * EPSILON) {
+			v = (d11 * d20 - d01 * d21) / denominator;
+			w = (d00 * d21 - d01 * d20) / denominator;
+			u = 1 - v - w;
+		}
+		float ax = vax[i0] * u + vax[i1] * v + vax[i2] * w;
+		float ay = vay[i0] * u + vay[i1] * v + vay[i2] * w;
+		float az = vaz[i0] * u + vaz[i1] * v + vaz[i2] * w;
+		int main = u >= v && u >= w ? i0 : v >= w ? i1 : i2;
+
+		out.add(a, b, nx, ny, nz, ax - px * 0.5f, ay - py * 0.5f, az - pz
+				* 0.5f, depth, (featureA[main] & 0xFFFF) << 16
+				| (featureB[main] & 0xFFFF));
+		return true;
+	}
+
+	/**
+	 * Adds an EPA face, wound so that its normal points away from the
+	 * interior point c
+	 *
+	 * @return false if the face is degenerate
+	 */
+	private boolean addFace(int i0, int i1, int i2, float cx, float cy,
+			float cz) {
+		float e0x = vx[i1] - vx[i0], e0y = vy[i1] - vy[i0], e0z = vz[i1]
+				- vz[i0];
+		float e1x = vx[i2] - vx[i0], e1y = vy[i2] - vy[i0], e1z = vz[i2]
+				- vz[i0];
+		float nx = e0y * e1z - e0z * e1y;
+		float ny = e0z * e1x - e0x * e1z;
+		float nz = e0x * e1y - e0y * e1x;
+		float length = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+		if (length < EPSILON)
+			return false;
+		nx /= length;
+		ny /= length;
+		nz /= length;
+		if (nx * (vx[i0] - cx) + ny * (vy[i0] - cy) + nz * (vz[i0] - cz) < 0) {
+			int swap = i1;
+			i1 = i2;
+			i2 = swap;
+			nx = -nx;
+			ny = -ny;
+			nz = -nz;
+		}
+		int f = faceCount++;
+		face0[f] = i0;
+		face1[f] = i1;
+		face2[f] = i2;
+		faceX[f] = nx;
+		faceY[f] = ny;
+		faceZ[f] = nz;
+		faceD[f] = nx * vx[i0] + ny * vy[i0] + nz * vz[i0];
+		return true;
+	}
+
+	/**
+	 * Removes a face by moving the last face into its place
+	 */
+	private void removeFace(int f) {
+		int last = --faceCount;
+		face0[f] = face0[last];
+		face1[f] = face1[last];
+		face2[f] = face2[last];
+		faceX[f] = faceX[last];
+		faceY[f] = faceY[last];
+		faceZ[f] = faceZ[last];
+		faceD[f] = faceD[last];
+	}
+
+	/**
+	 * Adds a horizon edge, or removes it if its reverse is already present
+	 * (the edge is shared by two removed faces)
+	 */
+	private void addEdge(int from, int to) {
+		for (int e = 0; e < edgeCount; e++) {
+			if (edgeA[e] == to && edgeB[e] == from) {
+				edgeCount--;
+				edgeA[e] = edgeA[edgeCount];
+				edgeB[e] = edgeB[edgeCount];
+				return;
+			}
+		}
+		if (edgeCount < MAX_EDGES) {
+			edgeA[edgeCount] = from;
+			edgeB[edgeCount++] = to;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.lucasazzola.game.physics;
+
+import com.lucasazzola.game.graphics.Matrix3;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Box with an arbitrary orientation. The columns of the rotation matrix are
+ * the box's local axes in world space, so a {@link
+ * com.lucasazzola.game.graphics.RotationMatrix3} may be used directly.
+ *
+ * @since 19/10/2026
+ */
+public class OrientedBox implements ConvexShape {
+
+	/**
+	 * Public members
+	 */
+	public Vector3 center, halfExtents;
+	public Matrix3 rotation;
+
+	/**
+	 * Constructs a box
+	 *
+	 * @param center the centre of the box
+	 * @param halfExtents half the size of the box along each local axis
+	 * @param rotation the orientation of the box
+	 */
+	public OrientedBox(Vector3 center, Vector3 halfExtents, Matrix3 rotation) {
+		this.center = center;
+		this.halfExtents = halfExtents;
+		this.rotation = rotation;
+	}
+
+	/**
+	 * Gets a half extent
+	 *
+	 * @param axis the local axis, 0, 1 or 2
+	 * @return the half extent along the axis
+	 */
+	public float halfExtent(int axis) {
+		return axis == 0 ? halfExtents.x : axis == 1 ? halfExtents.y
+				: halfExtents.z;
+	}
+
+	@Override
+	public int support(float dx, float dy, float dz, Vector3 out) {
+		float[][] m = rotation.m;
+		out.x = center.x;
+		out.y = center.y;
+		out.z = center.z;
+		int index = 0;
+		for (int k = 0; k < 3; k++) {
+			float ax = m[0][k], ay = m[1][k], az = m[2][k];
+			float h = halfExtent(k);
+			if (ax * dx + ay * dy + az * dz < 0) {
+				h = -h;
+			} else {
+				index |= 1 << k;
+			}
+			out.x += ax * h;
+			out.y += ay * h;
+			out.z += az * h;
+		}
+		return index;
+	}
+
+	@Override
+	public String toString() {
+		return "OrientedBox [center:" + center + ", halfExtents:"
+				+ halfExtents + "]";
+	}
+}
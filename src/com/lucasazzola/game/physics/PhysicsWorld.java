@@ -0,0 +1,245 @@
+package com.lucasazzola.game.physics;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.lucasazzola.game.diagnostics.Counter;
+import com.lucasazzola.game.diagnostics.Histogram;
+import com.lucasazzola.game.diagnostics.Metrics;
+import com.lucasazzola.game.diagnostics.PhysicsListener;
+import com.lucasazzola.game.graphics.Vector3;
+import com.lucasazzola.game.util.FixedTimestep;
+import com.lucasazzola.game.util.GameTime;
+
+/**
+ * Steps a set of rigid bodies at a fixed rate, driven from
+ * {@link com.lucasazzola.game.Game#Update(GameTime)}
+ *
+ * Each step gathers contacts from the {@link ContactGenerator}, integrates
+ * velocities, groups bodies into {@link Islands}, solves contacts and joints
+ * with warm started sequential impulses, then integrates positions and puts
+ * resting islands to sleep. Without a contact generator or joints, a step
+ * only integrates.
+ *
+ * @since 19/10/2026
+ */
+public class PhysicsWorld {
+
+	/**
+	 * Default step rate, 60Hz
+	 */
+	public static final long DEFAULT_STEP = 1000000000L / 60;
+
+	/**
+	 * Most steps run in a single update
+	 */
+	public static final int MAX_STEPS = 8;
+
+	/**
+	 * Step metrics, see {@link Metrics}
+	 */
+	private static final Counter STEPS = Metrics.global().counter(
+			"physics.steps");
+	private static final Histogram CONTACTS = Metrics.global().histogram(
+			"physics.contacts");
+
+	/**
+	 * World members
+	 */
+	private final RigidBodies bodies;
+	private final Integrator integrator;
+	private final FixedTimestep timestep;
+
+	/**
+	 * Constraint members
+	 */
+	private final ContactBuffer contacts = new ContactBuffer(256);
+	private final ManifoldCache manifolds = new ManifoldCache();
+	private final Joints joints = new Joints(16);
+	private final Islands islands = new Islands();
+	private final Solver solver = new Solver();
+	private ContactGenerator generator;
+	private ForkJoinPool pool;
+	private PhysicsListener listener;
+
+	/**
+	 * Constructs a world stepping at 60Hz with gravity along negative y
+	 *
+	 * @param capacity the initial number of bodies to allocate for
+	 */
+	public PhysicsWorld(int capacity) {
+		this(new RigidBodies(capacity), new Integrator(new Vector3(0, -9.81f,
+				0)), new FixedTimestep(DEFAULT_STEP, MAX_STEPS));
+	}
+
+	/**
+	 * Constructs a world
+	 *
+	 * @param bodies the bodies to simulate
+	 * @param integrator the integrator
+	 * @param timestep the fixed step
+	 */
+	public PhysicsWorld(RigidBodies bodies, Integrator integrator,
+			FixedTimestep timestep) {
+		this.bodies = bodies;
+		this.integrator = integrator;
+		this.timestep = timestep;
+	}
+
+	/**
+	 * @return the simulated bodies
+	 */
+	public RigidBodies bodies() {
+		return bodies;
+	}
+
+	/**
+	 * @return the integrator
+	 */
+	public Integrator integrator() {
+		return integrator;
+	}
+
+	/**
+	 * @return the fixed step, whose alpha may be used to interpolate drawing
+	 */
+	public FixedTimestep timestep() {
+		return timestep;
+	}
+
+	/**
+	 * @return the contacts of the last step
+	 */
+	public ContactBuffer contacts() {
+		return contacts;
+	}
+
+	/**
+	 * @return the joints between bodies
+	 */
+	public Joints joints() {
+		return joints;
+	}
+
+	/**
+	 * @return the islands of the last step
+	 */
+	public Islands islands() {
+		return islands;
+	}
+
+	/**
+	 * @return the constraint solver
+	 */
+	public Solver solver() {
+		return solver;
+	}
+
+	/**
+	 * @param generator finds the contacts for each step, or null for none
+	 */
+	public void setContactGenerator(ContactGenerator generator) {
+		this.generator = generator;
+	}
+
+	/**
+	 * @param pool the pool to solve islands on, or null to solve on the
+	 *            calling thread
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * @param listener is told of each step and contact generation, or null
+	 */
+	public void setListener(PhysicsListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Removes a body, see {@link RigidBodies#remove(int)}. Joints attached
+	 * to it are removed, and joints and cached contacts of the body moved
+	 * into its index follow it.
+	 *
+	 * @param i the index of the body
+	 * @return the previous index of the body moved into i, or -1 if the last
+	 *         body was removed
+	 */
+	public int removeBody(int i) {
+		int moved = bodies.remove(i);
+		manifolds.remove(i, moved);
+		for (int j = joints.size() - 1; j >= 0; j--) {
+			if (joints.bodyA[j] == i || joints.bodyB[j] == i) {
+				joints.remove(j);
+				continue;
+			}
+			if (joints.bodyA[j] == moved)
+				joints.bodyA[j] = i;
+			if (joints.bodyB[j] == moved)
+				joints.bodyB[j] = i;
+		}
+		return moved;
+	}
+
+	/**
+	 * Runs as many fixed steps as the frame time since the last update covers
+	 *
+	 * @param time the game time, ticked once per frame
+	 * @return the number of steps run
+	 */
+	public int update(GameTime time) {
+		int steps = timestep.advance(time.delta());
+		float dt = timestep.stepSeconds();
+		for (int i = 0; i < steps; i++) {
+			step(dt);
+		}
+		return steps;
+	}
+
+	/**
+	 * Runs a single step
+	 *
+	 * @param dt the time step, in seconds
+	 */
+	public void step(float dt) {
+		PhysicsListener listener = this.listener;
+		Object scope = listener == null ? null : listener.beginStep();
+		if (generator == null && joints.size() == 0) {
+			integrator.step(bodies, dt);
+			finish(listener, scope, dt, false);
+			return;
+		}
+
+		contacts.clear();
+		if (generator != null) {
+			Object generation = listener == null ? null : listener
+					.beginContacts();
+			generator.generate(bodies, contacts);
+			if (listener != null)
+				listener.endContacts(generation, bodies.size(),
+						contacts.size());
+		}
+		integrator.integrateVelocities(bodies, dt);
+		manifolds.warmStart(contacts);
+		islands.build(bodies, contacts, joints);
+		solver.solve(bodies, contacts, joints, islands, dt, pool);
+		manifolds.store(contacts);
+		integrator.integratePositions(bodies, dt);
+		islands.updateSleep(bodies, dt);
+		finish(listener, scope, dt, true);
+	}
+
+	/**
+	 * Feeds metrics, then tells the listener the step has ended
+	 *
+	 * @param solved false if the step only integrated
+	 */
+	private void finish(PhysicsListener listener, Object scope, float dt,
+			boolean solved) {
+		STEPS.increment();
+		CONTACTS.record(solved ? contacts.size() : 0);
+		if (listener != null)
+			listener.endStep(scope, bodies.size(), solved ? contacts.size()
+					: 0, solved ? islands.count() : 0, dt);
+	}
+}
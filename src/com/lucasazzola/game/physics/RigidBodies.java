@@ -0,0 +1,416 @@
+package com.lucasazzola.game.physics;
+
+import java.util.Arrays;
+
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Rigid body state stored as one primitive array per component, indexed by
+ * body. Bodies are kept dense: removing a body moves the last body into its
+ * place, so indices are not stable across removals.
+ *
+ * The arrays are public for direct use by simulation loops, and are replaced
+ * when the store grows.
+ *
+ * @since 19/10/2026
+ */
+public class RigidBodies {
+
+	/**
+	 * Position
+	 */
+	public float[] px, py, pz;
+
+	/**
+	 * Linear velocity
+	 */
+	public float[] vx, vy, vz;
+
+	/**
+	 * Orientation, a unit quaternion
+	 */
+	public float[] qx, qy, qz, qw;
+
+	/**
+	 * Angular velocity, in world space
+	 */
+	public float[] wx, wy, wz;
+
+	/**
+	 * Force and torque accumulators, cleared after each step
+	 */
+	public float[] fx, fy, fz, tx, ty, tz;
+
+	/**
+	 * Inverse mass, 0 for static bodies
+	 */
+	public float[] invMass;
+
+	/**
+	 * Inverse of the principal moments of inertia, in body space
+	 */
+	public float[] invIx, invIy, invIz;
+
+	/**
+	 * Time each body has been at rest, in seconds, and whether it has been
+	 * put to sleep. Sleeping bodies are skipped by the integrator and solver.
+	 */
+	public float[] sleepTime;
+	public boolean[] asleep;
+
+	/**
+	 * Number of bodies
+	 */
+	private int count;
+
+	/**
+	 * Constructs an empty store
+	 *
+	 * @param capacity the initial number of bodies to allocate for
+	 */
+	public RigidBodies(int capacity) {
+		allocate(Math.max(capacity, 1));
+	}
+
+	/**
+	 * @return the number of bodies
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Adds a body at rest with identity orientation. The moments of inertia
+	 * default to those of a unit mass, see {@link #setBoxInertia} and
+	 * {@link #setSphereInertia}.
+	 *
+	 * @param position the position
+	 * @param mass the mass, or 0 for a static body
+	 * @return the index of the body
+	 */
+	public int add(Vector3 position, float mass) {
+		if (count == invMass.length)
+			allocate(count * 2);
+		int i = count++;
+		px[i] = position.x;
+		py[i] = position.y;
+		pz[i] = position.z;
+		vx[i] = vy[i] = vz[i] = 0;
+		qx[i] = qy[i] = qz[i] = 0;
+		qw[i] = 1;
+		wx[i] = wy[i] = wz[i] = 0;
+		fx[i] = fy[i] = fz[i] = 0;
+		tx[i] = ty[i] = tz[i] = 0;
+		invMass[i] = mass > 0 ? 1 / mass : 0;
+		invIx[i] = invIy[i] = invIz[i] = invMass[i];
+		sleepTime[i] = 0;
+		asleep[i] = false;
+		return i;
+	}
+
+	/**
+	 * Removes a body by moving the last body into its place
+	 *
+	 * @param i the index of the body
+	 * @return the previous index of the body moved into i, or -1 if the last
+	 *         body was removed
+	 */
+	public int remove(int i) {
+		int last = --count;
+		if (i == last)
+			return -1;
+		for (float[] array : arrays()) {
+			array[i] = array[last];
+		}
+		asleep[i] = asleep[last];
+		return last;
+	}
+
+	/**
+	 * @param i the index of the body
+	 * @return true if the body is asleep
+	 */
+	public boolean isAsleep(int i) {
+		return asleep[i];
+	}
+
+	/**
+	 * Wakes a body, resetting its rest time
+	 *
+	 * @param i the index of the body
+	 */
+	public void wake(int i) {
+		asleep[i] = false;
+		sleepTime[i] = 0;
+	}
+
+	/**
+	 * Sets the inertia of a body from the half extents of a solid box
+	 *
+	 * @param i the index of the body
+	 * @param hx the half extent along x
+	 * @param hy the half extent along y
+	 * @param hz the half extent along z
+	 */
+	public void setBoxInertia(int i, float hx, float hy, float hz) {
+		if (invMass[i] == 0) {
+			invIx[i] = invIy[i] = invIz[i] = 0;
+			return;
+		}
+		float k = 3 * invMass[i];
+		invIx[i] = k / (hy * hy + hz * hz);
+		invIy[i] = k / (hx * hx + hz * hz);
+		invIz[i] = k / (hx * hx + hy * hy);
+	}
+
+	/**
+	 * Sets the inertia of a body from the radius of a solid sphere
+	 *
+	 * @param i the index of the body
+	 * @param radius the radius
+	 */
+	public void setSphereInertia(int i, float radius) {
+		invIx[i] = invIy[i] = invIz[i] = 2.5f * invMass[i]
+				/ (radius * radius);
+	}
+
+	/**
+	 * Applies a force through the centre of mass for the next step, waking
+	 * the body
+	 *
+	 * @param i the index of the body
+	 * @param force the force
+	 */
+	public void applyForce(int i, Vector3 force) {
+		wake(i);
+		fx[i] += force.x;
+		fy[i] += force.y;
+		fz[i] += force.z;
+	}
+
+	/**
+	 * Applies a torque for the next step, waking the body
+	 *
+	 * @param i the index of the body
+	 * @param torque the torque, in world space
+	 */
+	public void applyTorque(int i, Vector3 torque) {
+		wake(i);
+		tx[i] += torque.x;
+		ty[i] += torque.y;
+		tz[i] += torque.z;
+	}
+
+	/**
+	 * Gets the position of a body
+	 *
+	 * @param i the index of the body
+	 * @param out the position will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector3 getPosition(int i, Vector3 out) {
+		out.x = px[i];
+		out.y = py[i];
+		out.z = pz[i];
+		return out;
+	}
+
+	/**
+	 * Sets the position of a body
+	 *
+	 * @param i the index of the body
+	 * @param position the position
+	 */
+	public void setPosition(int i, Vector3 position) {
+		wake(i);
+		px[i] = position.x;
+		py[i] = position.y;
+		pz[i] = position.z;
+	}
+
+	/**
+	 * Gets the linear velocity of a body
+	 *
+	 * @param i the index of the body
+	 * @param out the velocity will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector3 getVelocity(int i, Vector3 out) {
+		out.x = vx[i];
+		out.y = vy[i];
+		out.z = vz[i];
+		return out;
+	}
+
+	/**
+	 * Sets the linear velocity of a body
+	 *
+	 * @param i the index of the body
+	 * @param velocity the velocity
+	 */
+	public void setVelocity(int i, Vector3 velocity) {
+		wake(i);
+		vx[i] = velocity.x;
+		vy[i] = velocity.y;
+		vz[i] = velocity.z;
+	}
+
+	/**
+	 * Gets the orientation of a body
+	 *
+	 * @param i the index of the body
+	 * @param out the orientation will be assigned to this quaternion
+	 * @return out, for chainability
+	 */
+	public Quaternion getOrientation(int i, Quaternion out) {
+		out.x = qx[i];
+		out.y = qy[i];
+		out.z = qz[i];
+		out.w = qw[i];
+		return out;
+	}
+
+	/**
+	 * Sets the orientation of a body
+	 *
+	 * @param i the index of the body
+	 * @param orientation the orientation, a unit quaternion
+	 */
+	public void setOrientation(int i, Quaternion orientation) {
+		wake(i);
+		qx[i] = orientation.x;
+		qy[i] = orientation.y;
+		qz[i] = orientation.z;
+		qw[i] = orientation.w;
+	}
+
+	/**
+	 * Sets the angular velocity of a body
+	 *
+	 * @param i the index of the body
+	 * @param velocity the angular velocity, in world space
+	 */
+	public void setAngularVelocity(int i, Vector3 velocity) {
+		wake(i);
+		wx[i] = velocity.x;
+		wy[i] = velocity.y;
+		wz[i] = velocity.z;
+	}
+
+	/**
+	 * Multiplies a world space vector by the world space inverse inertia
+	 * tensor of a body, R * diag(invI) * R^T
+	 *
+	 * @param i the index of the body
+	 * @param x the x-component of the vector
+	 * @param y the y-component of the vector
+	 * @param z the z-component of the vector
+	 * @param out the result will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector3 applyInverseInertia(int i, float x, float y, float z,
+			Vector3 out) {
+		float ux = qx[i], uy = qy[i], uz = qz[i], w = qw[i];
+
+		// Into body space, rotating by the conjugate
+		rotate(-ux, -uy, -uz, w, x, y, z, out);
+		x = out.x * invIx[i];
+		y = out.y * invIy[i];
+		z = out.z * invIz[i];
+
+		// And back into world space
+		return rotate(ux, uy, uz, w, x, y, z, out);
+	}
+
+	/**
+	 * Rotates a vector by a unit quaternion
+	 *
+	 * @param out the rotated vector will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	static Vector3 rotate(float qx, float qy, float qz, float qw, float x,
+			float y, float z, Vector3 out) {
+		// t = 2 * (q.xyz x v), v' = v + w * t + q.xyz x t
+		float tx = 2 * (qy * z - qz * y);
+		float ty = 2 * (qz * x - qx * z);
+		float tz = 2 * (qx * y - qy * x);
+		out.x = x + qw * tx + (qy * tz - qz * ty);
+		out.y = y + qw * ty + (qz * tx - qx * tz);
+		out.z = z + qw * tz + (qx * ty - qy * tx);
+		return out;
+	}
+
+	/**
+	 * @return every state array, in a fixed order
+	 */
+	private float[][] arrays() {
+		return new float[][] { px, py, pz, vx, vy, vz, qx, qy, qz, qw, wx,
+				wy, wz, fx, fy, fz, tx, ty, tz, invMass, invIx, invIy, invIz,
+				sleepTime };
+	}
+
+	/**
+	 * Allocates or grows every state array
+	 */
+	private void allocate(int capacity) {
+		if (invMass == null) {
+			px = new float[capacity];
+			py = new float[capacity];
+			pz = new float[capacity];
+			vx = new float[capacity];
+			vy = new float[capacity];
+			vz = new float[capacity];
+			qx = new float[capacity];
+			qy = new float[capacity];
+			qz = new float[capacity];
+			qw = new float[capacity];
+			wx = new float[capacity];
+			wy = new float[capacity];
+			wz = new float[capacity];
+			fx = new float[capacity];
+			fy = new float[capacity];
+			fz = new float[capacity];
+			tx = new float[capacity];
+			ty = new float[capacity];
+			tz = new float[capacity];
+			invMass = new float[capacity];
+			invIx = new float[capacity];
+			invIy = new float[capacity];
+			invIz = new float[capacity];
+			sleepTime = new float[capacity];
+			asleep = new boolean[capacity];
+			return;
+		}
+		px = Arrays.copyOf(px, capacity);
+		py = Arrays.copyOf(py, capacity);
+		pz = Arrays.copyOf(pz, capacity);
+		vx = Arrays.copyOf(vx, capacity);
+		vy = Arrays.copyOf(vy, capacity);
+		vz = Arrays.copyOf(vz, capacity);
+		qx = Arrays.copyOf(qx, capacity);
+		qy = Arrays.copyOf(qy, capacity);
+		qz = Arrays.copyOf(qz, capacity);
+		qw = Arrays.copyOf(qw, capacity);
+		wx = Arrays.copyOf(wx, capacity);
+		wy = Arrays.copyOf(wy, capacity);
+		wz = Arrays.copyOf(wz, capacity);
+		fx = Arrays.copyOf(fx, capacity);
+		fy = Arrays.copyOf(fy, capacity);
+		fz = Arrays.copyOf(fz, capacity);
+		tx = Arrays.copyOf(tx, capacity);
+		ty = Arrays.copyOf(ty, capacity);
+		tz = Arrays.copyOf(tz, capacity);
+		invMass = Arrays.copyOf(invMass, capacity);
+		invIx = Arrays.copyOf(invIx, capacity);
+		invIy = Arrays.copyOf(invIy, capacity);
+		invIz = Arrays.copyOf(invIz, capacity);
+		sleepTime = Arrays.copyOf(sleepTime, capacity);
+		asleep = Arrays.copyOf(asleep, capacity);
+	}
+
+	@Override
+	public String toString() {
+		return "RigidBodies [bodies:" + count + "]";
+	}
+}
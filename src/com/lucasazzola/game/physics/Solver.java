@@ -0,0 +1,594 @@
+package com.lucasazzola.game.physics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sequential impulse solver for contacts and joints. Each constraint's
+ * accumulated impulse from the last step is applied first (warm starting),
+ * then every constraint is solved in turn for a fixed number of iterations,
+ * clamping the accumulated impulses so contacts only push and friction stays
+ * inside the friction cone.
+ *
+ * Islands are solved independently, so they may be spread across a
+ * ForkJoinPool; sleeping islands are skipped. Each body's world space
+ * inverse inertia is computed once per step.
+ *
+ * @since 19/10/2026
+ */
+public class Solver {
+
+	/**
+	 * Default solver settings
+	 */
+	public static final int DEFAULT_ITERATIONS = 10;
+	public static final float DEFAULT_FRICTION = 0.5f;
+	public static final float DEFAULT_BAUMGARTE = 0.2f;
+	public static final float DEFAULT_SLOP = 0.01f;
+
+	/**
+	 * Islands are split across tasks until a task holds this few contacts
+	 */
+	private static final int TASK_CONTACTS = 256;
+
+	/**
+	 * Solver settings
+	 */
+	private int iterations = DEFAULT_ITERATIONS;
+	private float friction = DEFAULT_FRICTION;
+	private float baumgarte = DEFAULT_BAUMGARTE, slop = DEFAULT_SLOP;
+
+	/**
+	 * World space inverse inertia of each body, the six unique entries xx,
+	 * xy, xz, yy, yz, zz of the symmetric tensor
+	 */
+	private float[] inertia = new float[6 * 16];
+
+	/**
+	 * Per contact: offsets from each centre of mass, tangents, effective
+	 * masses and position bias
+	 */
+	private float[] rax = new float[16], ray = new float[16],
+			raz = new float[16], rbx = new float[16], rby = new float[16],
+			rbz = new float[16];
+	private float[] t1x = new float[16], t1y = new float[16],
+			t1z = new float[16], t2x = new float[16], t2y = new float[16],
+			t2z = new float[16];
+	private float[] normalMass = new float[16], tangentMass1 = new float[16],
+			tangentMass2 = new float[16], bias = new float[16];
+
+	/**
+	 * Per joint: anchor offsets, inverse effective mass matrix and position
+	 * bias
+	 */
+	private float[] jax = new float[16], jay = new float[16],
+			jaz = new float[16], jbx = new float[16], jby = new float[16],
+			jbz = new float[16];
+	private float[] jointMass = new float[9 * 16];
+	private float[] jointBiasX = new float[16], jointBiasY = new float[16],
+			jointBiasZ = new float[16];
+
+	/**
+	 * The step being solved
+	 */
+	private RigidBodies bodies;
+	private ContactBuffer contacts;
+	private Joints joints;
+	private Islands islands;
+	private float dt;
+
+	/**
+	 * @param iterations the number of solver iterations per step
+	 */
+	public void setIterations(int iterations) {
+		this.iterations = iterations;
+	}
+
+	/**
+	 * @param friction the friction coefficient used for every contact
+	 */
+	public void setFriction(float friction) {
+		this.friction = friction;
+	}
+
+	/**
+	 * Sets position error correction
+	 *
+	 * @param baumgarte the fraction of penetration corrected per step
+	 * @param slop the penetration allowed without correction
+	 */
+	public void setCorrection(float baumgarte, float slop) {
+		this.baumgarte = baumgarte;
+		this.slop = slop;
+	}
+
+	/**
+	 * Solves every awake island, updating body velocities and the
+	 * accumulated impulses of the contacts and joints
+	 *
+	 * @param bodies the bodies
+	 * @param contacts the contacts, warm started
+	 * @param joints the joints
+	 * @param islands the islands, built from the same contacts and joints
+	 * @param dt the time step, in seconds
+	 * @param pool the pool to solve islands on, or null to solve on the
+	 *            calling thread
+	 */
+	public void solve(RigidBodies bodies, ContactBuffer contacts,
+			Joints joints, Islands islands, float dt, ForkJoinPool pool) {
+		allocate(bodies.size(), contacts.size(), joints.size());
+		this.bodies = bodies;
+		this.contacts = contacts;
+		this.joints = joints;
+		this.islands = islands;
+		this.dt = dt;
+		try {
+			if (pool == null || islands.count() < 2) {
+				solveIslands(0, islands.count());
+			} else {
+				pool.invoke(new IslandTask(0, islands.count()));
+			}
+		} finally {
+			this.bodies = null;
+			this.contacts = null;
+			this.joints = null;
+			this.islands = null;
+		}
+	}
+
+	/**
+	 * Solves a range of islands on the calling thread
+	 */
+	private void solveIslands(int from, int to) {
+		for (int k = from; k < to; k++) {
+			if (!islands.isAsleep(k))
+				solveIsland(k);
+		}
+	}
+
+	/**
+	 * Prepares, warm starts and iterates the constraints of one island
+	 */
+	private void solveIsland(int k) {
+		int[] bodyOrder = islands.bodyOrder;
+		int[] contactOrder = islands.contactOrder;
+		int[] jointOrder = islands.jointOrder;
+		int bodyFrom = islands.bodyStart[k], bodyTo = islands.bodyStart[k + 1];
+		int contactFrom = islands.contactStart[k];
+		int contactTo = islands.contactStart[k + 1];
+		int jointFrom = islands.jointStart[k];
+		int jointTo = islands.jointStart[k + 1];
+
+		for (int m = bodyFrom; m < bodyTo; m++) {
+			computeInertia(bodyOrder[m]);
+		}
+		for (int m = contactFrom; m < contactTo; m++) {
+			prepareContact(contactOrder[m]);
+		}
+		for (int m = jointFrom; m < jointTo; m++) {
+			prepareJoint(jointOrder[m]);
+		}
+		for (int iteration = 0; iteration < iterations; iteration++) {
+			for (int m = jointFrom; m < jointTo; m++) {
+				solveJoint(jointOrder[m]);
+			}
+			for (int m = contactFrom; m < contactTo; m++) {
+				solveContact(contactOrder[m]);
+			}
+		}
+	}
+
+	/**
+	 * Computes the world space inverse inertia R * diag(invI) * R^T
+	 */
+	private void computeInertia(int i) {
+		float x = bodies.qx[i], y = bodies.qy[i], z = bodies.qz[i];
+		float w = bodies.qw[i];
+		float r00 = 1 - 2 * (y * y + z * z), r01 = 2 * (x * y - w * z);
+		float r02 = 2 * (x * z + w * y), r10 = 2 * (x * y + w * z);
+		float r11 = 1 - 2 * (x * x + z * z), r12 = 2 * (y * z - w * x);
+		float r20 = 2 * (x * z - w * y), r21 = 2 * (y * z + w * x);
+		float r22 = 1 - 2 * (x * x + y * y);
+		float ix = bodies.invIx[i], iy = bodies.invIy[i], iz = bodies.invIz[i];
+		int o = i * 6;
+		inertia[o] = r00 * r00 * ix + r01 * r01 * iy + r02 * r02 * iz;
+		inertia[o + 1] = r00 * r10 * ix + r01 * r11 * iy + r02 * r12 * iz;
+		inertia[o + 2] = r00 * r20 * ix + r01 * r21 * iy + r02 * r22 * iz;
+		inertia[o + 3] = r10 * r10 * ix + r11 * r11 * iy + r12 * r12 * iz;
+		inertia[o + 4] = r10 * r20 * ix + r11 * r21 * iy + r12 * r22 * iz;
+		inertia[o + 5] = r20 * r20 * ix + r21 * r21 * iy + r22 * r22 * iz;
+	}
+
+	/**
+	 * Computes a contact's offsets, tangent basis, effective masses and
+	 * bias, then applies its warm start impulse
+	 */
+	private void prepareContact(int c) {
+		int a = contacts.bodyA[c], b = contacts.bodyB[c];
+		float nx = contacts.nx[c], ny = contacts.ny[c], nz = contacts.nz[c];
+		rax[c] = contacts.px[c] - bodies.px[a];
+		ray[c] = contacts.py[c] - bodies.py[a];
+		raz[c] = contacts.pz[c] - bodies.pz[a];
+		rbx[c] = contacts.px[c] - bodies.px[b];
+		rby[c] = contacts.py[c] - bodies.py[b];
+		rbz[c] = contacts.pz[c] - bodies.pz[b];
+
+		// Tangent basis depends only on the normal, so warm started friction
+		// impulses keep their meaning between steps
+		if (Math.abs(nx) >= 0.57735f) {
+			float length = (float) Math.sqrt(nx * nx + ny * ny);
+			t1x[c] = ny / length;
+			t1y[c] = -nx / length;
+			t1z[c] = 0;
+		} else {
+			float length = (float) Math.sqrt(ny * ny + nz * nz);
+			t1x[c] = 0;
+			t1y[c] = nz / length;
+			t1z[c] = -ny / length;
+		}
+		t2x[c] = ny * t1z[c] - nz * t1y[c];
+		t2y[c] = nz * t1x[c] - nx * t1z[c];
+		t2z[c] = nx * t1y[c] - ny * t1x[c];
+
+		normalMass[c] = 1 / effectiveMass(c, a, b, nx, ny, nz);
+		tangentMass1[c] = 1 / effectiveMass(c, a, b, t1x[c], t1y[c], t1z[c]);
+		tangentMass2[c] = 1 / effectiveMass(c, a, b, t2x[c], t2y[c], t2z[c]);
+		bias[c] = baumgarte / dt * Math.max(contacts.depth[c] - slop, 0);
+
+		float n = contacts.normalImpulse[c];
+		float t1 = contacts.tangentImpulse1[c];
+		float t2 = contacts.tangentImpulse2[c];
+		applyImpulse(a, b, nx * n + t1x[c] * t1 + t2x[c] * t2, ny * n
+				+ t1y[c] * t1 + t2y[c] * t2, nz * n + t1z[c] * t1 + t2z[c]
+				* t2, rax[c], ray[c], raz[c], rbx[c], rby[c], rbz[c]);
+	}
+
+	/**
+	 * Solves friction then non-penetration for one contact
+	 */
+	private void solveContact(int c) {
+		int a = contacts.bodyA[c], b = contacts.bodyB[c];
+		float ax = rax[c], ay = ray[c], az = raz[c];
+		float bx = rbx[c], by = rby[c], bz = rbz[c];
+
+		// Friction, bounded by the current normal impulse
+		float limit = friction * contacts.normalImpulse[c];
+		float old = contacts.tangentImpulse1[c];
+		float lambda = -relativeVelocity(a, b, ax, ay, az, bx, by, bz, t1x[c],
+				t1y[c], t1z[c]) * tangentMass1[c];
+		float accumulated = clamp(old + lambda, -limit, limit);
+		contacts.tangentImpulse1[c] = accumulated;
+		lambda = accumulated - old;
+		applyImpulse(a, b, t1x[c] * lambda, t1y[c] * lambda, t1z[c] * lambda,
+				ax, ay, az, bx, by, bz);
+
+		old = contacts.tangentImpulse2[c];
+		lambda = -relativeVelocity(a, b, ax, ay, az, bx, by, bz, t2x[c],
+				t2y[c], t2z[c]) * tangentMass2[c];
+		accumulated = clamp(old + lambda, -limit, limit);
+		contacts.tangentImpulse2[c] = accumulated;
+		lambda = accumulated - old;
+		applyImpulse(a, b, t2x[c] * lambda, t2y[c] * lambda, t2z[c] * lambda,
+				ax, ay, az, bx, by, bz);
+
+		// Non-penetration, pushing only
+		float nx = contacts.nx[c], ny = contacts.ny[c], nz = contacts.nz[c];
+		old = contacts.normalImpulse[c];
+		lambda = (bias[c] - relativeVelocity(a, b, ax, ay, az, bx, by, bz, nx,
+				ny, nz)) * normalMass[c];
+		accumulated = Math.max(old + lambda, 0);
+		contacts.normalImpulse[c] = accumulated;
+		lambda = accumulated - old;
+		applyImpulse(a, b, nx * lambda, ny * lambda, nz * lambda, ax, ay, az,
+				bx, by, bz);
+	}
+
+	/**
+	 * Computes a joint's world space offsets, inverse effective mass matrix
+	 * and bias, then applies its warm start impulse
+	 */
+	private void prepareJoint(int j) {
+		int a = joints.bodyA[j], b = joints.bodyB[j];
+		float ax = rotateX(a, joints.ax[j], joints.ay[j], joints.az[j]);
+		float ay = rotateY(a, joints.ax[j], joints.ay[j], joints.az[j]);
+		float az = rotateZ(a, joints.ax[j], joints.ay[j], joints.az[j]);
+		float bx = rotateX(b, joints.bx[j], joints.by[j], joints.bz[j]);
+		float by = rotateY(b, joints.bx[j], joints.by[j], joints.bz[j]);
+		float bz = rotateZ(b, joints.bx[j], joints.by[j], joints.bz[j]);
+		jax[j] = ax;
+		jay[j] = ay;
+		jaz[j] = az;
+		jbx[j] = bx;
+		jby[j] = by;
+		jbz[j] = bz;
+
+		// Columns of K, the change in relative anchor velocity per unit
+		// impulse along each axis
+		float[] k = jointMass;
+		int o = j * 9;
+		for (int axis = 0; axis < 3; axis++) {
+			float ex = axis == 0 ? 1 : 0, ey = axis == 1 ? 1 : 0;
+			float ez = axis == 2 ? 1 : 0;
+			k[o + axis] = response(a, ax, ay, az, ex, ey, ez, 0)
+					+ response(b, bx, by, bz, ex, ey, ez, 0);
+			k[o + 3 + axis] = response(a, ax, ay, az, ex, ey, ez, 1)
+					+ response(b, bx, by, bz, ex, ey, ez, 1);
+			k[o + 6 + axis] = response(a, ax, ay, az, ex, ey, ez, 2)
+					+ response(b, bx, by, bz, ex, ey, ez, 2);
+		}
+		invert(k, o);
+
+		float k2 = baumgarte / dt;
+		jointBiasX[j] = (bodies.px[b] + bx - bodies.px[a] - ax) * k2;
+		jointBiasY[j] = (bodies.py[b] + by - bodies.py[a] - ay) * k2;
+		jointBiasZ[j] = (bodies.pz[b] + bz - bodies.pz[a] - az) * k2;
+
+		applyImpulse(a, b, joints.ix[j], joints.iy[j], joints.iz[j], ax, ay,
+				az, bx, by, bz);
+	}
+
+	/**
+	 * Solves the three axes of a ball joint together
+	 */
+	private void solveJoint(int j) {
+		int a = joints.bodyA[j], b = joints.bodyB[j];
+		float ax = jax[j], ay = jay[j], az = jaz[j];
+		float bx = jbx[j], by = jby[j], bz = jbz[j];
+
+		// Relative velocity of the anchors, plus the position error bias
+		float dx = bodies.vx[b] + bodies.wy[b] * bz - bodies.wz[b] * by
+				- bodies.vx[a] - bodies.wy[a] * az + bodies.wz[a] * ay
+				+ jointBiasX[j];
+		float dy = bodies.vy[b] + bodies.wz[b] * bx - bodies.wx[b] * bz
+				- bodies.vy[a] - bodies.wz[a] * ax + bodies.wx[a] * az
+				+ jointBiasY[j];
+		float dz = bodies.vz[b] + bodies.wx[b] * by - bodies.wy[b] * bx
+				- bodies.vz[a] - bodies.wx[a] * ay + bodies.wy[a] * ax
+				+ jointBiasZ[j];
+
+		float[] k = jointMass;
+		int o = j * 9;
+		float lx = -(k[o] * dx + k[o + 1] * dy + k[o + 2] * dz);
+		float ly = -(k[o + 3] * dx + k[o + 4] * dy + k[o + 5] * dz);
+		float lz = -(k[o + 6] * dx + k[o + 7] * dy + k[o + 8] * dz);
+		joints.ix[j] += lx;
+		joints.iy[j] += ly;
+		joints.iz[j] += lz;
+		applyImpulse(a, b, lx, ly, lz, ax, ay, az, bx, by, bz);
+	}
+
+	/**
+	 * Velocity of b relative to a at the contact, along a direction
+	 */
+	private float relativeVelocity(int a, int b, float ax, float ay,
+			float az, float bx, float by, float bz, float dx, float dy,
+			float dz) {
+		float vx = bodies.vx[b] + bodies.wy[b] * bz - bodies.wz[b] * by
+				- bodies.vx[a] - bodies.wy[a] * az + bodies.wz[a] * ay;
+		float vy = bodies.vy[b] + bodies.wz[b] * bx - bodies.wx[b] * bz
+				- bodies.vy[a] - bodies.wz[a] * ax + bodies.wx[a] * az;
+		float vz = bodies.vz[b] + bodies.wx[b] * by - bodies.wy[b] * bx
+				- bodies.vz[a] - bodies.wx[a] * ay + bodies.wy[a] * ax;
+		return vx * dx + vy * dy + vz * dz;
+	}
+
+	/**
+	 * Applies an impulse to b at offset rb, and its negation to a at ra.
+	 * Bodies with zero inverse mass are left untouched.
+	 */
+	private void applyImpulse(int a, int b, float x, float y, float z,
+			float ax, float ay, float az, float bx, float by, float bz) {
+		if (bodies.invMass[a] > 0) {
+			float m = bodies.invMass[a];
+			bodies.vx[a] -= x * m;
+			bodies.vy[a] -= y * m;
+			bodies.vz[a] -= z * m;
+			// w -= I^-1 (r x P)
+			float cx = ay * z - az * y, cy = az * x - ax * z;
+			float cz = ax * y - ay * x;
+			int o = a * 6;
+			bodies.wx[a] -= inertia[o] * cx + inertia[o + 1] * cy
+					+ inertia[o + 2] * cz;
+			bodies.wy[a] -= inertia[o + 1] * cx + inertia[o + 3] * cy
+					+ inertia[o + 4] * cz;
+			bodies.wz[a] -= inertia[o + 2] * cx + inertia[o + 4] * cy
+					+ inertia[o + 5] * cz;
+		}
+		if (bodies.invMass[b] > 0) {
+			float m = bodies.invMass[b];
+			bodies.vx[b] += x * m;
+			bodies.vy[b] += y * m;
+			bodies.vz[b] += z * m;
+			float cx = by * z - bz * y, cy = bz * x - bx * z;
+			float cz = bx * y - by * x;
+			int o = b * 6;
+			bodies.wx[b] += inertia[o] * cx + inertia[o + 1] * cy
+					+ inertia[o + 2] * cz;
+			bodies.wy[b] += inertia[o + 1] * cx + inertia[o + 3] * cy
+					+ inertia[o + 4] * cz;
+			bodies.wz[b] += inertia[o + 2] * cx + inertia[o + 4] * cy
+					+ inertia[o + 5] * cz;
+		}
+	}
+
+	/**
+	 * Effective mass along a direction, invMassA + invMassB + (ra x d) .
+	 * I_a^-1 (ra x d) + (rb x d) . I_b^-1 (rb x d), from contact c's offsets
+	 */
+	private float effectiveMass(int c, int a, int b, float dx, float dy,
+			float dz) {
+		return bodies.invMass[a] + bodies.invMass[b]
+				+ angularMass(a, rax[c], ray[c], raz[c], dx, dy, dz)
+				+ angularMass(b, rbx[c], rby[c], rbz[c], dx, dy, dz);
+	}
+
+	/**
+	 * (r x d) . I^-1 (r x d)
+	 */
+	private float angularMass(int i, float rx, float ry, float rz, float dx,
+			float dy, float dz) {
+		if (bodies.invMass[i] == 0)
+			return 0;
+		float cx = ry * dz - rz * dy, cy = rz * dx - rx * dz;
+		float cz = rx * dy - ry * dx;
+		int o = i * 6;
+		float ix = inertia[o] * cx + inertia[o + 1] * cy + inertia[o + 2] * cz;
+		float iy = inertia[o + 1] * cx + inertia[o + 3] * cy + inertia[o + 4]
+				* cz;
+		float iz = inertia[o + 2] * cx + inertia[o + 4] * cy + inertia[o + 5]
+				* cz;
+		return cx * ix + cy * iy + cz * iz;
+	}
+
+	/**
+	 * Component of the change in anchor velocity of body i from a unit
+	 * impulse e at offset r: m * e + (I^-1 (r x e)) x r
+	 */
+	private float response(int i, float rx, float ry, float rz, float ex,
+			float ey, float ez, int component) {
+		float m = bodies.invMass[i];
+		if (m == 0)
+			return 0;
+		float cx = ry * ez - rz * ey, cy = rz * ex - rx * ez;
+		float cz = rx * ey - ry * ex;
+		int o = i * 6;
+		float wx = inertia[o] * cx + inertia[o + 1] * cy + inertia[o + 2] * cz;
+		float wy = inertia[o + 1] * cx + inertia[o + 3] * cy + inertia[o + 4]
+				* cz;
+		float wz = inertia[o + 2] * cx + inertia[o + 4] * cy + inertia[o + 5]
+				* cz;
+		switch (component) {
+			case 0:
+				return m * ex + wy * rz - wz * ry;
+			case 1:
+				return m * ey + wz * rx - wx * rz;
+			default:
+				return m * ez + wx * ry - wy * rx;
+		}
+	}
+
+	/**
+	 * Inverts the row-major 3x3 matrix at offset o in place
+	 */
+	private static void invert(float[] k, int o) {
+		float a = k[o], b = k[o + 1], c = k[o + 2];
+		float d = k[o + 3], e = k[o + 4], f = k[o + 5];
+		float g = k[o + 6], h = k[o + 7], i = k[o + 8];
+		float c00 = e * i - f * h, c01 = f * g - d * i, c02 = d * h - e * g;
+		float determinant = a * c00 + b * c01 + c * c02;
+		float inv = determinant != 0 ? 1 / determinant : 0;
+		k[o] = c00 * inv;
+		k[o + 1] = (c * h - b * i) * inv;
+		k[o + 2] = (b * f - c * e) * inv;
+		k[o + 3] = c01 * inv;
+		k[o + 4] = (a * i - c * g) * inv;
+		k[o + 5] = (c * d - a * f) * inv;
+		k[o + 6] = c02 * inv;
+		k[o + 7] = (b * g - a * h) * inv;
+		k[o + 8] = (a * e - b * d) * inv;
+	}
+
+	/**
+	 * Components of a body space vector rotated into world space
+	 */
+	private float rotateX(int i, float x, float y, float z) {
+		float qx = bodies.qx[i], qy = bodies.qy[i], qz = bodies.qz[i];
+		float ty = 2 * (qz * x - qx * z), tz = 2 * (qx * y - qy * x);
+		return x + bodies.qw[i] * 2 * (qy * z - qz * y) + (qy * tz - qz * ty);
+	}
+
+	private float rotateY(int i, float x, float y, float z) {
+		float qx = bodies.qx[i], qy = bodies.qy[i], qz = bodies.qz[i];
+		float tx = 2 * (qy * z - qz * y), tz = 2 * (qx * y - qy * x);
+		return y + bodies.qw[i] * 2 * (qz * x - qx * z) + (qz * tx - qx * tz);
+	}
+
+	private float rotateZ(int i, float x, float y, float z) {
+		float qx = bodies.qx[i], qy = bodies.qy[i], qz = bodies.qz[i];
+		float tx = 2 * (qy * z - qz * y), ty = 2 * (qz * x - qx * z);
+		return z + bodies.qw[i] * 2 * (qx * y - qy * x) + (qx * ty - qy * tx);
+	}
+
+	/**
+	 * Clamps a value to [min, max]
+	 */
+	private static float clamp(float value, float min, float max) {
+		return value < min ? min : value > max ? max : value;
+	}
+
+	/**
+	 * Grows the per body, per contact and per joint arrays
+	 */
+	private void allocate(int bodyCount, int contactCount, int jointCount) {
+		// Only dynamic bodies have their inertia computed and read
+		if (inertia.length < bodyCount * 6)
+			inertia = new float[bodyCount * 12];
+
+		if (normalMass.length < contactCount) {
+			int n = contactCount * 2;
+			rax = new float[n];
+			ray = new float[n];
+			raz = new float[n];
+			rbx = new float[n];
+			rby = new float[n];
+			rbz = new float[n];
+			t1x = new float[n];
+			t1y = new float[n];
+			t1z = new float[n];
+			t2x = new float[n];
+			t2y = new float[n];
+			t2z = new float[n];
+			normalMass = new float[n];
+			tangentMass1 = new float[n];
+			tangentMass2 = new float[n];
+			bias = new float[n];
+		}
+		if (jointBiasX.length < jointCount) {
+			int n = jointCount * 2;
+			jax = new float[n];
+			jay = new float[n];
+			jaz = new float[n];
+			jbx = new float[n];
+			jby = new float[n];
+			jbz = new float[n];
+			jointMass = new float[n * 9];
+			jointBiasX = new float[n];
+			jointBiasY = new float[n];
+			jointBiasZ = new float[n];
+		}
+	}
+
+	/**
+	 * Solves a range of islands, splitting it in half while it holds more
+	 * than TASK_CONTACTS contacts
+	 */
+	private class IslandTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from, to;
+
+		IslandTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			int contactCount = islands.contactStart[to]
+					- islands.contactStart[from];
+			if (to - from == 1 || contactCount <= TASK_CONTACTS) {
+				solveIslands(from, to);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new IslandTask(from, middle), new IslandTask(middle, to));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Solver [iterations:" + iterations + ", friction:" + friction
+				+ "]";
+	}
+}
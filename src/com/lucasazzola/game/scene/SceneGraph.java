@@ -0,0 +1,518 @@
+package com.lucasazzola.game.scene;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.lucasazzola.game.graphics.Matrix4;
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * Transform hierarchy with dirty flag propagation. Nodes are kept in depth
+ * first order in flat arrays, so that a parent always precedes its children
+ * and {@link #update()} is a single linear pass which only recomputes the
+ * world matrices of dirty nodes and their descendants.
+ *
+ * Nodes are referred to by a stable id. Their index into the flat arrays
+ * changes as nodes are added and removed, see {@link #indexOf(int)}. Adding
+ * a node shifts every node after its parent's subtree, so scenes are
+ * cheapest to build in depth first order.
+ *
+ * @since 19/10/2026
+ */
+public class SceneGraph {
+
+	/**
+	 * Parent id given to top level nodes
+	 */
+	public static final int ROOT = -1;
+
+	/**
+	 * Number of floats per world matrix
+	 */
+	public static final int MATRIX_SIZE = 16;
+
+	/**
+	 * Number of nodes below which a level is not split further when updating
+	 * in parallel
+	 */
+	public static final int PARALLEL_CHUNK = 2048;
+
+	/**
+	 * Node storage, indexed by depth first position
+	 */
+	int[] parent, subtreeSize, depth, indexToId;
+	float[] position, rotation, scale, world;
+	boolean[] dirty, changed;
+	int count;
+
+	/**
+	 * Id bookkeeping, indexed by id
+	 */
+	private int[] idToIndex, freeIds;
+	private int freeCount, nextId;
+
+	/**
+	 * The first dirty index, or count if nothing is dirty
+	 */
+	int firstDirty;
+
+	/**
+	 * Breadth first level tables for parallel updates, nodes of depth d are
+	 * levelNodes[levelStart[d]..levelStart[d + 1])
+	 */
+	private int[] levelStart, levelNodes;
+	private int levelCount;
+	private boolean levelsValid;
+
+	/**
+	 * Constructs an empty scene graph
+	 *
+	 * @param capacity the initial number of nodes to allocate for
+	 */
+	public SceneGraph(int capacity) {
+		capacity = Math.max(capacity, 1);
+		parent = new int[capacity];
+		subtreeSize = new int[capacity];
+		depth = new int[capacity];
+		indexToId = new int[capacity];
+		position = new float[capacity * 3];
+		rotation = new float[capacity * 4];
+		scale = new float[capacity * 3];
+		world = new float[capacity * MATRIX_SIZE];
+		dirty = new boolean[capacity];
+		changed = new boolean[capacity];
+		idToIndex = new int[capacity];
+		freeIds = new int[capacity];
+	}
+
+	/**
+	 * Creates a node with an identity local transform
+	 *
+	 * @param parentId the id of the parent node, or ROOT
+	 * @return the id of the new node
+	 */
+	public int createNode(int parentId) {
+		int parentIndex = parentId == ROOT ? -1 : indexOf(parentId);
+		int index = parentIndex == -1 ? count : parentIndex
+				+ subtreeSize[parentIndex];
+
+		ensureCapacity(count + 1);
+		shift(index, count, 1);
+		count++;
+		levelsValid = false;
+
+		for (int i = index + 1; i < count; i++) {
+			if (parent[i] >= index)
+				parent[i]++;
+		}
+		for (int p = parentIndex; p != -1; p = parent[p]) {
+			subtreeSize[p]++;
+		}
+
+		int id = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+		if (id >= idToIndex.length)
+			idToIndex = Arrays.copyOf(idToIndex, idToIndex.length * 2);
+		for (int i = index + 1; i < count; i++) {
+			idToIndex[indexToId[i]] = i;
+		}
+		idToIndex[id] = index;
+		indexToId[index] = id;
+
+		parent[index] = parentIndex;
+		subtreeSize[index] = 1;
+		depth[index] = parentIndex == -1 ? 0 : depth[parentIndex] + 1;
+		Arrays.fill(position, index * 3, index * 3 + 3, 0);
+		Arrays.fill(rotation, index * 4, index * 4 + 3, 0);
+		rotation[index * 4 + 3] = 1;
+		Arrays.fill(scale, index * 3, index * 3 + 3, 1);
+		changed[index] = false;
+		markDirty(index);
+		return id;
+	}
+
+	/**
+	 * Removes a node along with all of its descendants
+	 *
+	 * @param id the id of the node to remove
+	 */
+	public void removeNode(int id) {
+		int index = indexOf(id);
+		int size = subtreeSize[index];
+
+		for (int p = parent[index]; p != -1; p = parent[p]) {
+			subtreeSize[p] -= size;
+		}
+		for (int i = index; i < index + size; i++) {
+			idToIndex[indexToId[i]] = -1;
+			if (freeCount == freeIds.length)
+				freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+			freeIds[freeCount++] = indexToId[i];
+		}
+
+		shift(index + size, count, -size);
+		count -= size;
+		levelsValid = false;
+
+		for (int i = index; i < count; i++) {
+			if (parent[i] >= index)
+				parent[i] -= size;
+			idToIndex[indexToId[i]] = i;
+		}
+		if (firstDirty > index)
+			firstDirty = index;
+	}
+
+	/**
+	 * Gets the current index of a node into the flat arrays
+	 *
+	 * @param id the id of the node
+	 * @return the index of the node
+	 */
+	public int indexOf(int id) {
+		int index = id >= 0 && id < idToIndex.length ? idToIndex[id] : -1;
+		if (index < 0 || index >= count || indexToId[index] != id)
+			throw new IllegalArgumentException("No such node: " + id);
+		return index;
+	}
+
+	/**
+	 * @return the number of nodes
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Gets the parent of a node
+	 *
+	 * @param id the id of the node
+	 * @return the id of the parent, or ROOT
+	 */
+	public int getParent(int id) {
+		int p = parent[indexOf(id)];
+		return p == -1 ? ROOT : indexToId[p];
+	}
+
+	/**
+	 * Sets the local position of a node
+	 *
+	 * @param id the id of the node
+	 * @param x the x-coordinate
+	 * @param y the y-coordinate
+	 * @param z the z-coordinate
+	 */
+	public void setLocalPosition(int id, float x, float y, float z) {
+		int index = indexOf(id);
+		position[index * 3] = x;
+		position[index * 3 + 1] = y;
+		position[index * 3 + 2] = z;
+		markDirty(index);
+	}
+
+	/**
+	 * @see #setLocalPosition(int, float, float, float)
+	 */
+	public void setLocalPosition(int id, Vector3 position) {
+		setLocalPosition(id, position.x, position.y, position.z);
+	}
+
+	/**
+	 * Sets the local rotation of a node
+	 *
+	 * @param id the id of the node
+	 * @param rotation the unit quaternion rotation
+	 */
+	public void setLocalRotation(int id, Quaternion rotation) {
+		int index = indexOf(id);
+		this.rotation[index * 4] = rotation.x;
+		this.rotation[index * 4 + 1] = rotation.y;
+		this.rotation[index * 4 + 2] = rotation.z;
+		this.rotation[index * 4 + 3] = rotation.w;
+		markDirty(index);
+	}
+
+	/**
+	 * Sets the local scale of a node
+	 *
+	 * @param id the id of the node
+	 * @param x the scale along x
+	 * @param y the scale along y
+	 * @param z the scale along z
+	 */
+	public void setLocalScale(int id, float x, float y, float z) {
+		int index = indexOf(id);
+		scale[index * 3] = x;
+		scale[index * 3 + 1] = y;
+		scale[index * 3 + 2] = z;
+		markDirty(index);
+	}
+
+	/**
+	 * @see #setLocalScale(int, float, float, float)
+	 */
+	public void setLocalScale(int id, Vector3 scale) {
+		setLocalScale(id, scale.x, scale.y, scale.z);
+	}
+
+	/**
+	 * Gets the local position of a node
+	 *
+	 * @param id the id of the node
+	 * @param out the position will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector3 getLocalPosition(int id, Vector3 out) {
+		int index = indexOf(id);
+		out.x = position[index * 3];
+		out.y = position[index * 3 + 1];
+		out.z = position[index * 3 + 2];
+		return out;
+	}
+
+	/**
+	 * Gets the local rotation of a node
+	 *
+	 * @param id the id of the node
+	 * @param out the rotation will be assigned to this quaternion
+	 * @return out, for chainability
+	 */
+	public Quaternion getLocalRotation(int id, Quaternion out) {
+		int index = indexOf(id);
+		out.x = rotation[index * 4];
+		out.y = rotation[index * 4 + 1];
+		out.z = rotation[index * 4 + 2];
+		out.w = rotation[index * 4 + 3];
+		return out;
+	}
+
+	/**
+	 * Gets the local scale of a node
+	 *
+	 * @param id the id of the node
+	 * @param out the scale will be assigned to this vector
+	 * @return out, for chainability
+	 */
+	public Vector3 getLocalScale(int id, Vector3 out) {
+		int index = indexOf(id);
+		out.x = scale[index * 3];
+		out.y = scale[index * 3 + 1];
+		out.z = scale[index * 3 + 2];
+		return out;
+	}
+
+	/**
+	 * Gets the world matrix of a node, as of the last {@link #update()}
+	 *
+	 * @param id the id of the node
+	 * @param out the matrix will be assigned to this
+	 * @return out, for chainability
+	 */
+	public Matrix4 getWorldMatrix(int id, Matrix4 out) {
+		return out.set(world, indexOf(id) * MATRIX_SIZE);
+	}
+
+	/**
+	 * Gets the flat world matrix array. The matrix of the node at index i
+	 * starts at i * MATRIX_SIZE, laid out as in
+	 * {@link Matrix4#get(float[], int)}. The array is replaced as the graph
+	 * grows.
+	 *
+	 * @return the world matrices
+	 */
+	public float[] worldMatrices() {
+		return world;
+	}
+
+	/**
+	 * Checks whether the world matrix of a node was recomputed by the last
+	 * {@link #update()}
+	 *
+	 * @param id the id of the node
+	 * @return true if the world matrix changed
+	 */
+	public boolean hasChanged(int id) {
+		return changed[indexOf(id)];
+	}
+
+	/**
+	 * Recomputes the world matrices of dirty nodes and their descendants
+	 */
+	public void update() {
+		for (int i = 0; i < firstDirty; i++) {
+			changed[i] = false;
+		}
+		for (int i = firstDirty; i < count; i++) {
+			updateNode(i);
+		}
+		firstDirty = count;
+	}
+
+	/**
+	 * Recomputes the world matrices of dirty nodes and their descendants
+	 * breadth first, one depth level at a time, with each level split across
+	 * the pool. Produces exactly the same matrices as {@link #update()}.
+	 *
+	 * @param pool the pool to run the update on
+	 */
+	public void update(ForkJoinPool pool) {
+		if (firstDirty >= count) {
+			Arrays.fill(changed, 0, count, false);
+			return;
+		}
+		if (!levelsValid)
+			buildLevels();
+		for (int d = 0; d < levelCount; d++) {
+			pool.invoke(new LevelUpdate(levelStart[d], levelStart[d + 1]));
+		}
+		firstDirty = count;
+	}
+
+	/**
+	 * Updates a single node, once its parent is up to date
+	 *
+	 * @param i the index of the node
+	 */
+	private void updateNode(int i) {
+		int p = parent[i];
+		boolean recompute = dirty[i] || (p != -1 && changed[p]);
+		changed[i] = recompute;
+		if (recompute) {
+			dirty[i] = false;
+			computeWorld(i);
+		}
+	}
+
+	/**
+	 * Counting sort of node indices by depth, keeping depth first order
+	 * within each level
+	 */
+	private void buildLevels() {
+		int maxDepth = -1;
+		for (int i = 0; i < count; i++) {
+			if (depth[i] > maxDepth)
+				maxDepth = depth[i];
+		}
+		levelCount = maxDepth + 1;
+		if (levelStart == null || levelStart.length < levelCount + 1)
+			levelStart = new int[levelCount + 1];
+		if (levelNodes == null || levelNodes.length < count)
+			levelNodes = new int[parent.length];
+
+		Arrays.fill(levelStart, 0, levelCount + 1, 0);
+		for (int i = 0; i < count; i++) {
+			levelStart[depth[i] + 1]++;
+		}
+		for (int d = 0; d < levelCount; d++) {
+			levelStart[d + 1] += levelStart[d];
+		}
+		int[] next = Arrays.copyOf(levelStart, levelCount);
+		for (int i = 0; i < count; i++) {
+			levelNodes[next[depth[i]]++] = i;
+		}
+		levelsValid = true;
+	}
+
+	/**
+	 * Updates levelNodes[from..to), splitting in halves down to
+	 * PARALLEL_CHUNK nodes
+	 */
+	private class LevelUpdate extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from, to;
+
+		LevelUpdate(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_CHUNK) {
+				for (int n = from; n < to; n++) {
+					updateNode(levelNodes[n]);
+				}
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new LevelUpdate(from, mid), new LevelUpdate(mid, to));
+		}
+	}
+
+	/**
+	 * Recomputes the world matrix of a single node from its local transform
+	 * and the world matrix of its parent
+	 *
+	 * @param i the index of the node
+	 */
+	void computeWorld(int i) {
+		int o = i * MATRIX_SIZE;
+		Matrix4.setTransform(world, o, position[i * 3], position[i * 3 + 1],
+				position[i * 3 + 2], rotation[i * 4], rotation[i * 4 + 1],
+				rotation[i * 4 + 2], rotation[i * 4 + 3], scale[i * 3],
+				scale[i * 3 + 1], scale[i * 3 + 2]);
+		int p = parent[i];
+		if (p != -1)
+			Matrix4.multiplyAffine(world, p * MATRIX_SIZE, world, o, world, o);
+	}
+
+	/**
+	 * Flags a node as dirty
+	 *
+	 * @param index the index of the node
+	 */
+	private void markDirty(int index) {
+		dirty[index] = true;
+		if (index < firstDirty)
+			firstDirty = index;
+	}
+
+	/**
+	 * Moves the nodes in [from, to) by delta places in every array
+	 */
+	private void shift(int from, int to, int delta) {
+		int n = to - from;
+		if (n <= 0)
+			return;
+		System.arraycopy(parent, from, parent, from + delta, n);
+		System.arraycopy(subtreeSize, from, subtreeSize, from + delta, n);
+		System.arraycopy(depth, from, depth, from + delta, n);
+		System.arraycopy(indexToId, from, indexToId, from + delta, n);
+		System.arraycopy(dirty, from, dirty, from + delta, n);
+		System.arraycopy(changed, from, changed, from + delta, n);
+		System.arraycopy(position, from * 3, position, (from + delta) * 3,
+				n * 3);
+		System.arraycopy(rotation, from * 4, rotation, (from + delta) * 4,
+				n * 4);
+		System.arraycopy(scale, from * 3, scale, (from + delta) * 3, n * 3);
+		System.arraycopy(world, from * MATRIX_SIZE, world, (from + delta)
+				* MATRIX_SIZE, n * MATRIX_SIZE);
+	}
+
+	/**
+	 * Grows the node arrays to hold at least capacity nodes
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity <= parent.length)
+			return;
+		capacity = Math.max(capacity, parent.length * 2);
+		parent = Arrays.copyOf(parent, capacity);
+		subtreeSize = Arrays.copyOf(subtreeSize, capacity);
+		depth = Arrays.copyOf(depth, capacity);
+		indexToId = Arrays.copyOf(indexToId, capacity);
+		dirty = Arrays.copyOf(dirty, capacity);
+		changed = Arrays.copyOf(changed, capacity);
+		position = Arrays.copyOf(position, capacity * 3);
+		rotation = Arrays.copyOf(rotation, capacity * 4);
+		scale = Arrays.copyOf(scale, capacity * 3);
+		world = Arrays.copyOf(world, capacity * MATRIX_SIZE);
+	}
+
+	@Override
+	public String toString() {
+		return "SceneGraph [nodes:" + count + "]";
+	}
+}
@@ -0,0 +1,276 @@
+package com.lucasazzola.game.script;
+
+import com.lucasazzola.game.graphics.Vector3;
+
+/**
+ * A behaviour that runs a little at a time, resumed once per tick by
+ * {@link Coroutines} until it finishes. Behaviours are written as a
+ * straight line of steps, each a coroutine itself:
+ *
+ * <pre>
+ * Coroutine guard = Coroutine.repeat(Coroutine.sequence(
+ * 		Coroutine.moveTo(position, post, 2),
+ * 		Coroutine.delay(3),
+ * 		Coroutine.until(enemyInSight),
+ * 		Coroutine.call(attack)));
+ * </pre>
+ *
+ * Each step keeps its own progress between resumes, so thousands of
+ * behaviours cost one object graph each rather than a thread each. A step
+ * that finishes part way through a resume reports the time it didn't use
+ * as its {@link #remainder()}, which is passed on to the next step, so
+ * timing doesn't depend on the frame rate.
+ *
+ * @since 19/10/2026
+ */
+public abstract class Coroutine {
+
+	/**
+	 * A test polled each resume
+	 */
+	public interface Condition {
+
+		/**
+		 * @return true when the wait is over
+		 */
+		boolean test();
+	}
+
+	/**
+	 * Runs until the coroutine next waits
+	 *
+	 * @param dt the time since it was last resumed, in seconds
+	 * @return true when the coroutine has finished
+	 */
+	public abstract boolean resume(float dt);
+
+	/**
+	 * Gets the time the last resume didn't use, valid once it has returned
+	 * true
+	 *
+	 * @return the unused time, in seconds, 0 unless overridden
+	 */
+	public float remainder() {
+		return 0;
+	}
+
+	/**
+	 * Returns to the start, so the coroutine can run again
+	 */
+	public void reset() {
+	}
+
+	/**
+	 * Runs coroutines one after another. Each step starts in the resume the
+	 * last finished in, with the time the last didn't use.
+	 *
+	 * @param steps the coroutines to run
+	 * @return the sequence
+	 */
+	public static Coroutine sequence(final Coroutine... steps) {
+		return new Coroutine() {
+			private int step;
+			private float remainder;
+
+			@Override
+			public boolean resume(float dt) {
+				while (step < steps.length) {
+					if (!steps[step].resume(dt))
+						return false;
+					dt = steps[step].remainder();
+					step++;
+				}
+				remainder = dt;
+				return true;
+			}
+
+			@Override
+			public float remainder() {
+				return remainder;
+			}
+
+			@Override
+			public void reset() {
+				step = 0;
+				remainder = 0;
+				for (Coroutine c : steps) {
+					c.reset();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Waits for a time
+	 *
+	 * @param seconds the time to wait
+	 * @return the delay
+	 */
+	public static Coroutine delay(final float seconds) {
+		return new Coroutine() {
+			private float elapsed;
+
+			@Override
+			public boolean resume(float dt) {
+				elapsed += dt;
+				return elapsed >= seconds;
+			}
+
+			@Override
+			public float remainder() {
+				return Math.max(elapsed - seconds, 0);
+			}
+
+			@Override
+			public void reset() {
+				elapsed = 0;
+			}
+		};
+	}
+
+	/**
+	 * Waits until a condition holds, testing once per resume
+	 *
+	 * @param condition the condition
+	 * @return the wait
+	 */
+	public static Coroutine until(final Condition condition) {
+		return new Coroutine() {
+			private float remainder;
+
+			@Override
+			public boolean resume(float dt) {
+				remainder = dt;
+				return condition.test();
+			}
+
+			@Override
+			public float remainder() {
+				return remainder;
+			}
+		};
+	}
+
+	/**
+	 * Runs code once, without waiting
+	 *
+	 * @param action the code
+	 * @return the call
+	 */
+	public static Coroutine call(final Runnable action) {
+		return new Coroutine() {
+			private float remainder;
+
+			@Override
+			public boolean resume(float dt) {
+				remainder = dt;
+				action.run();
+				return true;
+			}
+
+			@Override
+			public float remainder() {
+				return remainder;
+			}
+		};
+	}
+
+	/**
+	 * Moves a point towards a target at a constant speed
+	 *
+	 * @param position the point, moved in place
+	 * @param target the point to move to, read each resume so it may move
+	 * @param speed the speed, in units per second
+	 * @return the move, finished on arrival
+	 */
+	public static Coroutine moveTo(final Vector3 position,
+			final Vector3 target, final float speed) {
+		return new Coroutine() {
+			private float remainder;
+
+			@Override
+			public boolean resume(float dt) {
+				float distance = position.distanceTo(target);
+				float step = speed * dt;
+				if (step >= distance) {
+					position.x = target.x;
+					position.y = target.y;
+					position.z = target.z;
+					remainder = speed > 0 ? dt - distance / speed : dt;
+					return true;
+				}
+				float t = step / distance;
+				position.x += (target.x - position.x) * t;
+				position.y += (target.y - position.y) * t;
+				position.z += (target.z - position.z) * t;
+				return false;
+			}
+
+			@Override
+			public float remainder() {
+				return remainder;
+			}
+		};
+	}
+
+	/**
+	 * Runs a coroutine until stopped, resetting it each time it finishes.
+	 * At most one run finishes per resume; the time a run didn't use, up to
+	 * one resume's worth, is added to the next.
+	 *
+	 * @param body the coroutine to repeat
+	 * @return the loop, which never finishes
+	 */
+	public static Coroutine repeat(Coroutine body) {
+		return repeat(body, -1);
+	}
+
+	/**
+	 * Runs a coroutine a number of times, resetting it each time it
+	 * finishes. At most one run finishes per resume; the time a run didn't
+	 * use, up to one resume's worth, is added to the next.
+	 *
+	 * @param body the coroutine to repeat
+	 * @param times the number of runs, or -1 for no limit
+	 * @return the loop
+	 */
+	public static Coroutine repeat(final Coroutine body, final int times) {
+		return new Coroutine() {
+			private int runs;
+			private float carry, remainder;
+
+			@Override
+			public boolean resume(float dt) {
+				if (times >= 0 && runs >= times) {
+					remainder = dt;
+					return true;
+				}
+				float time = dt + carry;
+				carry = 0;
+				if (!body.resume(time))
+					return false;
+				// capped, or a body taking no time would carry ever more
+				carry = Math.min(body.remainder(), dt);
+				body.reset();
+				runs++;
+				if (times < 0 || runs < times)
+					return false;
+				remainder = carry;
+				carry = 0;
+				return true;
+			}
+
+			@Override
+			public float remainder() {
+				return remainder;
+			}
+
+			@Override
+			public void reset() {
+				runs = 0;
+				carry = remainder = 0;
+				body.reset();
+			}
+		};
+	}
+}
@@ -0,0 +1,250 @@
+package com.lucasazzola.game.script;
+
+import java.util.Arrays;
+
+import com.lucasazzola.game.util.GameTime;
+
+/**
+ * Runs coroutines on the game thread, resuming them in bulk once per
+ * update. Scheduling is deterministic: coroutines resume in the order they
+ * were started, with the time since each last ran, and a coroutine started
+ * during an update first runs in the next one.
+ *
+ * An update resumes at most {@link #setBudget(int)} coroutines, carrying
+ * on where the last update stopped, so a large population is spread over
+ * several ticks at a bounded cost per tick. Coroutines are referred to by
+ * a stable handle combining a slot and a generation, so handles to finished
+ * coroutines are detected rather than aliasing a recycled slot. Finished
+ * coroutines are removed after each update, keeping the order of the rest.
+ *
+ * @since 19/10/2026
+ */
+public class Coroutines {
+
+	/**
+	 * Bits of a handle holding its slot, the rest hold its generation
+	 */
+	private static final int SLOT_BITS = 22;
+	private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+	/**
+	 * Coroutine storage, indexed by run order
+	 */
+	private Coroutine[] routines;
+	private double[] lastResumed;
+	private boolean[] finished;
+	private int[] indexToHandle;
+	private int count;
+
+	/**
+	 * Handle bookkeeping, indexed by slot
+	 */
+	private int[] handleToIndex, generation, freeHandles;
+	private int freeCount, nextHandle;
+
+	/**
+	 * Scheduler time, in seconds, the most resumes per update, and where
+	 * the next update starts
+	 */
+	private double now;
+	private int budget, cursor;
+	private boolean updating, removals;
+
+	/**
+	 * Constructs an empty scheduler
+	 *
+	 * @param capacity the initial number of coroutines to allocate for
+	 */
+	public Coroutines(int capacity) {
+		capacity = Math.max(capacity, 1);
+		routines = new Coroutine[capacity];
+		lastResumed = new double[capacity];
+		finished = new boolean[capacity];
+		indexToHandle = new int[capacity];
+		handleToIndex = new int[capacity];
+		generation = new int[capacity];
+		freeHandles = new int[capacity];
+	}
+
+	/**
+	 * @return the number of coroutines running
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Limits the coroutines resumed per update
+	 *
+	 * @param budget the most resumes per update, or 0 for no limit
+	 */
+	public void setBudget(int budget) {
+		if (budget < 0)
+			throw new IllegalArgumentException("Budget " + budget);
+		this.budget = budget;
+	}
+
+	/**
+	 * Starts a coroutine, first resumed by the next update
+	 *
+	 * @param routine the coroutine
+	 * @return the coroutine's handle
+	 */
+	public int start(Coroutine routine) {
+		if (count == routines.length) {
+			int capacity = count * 2;
+			routines = Arrays.copyOf(routines, capacity);
+			lastResumed = Arrays.copyOf(lastResumed, capacity);
+			finished = Arrays.copyOf(finished, capacity);
+			indexToHandle = Arrays.copyOf(indexToHandle, capacity);
+		}
+		int slot;
+		if (freeCount > 0) {
+			slot = freeHandles[--freeCount];
+		} else {
+			if (nextHandle > SLOT_MASK)
+				throw new IllegalStateException("Too many coroutines");
+			if (nextHandle == handleToIndex.length) {
+				handleToIndex = Arrays.copyOf(handleToIndex, nextHandle * 2);
+				generation = Arrays.copyOf(generation, nextHandle * 2);
+			}
+			slot = nextHandle++;
+		}
+		int i = count++;
+		routines[i] = routine;
+		lastResumed[i] = now;
+		finished[i] = false;
+		indexToHandle[i] = generation[slot] << SLOT_BITS | slot;
+		handleToIndex[slot] = i;
+		return indexToHandle[i];
+	}
+
+	/**
+	 * @param handle a coroutine's handle
+	 * @return true if the coroutine has not finished or been stopped
+	 */
+	public boolean isRunning(int handle) {
+		int slot = handle & SLOT_MASK;
+		return slot < nextHandle && handleToIndex[slot] != -1
+				&& generation[slot] == handle >>> SLOT_BITS
+				&& !finished[handleToIndex[slot]];
+	}
+
+	/**
+	 * Stops a coroutine. It is not resumed again, even by an update in
+	 * progress.
+	 *
+	 * @param handle the coroutine's handle
+	 */
+	public void stop(int handle) {
+		if (!isRunning(handle))
+			throw new IllegalArgumentException("No such coroutine: "
+					+ handle);
+		finished[handleToIndex[handle & SLOT_MASK]] = true;
+		removals = true;
+		if (!updating)
+			compact();
+	}
+
+	/**
+	 * Stops every coroutine
+	 */
+	public void clear() {
+		for (int i = 0; i < count; i++) {
+			finished[i] = true;
+		}
+		removals = true;
+		if (!updating)
+			compact();
+	}
+
+	/**
+	 * Resumes coroutines with the frame time
+	 *
+	 * @param time the game time, ticked once per frame
+	 */
+	public void update(GameTime time) {
+		update(time.delta() / 1e9f);
+	}
+
+	/**
+	 * Resumes up to the budget of coroutines, in order, then removes the
+	 * finished ones
+	 *
+	 * @param dt the time step, in seconds
+	 */
+	public void update(float dt) {
+		if (updating)
+			throw new IllegalStateException("Update already in progress");
+		now += dt;
+		int n = count;
+		int resumes = budget == 0 ? n : Math.min(budget, n);
+		if (cursor >= n)
+			cursor = 0;
+		updating = true;
+		try {
+			for (int k = 0; k < resumes; k++) {
+				int i = cursor + k;
+				if (i >= n)
+					i -= n;
+				if (finished[i])
+					continue;
+				float elapsed = (float) (now - lastResumed[i]);
+				lastResumed[i] = now;
+				try {
+					if (routines[i].resume(elapsed)) {
+						finished[i] = true;
+						removals = true;
+					}
+				} catch (RuntimeException e) {
+					finished[i] = true;
+					removals = true;
+					throw e;
+				}
+			}
+			if (n > 0)
+				cursor = (cursor + resumes) % n;
+		} finally {
+			updating = false;
+			compact();
+		}
+	}
+
+	/**
+	 * Removes finished coroutines, keeping the order of the rest
+	 */
+	private void compact() {
+		if (!removals)
+			return;
+		removals = false;
+		int j = 0, cursorShift = 0;
+		for (int i = 0; i < count; i++) {
+			int handle = indexToHandle[i], slot = handle & SLOT_MASK;
+			if (finished[i]) {
+				handleToIndex[slot] = -1;
+				generation[slot] = (generation[slot] + 1)
+						& ((1 << 32 - SLOT_BITS) - 1);
+				if (freeCount == freeHandles.length)
+					freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+				freeHandles[freeCount++] = slot;
+				if (i < cursor)
+					cursorShift++;
+				continue;
+			}
+			routines[j] = routines[i];
+			lastResumed[j] = lastResumed[i];
+			finished[j] = false;
+			indexToHandle[j] = handle;
+			handleToIndex[slot] = j;
+			j++;
+		}
+		Arrays.fill(routines, j, count, null);
+		count = j;
+		cursor -= cursorShift;
+	}
+
+	@Override
+	public String toString() {
+		return "Coroutines [running:" + count + ", budget:" + budget + "]";
+	}
+}
@@ -0,0 +1,680 @@
+package com.lucasazzola.game.serial;
+
+import java.nio.ByteBuffer;
+
+import com.lucasazzola.game.graphics.Matrix3;
+import com.lucasazzola.game.graphics.Matrix4;
+import com.lucasazzola.game.graphics.Point2;
+import com.lucasazzola.game.graphics.Point3;
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Rectangle;
+import com.lucasazzola.game.graphics.Vector2;
+import com.lucasazzola.game.graphics.Vector3;
+import com.lucasazzola.game.graphics.Vector4;
+import com.lucasazzola.game.math.Angle;
+
+/**
+ * Binary encoding of the math types to and from ByteBuffers. Values are
+ * written field by field at the buffer's position, in the buffer's byte
+ * order, and read back into caller supplied objects, so neither direction
+ * reflects or allocates.
+ *
+ * Every type can be written as full 32-bit floats, and the vector and point
+ * types can also be written as 16-bit values through a {@link Quantizer}.
+ * Unit quaternions are written with the smallest three compression: the
+ * largest component is dropped, since it can be recovered from the other
+ * three, and the remaining three, which lie within +-1 / sqrt(2), are
+ * quantized.
+ *
+ * @since 19/10/2026
+ */
+public final class BinaryCodec {
+
+	/**
+	 * Bits per component of a quaternion written with
+	 * {@link #putQuaternion(ByteBuffer, Quaternion)}, giving 4 bytes
+	 */
+	public static final int QUATERNION_BITS = 10;
+
+	/**
+	 * Bounds of the three smallest components of a unit quaternion
+	 */
+	private static final float SMALLEST = (float) (1 / Math.sqrt(2));
+
+	/**
+	 * Range of quantized angles
+	 */
+	private static final Quantizer ANGLE = new Quantizer((float) -Math.PI,
+			(float) Math.PI);
+
+	/**
+	 * Static only
+	 */
+	private BinaryCodec() {
+	}
+
+	/**
+	 * Writes a vector as two floats
+	 *
+	 * @param buffer the buffer to write to
+	 * @param v the vector
+	 */
+	public static void putVector2(ByteBuffer buffer, Vector2 v) {
+		buffer.putFloat(v.x).putFloat(v.y);
+	}
+
+	/**
+	 * Reads a vector written by {@link #putVector2(ByteBuffer, Vector2)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Vector2 getVector2(ByteBuffer buffer, Vector2 out) {
+		out.x = buffer.getFloat();
+		out.y = buffer.getFloat();
+		return out;
+	}
+
+	/**
+	 * Writes a vector as two 16-bit values
+	 *
+	 * @param buffer the buffer to write to
+	 * @param v the vector
+	 * @param q the quantizer for each component
+	 */
+	public static void putVector2(ByteBuffer buffer, Vector2 v, Quantizer q) {
+		buffer.putShort(q.quantize(v.x)).putShort(q.quantize(v.y));
+	}
+
+	/**
+	 * Reads a vector written by
+	 * {@link #putVector2(ByteBuffer, Vector2, Quantizer)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param q the quantizer it was written with
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Vector2 getVector2(ByteBuffer buffer, Quantizer q,
+			Vector2 out) {
+		out.x = q.dequantize(buffer.getShort());
+		out.y = q.dequantize(buffer.getShort());
+		return out;
+	}
+
+	/**
+	 * Writes a vector as three floats
+	 *
+	 * @param buffer the buffer to write to
+	 * @param v the vector
+	 */
+	public static void putVector3(ByteBuffer buffer, Vector3 v) {
+		buffer.putFloat(v.x).putFloat(v.y).putFloat(v.z);
+	}
+
+	/**
+	 * Reads a vector written by {@link #putVector3(ByteBuffer, Vector3)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Vector3 getVector3(ByteBuffer buffer, Vector3 out) {
+		out.x = buffer.getFloat();
+		out.y = buffer.getFloat();
+		out.z = buffer.getFloat();
+		return out;
+	}
+
+	/**
+	 * Writes a vector as three 16-bit values
+	 *
+	 * @param buffer the buffer to write to
+	 * @param v the vector
+	 * @param q the quantizer for each component
+	 */
+	public static void putVector3(ByteBuffer buffer, Vector3 v, Quantizer q) {
+		buffer.putShort(q.quantize(v.x)).putShort(q.quantize(v.y))
+				.putShort(q.quantize(v.z));
+	}
+
+	/**
+	 * Reads a vector written by
+	 * {@link #putVector3(ByteBuffer, Vector3, Quantizer)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param q the quantizer it was written with
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Vector3 getVector3(ByteBuffer buffer, Quantizer q,
+			Vector3 out) {
+		out.x = q.dequantize(buffer.getShort());
+		out.y = q.dequantize(buffer.getShort());
+		out.z = q.dequantize(buffer.getShort());
+		return out;
+	}
+
+	/**
+	 * Writes a vector as four floats
+	 *
+	 * @param buffer the buffer to write to
+	 * @param v the vector
+	 */
+	public static void putVector4(ByteBuffer buffer, Vector4 v) {
+		buffer.putFloat(v.x).putFloat(v.y).putFloat(v.z).putFloat(v.w);
+	}
+
+	/**
+	 * Reads a vector written by {@link #putVector4(ByteBuffer, Vector4)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Vector4 getVector4(ByteBuffer buffer, Vector4 out) {
+		out.x = buffer.getFloat();
+		out.y = buffer.getFloat();
+		out.z = buffer.getFloat();
+		out.w = buffer.getFloat();
+		return out;
+	}
+
+	/**
+	 * Writes a vector as four 16-bit values
+	 *
+	 * @param buffer the buffer to write to
+	 * @param v the vector
+	 * @param q the quantizer for each component
+	 */
+	public static void putVector4(ByteBuffer buffer, Vector4 v, Quantizer q) {
+		buffer.putShort(q.quantize(v.x)).putShort(q.quantize(v.y))
+				.putShort(q.quantize(v.z)).putShort(q.quantize(v.w));
+	}
+
+	/**
+	 * Reads a vector written by
+	 * {@link #putVector4(ByteBuffer, Vector4, Quantizer)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param q the quantizer it was written with
+	 * @param out the vector will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Vector4 getVector4(ByteBuffer buffer, Quantizer q,
+			Vector4 out) {
+		out.x = q.dequantize(buffer.getShort());
+		out.y = q.dequantize(buffer.getShort());
+		out.z = q.dequantize(buffer.getShort());
+		out.w = q.dequantize(buffer.getShort());
+		return out;
+	}
+
+	/**
+	 * Writes a point as two floats
+	 *
+	 * @param buffer the buffer to write to
+	 * @param p the point
+	 */
+	public static void putPoint2(ByteBuffer buffer, Point2 p) {
+		buffer.putFloat(p.x).putFloat(p.y);
+	}
+
+	/**
+	 * Reads a point written by {@link #putPoint2(ByteBuffer, Point2)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the point will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Point2 getPoint2(ByteBuffer buffer, Point2 out) {
+		out.x = buffer.getFloat();
+		out.y = buffer.getFloat();
+		return out;
+	}
+
+	/**
+	 * Writes a point as two 16-bit values
+	 *
+	 * @param buffer the buffer to write to
+	 * @param p the point
+	 * @param q the quantizer for each coordinate
+	 */
+	public static void putPoint2(ByteBuffer buffer, Point2 p, Quantizer q) {
+		buffer.putShort(q.quantize(p.x)).putShort(q.quantize(p.y));
+	}
+
+	/**
+	 * Reads a point written by
+	 * {@link #putPoint2(ByteBuffer, Point2, Quantizer)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param q the quantizer it was written with
+	 * @param out the point will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Point2 getPoint2(ByteBuffer buffer, Quantizer q, Point2 out) {
+		out.x = q.dequantize(buffer.getShort());
+		out.y = q.dequantize(buffer.getShort());
+		return out;
+	}
+
+	/**
+	 * Writes a point as three floats
+	 *
+	 * @param buffer the buffer to write to
+	 * @param p the point
+	 */
+	public static void putPoint3(ByteBuffer buffer, Point3 p) {
+		buffer.putFloat(p.x).putFloat(p.y).putFloat(p.z);
+	}
+
+	/**
+	 * Reads a point written by {@link #putPoint3(ByteBuffer, Point3)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the point will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Point3 getPoint3(ByteBuffer buffer, Point3 out) {
+		out.x = buffer.getFloat();
+		out.y = buffer.getFloat();
+		out.z = buffer.getFloat();
+		return out;
+	}
+
+	/**
+	 * Writes a point as three 16-bit values
+	 *
+	 * @param buffer the buffer to write to
+	 * @param p the point
+	 * @param q the quantizer for each coordinate
+	 */
+	public static void putPoint3(ByteBuffer buffer, Point3 p, Quantizer q) {
+		buffer.putShort(q.quantize(p.x)).putShort(q.quantize(p.y))
+				.putShort(q.quantize(p.z));
+	}
+
+	/**
+	 * Reads a point written by
+	 * {@link #putPoint3(ByteBuffer, Point3, Quantizer)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param q the quantizer it was written with
+	 * @param out the point will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Point3 getPoint3(ByteBuffer buffer, Quantizer q, Point3 out) {
+		out.x = q.dequantize(buffer.getShort());
+		out.y = q.dequantize(buffer.getShort());
+		out.z = q.dequantize(buffer.getShort());
+		return out;
+	}
+
+	/**
+	 * Writes a matrix as nine floats, row by row
+	 *
+	 * @param buffer the buffer to write to
+	 * @param m the matrix
+	 */
+	public static void putMatrix3(ByteBuffer buffer, Matrix3 m) {
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < 3; j++) {
+				buffer.putFloat(m.m[i][j]);
+			}
+		}
+	}
+
+	/**
+	 * Reads a matrix written by {@link #putMatrix3(ByteBuffer, Matrix3)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the matrix will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Matrix3 getMatrix3(ByteBuffer buffer, Matrix3 out) {
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < 3; j++) {
+				out.m[i][j] = buffer.getFloat();
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Writes a matrix as sixteen floats, row by row
+	 *
+	 * @param buffer the buffer to write to
+	 * @param m the matrix
+	 */
+	public static void putMatrix4(ByteBuffer buffer, Matrix4 m) {
+		for (int i = 0; i < 4; i++) {
+			for (int j = 0; j < 4; j++) {
+				buffer.putFloat(m.m[i][j]);
+			}
+		}
+	}
+
+	/**
+	 * Reads a matrix written by {@link #putMatrix4(ByteBuffer, Matrix4)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the matrix will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Matrix4 getMatrix4(ByteBuffer buffer, Matrix4 out) {
+		for (int i = 0; i < 4; i++) {
+			for (int j = 0; j < 4; j++) {
+				out.m[i][j] = buffer.getFloat();
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Writes a rectangle as x, y, width and height floats
+	 *
+	 * @param buffer the buffer to write to
+	 * @param r the rectangle
+	 */
+	public static void putRectangle(ByteBuffer buffer, Rectangle r) {
+		buffer.putFloat(r.getX()).putFloat(r.getY()).putFloat(r.width())
+				.putFloat(r.height());
+	}
+
+	/**
+	 * Reads a rectangle written by
+	 * {@link #putRectangle(ByteBuffer, Rectangle)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the rectangle will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Rectangle getRectangle(ByteBuffer buffer, Rectangle out) {
+		out.setX(buffer.getFloat());
+		out.setY(buffer.getFloat());
+		out.setWidth(buffer.getFloat());
+		out.setHeight(buffer.getFloat());
+		return out;
+	}
+
+	/**
+	 * Writes an angle as a float, in radians
+	 *
+	 * @param buffer the buffer to write to
+	 * @param angle the angle
+	 */
+	public static void putAngle(ByteBuffer buffer, Angle angle) {
+		buffer.putFloat(angle.getRadians());
+	}
+
+	/**
+	 * Reads an angle written by {@link #putAngle(ByteBuffer, Angle)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the angle will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Angle getAngle(ByteBuffer buffer, Angle out) {
+		return out.setRadians(buffer.getFloat());
+	}
+
+	/**
+	 * Writes an angle as 16 bits, wrapped to [-pi, pi), with a precision of
+	 * about 0.003 degrees
+	 *
+	 * @param buffer the buffer to write to
+	 * @param angle the angle
+	 */
+	public static void putAngleQuantized(ByteBuffer buffer, Angle angle) {
+		double radians = angle.getRadians();
+		radians -= 2 * Math.PI * Math.floor((radians + Math.PI)
+				/ (2 * Math.PI));
+		buffer.putShort(ANGLE.quantize((float) radians));
+	}
+
+	/**
+	 * Reads an angle written by
+	 * {@link #putAngleQuantized(ByteBuffer, Angle)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the angle will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Angle getAngleQuantized(ByteBuffer buffer, Angle out) {
+		return out.setRadians(ANGLE.dequantize(buffer.getShort()));
+	}
+
+	/**
+	 * Writes a unit quaternion in 4 bytes, with the smallest three
+	 * compression at {@link #QUATERNION_BITS} bits per component
+	 *
+	 * @param buffer the buffer to write to
+	 * @param q the quaternion
+	 */
+	public static void putQuaternion(ByteBuffer buffer, Quaternion q) {
+		buffer.putInt((int) packQuaternion(q, QUATERNION_BITS));
+	}
+
+	/**
+	 * Reads a quaternion written by
+	 * {@link #putQuaternion(ByteBuffer, Quaternion)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the quaternion will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Quaternion getQuaternion(ByteBuffer buffer, Quaternion out) {
+		return unpackQuaternion(buffer.getInt() & 0xFFFFFFFFL,
+				QUATERNION_BITS, out);
+	}
+
+	/**
+	 * Writes a unit quaternion with the smallest three compression at a
+	 * given precision, in (2 + 3 * bits + 7) / 8 bytes
+	 *
+	 * @param buffer the buffer to write to
+	 * @param q the quaternion
+	 * @param bits the bits per component, from 2 to 20
+	 */
+	public static void putQuaternion(ByteBuffer buffer, Quaternion q,
+			int bits) {
+		long packed = packQuaternion(q, bits);
+		for (int n = bytes(bits) - 1; n >= 0; n--) {
+			buffer.put((byte) (packed >>> (n * 8)));
+		}
+	}
+
+	/**
+	 * Reads a quaternion written by
+	 * {@link #putQuaternion(ByteBuffer, Quaternion, int)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param bits the bits per component it was written with
+	 * @param out the quaternion will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Quaternion getQuaternion(ByteBuffer buffer, int bits,
+			Quaternion out) {
+		long packed = 0;
+		for (int n = bytes(bits); n > 0; n--) {
+			packed = (packed << 8) | (buffer.get() & 0xFF);
+		}
+		return unpackQuaternion(packed, bits, out);
+	}
+
+	/**
+	 * Writes a range of floats, such as one component of a struct of arrays
+	 *
+	 * @param buffer the buffer to write to
+	 * @param values the floats
+	 * @param from the first index
+	 * @param to one past the last index
+	 */
+	public static void putFloats(ByteBuffer buffer, float[] values, int from,
+			int to) {
+		for (int i = from; i < to; i++) {
+			buffer.putFloat(values[i]);
+		}
+	}
+
+	/**
+	 * Reads a range of floats written by
+	 * {@link #putFloats(ByteBuffer, float[], int, int)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the array to read into
+	 * @param from the first index
+	 * @param to one past the last index
+	 */
+	public static void getFloats(ByteBuffer buffer, float[] out, int from,
+			int to) {
+		for (int i = from; i < to; i++) {
+			out[i] = buffer.getFloat();
+		}
+	}
+
+	/**
+	 * Writes a range of floats as 16-bit values
+	 *
+	 * @param buffer the buffer to write to
+	 * @param values the floats
+	 * @param from the first index
+	 * @param to one past the last index
+	 * @param q the quantizer for each value
+	 */
+	public static void putFloats(ByteBuffer buffer, float[] values, int from,
+			int to, Quantizer q) {
+		for (int i = from; i < to; i++) {
+			buffer.putShort(q.quantize(values[i]));
+		}
+	}
+
+	/**
+	 * Reads a range of floats written by
+	 * {@link #putFloats(ByteBuffer, float[], int, int, Quantizer)}
+	 *
+	 * @param buffer the buffer to read from
+	 * @param out the array to read into
+	 * @param from the first index
+	 * @param to one past the last index
+	 * @param q the quantizer they were written with
+	 */
+	public static void getFloats(ByteBuffer buffer, float[] out, int from,
+			int to, Quantizer q) {
+		for (int i = from; i < to; i++) {
+			out[i] = q.dequantize(buffer.getShort());
+		}
+	}
+
+	/**
+	 * Packs the index of the largest component in the top two bits, then the
+	 * other three components in order, each quantized to bits bits
+	 *
+	 * @param q the unit quaternion
+	 * @param bits the bits per component
+	 * @return the packed bits, in the low 2 + 3 * bits bits
+	 */
+	public static long packQuaternion(Quaternion q, int bits) {
+		if (bits < 2 || bits > 20)
+			throw new IllegalArgumentException("Bits must be 2 to 20");
+		float x = q.x, y = q.y, z = q.z, w = q.w;
+		float ax = Math.abs(x), ay = Math.abs(y), az = Math.abs(z);
+		float aw = Math.abs(w);
+		int largest = 0;
+		float max = ax;
+		if (ay > max) {
+			largest = 1;
+			max = ay;
+		}
+		if (az > max) {
+			largest = 2;
+			max = az;
+		}
+		if (aw > max)
+			largest = 3;
+		// q and -q are the same rotation, so make the dropped component
+		// positive
+		float largestValue = largest == 0 ? x : largest == 1 ? y
+				: largest == 2 ? z : w;
+		float sign = largestValue < 0 ? -1 : 1;
+		long packed = largest;
+		for (int c = 0; c < 4; c++) {
+			if (c == largest)
+				continue;
+			float v = (c == 0 ? x : c == 1 ? y : c == 2 ? z : w) * sign;
+			packed = (packed << bits) | quantize(v, bits);
+		}
+		return packed;
+	}
+
+	/**
+	 * Inverts {@link #packQuaternion(Quaternion, int)}
+	 *
+	 * @param packed the packed bits
+	 * @param bits the bits per component
+	 * @param out the quaternion will be assigned to this
+	 * @return out, for chainability
+	 */
+	public static Quaternion unpackQuaternion(long packed, int bits,
+			Quaternion out) {
+		long mask = (1L << bits) - 1;
+		int largest = (int) (packed >>> (3 * bits)) & 3;
+		float a = dequantize((packed >>> (2 * bits)) & mask, bits);
+		float b = dequantize((packed >>> bits) & mask, bits);
+		float c = dequantize(packed & mask, bits);
+		float d = (float) Math.sqrt(Math.max(0, 1 - a * a - b * b - c * c));
+		switch (largest) {
+		case 0:
+			out.x = d;
+			out.y = a;
+			out.z = b;
+			out.w = c;
+			break;
+		case 1:
+			out.x = a;
+			out.y = d;
+			out.z = b;
+			out.w = c;
+			break;
+		case 2:
+			out.x = a;
+			out.y = b;
+			out.z = d;
+			out.w = c;
+			break;
+		default:
+			out.x = a;
+			out.y = b;
+			out.z = c;
+			out.w = d;
+		}
+		return out;
+	}
+
+	/**
+	 * Maps a component in +-1 / sqrt(2) to bits bits
+	 */
+	private static long quantize(float v, int bits) {
+		long steps = (1L << bits) - 1;
+		float t = (v + SMALLEST) / (2 * SMALLEST);
+		long i = (long) (t * steps + 0.5f);
+		return i < 0 ? 0 : i > steps ? steps : i;
+	}
+
+	/**
+	 * Inverts {@link #quantize(float, int)}
+	 */
+	private static float dequantize(long i, int bits) {
+		long steps = (1L << bits) - 1;
+		return (float) i / steps * (2 * SMALLEST) - SMALLEST;
+	}
+
+	/**
+	 * @return the bytes taken by a quaternion at bits bits per component
+	 */
+	private static int bytes(int bits) {
+		return (2 + 3 * bits + 7) / 8;
+	}
+}
@@ -0,0 +1,93 @@
+package com.lucasazzola.game.serial;
+
+/**
+ * Maps floats in a fixed range to 16-bit values and back. Values outside
+ * the range are clamped, and NaN encodes as the minimum.
+ *
+ * @since 19/10/2026
+ */
+public final class Quantizer {
+
+	/**
+	 * Number of steps across the range
+	 */
+	private static final int STEPS = 0xFFFF;
+
+	/**
+	 * Range and step size
+	 */
+	private final float min, max, step, inverseStep;
+
+	/**
+	 * Constructs a quantizer over a range
+	 *
+	 * @param min the smallest value
+	 * @param max the largest value
+	 */
+	public Quantizer(float min, float max) {
+		if (!(max > min))
+			throw new IllegalArgumentException("Empty range " + min + " to "
+					+ max);
+		this.min = min;
+		this.max = max;
+		this.step = (max - min) / STEPS;
+		this.inverseStep = STEPS / (max - min);
+	}
+
+	/**
+	 * Constructs a quantizer centred on 0 with a given precision
+	 *
+	 * @param precision the largest error allowed, half the step size
+	 * @return a quantizer covering +-precision * 65535
+	 */
+	public static Quantizer ofPrecision(float precision) {
+		float extent = precision * STEPS;
+		return new Quantizer(-extent, extent);
+	}
+
+	/**
+	 * @return the largest error of a value within range
+	 */
+	public float precision() {
+		return step / 2;
+	}
+
+	/**
+	 * @return the smallest value
+	 */
+	public float min() {
+		return min;
+	}
+
+	/**
+	 * @return the largest value
+	 */
+	public float max() {
+		return max;
+	}
+
+	/**
+	 * @param value the value
+	 * @return the value's 16 bits, as an unsigned short
+	 */
+	public short quantize(float value) {
+		float q = (value - min) * inverseStep + 0.5f;
+		int i = q >= STEPS ? STEPS : q > 0 ? (int) q : 0;
+		return (short) i;
+	}
+
+	/**
+	 * @param bits a value from {@link #quantize(float)}
+	 * @return the nearest representable value
+	 */
+	public float dequantize(short bits) {
+		int i = bits & 0xFFFF;
+		return i == STEPS ? max : min + i * step;
+	}
+
+	@Override
+	public String toString() {
+		return "Quantizer [" + min + " to " + max + ", precision:"
+				+ precision() + "]";
+	}
+}
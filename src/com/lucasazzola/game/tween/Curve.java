@@ -0,0 +1,289 @@
+package com.lucasazzola.game.tween;
+
+/**
+ * Piecewise cubic curve compiled to flat polynomial coefficients. Linear,
+ * hermite and bezier segments all reduce to
+ * v(u) = ((a * u + b) * u + c) * u + d, where u runs from 0 to 1 across a
+ * segment, so evaluating any curve is a segment lookup and three multiply
+ * adds.
+ *
+ * The last segment looked up is remembered, so sampling a curve at steadily
+ * increasing times is O(1). A curve should therefore not be sampled from
+ * several threads at once.
+ *
+ * @since 19/10/2026
+ */
+public final class Curve {
+
+	/**
+	 * Key times, and four coefficients a, b, c, d per segment
+	 */
+	private final float[] times, coefficients;
+
+	/**
+	 * The segment last evaluated
+	 */
+	private int cursor;
+
+	/**
+	 * Constructs a curve from compiled segments
+	 *
+	 * @param times the key times, ascending, one more than the segments
+	 * @param coefficients a, b, c and d of every segment
+	 */
+	private Curve(float[] times, float[] coefficients) {
+		this.times = times;
+		this.coefficients = coefficients;
+	}
+
+	/**
+	 * Compiles a curve which moves in straight lines between keys
+	 *
+	 * @param times the key times, ascending
+	 * @param values the key values
+	 * @return the curve
+	 */
+	public static Curve linear(float[] times, float[] values) {
+		check(times, values.length);
+		float[] k = new float[segments(times) * 4];
+		for (int s = 0; s < k.length / 4; s++) {
+			k[s * 4 + 2] = values[s + 1] - values[s];
+			k[s * 4 + 3] = values[s];
+		}
+		return new Curve(times.clone(), k);
+	}
+
+	/**
+	 * Compiles a cubic hermite spline
+	 *
+	 * @param times the key times, ascending
+	 * @param values the key values
+	 * @param tangents the slope at each key, in value per unit time
+	 * @return the curve
+	 */
+	public static Curve hermite(float[] times, float[] values,
+			float[] tangents) {
+		check(times, values.length);
+		check(times, tangents.length);
+		float[] k = new float[segments(times) * 4];
+		for (int s = 0; s < k.length / 4; s++) {
+			float span = times[s + 1] - times[s];
+			float p0 = values[s], p1 = values[s + 1];
+			float m0 = tangents[s] * span, m1 = tangents[s + 1] * span;
+			k[s * 4] = 2 * p0 + m0 - 2 * p1 + m1;
+			k[s * 4 + 1] = -3 * p0 - 2 * m0 + 3 * p1 - m1;
+			k[s * 4 + 2] = m0;
+			k[s * 4 + 3] = p0;
+		}
+		return new Curve(times.clone(), k);
+	}
+
+	/**
+	 * Compiles a Catmull-Rom spline, a hermite spline whose tangents are
+	 * taken from the neighbouring keys
+	 *
+	 * @param times the key times, ascending
+	 * @param values the key values
+	 * @return the curve
+	 */
+	public static Curve smooth(float[] times, float[] values) {
+		check(times, values.length);
+		int n = times.length;
+		float[] tangents = new float[n];
+		for (int i = 0; i < n; i++) {
+			int a = Math.max(i - 1, 0), b = Math.min(i + 1, n - 1);
+			float span = times[b] - times[a];
+			tangents[i] = span > 0 ? (values[b] - values[a]) / span : 0;
+		}
+		return hermite(times, values, tangents);
+	}
+
+	/**
+	 * Compiles a cubic bezier spline, where each segment runs from one key to
+	 * the next, pulled towards two control values
+	 *
+	 * @param times the key times, ascending
+	 * @param values the key values
+	 * @param controls two control values per segment, the first leaving the
+	 *            earlier key and the second entering the later key
+	 * @return the curve
+	 */
+	public static Curve bezier(float[] times, float[] values,
+			float[] controls) {
+		check(times, values.length);
+		int segments = segments(times);
+		if (controls.length != segments * 2)
+			throw new IllegalArgumentException("Expected " + segments * 2
+					+ " control values");
+		float[] k = new float[segments * 4];
+		for (int s = 0; s < segments; s++) {
+			float p0 = values[s], p1 = controls[s * 2];
+			float p2 = controls[s * 2 + 1], p3 = values[s + 1];
+			k[s * 4] = -p0 + 3 * p1 - 3 * p2 + p3;
+			k[s * 4 + 1] = 3 * p0 - 6 * p1 + 3 * p2;
+			k[s * 4 + 2] = -3 * p0 + 3 * p1;
+			k[s * 4 + 3] = p0;
+		}
+		return new Curve(times.clone(), k);
+	}
+
+	/**
+	 * Compiles a CSS style cubic bezier easing, from (0, 0) to (1, 1) with
+	 * control points (x1, y1) and (x2, y2). The bezier is solved for x at
+	 * evenly spaced keys and fitted with a hermite spline, so evaluating it
+	 * needs no root finding.
+	 *
+	 * @param x1 the x of the first control point, from 0 to 1
+	 * @param y1 the y of the first control point
+	 * @param x2 the x of the second control point, from 0 to 1
+	 * @param y2 the y of the second control point
+	 * @param segments the number of hermite segments, 16 is plenty for UI
+	 * @return the easing curve
+	 */
+	public static Curve easing(float x1, float y1, float x2, float y2,
+			int segments) {
+		float[] times = new float[segments + 1];
+		float[] values = new float[segments + 1];
+		float[] tangents = new float[segments + 1];
+		for (int i = 0; i <= segments; i++) {
+			float x = (float) i / segments;
+			float s = solve(x1, x2, x);
+			times[i] = x;
+			values[i] = bezier(y1, y2, s);
+			float dx = slope(x1, x2, s), dy = slope(y1, y2, s);
+			tangents[i] = Math.abs(dx) > 1e-6f ? dy / dx : 0;
+		}
+		return hermite(times, values, tangents);
+	}
+
+	/**
+	 * Evaluates the curve, holding the first and last values outside its
+	 * time range
+	 *
+	 * @param t the time
+	 * @return the value at t
+	 */
+	public float evaluate(float t) {
+		int s = find(t);
+		float t0 = times[s], span = times[s + 1] - t0;
+		float u = span > 0 ? (t - t0) / span : 1;
+		u = u < 0 ? 0 : u > 1 ? 1 : u;
+		int o = s * 4;
+		float[] k = coefficients;
+		return ((k[o] * u + k[o + 1]) * u + k[o + 2]) * u + k[o + 3];
+	}
+
+	/**
+	 * @return the time of the first key
+	 */
+	public float start() {
+		return times[0];
+	}
+
+	/**
+	 * @return the time of the last key
+	 */
+	public float end() {
+		return times[times.length - 1];
+	}
+
+	/**
+	 * Finds the segment containing a time, checking the cached segment and
+	 * its successor before binary searching
+	 */
+	private int find(float t) {
+		int last = times.length - 2;
+		int s = cursor;
+		if (times[s] <= t) {
+			if (s == last || t < times[s + 1])
+				return s;
+			if (s + 1 == last || t < times[s + 2])
+				return cursor = s + 1;
+		} else if (s == 0) {
+			return 0;
+		}
+		int low = 0, high = last;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (times[middle] <= t)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+		return cursor = low;
+	}
+
+	/**
+	 * Checks the key times against a number of values
+	 */
+	private static void check(float[] times, int values) {
+		if (times.length < 2)
+			throw new IllegalArgumentException("A curve needs two keys");
+		if (values != times.length)
+			throw new IllegalArgumentException("Expected " + times.length
+					+ " values, got " + values);
+		for (int i = 1; i < times.length; i++) {
+			if (times[i] < times[i - 1])
+				throw new IllegalArgumentException("Key times must ascend");
+		}
+	}
+
+	/**
+	 * @return the number of segments between the keys
+	 */
+	private static int segments(float[] times) {
+		return times.length - 1;
+	}
+
+	/**
+	 * One dimensional cubic bezier from 0 to 1 with controls p1 and p2
+	 */
+	private static float bezier(float p1, float p2, float s) {
+		float u = 1 - s;
+		return 3 * u * u * s * p1 + 3 * u * s * s * p2 + s * s * s;
+	}
+
+	/**
+	 * Derivative of {@link #bezier(float, float, float)} in s
+	 */
+	private static float slope(float p1, float p2, float s) {
+		float u = 1 - s;
+		return 3 * u * u * p1 + 6 * u * s * (p2 - p1) + 3 * s * s * (1 - p2);
+	}
+
+	/**
+	 * Finds s such that bezier(x1, x2, s) = x, by Newton's method with a
+	 * bisection fallback
+	 */
+	private static float solve(float x1, float x2, float x) {
+		float s = x;
+		for (int i = 0; i < 8; i++) {
+			float error = bezier(x1, x2, s) - x;
+			float d = slope(x1, x2, s);
+			if (Math.abs(error) < 1e-6f)
+				return s;
+			if (Math.abs(d) < 1e-6f)
+				break;
+			s -= error / d;
+		}
+		float low = 0, high = 1;
+		s = x;
+		for (int i = 0; i < 32; i++) {
+			float value = bezier(x1, x2, s);
+			if (Math.abs(value - x) < 1e-6f)
+				break;
+			if (value < x)
+				low = s;
+			else
+				high = s;
+			s = (low + high) / 2;
+		}
+		return s;
+	}
+
+	@Override
+	public String toString() {
+		return "Curve [keys:" + times.length + ", start:" + start() + ", end:"
+				+ end() + "]";
+	}
+}
@@ -0,0 +1,107 @@
+package com.lucasazzola.game.tween;
+
+/**
+ * Standard easing functions, selected by an int constant and evaluated with
+ * a switch rather than through an interface, so that a tween needs no
+ * function object and a sample costs no virtual call.
+ *
+ * @since 19/10/2026
+ */
+public final class Easing {
+
+	/**
+	 * Easing functions
+	 */
+	public static final int LINEAR = 0, QUAD_IN = 1, QUAD_OUT = 2,
+			QUAD_IN_OUT = 3, CUBIC_IN = 4, CUBIC_OUT = 5, CUBIC_IN_OUT = 6,
+			SINE_IN = 7, SINE_OUT = 8, SINE_IN_OUT = 9, EXPO_IN = 10,
+			EXPO_OUT = 11, BACK_IN = 12, BACK_OUT = 13, ELASTIC_OUT = 14,
+			BOUNCE_OUT = 15, STEP = 16;
+
+	/**
+	 * Overshoot of the back easings
+	 */
+	private static final float BACK = 1.70158f;
+
+	/**
+	 * Static only
+	 */
+	private Easing() {
+	}
+
+	/**
+	 * Eases a progress value
+	 *
+	 * @param easing the easing function
+	 * @param t the progress, from 0 to 1
+	 * @return the eased progress, 0 at t = 0 and 1 at t = 1
+	 */
+	public static float apply(int easing, float t) {
+		switch (easing) {
+		case QUAD_IN:
+			return t * t;
+		case QUAD_OUT:
+			return t * (2 - t);
+		case QUAD_IN_OUT:
+			return t < 0.5f ? 2 * t * t : 1 - 2 * (1 - t) * (1 - t);
+		case CUBIC_IN:
+			return t * t * t;
+		case CUBIC_OUT: {
+			float u = 1 - t;
+			return 1 - u * u * u;
+		}
+		case CUBIC_IN_OUT: {
+			if (t < 0.5f)
+				return 4 * t * t * t;
+			float u = 1 - t;
+			return 1 - 4 * u * u * u;
+		}
+		case SINE_IN:
+			return 1 - (float) Math.cos(t * Math.PI / 2);
+		case SINE_OUT:
+			return (float) Math.sin(t * Math.PI / 2);
+		case SINE_IN_OUT:
+			return 0.5f - 0.5f * (float) Math.cos(t * Math.PI);
+		case EXPO_IN:
+			return t <= 0 ? 0 : (float) Math.pow(2, 10 * (t - 1));
+		case EXPO_OUT:
+			return t >= 1 ? 1 : 1 - (float) Math.pow(2, -10 * t);
+		case BACK_IN:
+			return t * t * ((BACK + 1) * t - BACK);
+		case BACK_OUT: {
+			float u = t - 1;
+			return u * u * ((BACK + 1) * u + BACK) + 1;
+		}
+		case ELASTIC_OUT:
+			if (t <= 0 || t >= 1)
+				return t <= 0 ? 0 : 1;
+			return (float) (Math.pow(2, -10 * t)
+					* Math.sin((t - 0.075) * (2 * Math.PI) / 0.3) + 1);
+		case BOUNCE_OUT:
+			return bounce(t);
+		case STEP:
+			return t < 1 ? 0 : 1;
+		default:
+			return t;
+		}
+	}
+
+	/**
+	 * Piecewise parabolic bounce
+	 */
+	private static float bounce(float t) {
+		final float n = 7.5625f, d = 2.75f;
+		if (t < 1 / d)
+			return n * t * t;
+		if (t < 2 / d) {
+			t -= 1.5f / d;
+			return n * t * t + 0.75f;
+		}
+		if (t < 2.5f / d) {
+			t -= 2.25f / d;
+			return n * t * t + 0.9375f;
+		}
+		t -= 2.625f / d;
+		return n * t * t + 0.984375f;
+	}
+}
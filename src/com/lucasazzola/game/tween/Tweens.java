@@ -0,0 +1,459 @@
+package com.lucasazzola.game.tween;
+
+import java.util.Arrays;
+
+import com.lucasazzola.game.graphics.Quaternion;
+import com.lucasazzola.game.graphics.Vector2;
+import com.lucasazzola.game.graphics.Vector3;
+import com.lucasazzola.game.math.Angle;
+import com.lucasazzola.game.util.GameTime;
+
+/**
+ * Active tweens, stored one primitive array per field. Each tween moves a
+ * property of a target object from a start value to an end value over a
+ * duration. The kind of target is an int, applied with a switch, and the
+ * easing is either an {@link Easing} constant or a compiled {@link Curve},
+ * so an update runs over every tween without allocating or calling through
+ * an interface.
+ *
+ * Tweens are referred to by a stable handle combining a slot and a
+ * generation, so handles to finished tweens are detected rather than
+ * aliasing a recycled slot. Finished tweens are removed by moving the last
+ * tween into their place, so updates always run over a dense range.
+ *
+ * @since 19/10/2026
+ */
+public class Tweens {
+
+	/**
+	 * Target kinds
+	 */
+	static final int FLOAT = 0, VECTOR2 = 1, VECTOR3 = 2, QUATERNION = 3,
+			ANGLE = 4;
+
+	/**
+	 * Repeat count of a tween which repeats until stopped
+	 */
+	public static final int FOREVER = -1;
+
+	/**
+	 * Bits of a handle holding its slot, the rest hold its generation
+	 */
+	private static final int SLOT_BITS = 22;
+	private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+	/**
+	 * Tween storage, indexed by dense position. Start and end values are
+	 * four floats per tween.
+	 */
+	private Object[] target;
+	private Curve[] curve;
+	private int[] kind, index, easing, repeat, indexToHandle;
+	private float[] from, to, delay, duration, elapsed;
+	private boolean[] yoyo, reversed;
+	private int count;
+
+	/**
+	 * Handle bookkeeping, indexed by slot
+	 */
+	private int[] handleToIndex, generation, freeHandles;
+	private int freeCount, nextHandle;
+
+	/**
+	 * Constructs an empty tween set
+	 *
+	 * @param capacity the initial number of tweens to allocate for
+	 */
+	public Tweens(int capacity) {
+		capacity = Math.max(capacity, 1);
+		target = new Object[capacity];
+		curve = new Curve[capacity];
+		kind = new int[capacity];
+		index = new int[capacity];
+		easing = new int[capacity];
+		repeat = new int[capacity];
+		indexToHandle = new int[capacity];
+		from = new float[capacity * 4];
+		to = new float[capacity * 4];
+		delay = new float[capacity];
+		duration = new float[capacity];
+		elapsed = new float[capacity];
+		yoyo = new boolean[capacity];
+		reversed = new boolean[capacity];
+		handleToIndex = new int[capacity];
+		generation = new int[capacity];
+		freeHandles = new int[capacity];
+	}
+
+	/**
+	 * @return the number of active tweens
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Tweens an element of a float array, such as a colour channel or an
+	 * opacity
+	 *
+	 * @param target the array
+	 * @param index the element
+	 * @param to the end value
+	 * @param duration the length of the tween, in seconds
+	 * @param easing an {@link Easing} constant
+	 * @return the tween's handle
+	 */
+	public int tween(float[] target, int index, float to, float duration,
+			int easing) {
+		int i = add(target, FLOAT, duration, easing);
+		this.index[i] = index;
+		from[i * 4] = target[index];
+		this.to[i * 4] = to;
+		return indexToHandle[i];
+	}
+
+	/**
+	 * Tweens a vector from its current value
+	 *
+	 * @param target the vector
+	 * @param to the end value
+	 * @param duration the length of the tween, in seconds
+	 * @param easing an {@link Easing} constant
+	 * @return the tween's handle
+	 */
+	public int tween(Vector2 target, Vector2 to, float duration, int easing) {
+		int i = add(target, VECTOR2, duration, easing);
+		set(from, i, target.x, target.y, 0, 0);
+		set(this.to, i, to.x, to.y, 0, 0);
+		return indexToHandle[i];
+	}
+
+	/**
+	 * Tweens a vector from its current value
+	 *
+	 * @param target the vector
+	 * @param to the end value
+	 * @param duration the length of the tween, in seconds
+	 * @param easing an {@link Easing} constant
+	 * @return the tween's handle
+	 */
+	public int tween(Vector3 target, Vector3 to, float duration, int easing) {
+		int i = add(target, VECTOR3, duration, easing);
+		set(from, i, target.x, target.y, target.z, 0);
+		set(this.to, i, to.x, to.y, to.z, 0);
+		return indexToHandle[i];
+	}
+
+	/**
+	 * Tweens a rotation from its current value, along the shortest arc
+	 *
+	 * @param target the rotation, a unit quaternion
+	 * @param to the end rotation, a unit quaternion
+	 * @param duration the length of the tween, in seconds
+	 * @param easing an {@link Easing} constant
+	 * @return the tween's handle
+	 */
+	public int tween(Quaternion target, Quaternion to, float duration,
+			int easing) {
+		int i = add(target, QUATERNION, duration, easing);
+		set(from, i, target.x, target.y, target.z, target.w);
+		float dot = target.x * to.x + target.y * to.y + target.z * to.z
+				+ target.w * to.w;
+		float sign = dot < 0 ? -1 : 1;
+		set(this.to, i, to.x * sign, to.y * sign, to.z * sign, to.w * sign);
+		return indexToHandle[i];
+	}
+
+	/**
+	 * Tweens an angle from its current value
+	 *
+	 * @param target the angle
+	 * @param radians the end value, in radians
+	 * @param duration the length of the tween, in seconds
+	 * @param easing an {@link Easing} constant
+	 * @return the tween's handle
+	 */
+	public int tween(Angle target, float radians, float duration, int easing) {
+		int i = add(target, ANGLE, duration, easing);
+		from[i * 4] = target.getRadians();
+		to[i * 4] = radians;
+		return indexToHandle[i];
+	}
+
+	/**
+	 * Waits before a tween starts
+	 *
+	 * @param handle the tween
+	 * @param delay the delay, in seconds
+	 */
+	public void setDelay(int handle, float delay) {
+		this.delay[indexOf(handle)] = delay;
+	}
+
+	/**
+	 * Repeats a tween once it finishes
+	 *
+	 * @param handle the tween
+	 * @param times the number of extra plays, or FOREVER
+	 * @param yoyo true to play every other repeat backwards
+	 */
+	public void setRepeat(int handle, int times, boolean yoyo) {
+		int i = indexOf(handle);
+		repeat[i] = times;
+		this.yoyo[i] = yoyo;
+	}
+
+	/**
+	 * Eases a tween with a curve instead of its easing function. The curve
+	 * is evaluated at progress 0 to 1.
+	 *
+	 * @param handle the tween
+	 * @param curve the curve, or null to use the easing function
+	 */
+	public void setCurve(int handle, Curve curve) {
+		this.curve[indexOf(handle)] = curve;
+	}
+
+	/**
+	 * @param handle the tween
+	 * @return true if the tween has not finished or been stopped
+	 */
+	public boolean isActive(int handle) {
+		int slot = handle & SLOT_MASK;
+		return slot < nextHandle && handleToIndex[slot] != -1
+				&& generation[slot] == handle >>> SLOT_BITS;
+	}
+
+	/**
+	 * Stops a tween, leaving its target at its current value
+	 *
+	 * @param handle the tween
+	 */
+	public void stop(int handle) {
+		remove(indexOf(handle));
+	}
+
+	/**
+	 * Stops every tween
+	 */
+	public void clear() {
+		while (count > 0) {
+			remove(count - 1);
+		}
+	}
+
+	/**
+	 * Advances every tween by the frame time
+	 *
+	 * @param time the game time, ticked once per frame
+	 */
+	public void update(GameTime time) {
+		update(time.delta() / 1e9f);
+	}
+
+	/**
+	 * Advances every tween, writing its targets and removing finished tweens
+	 *
+	 * @param dt the time step, in seconds
+	 */
+	public void update(float dt) {
+		int i = 0;
+		while (i < count) {
+			float t = elapsed[i] += dt;
+			if (t < delay[i]) {
+				i++;
+				continue;
+			}
+			float d = duration[i];
+			float progress = d > 0 ? (t - delay[i]) / d : 1;
+			boolean finished = false;
+			if (progress >= 1) {
+				int plays = (int) progress;
+				if (repeat[i] != FOREVER && plays > repeat[i]) {
+					// Finish at the end of the last play
+					if (yoyo[i] && (repeat[i] & 1) == 1)
+						reversed[i] = !reversed[i];
+					progress = 1;
+					finished = true;
+				} else {
+					progress -= plays;
+					elapsed[i] -= plays * d;
+					if (repeat[i] != FOREVER)
+						repeat[i] = Math.max(repeat[i] - plays, 0);
+					if (yoyo[i] && (plays & 1) == 1)
+						reversed[i] = !reversed[i];
+				}
+			}
+			if (reversed[i])
+				progress = 1 - progress;
+			if (finished) {
+				// Land exactly on the end value
+				apply(i, progress);
+				remove(i);
+				continue;
+			}
+			Curve c = curve[i];
+			apply(i, c != null ? c.evaluate(progress) : Easing.apply(
+					easing[i], progress));
+			i++;
+		}
+	}
+
+	/**
+	 * Writes a tween's target at an eased progress
+	 */
+	private void apply(int i, float e) {
+		int o = i * 4;
+		float x = from[o] + (to[o] - from[o]) * e;
+		float y = from[o + 1] + (to[o + 1] - from[o + 1]) * e;
+		float z = from[o + 2] + (to[o + 2] - from[o + 2]) * e;
+		float w = from[o + 3] + (to[o + 3] - from[o + 3]) * e;
+		switch (kind[i]) {
+		case FLOAT:
+			((float[]) target[i])[index[i]] = x;
+			break;
+		case VECTOR2: {
+			Vector2 v = (Vector2) target[i];
+			v.x = x;
+			v.y = y;
+			break;
+		}
+		case VECTOR3: {
+			Vector3 v = (Vector3) target[i];
+			v.x = x;
+			v.y = y;
+			v.z = z;
+			break;
+		}
+		case QUATERNION: {
+			Quaternion q = (Quaternion) target[i];
+			float length = x * x + y * y + z * z + w * w;
+			float inv = length > 0 ? 1 / (float) Math.sqrt(length) : 0;
+			q.x = x * inv;
+			q.y = y * inv;
+			q.z = z * inv;
+			q.w = length > 0 ? w * inv : 1;
+			break;
+		}
+		case ANGLE:
+			((Angle) target[i]).setRadians(x);
+			break;
+		}
+	}
+
+	/**
+	 * Appends a tween with default options
+	 *
+	 * @return the index of the tween
+	 */
+	private int add(Object target, int kind, float duration, int easing) {
+		ensureCapacity(count + 1);
+		int slot;
+		if (freeCount > 0) {
+			slot = freeHandles[--freeCount];
+		} else {
+			if (nextHandle > SLOT_MASK)
+				throw new IllegalStateException("Too many tweens");
+			if (nextHandle == handleToIndex.length) {
+				handleToIndex = Arrays.copyOf(handleToIndex, nextHandle * 2);
+				generation = Arrays.copyOf(generation, nextHandle * 2);
+			}
+			slot = nextHandle++;
+		}
+		int i = count++;
+		handleToIndex[slot] = i;
+		indexToHandle[i] = generation[slot] << SLOT_BITS | slot;
+		this.target[i] = target;
+		this.kind[i] = kind;
+		this.easing[i] = easing;
+		this.duration[i] = duration;
+		curve[i] = null;
+		index[i] = 0;
+		repeat[i] = 0;
+		delay[i] = 0;
+		elapsed[i] = 0;
+		yoyo[i] = false;
+		reversed[i] = false;
+		return i;
+	}
+
+	/**
+	 * Removes a tween by moving the last tween into its place
+	 */
+	private void remove(int i) {
+		int slot = indexToHandle[i] & SLOT_MASK;
+		int last = --count;
+		if (i != last) {
+			target[i] = target[last];
+			curve[i] = curve[last];
+			kind[i] = kind[last];
+			index[i] = index[last];
+			easing[i] = easing[last];
+			repeat[i] = repeat[last];
+			delay[i] = delay[last];
+			duration[i] = duration[last];
+			elapsed[i] = elapsed[last];
+			yoyo[i] = yoyo[last];
+			reversed[i] = reversed[last];
+			System.arraycopy(from, last * 4, from, i * 4, 4);
+			System.arraycopy(to, last * 4, to, i * 4, 4);
+			indexToHandle[i] = indexToHandle[last];
+			handleToIndex[indexToHandle[i] & SLOT_MASK] = i;
+		}
+		target[last] = null;
+		curve[last] = null;
+		handleToIndex[slot] = -1;
+		generation[slot] = (generation[slot] + 1) & ((1 << 32 - SLOT_BITS) - 1);
+		if (freeCount == freeHandles.length)
+			freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+		freeHandles[freeCount++] = slot;
+	}
+
+	/**
+	 * Gets the index of an active tween
+	 */
+	private int indexOf(int handle) {
+		if (!isActive(handle))
+			throw new IllegalArgumentException("No such tween: " + handle);
+		return handleToIndex[handle & SLOT_MASK];
+	}
+
+	/**
+	 * Writes four floats of a start or end value
+	 */
+	private static void set(float[] values, int i, float x, float y,
+			float z, float w) {
+		values[i * 4] = x;
+		values[i * 4 + 1] = y;
+		values[i * 4 + 2] = z;
+		values[i * 4 + 3] = w;
+	}
+
+	/**
+	 * Grows the tween arrays to hold at least capacity tweens
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity <= kind.length)
+			return;
+		capacity = Math.max(capacity, kind.length * 2);
+		target = Arrays.copyOf(target, capacity);
+		curve = Arrays.copyOf(curve, capacity);
+		kind = Arrays.copyOf(kind, capacity);
+		index = Arrays.copyOf(index, capacity);
+		easing = Arrays.copyOf(easing, capacity);
+		repeat = Arrays.copyOf(repeat, capacity);
+		indexToHandle = Arrays.copyOf(indexToHandle, capacity);
+		from = Arrays.copyOf(from, capacity * 4);
+		to = Arrays.copyOf(to, capacity * 4);
+		delay = Arrays.copyOf(delay, capacity);
+		duration = Arrays.copyOf(duration, capacity);
+		elapsed = Arrays.copyOf(elapsed, capacity);
+		yoyo = Arrays.copyOf(yoyo, capacity);
+		reversed = Arrays.copyOf(reversed, capacity);
+	}
+
+	@Override
+	public String toString() {
+		return "Tweens [active:" + count + "]";
+	}
+}
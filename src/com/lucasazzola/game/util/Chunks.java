@@ -0,0 +1,91 @@
+package com.lucasazzola.game.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs numbered chunks of work across a ForkJoinPool, or in order on the
+ * calling thread if there is no pool. Chunk boundaries should be fixed by the
+ * caller (not derived from the thread count), so that work which depends on
+ * the chunk, such as a per-chunk random seed, gives the same result however
+ * many threads run it.
+ *
+ * @since 19/10/2026
+ */
+public final class Chunks {
+
+	/**
+	 * The work done for one chunk
+	 */
+	public interface Body {
+
+		/**
+		 * Processes one chunk
+		 *
+		 * @param chunk the index of the chunk
+		 */
+		void run(int chunk);
+	}
+
+	/**
+	 * Static only
+	 */
+	private Chunks() {
+	}
+
+	/**
+	 * Gets the number of chunks covering a range
+	 *
+	 * @param n the length of the range
+	 * @param size the length of a chunk
+	 * @return the number of chunks
+	 */
+	public static int count(int n, int size) {
+		return (n + size - 1) / size;
+	}
+
+	/**
+	 * Runs every chunk, returning once all have finished
+	 *
+	 * @param pool the pool to run on, or null to run on the calling thread
+	 * @param count the number of chunks
+	 * @param body the work for each chunk
+	 */
+	public static void forEach(ForkJoinPool pool, int count, Body body) {
+		if (pool == null || count < 2) {
+			for (int chunk = 0; chunk < count; chunk++) {
+				body.run(chunk);
+			}
+			return;
+		}
+		pool.invoke(new Split(body, 0, count));
+	}
+
+	/**
+	 * Splits a range of chunks in half until a single chunk remains
+	 */
+	private static class Split extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Body body;
+		private final int from, to;
+
+		Split(Body body, int from, int to) {
+			this.body = body;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				body.run(from);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new Split(body, from, middle),
+					new Split(body, middle, to));
+		}
+	}
+}
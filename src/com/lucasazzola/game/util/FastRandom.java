@@ -0,0 +1,68 @@
+package com.lucasazzola.game.util;
+
+/**
+ * Small, seedable xorshift generator. Unlike java.util.Random it has no
+ * synchronisation and no shared state, so each thread, emitter or chunk of
+ * work can own one and produce a reproducible sequence from its seed.
+ *
+ * @since 19/10/2026
+ */
+public class FastRandom {
+
+	/**
+	 * Generator state, never 0
+	 */
+	private int state;
+
+	/**
+	 * Constructs a generator
+	 *
+	 * @param seed the seed
+	 */
+	public FastRandom(long seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Restarts the sequence from a seed
+	 *
+	 * @param seed the seed
+	 */
+	public void setSeed(long seed) {
+		// Mix the seed so that nearby seeds give unrelated sequences
+		long z = seed * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		state = (int) (z ^ (z >>> 31));
+		if (state == 0)
+			state = 0x6D2B79F5;
+	}
+
+	/**
+	 * @return the next 32 random bits
+	 */
+	public int nextInt() {
+		int x = state;
+		x ^= x << 13;
+		x ^= x >>> 17;
+		x ^= x << 5;
+		state = x;
+		return x;
+	}
+
+	/**
+	 * @return a random float in [0, 1)
+	 */
+	public float nextFloat() {
+		return (nextInt() >>> 8) * (1f / (1 << 24));
+	}
+
+	/**
+	 * @param min the lower bound
+	 * @param max the upper bound
+	 * @return a random float in [min, max)
+	 */
+	public float nextFloat(float min, float max) {
+		return min + (max - min) * nextFloat();
+	}
+}
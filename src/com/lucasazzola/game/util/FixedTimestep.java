@@ -0,0 +1,70 @@
+package com.lucasazzola.game.util;
+
+/**
+ * Accumulates variable frame times into a whole number of fixed length steps,
+ * for simulations which must advance by a constant time step
+ * 
+ * @since 19/10/2026
+ */
+public class FixedTimestep {
+
+	/**
+	 * Private members
+	 */
+	private final long step;
+	private final int maxSteps;
+	private long accumulator;
+
+	/**
+	 * Constructs a fixed timestep
+	 * 
+	 * @param stepNanos the length of a step, in nanoseconds
+	 * @param maxSteps the most steps run per frame, after which the remaining
+	 *            time is dropped so that a slow frame cannot snowball
+	 */
+	public FixedTimestep(long stepNanos, int maxSteps) {
+		this.step = stepNanos;
+		this.maxSteps = maxSteps;
+	}
+
+	/**
+	 * Adds a frame's time and gets the number of steps to run
+	 * 
+	 * @param deltaNanos the frame time, in nanoseconds
+	 * @return the number of steps to run this frame
+	 */
+	public int advance(long deltaNanos) {
+		accumulator += deltaNanos;
+		long steps = accumulator / step;
+		if (steps > maxSteps) {
+			accumulator = 0;
+			return maxSteps;
+		}
+		accumulator -= steps * step;
+		return (int) steps;
+	}
+
+	/**
+	 * Gets the fraction of a step left over, for interpolating between the
+	 * last two simulated states when drawing
+	 * 
+	 * @return the interpolation factor, in [0, 1)
+	 */
+	public float alpha() {
+		return (float) accumulator / step;
+	}
+
+	/**
+	 * @return the length of a step, in seconds
+	 */
+	public float stepSeconds() {
+		return step / 1e9f;
+	}
+
+	/**
+	 * @return the length of a step, in nanoseconds
+	 */
+	public long stepNanos() {
+		return step;
+	}
+}
@@ -10,6 +10,7 @@ public class GameTime {
 
 	private long startTime;
 	private long elapsed;
+	private long lastTick = -1, delta, frame;
 
 	public GameTime() {
 	}
@@ -26,6 +27,35 @@ public class GameTime {
 		return elapsed;
 	}
 
+	/**
+	 * Marks the start of a new frame, to be called once per iteration of the
+	 * game loop
+	 */
+	public void tick() {
+		long now = now();
+		delta = lastTick == -1 ? 0 : now - lastTick;
+		lastTick = now;
+		frame++;
+	}
+
+	/**
+	 * Gets the time between the last two calls to {@link #tick()}
+	 * 
+	 * @return the frame time, in nanoseconds
+	 */
+	public long delta() {
+		return delta;
+	}
+
+	/**
+	 * Gets the number of calls to {@link #tick()}
+	 * 
+	 * @return the current frame index
+	 */
+	public long frame() {
+		return frame;
+	}
+
 	public static long now() {
 		return System.nanoTime();
 	}
@@ -0,0 +1,274 @@
+package com.lucasazzola.game.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scoped frame profiler. Code marks named scopes, which nest:
+ *
+ * <pre>
+ * int scope = Profiler.begin(&quot;Update&quot;);
+ * try {
+ * 	game.Update(time);
+ * } finally {
+ * 	Profiler.end(scope);
+ * }
+ * </pre>
+ *
+ * Each thread records finished scopes, with {@link GameTime#now()}
+ * timestamps, into its own preallocated ring buffer of the latest
+ * {@link #CAPACITY}, about 800KB, so recording never allocates or locks.
+ * The buffers of threads that have exited are released by the next export
+ * or the next thread to start recording.
+ * While disabled, begin is a single field read and end a single
+ * comparison. Enable with -Dgame.profile=true or
+ * {@link #setEnabled(boolean)}, and export with {@link #writeTrace(Writer)}
+ * to view in chrome://tracing or Perfetto.
+ *
+ * Names should be constants; they are kept by reference, not copied.
+ *
+ * @since 19/10/2026
+ */
+public final class Profiler {
+
+	/**
+	 * Number of scopes kept per thread, a power of two
+	 */
+	public static final int CAPACITY = 1 << 15;
+
+	/**
+	 * Whether scopes are recorded
+	 */
+	private static volatile boolean enabled = Boolean
+			.getBoolean("game.profile");
+
+	/**
+	 * Time that trace timestamps count from
+	 */
+	private static final long ORIGIN = GameTime.now();
+
+	/**
+	 * Every thread's track, for export
+	 */
+	private static final List<Track> TRACKS = new CopyOnWriteArrayList<Track>();
+
+	/**
+	 * One track per thread
+	 */
+	private static final ThreadLocal<Track> LOCAL = new ThreadLocal<Track>() {
+		@Override
+		protected Track initialValue() {
+			Track track = new Track(Thread.currentThread());
+			pruneTracks();
+			TRACKS.add(track);
+			return track;
+		}
+	};
+
+	/**
+	 * A thread's open scopes and ring of finished scopes
+	 */
+	private static final class Track {
+
+		/**
+		 * The thread recorded, held weakly so that it can be collected
+		 */
+		final long id;
+		final String thread;
+		final WeakReference<Thread> owner;
+
+		/**
+		 * Open scopes, innermost last
+		 */
+		String[] openNames = new String[16];
+		long[] openStarts = new long[16];
+		int depth;
+
+		/**
+		 * Finished scopes, the latest CAPACITY of count
+		 */
+		final String[] names = new String[CAPACITY];
+		final long[] starts = new long[CAPACITY];
+		final long[] ends = new long[CAPACITY];
+		final AtomicLong count = new AtomicLong();
+
+		/**
+		 * Constructs a track
+		 */
+		Track(Thread thread) {
+			this.id = thread.getId();
+			this.thread = thread.getName();
+			this.owner = new WeakReference<Thread>(thread);
+		}
+
+		/**
+		 * @return true if the thread recorded has exited
+		 */
+		boolean isDead() {
+			Thread t = owner.get();
+			return t == null || !t.isAlive();
+		}
+	}
+
+	/**
+	 * Static only
+	 */
+	private Profiler() {
+	}
+
+	/**
+	 * @param enabled true to record scopes begun from now on
+	 */
+	public static void setEnabled(boolean enabled) {
+		Profiler.enabled = enabled;
+	}
+
+	/**
+	 * @return true if scopes are being recorded
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Begins a scope on the calling thread
+	 *
+	 * @param name the scope's name
+	 * @return the scope, to be passed to {@link #end(int)}, 0 if disabled
+	 */
+	public static int begin(String name) {
+		if (!enabled)
+			return 0;
+		Track t = LOCAL.get();
+		if (t.depth == t.openNames.length) {
+			t.openNames = Arrays.copyOf(t.openNames, t.depth * 2);
+			t.openStarts = Arrays.copyOf(t.openStarts, t.depth * 2);
+		}
+		t.openNames[t.depth] = name;
+		t.openStarts[t.depth] = GameTime.now();
+		return ++t.depth;
+	}
+
+	/**
+	 * Ends a scope
+	 *
+	 * @param scope the value returned by the matching begin
+	 * @throws IllegalStateException if the scope is not the innermost
+	 */
+	public static void end(int scope) {
+		if (scope == 0)
+			return;
+		long now = GameTime.now();
+		Track t = LOCAL.get();
+		if (scope != t.depth)
+			throw new IllegalStateException("Ended scope " + scope
+					+ " but innermost is " + t.depth);
+		int d = --t.depth;
+		long n = t.count.get();
+		int i = (int) n & (CAPACITY - 1);
+		t.names[i] = t.openNames[d];
+		t.starts[i] = t.openStarts[d];
+		t.ends[i] = now;
+		t.openNames[d] = null;
+		t.count.lazySet(n + 1);
+	}
+
+	/**
+	 * Discards every recorded scope. Call while no thread is in a scope.
+	 */
+	public static void clear() {
+		for (Track t : TRACKS) {
+			t.count.set(0);
+		}
+	}
+
+	/**
+	 * Writes recorded scopes as Chrome trace event JSON. Threads may keep
+	 * recording; scopes overwritten during the export are left out. The
+	 * tracks of threads that have exited are released once written.
+	 *
+	 * @param out the writer, not closed
+	 * @throws IOException if the writer fails
+	 */
+	public static void writeTrace(Writer out) throws IOException {
+		out.write("{\"traceEvents\":[");
+		boolean first = true;
+		for (Track t : TRACKS) {
+			if (!first)
+				out.write(',');
+			first = false;
+			out.write("\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,"
+					+ "\"tid\":" + t.id + ",\"args\":{\"name\":");
+			string(out, t.thread);
+			out.write("}}");
+
+			long to = t.count.get();
+			long from = Math.max(0, to - CAPACITY);
+			String[] names = new String[(int) (to - from)];
+			long[] starts = new long[names.length];
+			long[] ends = new long[names.length];
+			for (long n = from; n < to; n++) {
+				int i = (int) n & (CAPACITY - 1);
+				names[(int) (n - from)] = t.names[i];
+				starts[(int) (n - from)] = t.starts[i];
+				ends[(int) (n - from)] = t.ends[i];
+			}
+			// the writer may be overwriting slot count - CAPACITY before
+			// publishing count + 1, so that slot is not valid either
+			long valid = Math.max(from, t.count.get() - CAPACITY + 1);
+			for (long n = valid; n < to; n++) {
+				int k = (int) (n - from);
+				out.write(",\n{\"name\":");
+				string(out, names[k]);
+				out.write(",\"ph\":\"X\",\"pid\":1,\"tid\":" + t.id
+						+ ",\"ts\":" + micros(starts[k] - ORIGIN)
+						+ ",\"dur\":" + micros(ends[k] - starts[k]) + "}");
+			}
+		}
+		out.write("\n]}\n");
+		pruneTracks();
+	}
+
+	/**
+	 * Releases the tracks of threads that have exited
+	 */
+	private static void pruneTracks() {
+		for (Track t : TRACKS) {
+			if (t.isDead())
+				TRACKS.remove(t);
+		}
+	}
+
+	/**
+	 * @return nanoseconds as microseconds, to three decimal places
+	 */
+	private static String micros(long nanos) {
+		long frac = Math.abs(nanos % 1000);
+		return nanos / 1000 + "." + (frac < 100 ? frac < 10 ? "00" : "0" : "")
+				+ frac;
+	}
+
+	/**
+	 * Writes a JSON string
+	 */
+	private static void string(Writer out, String s) throws IOException {
+		out.write('"');
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == '"' || c == '\\') {
+				out.write('\\');
+				out.write(c);
+			} else if (c < 0x20) {
+				out.write(String.format("\\u%04x", (int) c));
+			} else {
+				out.write(c);
+			}
+		}
+		out.write('"');
+	}
+}
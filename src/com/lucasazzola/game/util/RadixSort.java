@@ -0,0 +1,159 @@
+package com.lucasazzola.game.util;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Stable least significant digit radix sort of float keys, producing the
+ * sorted order as an index array. Each of the four 8-bit passes counts
+ * digits per chunk in parallel, computes every chunk's output offsets, then
+ * scatters the chunks in parallel. Passes where every key has the same digit
+ * are skipped.
+ *
+ * Scratch arrays are kept between sorts, so a RadixSort should be reused and
+ * must not be shared between threads.
+ *
+ * @since 19/10/2026
+ */
+public class RadixSort {
+
+	/**
+	 * Digit size and the number of keys per chunk
+	 */
+	private static final int BITS = 8;
+	private static final int BUCKETS = 1 << BITS;
+	private static final int CHUNK = 1 << 15;
+
+	/**
+	 * Keys converted to unsigned sortable ints, and the index arrays, each
+	 * double buffered
+	 */
+	private int[] keys = new int[0], keysOut = new int[0];
+	private int[] order = new int[0], orderOut = new int[0];
+
+	/**
+	 * Digit counts, then output offsets, per chunk
+	 */
+	private int[] counts = new int[0];
+
+	/**
+	 * The pass in progress
+	 */
+	private int n, shift;
+
+	/**
+	 * Sorts keys, leaving the keys themselves unchanged
+	 *
+	 * @param values the keys
+	 * @param count the number of keys to sort, from index 0
+	 * @param descending true to sort largest first
+	 * @param pool the pool to sort on, or null to sort on the calling thread
+	 * @return the indices of the keys in sorted order, valid up to count and
+	 *         until the next sort
+	 */
+	public int[] sort(final float[] values, int count, final boolean descending,
+			ForkJoinPool pool) {
+		allocate(count);
+		this.n = count;
+		int chunks = Chunks.count(count, CHUNK);
+
+		// Flip floats into unsigned ints with the same ordering
+		Chunks.forEach(pool, chunks, new Chunks.Body() {
+			@Override
+			public void run(int chunk) {
+				int from = chunk * CHUNK, to = Math.min(from + CHUNK, n);
+				for (int i = from; i < to; i++) {
+					int bits = Float.floatToIntBits(values[i]);
+					int key = bits ^ ((bits >> 31) | 0x80000000);
+					keys[i] = descending ? ~key : key;
+					order[i] = i;
+				}
+			}
+		});
+
+		Chunks.Body histogram = new Chunks.Body() {
+			@Override
+			public void run(int chunk) {
+				int from = chunk * CHUNK, to = Math.min(from + CHUNK, n);
+				int base = chunk * BUCKETS;
+				for (int d = 0; d < BUCKETS; d++) {
+					counts[base + d] = 0;
+				}
+				for (int i = from; i < to; i++) {
+					counts[base + ((keys[i] >>> shift) & (BUCKETS - 1))]++;
+				}
+			}
+		};
+		Chunks.Body scatter = new Chunks.Body() {
+			@Override
+			public void run(int chunk) {
+				int from = chunk * CHUNK, to = Math.min(from + CHUNK, n);
+				int base = chunk * BUCKETS;
+				for (int i = from; i < to; i++) {
+					int key = keys[i];
+					int at = counts[base + ((key >>> shift) & (BUCKETS - 1))]++;
+					keysOut[at] = key;
+					orderOut[at] = order[i];
+				}
+			}
+		};
+
+		for (shift = 0; shift < 32; shift += BITS) {
+			Chunks.forEach(pool, chunks, histogram);
+			if (offsets(chunks))
+				continue;
+			Chunks.forEach(pool, chunks, scatter);
+			int[] swap = keys;
+			keys = keysOut;
+			keysOut = swap;
+			swap = order;
+			order = orderOut;
+			orderOut = swap;
+		}
+		return order;
+	}
+
+	/**
+	 * Turns the digit counts into output offsets, digit by digit then chunk
+	 * by chunk, so that equal digits keep their order
+	 *
+	 * @return true if every key has the same digit, so the pass can be
+	 *         skipped
+	 */
+	private boolean offsets(int chunks) {
+		int total = 0;
+		for (int d = 0; d < BUCKETS; d++) {
+			int digitTotal = 0;
+			for (int c = 0; c < chunks; c++) {
+				int i = c * BUCKETS + d;
+				int count = counts[i];
+				counts[i] = total;
+				total += count;
+				digitTotal += count;
+			}
+			if (digitTotal == n)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Grows the scratch arrays
+	 */
+	private void allocate(int count) {
+		if (keys.length < count) {
+			int capacity = Math.max(count, keys.length * 2);
+			keys = new int[capacity];
+			keysOut = new int[capacity];
+			order = new int[capacity];
+			orderOut = new int[capacity];
+		}
+		int chunks = Chunks.count(count, CHUNK) * BUCKETS;
+		if (counts.length < chunks)
+			counts = new int[chunks];
+	}
+
+	@Override
+	public String toString() {
+		return "RadixSort [capacity:" + keys.length + "]";
+	}
+}